@@ -0,0 +1,127 @@
+package grit.guidance.domain.course.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 과목 상태 계산 비교 (./gradlew jmh)
+ * - maps: 기존 방식 (과목 ID 맵 + 관심과목 List.contains + 개수 집계용 스트림 4회)
+ * - masks: 순번 BitSet 마스크 한 번 순회
+ * 과목 수 64 는 현재 카탈로그(63과목) 수준, 640 은 10배
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrackCourseMasksBenchmark {
+
+    @Param({"64", "640"})
+    private int courseCount;
+
+    private TrackCourseMasks masks;
+    private BitSet completed;
+    private BitSet enrolled;
+    private BitSet favorite;
+
+    // 기존 방식 입력
+    private List<Long> trackCourseIds;
+    private Map<Long, Boolean> completedMap;
+    private Map<Long, Boolean> enrolledMap;
+    private List<Long> favoriteIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        BitSet members = new BitSet(courseCount);
+        BitSet mandatory = new BitSet(courseCount);
+        BitSet foundation = new BitSet(courseCount);
+        BitSet nonElective = new BitSet(courseCount);
+        long[] mandatoryTrackIds = new long[courseCount];
+        completed = new BitSet(courseCount);
+        enrolled = new BitSet(courseCount);
+        favorite = new BitSet(courseCount);
+
+        trackCourseIds = new ArrayList<>();
+        completedMap = new HashMap<>();
+        enrolledMap = new HashMap<>();
+        favoriteIds = new ArrayList<>();
+
+        for (int i = 0; i < courseCount; i++) {
+            long courseId = i + 1;
+            // 트랙 2개 기준 과목의 약 70% 가 트랙 소속, 이수 40%, 수강중 10%, 관심과목 10%
+            if (random.nextDouble() < 0.7) {
+                members.set(i);
+                trackCourseIds.add(courseId);
+                if (random.nextDouble() < 0.2) {
+                    mandatory.set(i);
+                    nonElective.set(i);
+                    mandatoryTrackIds[i] = 1 + random.nextInt(2);
+                } else if (random.nextDouble() < 0.1) {
+                    foundation.set(i);
+                    nonElective.set(i);
+                }
+            }
+            double status = random.nextDouble();
+            if (status < 0.4) {
+                completed.set(i);
+                completedMap.put(courseId, true);
+            } else if (status < 0.5) {
+                enrolled.set(i);
+                enrolledMap.put(courseId, true);
+            }
+            if (random.nextDouble() < 0.1) {
+                favorite.set(i);
+                favoriteIds.add(courseId);
+            }
+        }
+        masks = new TrackCourseMasks(1, List.of(1L, 2L), members, mandatory, foundation, nonElective, mandatoryTrackIds);
+    }
+
+    @Benchmark
+    public void maps(Blackhole blackhole) {
+        List<String[]> rows = new ArrayList<>(trackCourseIds.size());
+        for (Long courseId : trackCourseIds) {
+            boolean isFavorite = favoriteIds.contains(courseId);
+            String status = completedMap.containsKey(courseId) ? "completed"
+                    : enrolledMap.containsKey(courseId) ? "enrolled" : "available";
+            rows.add(new String[]{status, String.valueOf(isFavorite)});
+        }
+        blackhole.consume(rows.stream().filter(row -> "completed".equals(row[0])).count());
+        blackhole.consume(rows.stream().filter(row -> "enrolled".equals(row[0])).count());
+        blackhole.consume(rows.stream().filter(row -> "available".equals(row[0])).count());
+        blackhole.consume(rows.stream().filter(row -> "true".equals(row[1])).count());
+        blackhole.consume(rows);
+    }
+
+    @Benchmark
+    public void masks(Blackhole blackhole) {
+        TrackCourseMasks.Statuses statuses = masks.resolve(completed, enrolled, favorite);
+        BitSet members = masks.members();
+        for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+            blackhole.consume(masks.courseTypeOf(i));
+            blackhole.consume(masks.mandatoryTrackIdOf(i));
+            blackhole.consume(favorite.get(i));
+        }
+        blackhole.consume(statuses);
+    }
+}
@@ -0,0 +1,147 @@
+package grit.guidance.domain.roadmap.repository;
+
+import grit.guidance.global.config.OutboundHttpClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 과목 유사도 검색 비교: 메모리 정확 검색(InMemoryCourseVectorStore) vs Qdrant (./gradlew jmh)
+ * - 두 저장소에 같은 문서/벡터를 넣고 같은 쿼리/트랙 필터로 top-K 검색
+ * - 문서/쿼리 임베딩은 임베딩 캐시에 미리 넣어두므로 OpenAI 호출 없이 검색 경로만 측정
+ * - qdrant 벤치마크는 로컬 Qdrant 필요 (-Dqdrant.host, -Dqdrant.port, 기본 localhost:6333)
+ *   jmh_course_benchmark alias 로 운영과 같은 설정의 컬렉션을 만들어 사용하고, 끝나면 문서를 모두 삭제
+ * 과목 수 64 는 현재 카탈로그(63과목) 수준, 640 은 10배
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseVectorSearchBenchmark {
+
+    private static final String MODEL = "text-embedding-ada-002";
+    private static final int DIMENSION = 1536;
+    private static final int QUERY_COUNT = 32;
+    private static final List<String> TRACKS = List.of("웹공학트랙", "모바일소프트웨어트랙", "빅데이터트랙", "디지털콘텐츠·가상현실트랙");
+
+    @Param({"64", "640"})
+    private int courseCount;
+
+    @Param({"10"})
+    private int topK;
+
+    private InMemoryCourseVectorStore memoryStore;
+    private QdrantRepository qdrantStore;
+    private OutboundHttpClients httpClients;
+    private List<String> queries;
+    private CourseSearchFilter filter;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        httpClients = new OutboundHttpClients(new SimpleMeterRegistry(),
+                20, 16, 1000, 5000, 20, 8, 3000, 60000, 20, 16, 3000, 30000, 5000);
+        EmbeddingCache embeddingCache = new EmbeddingCache(courseCount + QUERY_COUNT + 16, false, "./build/jmh-embedding-cache");
+        OpenAiEmbeddingClient embeddingClient = new OpenAiEmbeddingClient("", MODEL, 256, 100000, embeddingCache, httpClients);
+
+        List<Map<String, Object>> documents = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("id", "course_" + (i + 1));
+            document.put("courseId", (long) (i + 1));
+            document.put("courseCode", String.format("V%06d", i + 1));
+            document.put("courseName", "벤치마크 과목 " + (i + 1));
+            document.put("description", "벤치마크 과목 " + (i + 1) + " 설명");
+            document.put("credits", 3);
+            document.put("openGrade", 1 + random.nextInt(4));
+            document.put("openSemester", random.nextBoolean() ? "FIRST" : "SECOND");
+            document.put("tracks", List.of(TRACKS.get(random.nextInt(TRACKS.size())), TRACKS.get(random.nextInt(TRACKS.size()))));
+            embeddingCache.put(MODEL, CourseDocumentTexts.batchEmbeddingText(document), randomVector(random));
+            documents.add(document);
+        }
+
+        queries = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String query = "벤치마크 검색어 " + i;
+            embeddingCache.put(MODEL, query, randomVector(random));
+            queries.add(query);
+        }
+        filter = CourseSearchFilter.of(TRACKS.subList(0, 2), List.of(), 2, "SECOND");
+
+        memoryStore = new InMemoryCourseVectorStore(embeddingClient);
+        memoryStore.addCourseDocuments(documents);
+
+        String qdrantHost = System.getProperty("qdrant.host", "localhost");
+        int qdrantPort = Integer.getInteger("qdrant.port", 6333);
+        String alias = "jmh_course_benchmark";
+        QdrantCollectionManager collectionManager = new QdrantCollectionManager(qdrantHost, qdrantPort, alias, false,
+                DIMENSION, "Cosine", 16, 100, "none", false, embeddingClient, httpClients);
+        collectionManager.ensureCollection();
+        qdrantStore = new QdrantRepository(qdrantHost, qdrantPort, alias, 128, embeddingClient, collectionManager, httpClients);
+        qdrantStore.deleteAllCourseDocuments();
+        List<String> failedIds = qdrantStore.addCourseDocuments(documents);
+        if (!failedIds.isEmpty()) {
+            throw new IllegalStateException("Qdrant 에 벤치마크 문서를 저장하지 못했습니다: " + failedIds.size() + "개");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        qdrantStore.deleteAllCourseDocuments();
+        httpClients.close();
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] values = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            values[i] = (float) random.nextGaussian();
+        }
+        return values;
+    }
+
+    private String nextQuery() {
+        next = (next + 1) % QUERY_COUNT;
+        return queries.get(next);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> memory() {
+        return memoryStore.searchSimilarCourses(nextQuery(), topK);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> memoryFiltered() {
+        return memoryStore.searchSimilarCourses(nextQuery(), topK, filter);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> qdrant() {
+        return qdrantStore.searchSimilarCourses(nextQuery(), topK);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> qdrantFiltered() {
+        return qdrantStore.searchSimilarCourses(nextQuery(), topK, filter);
+    }
+}
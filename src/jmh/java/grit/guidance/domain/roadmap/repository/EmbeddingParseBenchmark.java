@@ -0,0 +1,89 @@
+package grit.guidance.domain.roadmap.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 임베딩 응답 파싱 비교 (./gradlew jmh, 할당량은 gc 프로파일러의 gc.alloc.rate.norm 참고)
+ * - treeModel: 기존 방식 (응답 전체를 Map/List<Double> 로 읽은 뒤 float[] 로 변환)
+ * - streaming: 현재 방식 (OpenAiEmbeddingClient.parseEmbeddingResponse, 스트리밍 파서로 float[] 에 바로 채움)
+ * 입력 1개는 검색 쿼리, 64개는 과목 문서 일괄 임베딩 수준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmbeddingParseBenchmark {
+
+    private static final int DIMENSION = 1536;
+
+    @Param({"1", "64"})
+    private int inputCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"object\":\"list\",\"data\":[");
+        for (int i = 0; i < inputCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"object\":\"embedding\",\"index\":").append(i).append(",\"embedding\":[");
+            for (int d = 0; d < DIMENSION; d++) {
+                if (d > 0) {
+                    json.append(',');
+                }
+                // 실제 응답과 비슷한 크기/자릿수의 값
+                json.append((float) (random.nextGaussian() * 0.02));
+            }
+            json.append("]}");
+        }
+        json.append("],\"model\":\"text-embedding-ada-002\",\"usage\":{\"prompt_tokens\":8,\"total_tokens\":8}}");
+        response = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public float[][] treeModel() throws IOException {
+        Map<String, Object> body = objectMapper.readValue(response, Map.class);
+        List<Map<String, Object>> data = (List<Map<String, Object>>) body.get("data");
+        float[][] vectors = new float[inputCount][];
+        for (Map<String, Object> item : data) {
+            List<Double> embedding = (List<Double>) item.get("embedding");
+            float[] values = new float[embedding.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = embedding.get(i).floatValue();
+            }
+            vectors[((Number) item.get("index")).intValue()] = values;
+        }
+        return vectors;
+    }
+
+    @Benchmark
+    public EmbeddingVector[] streaming() throws IOException {
+        return OpenAiEmbeddingClient.parseEmbeddingResponse(new ByteArrayInputStream(response), inputCount);
+    }
+}
@@ -0,0 +1,113 @@
+package grit.guidance.domain.roadmap.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Qdrant 검색 경로의 요청 직렬화/응답 변환 비교 (./gradlew jmh, 할당량은 gc 프로파일러의 gc.alloc.rate.norm 참고)
+ * - mapRequest: 기존 방식 (List<Double> 벡터를 Map 요청 본문에 담아 직렬화)
+ *   기존 코드는 같은 본문을 로그용으로 한 번 더 직렬화했으므로 실제 비용은 이 값의 약 두 배
+ * - typedRequest: 현재 방식 (QdrantSearchRequest, float[] 벡터를 바로 JSON 배열로 직렬화)
+ * - parseScoredPoints: 검색 응답(scored point 목록)을 Map 으로 읽고 QdrantRepository.toSearchResults 로 변환
+ *   응답에는 벡터가 없어(with_payload 만 요청) 변경 전후 경로가 같으므로 요청 쪽과의 비중 비교용
+ * Qdrant 호출 없이 JSON 처리만 측정, 필터는 트랙 2개 + 제외 과목 + 남은 학기 조건
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QdrantSearchPathBenchmark {
+
+    private static final int DIMENSION = 1536;
+    private static final List<String> TRACKS = List.of("웹공학트랙", "모바일소프트웨어트랙", "빅데이터트랙", "디지털콘텐츠·가상현실트랙");
+
+    @Param({"10", "50"})
+    private int topK;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Double> listVector;
+    private EmbeddingVector vector;
+    private Map<String, Object> filter;
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        float[] values = new float[DIMENSION];
+        listVector = new ArrayList<>(DIMENSION);
+        for (int i = 0; i < DIMENSION; i++) {
+            // 실제 임베딩과 비슷한 크기/자릿수의 값
+            values[i] = (float) (random.nextGaussian() * 0.02);
+            listVector.add((double) values[i]);
+        }
+        vector = new EmbeddingVector(values);
+        filter = CourseSearchFilter.of(TRACKS.subList(0, 2), List.of(3L, 7L, 11L), 2, "SECOND").toQdrantFilter();
+
+        List<Map<String, Object>> points = new ArrayList<>(topK);
+        for (int i = 0; i < topK; i++) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("id", "course_" + (i + 1));
+            payload.put("courseId", (long) (i + 1));
+            payload.put("courseCode", String.format("V%06d", i + 1));
+            payload.put("courseName", "벤치마크 과목 " + (i + 1));
+            payload.put("description", "벤치마크 과목 " + (i + 1) + " 설명 ".repeat(20));
+            payload.put("text", "벤치마크 과목 " + (i + 1) + " 임베딩 문서 ".repeat(20));
+            payload.put("credits", 3);
+            payload.put("openGrade", 1 + random.nextInt(4));
+            payload.put("openSemester", random.nextBoolean() ? "FIRST" : "SECOND");
+            payload.put("tracks", List.of(TRACKS.get(random.nextInt(TRACKS.size()))));
+
+            Map<String, Object> point = new HashMap<>();
+            point.put("id", i + 1);
+            point.put("version", 3);
+            point.put("score", 0.9 - i * 0.001);
+            point.put("payload", payload);
+            points.add(point);
+        }
+        response = objectMapper.writeValueAsString(Map.of("result", points, "status", "ok", "time", 0.0012))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] mapRequest() throws IOException {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("vector", listVector);
+        requestBody.put("limit", topK);
+        requestBody.put("with_payload", true);
+        requestBody.put("filter", filter);
+        return objectMapper.writeValueAsBytes(requestBody);
+    }
+
+    @Benchmark
+    public byte[] typedRequest() throws IOException {
+        return objectMapper.writeValueAsBytes(new QdrantRepository.QdrantSearchRequest(vector, topK, true, filter));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> parseScoredPoints() throws IOException {
+        Map<String, Object> body = objectMapper.readValue(response, Map.class);
+        return QdrantRepository.toSearchResults((List<Map<String, Object>>) body.get("result"));
+    }
+}
@@ -1,6 +1,7 @@
 package grit.guidance.domain.course.controller;
 
 import grit.guidance.domain.course.entity.Course;
+import grit.guidance.domain.course.service.CourseCatalogIngestionService;
 import grit.guidance.domain.course.service.CourseService;
 import grit.guidance.domain.course.service.CourseDescriptionCrawlingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +23,7 @@ import java.util.Map;
 public class CourseAdminController {
 
     private final CourseService courseService;
+    private final CourseCatalogIngestionService ingestionService;
     private final CourseDescriptionCrawlingService crawlingService;
 
     @GetMapping
@@ -36,21 +39,28 @@ public class CourseAdminController {
     }
 
     @PostMapping("/reload")
-    @Operation(summary = "과목 데이터 새로고침 및 설명 크롤링", description = "JSON 파일에서 과목 데이터를 읽어와 데이터베이스를 새로고침하고, 모든 과목의 설명을 크롤링하여 저장합니다.")
+    @Operation(summary = "과목 데이터 새로고침 및 설명 크롤링", description = "JSON 파일에서 과목 데이터를 읽어와 데이터베이스를 새로고침하고, 설명이 없는 과목의 설명을 크롤링하여 저장합니다. " +
+            "mode=upsert(기본)는 과목 코드 기준으로 바뀐 과목/이수 요건/선수과목만 반영하여 과목 ID를 유지하고, mode=full은 전체 삭제 후 다시 저장합니다.")
     // @PreAuthorize("hasRole('ADMIN')") // Spring Security 사용 시 이 어노테이션으로 권한 제어
-    public ResponseEntity<Map<String, String>> reloadCourseData() {
+    public ResponseEntity<Map<String, Object>> reloadCourseData(@RequestParam(defaultValue = "upsert") String mode) {
         try {
-            log.info("과목 데이터 새로고침 및 설명 크롤링 시작");
+            log.info("과목 데이터 새로고침 및 설명 크롤링 시작 - mode: {}", mode);
             
             // 1. JSON에서 과목 데이터 새로고침
-            courseService.initializeDatabaseFromJson();
+            Map<String, Object> response = new LinkedHashMap<>();
+            if ("full".equalsIgnoreCase(mode)) {
+                courseService.initializeDatabaseFromJson();
+            } else {
+                response.put("changes", ingestionService.upsertFromJson());
+            }
             log.info("과목 데이터 새로고침 완료");
             
-            // 2. 모든 과목의 설명 크롤링
+            // 2. 설명이 없는 과목의 설명 크롤링
             crawlingService.updateCourseDescriptionsFromDatabase();
             log.info("과목 설명 크롤링 완료");
             
-            return ResponseEntity.ok(Map.of("message", "과목 데이터 새로고침 및 설명 크롤링을 성공적으로 완료했습니다."));
+            response.put("message", "과목 데이터 새로고침 및 설명 크롤링을 성공적으로 완료했습니다.");
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("과목 데이터 새로고침 및 설명 크롤링 실패", e);
             return ResponseEntity.internalServerError().body(Map.of("message", "데이터 새로고침 및 크롤링 중 오류가 발생했습니다.", "error", e.getMessage()));
@@ -0,0 +1,8 @@
+package grit.guidance.domain.course.event;
+
+/**
+ * 과목 카탈로그(과목/이수 요건/설명)가 변경되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후 벡터 저장소 동기화 등 후속 처리에 사용
+ */
+public record CourseCatalogChangedEvent(String reason) {
+}
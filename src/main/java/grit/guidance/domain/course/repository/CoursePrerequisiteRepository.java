@@ -17,6 +17,10 @@ public interface CoursePrerequisiteRepository extends JpaRepository<CoursePrereq
     @Query("SELECT DISTINCT cp.prerequisiteId FROM CoursePrerequisite cp WHERE cp.course.id = :courseId AND cp.deletedAt IS NULL")
     List<Long> findPrerequisiteIdsByCourseId(@Param("courseId") Long courseId);
     
+    // 전체 (과목 ID, 선수과목 ID) 쌍 조회 (로드맵 배치 시 선수과목 순서 확인용)
+    @Query("SELECT cp.course.id, cp.prerequisiteId FROM CoursePrerequisite cp WHERE cp.deletedAt IS NULL")
+    List<Object[]> findAllCourseIdAndPrerequisiteIdPairs();
+    
     // 특정 과목이 선수과목으로 사용되는 과목 목록 조회
     @Query("SELECT cp.course FROM CoursePrerequisite cp WHERE cp.prerequisiteId = :prerequisiteId AND cp.deletedAt IS NULL")
     List<Course> findCoursesByPrerequisiteId(@Param("prerequisiteId") Long prerequisiteId);
@@ -18,15 +18,27 @@ public interface TrackRequirementRepository extends JpaRepository<TrackRequireme
     
     // 특정 과목의 트랙 요구사항 가져오기
     List<TrackRequirement> findByCourseId(Long courseId);
+
+    // 모든 과목의 트랙 요구사항 조회 (과목/트랙 함께 조회, 과목 → 트랙 인덱스 생성용)
+    @Query("SELECT tr FROM TrackRequirement tr JOIN FETCH tr.course JOIN FETCH tr.track WHERE tr.deletedAt IS NULL ORDER BY tr.id")
+    List<TrackRequirement> findAllWithCourseAndTrack();
+
+    // 특정 과목의 트랙 요구사항 조회 (트랙 함께 조회)
+    @Query("SELECT tr FROM TrackRequirement tr JOIN FETCH tr.track WHERE tr.course.id = :courseId AND tr.deletedAt IS NULL ORDER BY tr.id")
+    List<TrackRequirement> findByCourseIdWithTrack(@Param("courseId") Long courseId);
     
     // 여러 트랙의 모든 과목 조회
     @Query("SELECT tr FROM TrackRequirement tr JOIN FETCH tr.course WHERE tr.track.id IN :trackIds AND tr.deletedAt IS NULL")
     List<TrackRequirement> findByTrackIds(@Param("trackIds") List<Long> trackIds);
     
-    // 여러 트랙의 전공필수/전공기초 과목 조회
-    @Query("SELECT tr FROM TrackRequirement tr JOIN FETCH tr.course WHERE tr.track.id IN :trackIds AND tr.courseType IN ('MANDATORY', 'FOUNDATION') AND tr.deletedAt IS NULL")
+    // 여러 트랙의 전공필수/전공기초 과목 조회 (트랙 이름도 사용하므로 트랙 함께 조회)
+    @Query("SELECT tr FROM TrackRequirement tr JOIN FETCH tr.course JOIN FETCH tr.track WHERE tr.track.id IN :trackIds AND tr.courseType IN ('MANDATORY', 'FOUNDATION') AND tr.deletedAt IS NULL")
     List<TrackRequirement> findByTrackIdsAndCourseType(@Param("trackIds") List<Long> trackIds);
     
+    // 여러 트랙의 (과목 ID, 트랙 ID, 과목 구분) 조회 (추천 과목 재정렬용)
+    @Query("SELECT tr.course.id, tr.track.id, tr.courseType FROM TrackRequirement tr WHERE tr.track.id IN :trackIds AND tr.deletedAt IS NULL")
+    List<Object[]> findCourseTypesByTrackIds(@Param("trackIds") List<Long> trackIds);
+    
     @Modifying
     @Query("UPDATE TrackRequirement tr SET tr.deletedAt = CURRENT_TIMESTAMP WHERE tr.deletedAt IS NULL")
     void deleteAllSoft();
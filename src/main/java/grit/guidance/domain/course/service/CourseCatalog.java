@@ -0,0 +1,123 @@
+package grit.guidance.domain.course.service;
+
+import grit.guidance.domain.course.entity.Course;
+import grit.guidance.domain.course.event.CourseCatalogChangedEvent;
+import grit.guidance.domain.course.repository.CoursePrerequisiteRepository;
+import grit.guidance.domain.course.repository.CourseRepository;
+import grit.guidance.domain.course.repository.TrackRequirementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 과목 카탈로그 메모리 조회
+ * - 시작 시 한 번 읽어 두고, 과목 데이터 새로고침/설명 크롤링 커밋 후 새 스냅샷을 만들어 통째로 교체
+ * - 읽는 쪽은 교체 전/후 스냅샷 중 하나를 온전히 보게 됨 (부분적으로 갱신된 상태는 보이지 않음)
+ * - 과목 코드/이름 조회를 DB 대신 메모리에서 처리하고, 엔티티 연결이 필요하면 조회 없이 참조(프록시)만 생성
+ */
+@Slf4j
+@Component
+public class CourseCatalog {
+
+    private final CourseRepository courseRepository;
+    private final TrackRequirementRepository trackRequirementRepository;
+    private final CoursePrerequisiteRepository coursePrerequisiteRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final AtomicReference<CourseCatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public CourseCatalog(CourseRepository courseRepository,
+                         TrackRequirementRepository trackRequirementRepository,
+                         CoursePrerequisiteRepository coursePrerequisiteRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.trackRequirementRepository = trackRequirementRepository;
+        this.coursePrerequisiteRepository = coursePrerequisiteRepository;
+        // 커밋 직후(이벤트 리스너)에도 호출되므로 새 트랜잭션에서 세 테이블을 같은 시점으로 조회
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload("startup");
+        } catch (Exception e) {
+            // 첫 조회 시 다시 시도
+            log.error("과목 카탈로그 초기 로딩 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseCatalogChanged(CourseCatalogChangedEvent event) {
+        try {
+            reload(event.reason());
+        } catch (Exception e) {
+            // 기존 스냅샷을 계속 사용
+            log.error("과목 카탈로그 갱신 실패 ({}) - 기존 스냅샷 유지", event.reason(), e);
+        }
+    }
+
+    /**
+     * DB에서 새 스냅샷을 만들어 교체
+     */
+    public synchronized CourseCatalogSnapshot reload(String reason) {
+        long startedAt = System.currentTimeMillis();
+        CourseCatalogSnapshot snapshot = readTransaction.execute(status -> CourseCatalogSnapshot.of(
+                versions.incrementAndGet(),
+                courseRepository.findAll(),
+                trackRequirementRepository.findAllWithCourseAndTrack(),
+                coursePrerequisiteRepository.findAllCourseIdAndPrerequisiteIdPairs()));
+        current.set(snapshot);
+        log.info("과목 카탈로그 로딩 완료 ({}) - version: {}, 과목 {}개, {}ms",
+                reason, snapshot.version(), snapshot.size(), System.currentTimeMillis() - startedAt);
+        return snapshot;
+    }
+
+    /**
+     * 현재 스냅샷 (아직 로딩되지 않았으면 로딩)
+     */
+    public CourseCatalogSnapshot snapshot() {
+        CourseCatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            return snapshot != null ? snapshot : reload("lazy");
+        }
+    }
+
+    public Optional<CourseCatalogSnapshot.CourseEntry> findByCode(String courseCode) {
+        return snapshot().findByCode(courseCode);
+    }
+
+    public Optional<CourseCatalogSnapshot.CourseEntry> findByName(String courseName) {
+        return snapshot().findByName(courseName);
+    }
+
+    /**
+     * 과목 코드로 엔티티 참조 조회 (연관관계 저장용, DB 조회 없음)
+     */
+    public Optional<Course> referenceByCode(String courseCode) {
+        return findByCode(courseCode).map(this::reference);
+    }
+
+    /**
+     * 카탈로그 과목의 엔티티 참조 (식별자 외 필드를 읽으면 그때 조회됨)
+     */
+    public Course reference(CourseCatalogSnapshot.CourseEntry course) {
+        return courseRepository.getReferenceById(course.id());
+    }
+}
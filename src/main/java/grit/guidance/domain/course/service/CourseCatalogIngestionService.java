@@ -0,0 +1,343 @@
+package grit.guidance.domain.course.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grit.guidance.domain.course.dto.CourseDataDto;
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.entity.Semester;
+import grit.guidance.domain.course.event.CourseCatalogChangedEvent;
+import grit.guidance.domain.course.repository.TrackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * courses.json → DB 과목 카탈로그 증분 반영 (과목 코드 기준 upsert)
+ * - JSON 을 스트리밍으로 한 레코드씩 읽어 원하는 상태(과목/이수 요건/선수과목)를 만들고 현재 DB 상태와 비교
+ * - 새 과목은 추가, 바뀐 과목은 기존 ID 그대로 수정, JSON 에서 사라진 과목만 소프트 삭제 (이수/관심과목 FK, 벡터 문서 ID 유지)
+ * - 변경분은 테이블별 JDBC 배치 문장으로 반영하고, JSON 에 설명이 없으면 크롤링된 설명을 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseCatalogIngestionService {
+
+    private static final String COURSES_JSON = "data/courses.json";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrackRepository trackRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // JSON 에서 읽은 과목 (같은 과목 코드가 여러 번 나오면 첫 레코드 기준, 설명은 처음 나온 비어있지 않은 값)
+    private record CourseRow(String courseCode, String courseName, int credits, int openGrade, Semester openSemester,
+                             String description) {
+    }
+
+    // DB 에 저장된 과목
+    private record StoredCourse(Long id, String courseCode, String courseName, Integer credits, Integer openGrade,
+                                Semester openSemester, String description) {
+    }
+
+    // JSON 에서 읽은 원하는 상태
+    private record DesiredCatalog(int rowCount, Map<String, CourseRow> courses,
+                                  Map<String, Map<Long, CourseType>> requirements,
+                                  Map<String, Set<String>> prerequisites) {
+    }
+
+    /**
+     * courses.json 을 읽어 변경분만 반영하고 변경 요약 반환
+     */
+    @Transactional
+    public Map<String, Object> upsertFromJson() {
+        long startedAt = System.currentTimeMillis();
+        log.info("관리자 요청으로 과목 데이터 증분 반영을 시작합니다...");
+
+        try {
+            // 1. JSON 스트리밍 파싱
+            DesiredCatalog desired;
+            try (InputStream inputStream = new ClassPathResource(COURSES_JSON).getInputStream()) {
+                desired = readDesiredCatalog(inputStream);
+            }
+            log.info("JSON 파일에서 {}개의 레코드, {}개의 과목을 읽었습니다.", desired.rowCount(), desired.courses().size());
+
+            // 2. 과목 반영 후 과목 코드 → 과목 ID
+            Map<String, Object> courseChanges = new LinkedHashMap<>();
+            Map<String, Long> courseIds = applyCourses(desired.courses(), courseChanges);
+
+            // 3. 이수 요건 반영
+            Map<String, Object> requirementChanges = applyRequirements(desired.requirements(), courseIds);
+
+            // 4. 선수과목 관계 반영
+            Map<String, Object> prerequisiteChanges = applyPrerequisites(desired.prerequisites(), courseIds);
+
+            boolean changed = hasChanges(courseChanges) || hasChanges(requirementChanges) || hasChanges(prerequisiteChanges);
+            long elapsedMs = System.currentTimeMillis() - startedAt;
+            log.info("과목 데이터 증분 반영 완료 - 과목: {}, 이수 요건: {}, 선수과목: {}, {}ms",
+                    courseChanges, requirementChanges, prerequisiteChanges, elapsedMs);
+
+            // 바뀐 것이 있을 때만 커밋 후 카탈로그 스냅샷/벡터 저장소 갱신
+            if (changed) {
+                eventPublisher.publishEvent(new CourseCatalogChangedEvent("upsert"));
+            }
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("rows", desired.rowCount());
+            summary.put("courses", courseChanges);
+            summary.put("requirements", requirementChanges);
+            summary.put("prerequisites", prerequisiteChanges);
+            summary.put("changed", changed);
+            summary.put("elapsedMs", elapsedMs);
+            return summary;
+
+        } catch (Exception e) {
+            log.error("과목 데이터 증분 반영 중 오류가 발생했습니다.", e);
+            throw new RuntimeException("과목 데이터 증분 반영에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * JSON 배열을 한 레코드씩 읽어 과목/이수 요건/선수과목의 원하는 상태 생성 (전체 DTO 목록을 메모리에 두지 않음)
+     */
+    private DesiredCatalog readDesiredCatalog(InputStream inputStream) throws Exception {
+        Map<String, CourseRow> courses = new LinkedHashMap<>();
+        Map<String, Map<Long, CourseType>> requirements = new LinkedHashMap<>();
+        Map<String, Set<String>> prerequisites = new LinkedHashMap<>();
+        Map<String, Long> trackIds = new HashMap<>();
+        int rowCount = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException(COURSES_JSON + " 의 최상위 값은 배열이어야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                CourseDataDto dto = objectMapper.readValue(parser, CourseDataDto.class);
+                rowCount++;
+                if (dto.getId() == null || dto.getId().isBlank()) {
+                    log.warn("과목 코드가 없는 레코드를 건너뜁니다: {}번째", rowCount);
+                    continue;
+                }
+
+                String description = isBlank(dto.getDescription()) ? null : dto.getDescription();
+                CourseRow existing = courses.get(dto.getId());
+                if (existing == null) {
+                    courses.put(dto.getId(), new CourseRow(dto.getId(), dto.getName(), dto.getCredits(), dto.getYear(),
+                            CourseService.convertStringToSemester(dto.getSemester()), description));
+                } else if (existing.description() == null && description != null) {
+                    courses.put(dto.getId(), new CourseRow(existing.courseCode(), existing.courseName(), existing.credits(),
+                            existing.openGrade(), existing.openSemester(), description));
+                }
+
+                Long trackId = trackIds.computeIfAbsent(dto.getTrack(), trackName -> trackRepository.findByTrackName(trackName)
+                        .orElseThrow(() -> new IllegalStateException("DB에 '" + trackName + "' 트랙이 존재하지 않습니다. 수동으로 추가해주세요."))
+                        .getId());
+                requirements.computeIfAbsent(dto.getId(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(trackId, CourseService.convertStringToCourseType(dto.getCategory()));
+
+                if (dto.getPrerequisiteIds() != null) {
+                    for (String prerequisiteCode : dto.getPrerequisiteIds()) {
+                        prerequisites.computeIfAbsent(dto.getId(), k -> new LinkedHashSet<>()).add(prerequisiteCode);
+                    }
+                }
+            }
+        }
+        return new DesiredCatalog(rowCount, courses, requirements, prerequisites);
+    }
+
+    /**
+     * 과목 추가/수정/삭제 (과목 코드 기준, 기존 과목 ID 유지) 후 과목 코드 → 과목 ID 반환
+     */
+    private Map<String, Long> applyCourses(Map<String, CourseRow> desired, Map<String, Object> changes) {
+        List<StoredCourse> storedCourses = jdbcTemplate.query(
+                "SELECT course_id, course_code, course_name, credits, open_grade, open_semester, course_description " +
+                        "FROM course WHERE deleted_at IS NULL ORDER BY course_id",
+                (rs, rowNum) -> new StoredCourse(
+                        rs.getLong("course_id"),
+                        rs.getString("course_code"),
+                        rs.getString("course_name"),
+                        (Integer) rs.getObject("credits"),
+                        (Integer) rs.getObject("open_grade"),
+                        rs.getString("open_semester") != null ? Semester.valueOf(rs.getString("open_semester")) : null,
+                        rs.getString("course_description")));
+
+        // 같은 과목 코드가 여러 개면 ID 가 가장 작은 과목을 유지하고 나머지는 삭제
+        Map<String, StoredCourse> storedByCode = new HashMap<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (StoredCourse stored : storedCourses) {
+            if (!desired.containsKey(stored.courseCode()) || storedByCode.putIfAbsent(stored.courseCode(), stored) != null) {
+                deletes.add(new Object[]{stored.id()});
+            }
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (CourseRow row : desired.values()) {
+            StoredCourse stored = storedByCode.get(row.courseCode());
+            if (stored == null) {
+                inserts.add(new Object[]{row.courseName(), row.courseCode(), row.credits(), row.description(),
+                        row.openGrade(), row.openSemester().name()});
+                continue;
+            }
+            // JSON 에 설명이 없으면 기존(크롤링된) 설명 유지
+            String description = row.description() != null ? row.description() : stored.description();
+            if (Objects.equals(stored.courseName(), row.courseName())
+                    && Objects.equals(stored.credits(), row.credits())
+                    && Objects.equals(stored.openGrade(), row.openGrade())
+                    && stored.openSemester() == row.openSemester()
+                    && Objects.equals(stored.description(), description)) {
+                unchanged++;
+                continue;
+            }
+            updates.add(new Object[]{row.courseName(), row.credits(), description, row.openGrade(),
+                    row.openSemester().name(), stored.id()});
+        }
+
+        batchUpdate("UPDATE course SET updated_at = NOW(), deleted_at = NOW() WHERE course_id = ?", deletes);
+        batchUpdate("INSERT INTO course (course_name, course_code, credits, course_description, open_grade, open_semester, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())", inserts);
+        batchUpdate("UPDATE course SET course_name = ?, credits = ?, course_description = ?, open_grade = ?, open_semester = ?, " +
+                "updated_at = NOW() WHERE course_id = ?", updates);
+
+        changes.put("inserted", inserts.size());
+        changes.put("updated", updates.size());
+        changes.put("deleted", deletes.size());
+        changes.put("unchanged", unchanged);
+
+        // 새로 추가된 과목의 ID 까지 포함한 과목 코드 → 과목 ID
+        Map<String, Long> courseIds = new HashMap<>();
+        jdbcTemplate.query("SELECT course_id, course_code FROM course WHERE deleted_at IS NULL ORDER BY course_id",
+                rs -> {
+                    courseIds.putIfAbsent(rs.getString("course_code"), rs.getLong("course_id"));
+                });
+        return courseIds;
+    }
+
+    /**
+     * 이수 요건 추가/과목 구분 수정/삭제 ((과목, 트랙) 기준)
+     */
+    private Map<String, Object> applyRequirements(Map<String, Map<Long, CourseType>> desired, Map<String, Long> courseIds) {
+        Map<String, CourseType> desiredByKey = new LinkedHashMap<>();
+        desired.forEach((courseCode, types) -> {
+            Long courseId = courseIds.get(courseCode);
+            types.forEach((trackId, courseType) -> desiredByKey.put(courseId + ":" + trackId, courseType));
+        });
+
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        Set<String> storedKeys = new LinkedHashSet<>();
+        jdbcTemplate.query("SELECT track_requirement_id, course_id, track_id, course_type FROM track_requirement " +
+                        "WHERE deleted_at IS NULL ORDER BY track_requirement_id",
+                rs -> {
+                    long id = rs.getLong("track_requirement_id");
+                    String key = rs.getLong("course_id") + ":" + rs.getLong("track_id");
+                    CourseType courseType = desiredByKey.get(key);
+                    // JSON 에 없거나 중복된 이수 요건은 삭제
+                    if (courseType == null || !storedKeys.add(key)) {
+                        deletes.add(new Object[]{id});
+                    } else if (!courseType.name().equals(rs.getString("course_type"))) {
+                        updates.add(new Object[]{courseType.name(), id});
+                    }
+                });
+
+        List<Object[]> inserts = new ArrayList<>();
+        desiredByKey.forEach((key, courseType) -> {
+            if (!storedKeys.contains(key)) {
+                String[] ids = key.split(":");
+                inserts.add(new Object[]{Long.valueOf(ids[0]), Long.valueOf(ids[1]), courseType.name()});
+            }
+        });
+
+        batchUpdate("UPDATE track_requirement SET updated_at = NOW(), deleted_at = NOW() WHERE track_requirement_id = ?", deletes);
+        batchUpdate("INSERT INTO track_requirement (course_id, track_id, course_type, created_at, updated_at) " +
+                "VALUES (?, ?, ?, NOW(), NOW())", inserts);
+        batchUpdate("UPDATE track_requirement SET course_type = ?, updated_at = NOW() WHERE track_requirement_id = ?", updates);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("inserted", inserts.size());
+        changes.put("updated", updates.size());
+        changes.put("deleted", deletes.size());
+        return changes;
+    }
+
+    /**
+     * 선수과목 관계 추가/삭제 ((과목 ID, 선수과목 ID) 기준)
+     */
+    private Map<String, Object> applyPrerequisites(Map<String, Set<String>> desired, Map<String, Long> courseIds) {
+        Set<String> desiredPairs = new LinkedHashSet<>();
+        int missing = 0;
+        for (Map.Entry<String, Set<String>> entry : desired.entrySet()) {
+            Long courseId = courseIds.get(entry.getKey());
+            for (String prerequisiteCode : entry.getValue()) {
+                Long prerequisiteId = courseIds.get(prerequisiteCode);
+                if (prerequisiteId == null) {
+                    log.warn("선수과목 ID '{}'에 해당하는 과목을 찾을 수 없습니다. (과목: {})", prerequisiteCode, entry.getKey());
+                    missing++;
+                    continue;
+                }
+                desiredPairs.add(courseId + ":" + prerequisiteId);
+            }
+        }
+
+        List<Object[]> deletes = new ArrayList<>();
+        Set<String> storedPairs = new LinkedHashSet<>();
+        jdbcTemplate.query("SELECT course_prerequisite_id, course_id, prerequisite_id FROM course_prerequisite " +
+                        "WHERE deleted_at IS NULL ORDER BY course_prerequisite_id",
+                rs -> {
+                    String pair = rs.getLong("course_id") + ":" + rs.getLong("prerequisite_id");
+                    // JSON 에 없거나 중복된 관계는 삭제
+                    if (!desiredPairs.contains(pair) || !storedPairs.add(pair)) {
+                        deletes.add(new Object[]{rs.getLong("course_prerequisite_id")});
+                    }
+                });
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (String pair : desiredPairs) {
+            if (!storedPairs.contains(pair)) {
+                String[] ids = pair.split(":");
+                inserts.add(new Object[]{Long.valueOf(ids[0]), Long.valueOf(ids[1])});
+            }
+        }
+
+        batchUpdate("UPDATE course_prerequisite SET updated_at = NOW(), deleted_at = NOW() WHERE course_prerequisite_id = ?", deletes);
+        batchUpdate("INSERT INTO course_prerequisite (course_id, prerequisite_id, created_at, updated_at) " +
+                "VALUES (?, ?, NOW(), NOW())", inserts);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("inserted", inserts.size());
+        changes.put("deleted", deletes.size());
+        changes.put("missing", missing);
+        return changes;
+    }
+
+    private void batchUpdate(String sql, List<Object[]> batchArgs) {
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        }
+    }
+
+    private static boolean hasChanges(Map<String, Object> changes) {
+        return (int) changes.get("inserted") > 0
+                || (int) changes.getOrDefault("updated", 0) > 0
+                || (int) changes.get("deleted") > 0;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,174 @@
+package grit.guidance.domain.course.service;
+
+import grit.guidance.domain.course.entity.Course;
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.entity.Semester;
+import grit.guidance.domain.course.entity.TrackRequirement;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 과목 카탈로그 읽기 전용 스냅샷 (과목, 트랙 이수 요건, 선수과목 관계)
+ * - 과목 ID / 과목 코드 / 과목명으로 조회, 과목마다 0부터 시작하는 연속 순번(ordinal) 부여 (과목 ID 순)
+ * - 선수과목 그래프(전체 선수과목, 위상 순서)를 함께 계산
+ * - 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 잠금 없이 읽을 수 있음 (변경 시 새 스냅샷으로 교체)
+ * - 엔티티가 아닌 값만 보관하므로 영속성 컨텍스트와 무관하게 사용 가능
+ */
+public final class CourseCatalogSnapshot {
+
+    public record CourseEntry(int ordinal, Long id, String courseCode, String courseName, int credits,
+                              int openGrade, Semester openSemester, String description) {
+    }
+
+    public record RequirementEntry(Long courseId, Long trackId, String trackName, CourseType courseType) {
+    }
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final List<CourseEntry> courses;
+    private final Map<Long, CourseEntry> coursesById;
+    private final Map<String, CourseEntry> coursesByCode;
+    private final Map<String, CourseEntry> coursesByName;
+    private final Map<Long, List<RequirementEntry>> requirementsByCourseId;
+    private final Map<Long, List<RequirementEntry>> requirementsByTrackId;
+    private final Map<Long, List<Long>> prerequisiteIdsByCourseId;
+    private final PrerequisiteGraph prerequisiteGraph;
+
+    private CourseCatalogSnapshot(long version, List<CourseEntry> courses,
+                                  Map<Long, List<RequirementEntry>> requirementsByCourseId,
+                                  Map<Long, List<RequirementEntry>> requirementsByTrackId,
+                                  Map<Long, List<Long>> prerequisiteIdsByCourseId) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.courses = List.copyOf(courses);
+
+        Map<Long, CourseEntry> byId = new HashMap<>();
+        Map<String, CourseEntry> byCode = new HashMap<>();
+        Map<String, CourseEntry> byName = new HashMap<>();
+        for (CourseEntry course : courses) {
+            byId.put(course.id(), course);
+            // 같은 코드/이름이 여러 개면 ID 가 가장 작은 과목 사용
+            byCode.putIfAbsent(course.courseCode(), course);
+            byName.putIfAbsent(course.courseName(), course);
+        }
+        this.coursesById = Map.copyOf(byId);
+        this.coursesByCode = Map.copyOf(byCode);
+        this.coursesByName = Map.copyOf(byName);
+        this.requirementsByCourseId = copyOfLists(requirementsByCourseId);
+        this.requirementsByTrackId = copyOfLists(requirementsByTrackId);
+        this.prerequisiteIdsByCourseId = copyOfLists(prerequisiteIdsByCourseId);
+        this.prerequisiteGraph = PrerequisiteGraph.of(this.courses, this.prerequisiteIdsByCourseId);
+    }
+
+    /**
+     * DB 조회 결과로 스냅샷 생성
+     *
+     * @param requirements      과목/트랙을 함께 조회한 이수 요건
+     * @param prerequisitePairs (과목 ID, 선수과목 ID) 쌍
+     */
+    static CourseCatalogSnapshot of(long version, List<Course> courses, List<TrackRequirement> requirements,
+                                    List<Object[]> prerequisitePairs) {
+        List<Course> sorted = new ArrayList<>(courses);
+        sorted.sort(Comparator.comparing(Course::getId));
+
+        List<CourseEntry> entries = new ArrayList<>(sorted.size());
+        for (Course course : sorted) {
+            entries.add(new CourseEntry(entries.size(), course.getId(), course.getCourseCode(), course.getCourseName(),
+                    course.getCredits() != null ? course.getCredits() : 0,
+                    course.getOpenGrade() != null ? course.getOpenGrade() : 0,
+                    course.getOpenSemester(), course.getDescription()));
+        }
+
+        Map<Long, List<RequirementEntry>> byCourseId = new HashMap<>();
+        Map<Long, List<RequirementEntry>> byTrackId = new HashMap<>();
+        for (TrackRequirement requirement : requirements) {
+            RequirementEntry entry = new RequirementEntry(requirement.getCourse().getId(), requirement.getTrack().getId(),
+                    requirement.getTrack().getTrackName(), requirement.getCourseType());
+            byCourseId.computeIfAbsent(entry.courseId(), k -> new ArrayList<>()).add(entry);
+            byTrackId.computeIfAbsent(entry.trackId(), k -> new ArrayList<>()).add(entry);
+        }
+
+        Map<Long, List<Long>> prerequisites = new HashMap<>();
+        for (Object[] pair : prerequisitePairs) {
+            List<Long> ids = prerequisites.computeIfAbsent((Long) pair[0], k -> new ArrayList<>());
+            if (!ids.contains((Long) pair[1])) {
+                ids.add((Long) pair[1]);
+            }
+        }
+
+        return new CourseCatalogSnapshot(version, entries, byCourseId, byTrackId, prerequisites);
+    }
+
+    private static <K, V> Map<K, List<V>> copyOfLists(Map<K, List<V>> source) {
+        Map<K, List<V>> copy = new HashMap<>();
+        source.forEach((key, values) -> copy.put(key, List.copyOf(values)));
+        return Map.copyOf(copy);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return courses.size();
+    }
+
+    // 순번 순서의 전체 과목
+    public List<CourseEntry> courses() {
+        return courses;
+    }
+
+    public CourseEntry courseAt(int ordinal) {
+        return courses.get(ordinal);
+    }
+
+    public Optional<CourseEntry> findById(Long courseId) {
+        return Optional.ofNullable(courseId != null ? coursesById.get(courseId) : null);
+    }
+
+    public Optional<CourseEntry> findByCode(String courseCode) {
+        return Optional.ofNullable(courseCode != null ? coursesByCode.get(courseCode) : null);
+    }
+
+    public Optional<CourseEntry> findByName(String courseName) {
+        return Optional.ofNullable(courseName != null ? coursesByName.get(courseName) : null);
+    }
+
+    // 과목 ID → 순번 (카탈로그에 없으면 -1)
+    public int ordinalOf(Long courseId) {
+        CourseEntry course = courseId != null ? coursesById.get(courseId) : null;
+        return course != null ? course.ordinal() : -1;
+    }
+
+    public List<RequirementEntry> requirementsOfCourse(Long courseId) {
+        return requirementsByCourseId.getOrDefault(courseId, List.of());
+    }
+
+    public List<RequirementEntry> requirementsOfTrack(Long trackId) {
+        return requirementsByTrackId.getOrDefault(trackId, List.of());
+    }
+
+    // 직접 선수과목 ID 목록
+    public List<Long> prerequisiteIdsOf(Long courseId) {
+        return prerequisiteIdsByCourseId.getOrDefault(courseId, List.of());
+    }
+
+    public Map<Long, List<Long>> prerequisiteIds() {
+        return prerequisiteIdsByCourseId;
+    }
+
+    // 선수과목 그래프 (스냅샷 생성 시 함께 계산)
+    public PrerequisiteGraph prerequisiteGraph() {
+        return prerequisiteGraph;
+    }
+}
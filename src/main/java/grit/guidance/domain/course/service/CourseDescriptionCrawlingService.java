@@ -1,6 +1,7 @@
 package grit.guidance.domain.course.service;
 
 import grit.guidance.domain.course.entity.Course;
+import grit.guidance.domain.course.event.CourseCatalogChangedEvent;
 import grit.guidance.domain.course.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +9,7 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class CourseDescriptionCrawlingService {
 
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 4개 트랙 URL
     private static final String[] TRACK_URLS = {
@@ -70,6 +73,11 @@ public class CourseDescriptionCrawlingService {
             }
             
             log.info("크롤링 완료 - 성공: {}, 실패: {}", successCount, failCount);
+
+            // 설명이 바뀐 과목이 있으면 커밋 후 벡터 저장소 동기화
+            if (successCount > 0) {
+                eventPublisher.publishEvent(new CourseCatalogChangedEvent("description-crawl"));
+            }
             
         } catch (Exception e) {
             log.error("데이터베이스 과목 설명 업데이트 실패", e);
@@ -4,12 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import grit.guidance.domain.course.dto.CourseDataDto;
 import grit.guidance.domain.course.entity.*;
+import grit.guidance.domain.course.event.CourseCatalogChangedEvent;
 import grit.guidance.domain.course.repository.CourseRepository;
 import grit.guidance.domain.course.repository.CoursePrerequisiteRepository;
 import grit.guidance.domain.course.repository.TrackRepository;
 import grit.guidance.domain.course.repository.TrackRequirementRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +33,7 @@ public class CourseService {
     private final TrackRepository trackRepository;
     private final TrackRequirementRepository trackRequirementRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 과목 조회
@@ -75,6 +78,9 @@ public class CourseService {
 
             log.info("데이터베이스 초기화를 성공적으로 완료했습니다.");
 
+            // 커밋 후 벡터 저장소 동기화
+            eventPublisher.publishEvent(new CourseCatalogChangedEvent("reload"));
+
         } catch (Exception e) {
             log.error("데이터베이스 초기화 중 오류가 발생했습니다.", e);
             throw new RuntimeException("데이터 초기화에 실패했습니다.", e);
@@ -164,13 +170,13 @@ public class CourseService {
     }
 
     // 학기 문자열("1", "2")을 Semester Enum으로 변환
-    private Semester convertStringToSemester(String semesterStr) {
+    static Semester convertStringToSemester(String semesterStr) {
         return "1".equals(semesterStr) ? Semester.FIRST : Semester.SECOND;
     }
 
 
     //이수구분 문자열("전필", "전선"...)을 CourseType Enum으로 변환
-    private CourseType convertStringToCourseType(String categoryStr) {
+    static CourseType convertStringToCourseType(String categoryStr) {
         return switch (categoryStr) {
             case "전필" -> CourseType.MANDATORY;
             case "전선" -> CourseType.ELECTIVE;
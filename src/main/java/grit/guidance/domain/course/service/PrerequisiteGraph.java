@@ -0,0 +1,300 @@
+package grit.guidance.domain.course.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선수과목 그래프 (과목 카탈로그 스냅샷과 함께 생성, 읽기 전용)
+ * - 과목 순번(ordinal) 기준 BitSet 인접 목록: 직접 선수과목 / 이 과목을 선수과목으로 하는 과목
+ * - 생성 시 순환을 찾아 순환을 만드는 간선을 제외하고(로그로 남김), 위상 순서와 전체(간접 포함) 선수과목을 미리 계산
+ * - 카탈로그에 없는 과목을 가리키는 선수과목 관계는 무시
+ */
+@Slf4j
+public final class PrerequisiteGraph {
+
+    private static final int WHITE = 0;
+    private static final int GRAY = 1;
+    private static final int BLACK = 2;
+
+    private final List<CourseCatalogSnapshot.CourseEntry> courses;
+    private final Map<Long, Integer> ordinalsById;
+    private final BitSet[] direct;
+    private final BitSet[] dependents;
+    private final BitSet[] closure;
+    private final int[] depth;
+    private final int[] topologicalOrder;
+    private final List<List<Long>> cycles;
+
+    private PrerequisiteGraph(List<CourseCatalogSnapshot.CourseEntry> courses, Map<Long, Integer> ordinalsById,
+                              BitSet[] direct, List<List<Long>> cycles, int[] topologicalOrder) {
+        int size = courses.size();
+        this.courses = courses;
+        this.ordinalsById = ordinalsById;
+        this.direct = direct;
+        this.cycles = cycles;
+        this.topologicalOrder = topologicalOrder;
+
+        this.dependents = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            dependents[i] = new BitSet(size);
+        }
+        for (int course = 0; course < size; course++) {
+            for (int p = direct[course].nextSetBit(0); p >= 0; p = direct[course].nextSetBit(p + 1)) {
+                dependents[p].set(course);
+            }
+        }
+
+        // 위상 순서(선수과목 먼저)대로 전체 선수과목과 선수과목 사슬 길이 계산
+        this.closure = new BitSet[size];
+        this.depth = new int[size];
+        for (int course : topologicalOrder) {
+            BitSet all = new BitSet(size);
+            int longest = 0;
+            for (int p = direct[course].nextSetBit(0); p >= 0; p = direct[course].nextSetBit(p + 1)) {
+                all.set(p);
+                all.or(closure[p]);
+                longest = Math.max(longest, depth[p]);
+            }
+            closure[course] = all;
+            depth[course] = longest + 1;
+        }
+    }
+
+    /**
+     * 카탈로그 과목(순번 순)과 (과목 ID → 직접 선수과목 ID) 관계로 그래프 생성
+     */
+    static PrerequisiteGraph of(List<CourseCatalogSnapshot.CourseEntry> courses, Map<Long, List<Long>> prerequisiteIds) {
+        int size = courses.size();
+        Map<Long, Integer> ordinalsById = new HashMap<>();
+        for (CourseCatalogSnapshot.CourseEntry course : courses) {
+            ordinalsById.put(course.id(), course.ordinal());
+        }
+
+        BitSet[] direct = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            direct[i] = new BitSet(size);
+        }
+        prerequisiteIds.forEach((courseId, ids) -> {
+            Integer course = ordinalsById.get(courseId);
+            if (course == null) {
+                return;
+            }
+            for (Long prerequisiteId : ids) {
+                Integer prerequisite = ordinalsById.get(prerequisiteId);
+                if (prerequisite != null) {
+                    direct[course].set(prerequisite);
+                }
+            }
+        });
+
+        // 깊이 우선 탐색: 진행 중인(GRAY) 과목으로 돌아가는 간선은 순환이므로 제외, 끝난 순서가 위상 순서
+        int[] state = new int[size];
+        int[] order = new int[size];
+        int[] orderSize = {0};
+        int[] stack = new int[size];
+        int[] next = new int[size];
+        List<List<Long>> cycles = new ArrayList<>();
+        for (int start = 0; start < size; start++) {
+            if (state[start] == WHITE) {
+                visit(start, direct, state, stack, next, order, orderSize, cycles, courses);
+            }
+        }
+
+        if (!cycles.isEmpty()) {
+            log.error("선수과목 관계에 순환이 있습니다 - {}개 간선 제외: {}", cycles.size(), cycles);
+        }
+        return new PrerequisiteGraph(courses, Map.copyOf(ordinalsById), direct, List.copyOf(cycles), order);
+    }
+
+    // 선수과목 사슬이 길어도 스택이 넘치지 않도록 명시적 스택 사용
+    private static void visit(int start, BitSet[] direct, int[] state, int[] stack, int[] next, int[] order,
+                              int[] orderSize, List<List<Long>> cycles, List<CourseCatalogSnapshot.CourseEntry> courses) {
+        int top = 0;
+        stack[0] = start;
+        next[0] = direct[start].nextSetBit(0);
+        state[start] = GRAY;
+
+        while (top >= 0) {
+            int course = stack[top];
+            int prerequisite = next[top];
+            if (prerequisite < 0) {
+                state[course] = BLACK;
+                order[orderSize[0]++] = course;
+                top--;
+                continue;
+            }
+            next[top] = direct[course].nextSetBit(prerequisite + 1);
+
+            if (state[prerequisite] == GRAY) {
+                // 순환 경로 기록 후 간선 제외
+                List<Long> cycle = new ArrayList<>();
+                for (int i = top; i >= 0; i--) {
+                    cycle.add(courses.get(stack[i]).id());
+                    if (stack[i] == prerequisite) {
+                        break;
+                    }
+                }
+                Collections.reverse(cycle);
+                cycles.add(cycle);
+                direct[course].clear(prerequisite);
+            } else if (state[prerequisite] == WHITE) {
+                state[prerequisite] = GRAY;
+                top++;
+                stack[top] = prerequisite;
+                next[top] = direct[prerequisite].nextSetBit(0);
+            }
+        }
+    }
+
+    public int size() {
+        return courses.size();
+    }
+
+    // 과목 ID → 순번 (카탈로그에 없으면 -1)
+    public int ordinalOf(Long courseId) {
+        Integer ordinal = courseId != null ? ordinalsById.get(courseId) : null;
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * 과목 ID 목록 → 순번 집합 (카탈로그에 없는 과목은 무시)
+     */
+    public BitSet toOrdinals(Collection<Long> courseIds) {
+        BitSet ordinals = new BitSet(size());
+        for (Long courseId : courseIds) {
+            int ordinal = ordinalOf(courseId);
+            if (ordinal >= 0) {
+                ordinals.set(ordinal);
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * 순번 집합 → 과목 ID 목록 (순번 순)
+     */
+    public List<Long> toCourseIds(BitSet ordinals) {
+        List<Long> courseIds = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            courseIds.add(courses.get(i).id());
+        }
+        return courseIds;
+    }
+
+    // 직접 선수과목 ID 목록
+    public List<Long> directPrerequisiteIds(Long courseId) {
+        int ordinal = ordinalOf(courseId);
+        return ordinal >= 0 ? toCourseIds(direct[ordinal]) : List.of();
+    }
+
+    // 간접 선수과목까지 포함한 전체 선수과목 (복사본)
+    public BitSet allPrerequisites(int ordinal) {
+        return (BitSet) closure[ordinal].clone();
+    }
+
+    public List<Long> allPrerequisiteIds(Long courseId) {
+        int ordinal = ordinalOf(courseId);
+        return ordinal >= 0 ? toCourseIds(closure[ordinal]) : List.of();
+    }
+
+    // prerequisiteId 가 courseId 의 (간접 포함) 선수과목인지 여부
+    public boolean requires(Long courseId, Long prerequisiteId) {
+        int course = ordinalOf(courseId);
+        int prerequisite = ordinalOf(prerequisiteId);
+        return course >= 0 && prerequisite >= 0 && closure[course].get(prerequisite);
+    }
+
+    // 이 과목을 직접 선수과목으로 하는 과목 (복사본)
+    public BitSet dependents(int ordinal) {
+        return (BitSet) dependents[ordinal].clone();
+    }
+
+    // completed 에 없는 직접 선수과목 ID 목록
+    public List<Long> missingPrerequisiteIds(Long courseId, BitSet completed) {
+        int ordinal = ordinalOf(courseId);
+        if (ordinal < 0) {
+            return List.of();
+        }
+        BitSet missing = (BitSet) direct[ordinal].clone();
+        missing.andNot(completed);
+        return toCourseIds(missing);
+    }
+
+    /**
+     * completed 를 모두 이수했을 때 새로 들을 수 있게 되는 과목
+     * (이수하지 않았고 직접 선수과목이 모두 completed 에 있는 과목, 선수과목이 없는 과목은 제외)
+     */
+    public BitSet unlockedBy(BitSet completed) {
+        BitSet candidates = new BitSet(size());
+        for (int c = completed.nextSetBit(0); c >= 0; c = completed.nextSetBit(c + 1)) {
+            candidates.or(dependents[c]);
+        }
+        candidates.andNot(completed);
+
+        BitSet unlocked = new BitSet(size());
+        for (int course = candidates.nextSetBit(0); course >= 0; course = candidates.nextSetBit(course + 1)) {
+            BitSet missing = (BitSet) direct[course].clone();
+            missing.andNot(completed);
+            if (missing.isEmpty()) {
+                unlocked.set(course);
+            }
+        }
+        return unlocked;
+    }
+
+    /**
+     * 아직 이수하지 않은 과목으로 이어지는 가장 긴 선수과목 사슬 (선수과목 먼저, 남은 최소 학기 수의 하한)
+     */
+    public List<Long> longestRemainingChain(BitSet completed) {
+        int[] remaining = new int[size()];
+        int[] previous = new int[size()];
+        int end = -1;
+        for (int course : topologicalOrder) {
+            previous[course] = -1;
+            if (completed.get(course)) {
+                continue;
+            }
+            int longest = 0;
+            for (int p = direct[course].nextSetBit(0); p >= 0; p = direct[course].nextSetBit(p + 1)) {
+                if (remaining[p] > longest) {
+                    longest = remaining[p];
+                    previous[course] = p;
+                }
+            }
+            remaining[course] = longest + 1;
+            if (end < 0 || remaining[course] > remaining[end]) {
+                end = course;
+            }
+        }
+
+        List<Long> chain = new ArrayList<>();
+        for (int course = end; course >= 0; course = previous[course]) {
+            chain.add(courses.get(course).id());
+        }
+        Collections.reverse(chain);
+        return chain;
+    }
+
+    // 가장 긴 선수과목 사슬 길이 (과목 자신 포함)
+    public int depthOf(Long courseId) {
+        int ordinal = ordinalOf(courseId);
+        return ordinal >= 0 ? depth[ordinal] : 0;
+    }
+
+    // 위상 순서의 과목 순번 (선수과목이 항상 먼저)
+    public int[] topologicalOrder() {
+        return topologicalOrder.clone();
+    }
+
+    // 생성 시 발견한 순환 (과목 ID 경로, 마지막 과목 → 첫 과목 간선을 제외함)
+    public List<List<Long>> cycles() {
+        return cycles;
+    }
+}
@@ -0,0 +1,142 @@
+package grit.guidance.domain.course.service;
+
+import grit.guidance.domain.course.entity.CourseType;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 트랙 조합별 과목 비트마스크 (과목 카탈로그 순번 기준, 카탈로그 스냅샷이 바뀌기 전까지 재사용)
+ * - 트랙 소속 / 전공필수 / 전공기초 / 전공선택 외 구분을 BitSet 으로 보관하여 과목 구분을 비트 연산으로 결정
+ * - 사용자별 이수/수강중/관심과목 BitSet 과 한 번의 순회로 과목 상태와 개수를 계산
+ */
+public final class TrackCourseMasks {
+
+    public static final byte COMPLETED = 0;
+    public static final byte ENROLLED = 1;
+    public static final byte AVAILABLE = 2;
+
+    /**
+     * 사용자 과목 상태 (statuses 는 순번 기준, 트랙 과목만 의미 있음)
+     */
+    public record Statuses(byte[] statuses, int completedCount, int enrolledCount, int availableCount, int favoriteCount) {
+    }
+
+    private final long version;
+    private final List<Long> trackIds;
+    private final BitSet members;
+    private final BitSet mandatory;
+    private final BitSet foundation;
+    private final BitSet nonElective;
+    // 전공필수로 지정한 첫 번째 트랙 ID (없으면 0)
+    private final long[] mandatoryTrackIds;
+
+    TrackCourseMasks(long version, List<Long> trackIds, BitSet members, BitSet mandatory, BitSet foundation,
+                     BitSet nonElective, long[] mandatoryTrackIds) {
+        this.version = version;
+        this.trackIds = List.copyOf(trackIds);
+        this.members = members;
+        this.mandatory = mandatory;
+        this.foundation = foundation;
+        this.nonElective = nonElective;
+        this.mandatoryTrackIds = mandatoryTrackIds;
+    }
+
+    /**
+     * 스냅샷의 이수 요건 중 trackIds 에 속한 것만으로 마스크 생성
+     */
+    public static TrackCourseMasks of(CourseCatalogSnapshot snapshot, List<Long> trackIds) {
+        int size = snapshot.size();
+        BitSet members = new BitSet(size);
+        BitSet mandatory = new BitSet(size);
+        BitSet foundation = new BitSet(size);
+        BitSet nonElective = new BitSet(size);
+        long[] mandatoryTrackIds = new long[size];
+
+        for (CourseCatalogSnapshot.CourseEntry course : snapshot.courses()) {
+            int ordinal = course.ordinal();
+            for (CourseCatalogSnapshot.RequirementEntry requirement : snapshot.requirementsOfCourse(course.id())) {
+                if (!trackIds.contains(requirement.trackId())) {
+                    continue;
+                }
+                members.set(ordinal);
+                CourseType courseType = requirement.courseType();
+                if (courseType != CourseType.ELECTIVE) {
+                    nonElective.set(ordinal);
+                }
+                if (courseType == CourseType.FOUNDATION) {
+                    foundation.set(ordinal);
+                }
+                if (courseType == CourseType.MANDATORY && !mandatory.get(ordinal)) {
+                    mandatory.set(ordinal);
+                    mandatoryTrackIds[ordinal] = requirement.trackId();
+                }
+            }
+        }
+        return new TrackCourseMasks(snapshot.version(), trackIds, members, mandatory, foundation, nonElective, mandatoryTrackIds);
+    }
+
+    /**
+     * 이수 > 수강중 > 수강 가능 순서로 트랙 과목의 상태 결정
+     */
+    public Statuses resolve(BitSet completed, BitSet enrolled, BitSet favorite) {
+        byte[] statuses = new byte[mandatoryTrackIds.length];
+        int completedCount = 0;
+        int enrolledCount = 0;
+        int availableCount = 0;
+        for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+            if (completed.get(i)) {
+                statuses[i] = COMPLETED;
+                completedCount++;
+            } else if (enrolled.get(i)) {
+                statuses[i] = ENROLLED;
+                enrolledCount++;
+            } else {
+                statuses[i] = AVAILABLE;
+                availableCount++;
+            }
+        }
+
+        BitSet favoriteMembers = (BitSet) favorite.clone();
+        favoriteMembers.and(members);
+        return new Statuses(statuses, completedCount, enrolledCount, availableCount, favoriteMembers.cardinality());
+    }
+
+    /**
+     * 과목 구분 (선택한 트랙 중 하나라도 전공필수면 전공필수 > 전공기초 > 모두 전공선택이면 전공선택 > 일반선택)
+     */
+    public String courseTypeOf(int ordinal) {
+        if (mandatory.get(ordinal)) {
+            return CourseType.MANDATORY.getDescription();
+        }
+        if (foundation.get(ordinal)) {
+            return CourseType.FOUNDATION.getDescription();
+        }
+        if (members.get(ordinal) && !nonElective.get(ordinal)) {
+            return CourseType.ELECTIVE.getDescription();
+        }
+        return CourseType.GENERAL_ELECTIVE.getDescription();
+    }
+
+    // 전공필수인 첫 번째 트랙 ID (전공필수가 아니면 null)
+    public Long mandatoryTrackIdOf(int ordinal) {
+        return mandatory.get(ordinal) ? mandatoryTrackIds[ordinal] : null;
+    }
+
+    // 선택한 트랙 중 하나에라도 속한 과목 순번
+    public BitSet members() {
+        return (BitSet) members.clone();
+    }
+
+    public boolean isMember(int ordinal) {
+        return members.get(ordinal);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<Long> trackIds() {
+        return trackIds;
+    }
+}
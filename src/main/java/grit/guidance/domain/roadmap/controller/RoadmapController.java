@@ -1,12 +1,18 @@
 package grit.guidance.domain.roadmap.controller;
 
 import grit.guidance.domain.roadmap.service.CourseEmbeddingService;
+import grit.guidance.domain.roadmap.service.CourseVectorSyncService;
 import grit.guidance.domain.roadmap.service.RecommendedCourseService;
-import grit.guidance.domain.roadmap.repository.QdrantRepository;
+import grit.guidance.domain.roadmap.repository.CourseVectorStore;
+import grit.guidance.domain.roadmap.repository.QdrantCollectionManager;
+import grit.guidance.domain.roadmap.repository.RoadmapResponseCache;
 import grit.guidance.domain.roadmap.dto.SearchRequest;
 import grit.guidance.domain.roadmap.dto.CourseRecommendationRequest;
 import grit.guidance.domain.roadmap.dto.RoadmapResponseDto;
 import grit.guidance.domain.roadmap.service.RoadmapService;
+import grit.guidance.domain.roadmap.service.RoadmapJob;
+import grit.guidance.domain.roadmap.service.RoadmapJobService;
+import grit.guidance.domain.roadmap.service.RoadmapRequestCoalescer;
 import grit.guidance.global.jwt.JwtService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,8 +21,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -33,8 +42,13 @@ public class RoadmapController {
     
     private final CourseEmbeddingService courseEmbeddingService;
     private final RecommendedCourseService recommendedCourseService;
-    private final QdrantRepository qdrantRepository;
+    private final CourseVectorStore courseVectorStore;
+    private final CourseVectorSyncService courseVectorSyncService;
+    private final ObjectProvider<QdrantCollectionManager> qdrantCollectionManager;
+    private final RoadmapResponseCache roadmapResponseCache;
     private final RoadmapService roadmapService;
+    private final RoadmapJobService roadmapJobService;
+    private final RoadmapRequestCoalescer roadmapRequestCoalescer;
     private final JwtService jwtService;
 
     @PostMapping("/courses/embed")
@@ -60,6 +74,22 @@ public class RoadmapController {
         }
     }
 
+    @PostMapping("/courses/sync")
+    @Operation(summary = "과목 벡터 증분 동기화", description = "새로 생기거나 변경된 과목만 벡터화하고, 삭제된 과목은 벡터 저장소에서 제거합니다.")
+    public ResponseEntity<Map<String, Object>> syncCourses() {
+        try {
+            log.info("과목 벡터 증분 동기화 요청");
+            return ResponseEntity.ok(courseVectorSyncService.syncCourses());
+        } catch (Exception e) {
+            log.error("과목 벡터 증분 동기화 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "message", "과목 벡터 동기화 중 오류가 발생했습니다.",
+                    "error", e.getMessage(),
+                    "status", "error"
+            ));
+        }
+    }
+
     @PostMapping("/courses/search")
     @Operation(summary = "과목 검색", description = "Qdrant에서 유사한 과목을 검색합니다.")
     public ResponseEntity<Map<String, Object>> searchCourses(@RequestBody SearchRequest request) {
@@ -67,14 +97,18 @@ public class RoadmapController {
             int topK = 20;  // 고정값으로 20개 설정
             log.info("RoadmapController 검색 요청: query='{}', topK={}", request.getQuery(), topK);
 
-            List<Map<String, Object>> results = courseEmbeddingService.searchCoursesByPreference(request.getQuery(), topK);
+            // 같은 검색어로 진행 중인 검색이 있으면 그 결과를 함께 사용
+            Map<String, Object> response = roadmapRequestCoalescer.search(request.getQuery(), topK, () -> {
+                List<Map<String, Object>> results = courseEmbeddingService.searchCoursesByPreference(request.getQuery(), topK);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("query", request.getQuery());
-            response.put("topK", topK);
-            response.put("results", results);
-            response.put("count", results.size());
-            response.put("status", "success");
+                Map<String, Object> searchResponse = new HashMap<>();
+                searchResponse.put("query", request.getQuery());
+                searchResponse.put("topK", topK);
+                searchResponse.put("results", results);
+                searchResponse.put("count", results.size());
+                searchResponse.put("status", "success");
+                return searchResponse;
+            });
 
             return ResponseEntity.ok(response);
 
@@ -98,6 +132,8 @@ public class RoadmapController {
             Map<String, Object> response = new HashMap<>();
             response.put("isHealthy", isHealthy);
             response.put("documentCount", documentCount);
+            response.put("embeddingCache", courseEmbeddingService.getEmbeddingCacheStats());
+            response.put("llmResponseCache", roadmapResponseCache.getStats());
             response.put("status", isHealthy ? "healthy" : "unhealthy");
 
             return ResponseEntity.ok(response);
@@ -156,25 +192,31 @@ public class RoadmapController {
             log.info("통합 로드맵 추천 요청: studentId={}, trackIds={}, learningStyle={}, advancedSettings={}",
                     request.getStudentId(), request.getTrackIds(), request.getLearningStyle(), request.getAdvancedSettings());
 
-            // 통합 로드맵 추천 (1단계 + 2단계 + LLM)
-            Map<String, Object> response = courseEmbeddingService.getIntegratedRoadmapRecommendation(
-                    request.getTrackIds(), request.getStudentId(), request.getLearningStyle(), request.getAdvancedSettings());
-
-            // 추천 결과 저장
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> roadMap = (List<Map<String, Object>>) response.get("roadMap");
-            if (roadMap != null && !roadMap.isEmpty()) {
-                recommendedCourseService.saveRecommendedCourses(
-                        request.getStudentId(), 
-                        request.getTrackIds(), 
-                        roadMap
-                );
-                log.info("로드맵 추천 결과 저장 완료 - studentId: {}", request.getStudentId());
-            }
-
-            // 응답 메시지 수정
+            // 같은 학생의 같은 요청이 진행 중이면 새로 생성하지 않고 그 결과를 함께 사용
+            Map<String, Object> response = roadmapRequestCoalescer.roadmap(request, () -> {
+                // 통합 로드맵 추천 (1단계 + 2단계 + LLM)
+                Map<String, Object> result = courseEmbeddingService.getIntegratedRoadmapRecommendation(
+                        request.getTrackIds(), request.getStudentId(), request.getLearningStyle(), request.getAdvancedSettings());
+
+                // 추천 결과 저장
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> roadMap = (List<Map<String, Object>>) result.get("roadMap");
+                if (roadMap != null && !roadMap.isEmpty()) {
+                    recommendedCourseService.saveRecommendedCourses(
+                            request.getStudentId(), 
+                            request.getTrackIds(), 
+                            roadMap
+                    );
+                    log.info("로드맵 추천 결과 저장 완료 - studentId: {}", request.getStudentId());
+                }
+                return result;
+            });
+
+            // 응답 메시지 수정 (로드맵 생성 방식과 단계별 소요 시간 포함)
             Map<String, Object> finalResponse = new HashMap<>();
             finalResponse.put("message", "로드맵이 성공적으로 생성되었습니다.");
+            finalResponse.put("source", response.get("source"));
+            finalResponse.put("stageTimingsMs", response.get("stageTimingsMs"));
             finalResponse.put("status", "success");
 
             return ResponseEntity.ok(finalResponse);
@@ -189,13 +231,106 @@ public class RoadmapController {
         }
     }
 
+    @PostMapping(value = "/courses/roadmap/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "통합 로드맵 추천 (스트리밍)", description = "LLM 응답을 스트리밍으로 받아 학기별 로드맵이 완성될 때마다 저장하고 SSE 이벤트(status, semester, complete, error)로 전송합니다. 같은 학생의 다른 요청이 진행 중이면 409를 반환합니다.")
+    public ResponseEntity<SseEmitter> streamRoadmap(@RequestBody CourseRecommendationRequest request) {
+        log.info("통합 로드맵 스트리밍 추천 요청: studentId={}, trackIds={}, learningStyle={}, advancedSettings={}",
+                request.getStudentId(), request.getTrackIds(), request.getLearningStyle(), request.getAdvancedSettings());
+        try {
+            return ResponseEntity.ok(roadmapJobService.subscribe(roadmapJobService.submit(request)));
+        } catch (IllegalStateException e) {
+            log.warn("통합 로드맵 스트리밍 추천 거절: studentId={}, {}", request.getStudentId(), e.getMessage());
+            return ResponseEntity.status(409).build();
+        }
+    }
+
+    @PostMapping("/courses/roadmap/jobs")
+    @Operation(summary = "통합 로드맵 추천 작업 등록", description = "로드맵 생성 작업을 등록하고 작업 ID를 바로 반환합니다. 같은 학생의 같은 요청이 진행 중이면 해당 작업을 반환하고, 다른 요청이 진행 중이면 409를 반환합니다.")
+    public ResponseEntity<Map<String, Object>> submitRoadmapJob(@RequestBody CourseRecommendationRequest request) {
+        try {
+            log.info("통합 로드맵 추천 작업 등록 요청: studentId={}, trackIds={}", request.getStudentId(), request.getTrackIds());
+            RoadmapJob job = roadmapJobService.submit(request);
+
+            Map<String, Object> response = new HashMap<>(job.toStatus());
+            response.put("statusUrl", "/api/roadmap/courses/roadmap/jobs/" + job.getId());
+            response.put("eventsUrl", "/api/roadmap/courses/roadmap/jobs/" + job.getId() + "/events");
+            return ResponseEntity.accepted().body(response);
+
+        } catch (IllegalStateException e) {
+            log.warn("통합 로드맵 추천 작업 등록 거절: studentId={}, {}", request.getStudentId(), e.getMessage());
+            return ResponseEntity.status(409).body(Map.of(
+                    "message", e.getMessage(),
+                    "status", "error"
+            ));
+        } catch (Exception e) {
+            log.error("통합 로드맵 추천 작업 등록 실패: studentId={}", request.getStudentId(), e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "message", "로드맵 작업 등록 중 오류가 발생했습니다.",
+                    "error", e.getMessage(),
+                    "status", "error"
+            ));
+        }
+    }
+
+    @GetMapping("/courses/roadmap/jobs/{jobId}")
+    @Operation(summary = "로드맵 작업 상태 조회", description = "로드맵 생성 작업의 진행 상태를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getRoadmapJob(@PathVariable String jobId) {
+        return roadmapJobService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toStatus()))
+                .orElseGet(() -> ResponseEntity.status(404).body(Map.of(
+                        "message", "작업을 찾을 수 없습니다.",
+                        "status", "error"
+                )));
+    }
+
+    @GetMapping(value = "/courses/roadmap/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "로드맵 작업 진행 상황 구독", description = "로드맵 생성 작업의 진행 상황을 SSE 이벤트(status, semester, complete, error)로 받습니다.")
+    public ResponseEntity<SseEmitter> subscribeRoadmapJob(@PathVariable String jobId) {
+        return roadmapJobService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(roadmapJobService.subscribe(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/courses/collection")
+    @Operation(summary = "Qdrant 컬렉션 설정 확인", description = "현재 컬렉션 설정(벡터 크기, HNSW, 양자화 등)과 기대 설정을 비교합니다.")
+    public ResponseEntity<Map<String, Object>> verifyCollection() {
+        QdrantCollectionManager manager = qdrantCollectionManager.getIfAvailable();
+        if (manager == null) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Qdrant 벡터 저장소를 사용하지 않습니다.", "status", "error"));
+        }
+        try {
+            return ResponseEntity.ok(manager.verify());
+        } catch (Exception e) {
+            log.error("Qdrant 컬렉션 설정 확인 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of("message", "컬렉션 설정 확인에 실패했습니다.", "error", e.getMessage(), "status", "error"));
+        }
+    }
+
+    @PostMapping("/courses/collection/rebuild")
+    @Operation(summary = "Qdrant 컬렉션 무중단 재생성", description = "새 버전 컬렉션을 만들어 포인트를 복사(벡터 크기가 바뀌었으면 재임베딩)한 뒤 alias를 교체합니다. "
+            + "진행 중에는 과목 문서 저장/삭제가 대기하고, 복사/재임베딩이 실패하면 alias를 교체하지 않습니다. "
+            + "alias 도입 전 컬렉션을 처음 전환할 때는 기존 컬렉션 삭제 후 alias 생성 전까지 잠깐 검색이 실패합니다.")
+    public ResponseEntity<Map<String, Object>> rebuildCollection() {
+        QdrantCollectionManager manager = qdrantCollectionManager.getIfAvailable();
+        if (manager == null) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Qdrant 벡터 저장소를 사용하지 않습니다.", "status", "error"));
+        }
+        try {
+            log.info("Qdrant 컬렉션 rebuild 요청");
+            return ResponseEntity.ok(manager.rebuild());
+        } catch (Exception e) {
+            log.error("Qdrant 컬렉션 rebuild 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of("message", "컬렉션 재생성에 실패했습니다.", "error", e.getMessage(), "status", "error"));
+        }
+    }
+
     @DeleteMapping("/courses/clear")
     @Operation(summary = "Qdrant 데이터 초기화", description = "Qdrant에 저장된 모든 과목 데이터를 삭제합니다.")
     public ResponseEntity<Map<String, String>> clearAllCourses() {
         try {
             log.info("Qdrant 데이터 초기화 요청");
 
-            boolean success = qdrantRepository.deleteAllCourseDocuments();
+            boolean success = courseVectorStore.deleteAllCourseDocuments();
 
             if (success) {
                 return ResponseEntity.ok(Map.of(
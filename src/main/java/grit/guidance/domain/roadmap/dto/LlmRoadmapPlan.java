@@ -0,0 +1,36 @@
+package grit.guidance.domain.roadmap.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * LLM 로드맵 응답 (structured output 스키마와 같은 구조)
+ */
+public record LlmRoadmapPlan(
+    @JsonProperty("roadMap")
+    List<Semester> roadMap
+) {
+    public record Semester(
+        @JsonProperty("recommendYear")
+        Integer recommendYear,
+
+        @JsonProperty("recommendSemester")
+        String recommendSemester, // "FIRST", "SECOND"
+
+        @JsonProperty("courses")
+        List<Course> courses
+    ) {
+    }
+
+    public record Course(
+        @JsonProperty("courseCode")
+        String courseCode,
+
+        @JsonProperty("courseName")
+        String courseName,
+
+        @JsonProperty("recommendDescription")
+        String recommendDescription
+    ) {
+    }
+}
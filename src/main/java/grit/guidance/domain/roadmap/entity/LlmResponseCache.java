@@ -0,0 +1,58 @@
+package grit.guidance.domain.roadmap.entity;
+
+import grit.guidance.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 로드맵 응답 캐시 (재시작/다중 인스턴스에서도 유지되는 2차 캐시)
+ * cacheKey 는 프롬프트 입력의 정규화 fingerprint (모델, 프롬프트 버전 포함)
+ */
+@Entity
+@Table(name = "llm_response_cache", indexes = {
+        @Index(name = "idx_llm_response_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LlmResponseCache extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "llm_response_cache_id")
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    @Column(name = "model", nullable = false, length = 50)
+    private String model;
+
+    @Column(name = "response_json", nullable = false, columnDefinition = "TEXT")
+    private String responseJson;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private LlmResponseCache(String cacheKey, String model, String responseJson, LocalDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.model = model;
+        this.responseJson = responseJson;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    // 같은 입력으로 새 응답을 받은 경우 내용과 만료 시각 갱신
+    public void refresh(String responseJson, LocalDateTime expiresAt) {
+        this.responseJson = responseJson;
+        this.expiresAt = expiresAt;
+    }
+}
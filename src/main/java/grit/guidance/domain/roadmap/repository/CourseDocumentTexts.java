@@ -0,0 +1,78 @@
+package grit.guidance.domain.roadmap.repository;
+
+import java.util.Map;
+
+/**
+ * 과목 문서 → 임베딩 입력 텍스트 변환 (벡터 저장소 구현체 간 공통 사용)
+ * 같은 문서는 어느 저장소에서든 같은 텍스트로 임베딩되어야 임베딩 캐시를 공유할 수 있음
+ */
+final class CourseDocumentTexts {
+
+    private CourseDocumentTexts() {
+    }
+
+    /**
+     * 일괄 저장용 텍스트 (description 사용, 비어있으면 문서 정보로 대체)
+     */
+    static String batchEmbeddingText(Map<String, Object> document) {
+        String description = (String) document.get("description");
+        return description != null && !description.isBlank() ? description : embeddingText(document);
+    }
+
+    /**
+     * 문서에서 벡터화할 텍스트 생성
+     */
+    static String embeddingText(Map<String, Object> document) {
+        StringBuilder text = new StringBuilder();
+
+        // 과목명
+        String courseName = (String) document.get("courseName");
+        if (courseName != null) {
+            text.append(courseName).append(" ");
+        }
+
+        // 과목 설명
+        String description = (String) document.get("description");
+        if (description != null && !description.trim().isEmpty()) {
+            text.append(description).append(" ");
+        }
+
+        // 과목 코드
+        String courseCode = (String) document.get("courseCode");
+        if (courseCode != null) {
+            text.append(courseCode).append(" ");
+        }
+
+        // 학점 정보
+        Object credits = document.get("credits");
+        if (credits != null) {
+            text.append(credits).append("학점 ");
+        }
+
+        // 개설 학년
+        Object openGrade = document.get("openGrade");
+        if (openGrade != null) {
+            text.append(openGrade).append("학년 ");
+        }
+
+        // 개설 학기
+        String openSemester = (String) document.get("openSemester");
+        if (openSemester != null) {
+            text.append(openSemester).append(" ");
+        }
+
+        // 트랙명 (트랙 요구사항인 경우)
+        String trackName = (String) document.get("trackName");
+        if (trackName != null) {
+            text.append(trackName).append(" ");
+        }
+
+        // 과목 타입 (트랙 요구사항인 경우)
+        String courseTypeDescription = (String) document.get("courseTypeDescription");
+        if (courseTypeDescription != null) {
+            text.append(courseTypeDescription).append(" ");
+        }
+
+        return text.toString().trim();
+    }
+}
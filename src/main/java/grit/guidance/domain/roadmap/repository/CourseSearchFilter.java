@@ -0,0 +1,87 @@
+package grit.guidance.domain.roadmap.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 과목 벡터 검색 조건 (검색 엔진 쪽에서 적용되어 limit 개수만큼 바로 사용 가능한 결과를 받기 위함)
+ *
+ * @param trackNames         포함할 트랙 (하나라도 속하면 포함, 비어있으면 조건 없음)
+ * @param excludedCourseIds  제외할 과목 ID (이수/수강중 과목)
+ * @param fromGrade          추천 시작 학년 (null 이면 조건 없음)
+ * @param fromSemester       추천 시작 학기 (FIRST/SECOND)
+ */
+public record CourseSearchFilter(
+        List<String> trackNames,
+        Set<Long> excludedCourseIds,
+        Integer fromGrade,
+        String fromSemester
+) {
+
+    public static CourseSearchFilter ofTracks(List<String> trackNames) {
+        return new CourseSearchFilter(trackNames, Set.of(), null, null);
+    }
+
+    public static CourseSearchFilter of(List<String> trackNames, Collection<Long> excludedCourseIds,
+                                        Integer fromGrade, String fromSemester) {
+        return new CourseSearchFilter(trackNames, Set.copyOf(excludedCourseIds), fromGrade, fromSemester);
+    }
+
+    /**
+     * 남은 학기에 개설되는 과목인지 (과목은 개설 학년/학기에만 수강 가능)
+     * (fromGrade, fromSemester) 이후의 학년/학기에 개설되면 true
+     */
+    public boolean isOpenInRemainingSemesters(Integer openGrade, String openSemester) {
+        if (fromGrade == null) {
+            return true;
+        }
+        if (openGrade == null) {
+            return false;
+        }
+        if (openGrade > fromGrade) {
+            return true;
+        }
+        return openGrade.equals(fromGrade) && (startsAtFirstSemester() || fromSemester.equals(openSemester));
+    }
+
+    private boolean startsAtFirstSemester() {
+        return fromSemester == null || "FIRST".equals(fromSemester);
+    }
+
+    /**
+     * Qdrant filter JSON 으로 변환 (조건이 없으면 null)
+     */
+    Map<String, Object> toQdrantFilter() {
+        List<Object> must = new ArrayList<>();
+        if (trackNames != null && !trackNames.isEmpty()) {
+            must.add(Map.of("key", "tracks", "match", Map.of("any", trackNames)));
+        }
+        if (fromGrade != null) {
+            if (startsAtFirstSemester()) {
+                must.add(Map.of("key", "openGrade", "range", Map.of("gte", fromGrade)));
+            } else {
+                // 같은 학년이면 시작 학기와 같은 학기에 개설된 과목만
+                must.add(Map.of("should", List.of(
+                        Map.of("key", "openGrade", "range", Map.of("gt", fromGrade)),
+                        Map.of("must", List.of(
+                                Map.of("key", "openGrade", "match", Map.of("value", fromGrade)),
+                                Map.of("key", "openSemester", "match", Map.of("value", fromSemester))
+                        ))
+                )));
+            }
+        }
+
+        Map<String, Object> filter = new HashMap<>();
+        if (!must.isEmpty()) {
+            filter.put("must", must);
+        }
+        if (excludedCourseIds != null && !excludedCourseIds.isEmpty()) {
+            filter.put("must_not", List.of(Map.of("key", "courseId", "match", Map.of("any", excludedCourseIds))));
+        }
+        return filter.isEmpty() ? null : filter;
+    }
+}
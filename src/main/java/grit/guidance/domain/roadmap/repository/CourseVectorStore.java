@@ -0,0 +1,50 @@
+package grit.guidance.domain.roadmap.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과목 벡터 검색 저장소
+ * vector.store.type 설정에 따라 Qdrant(qdrant) 또는 JVM 내부 메모리(memory) 구현체가 사용됨
+ */
+public interface CourseVectorStore {
+
+    // 과목 문서 1개 저장
+    void addCourseDocument(Map<String, Object> document);
+
+    // 여러 과목 문서 일괄 저장, 저장하지 못한 문서 ID 목록 반환 (임베딩 실패/저장 요청 실패)
+    List<String> addCourseDocuments(List<Map<String, Object>> documents);
+
+    // 유사 과목 검색
+    List<Map<String, Object>> searchSimilarCourses(String query, int topK);
+
+    // 트랙 필터링을 포함한 유사 과목 검색
+    List<Map<String, Object>> searchSimilarCoursesWithFilter(String query, int topK, List<String> trackNames);
+
+    // 트랙/제외 과목/남은 학기 조건을 검색 엔진에서 적용한 유사 과목 검색
+    List<Map<String, Object>> searchSimilarCourses(String query, int topK, CourseSearchFilter filter);
+
+    // 여러 쿼리를 한 번에 검색 (같은 필터 적용, 쿼리 순서대로 결과 목록 반환)
+    List<List<Map<String, Object>>> searchSimilarCoursesBatch(List<String> queries, int topK, CourseSearchFilter filter);
+
+    // 검색 쿼리 임베딩을 미리 생성하여 캐시에 적재 (검색 필터가 준비되기 전에 원격 임베딩 호출을 먼저 시작하는 용도)
+    void prepareQueries(List<String> queries);
+
+    // 여러 과목 문서 삭제
+    boolean deleteCourseDocuments(List<String> courseIds);
+
+    // 저장된 문서 ID → 내용 fingerprint (조회 실패 시 null)
+    Map<String, String> getDocumentFingerprints();
+
+    // 모든 과목 문서 삭제
+    boolean deleteAllCourseDocuments();
+
+    // 저장소 상태 확인
+    boolean isVectorStoreHealthy();
+
+    // 저장된 문서 개수
+    long getDocumentCount();
+
+    // 임베딩 캐시 통계
+    Map<String, Object> getEmbeddingCacheStats();
+}
@@ -0,0 +1,205 @@
+package grit.guidance.domain.roadmap.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 임베딩 벡터 캐시 (모델명 + 정규화된 입력 텍스트 해시 기반)
+ * - 1차: 크기가 제한된 메모리 LRU 캐시
+ * - 2차: 로컬 디스크 캐시 (재시작 후에도 유지)
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+    private final int maxEntries;
+    private final boolean diskEnabled;
+    private final Path cacheDir;
+    private final Map<String, float[]> memoryCache;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong measuredMisses = new AtomicLong();
+    private final AtomicLong missLatencyNanos = new AtomicLong();
+
+    public EmbeddingCache(@Value("${embedding.cache.max-entries:2048}") int maxEntries,
+                          @Value("${embedding.cache.disk-enabled:true}") boolean diskEnabled,
+                          @Value("${embedding.cache.dir:./data/embedding-cache}") String cacheDir) {
+        this.maxEntries = maxEntries;
+        this.diskEnabled = diskEnabled;
+        this.cacheDir = Paths.get(cacheDir);
+        // accessOrder=true 로 LRU 동작, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목 제거
+        this.memoryCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > EmbeddingCache.this.maxEntries;
+            }
+        };
+        log.info("임베딩 캐시 초기화 - maxEntries: {}, diskEnabled: {}, dir: {}", maxEntries, diskEnabled, this.cacheDir.toAbsolutePath());
+    }
+
+    /**
+     * 캐시 조회 (메모리 → 디스크 순서), 없으면 null
+     */
+    public float[] get(String model, String text) {
+        if (!isCacheable(text)) {
+            return null;
+        }
+        String hash = hash(text);
+        String key = model + ":" + hash;
+
+        float[] vector;
+        synchronized (memoryCache) {
+            vector = memoryCache.get(key);
+        }
+        if (vector != null) {
+            memoryHits.incrementAndGet();
+            return vector;
+        }
+
+        vector = readFromDisk(model, hash);
+        if (vector != null) {
+            diskHits.incrementAndGet();
+            synchronized (memoryCache) {
+                memoryCache.put(key, vector);
+            }
+            return vector;
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 캐시 저장 (메모리 + 디스크)
+     */
+    public void put(String model, String text, float[] vector) {
+        if (!isCacheable(text) || vector == null || vector.length == 0) {
+            return;
+        }
+        String hash = hash(text);
+        synchronized (memoryCache) {
+            memoryCache.put(model + ":" + hash, vector);
+        }
+        writeToDisk(model, hash, vector);
+    }
+
+    /**
+     * 캐시 미스로 실제 API를 호출했을 때 걸린 시간 기록 (절약된 지연시간 추정용)
+     */
+    public void recordMissLatency(long elapsedNanos) {
+        measuredMisses.incrementAndGet();
+        missLatencyNanos.addAndGet(elapsedNanos);
+    }
+
+    /**
+     * 캐시 적중/미스 통계
+     */
+    public Map<String, Object> getStats() {
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + misses.get();
+        long measured = measuredMisses.get();
+        double avgMissLatencyMs = measured == 0 ? 0.0 : missLatencyNanos.get() / 1_000_000.0 / measured;
+        int size;
+        synchronized (memoryCache) {
+            size = memoryCache.size();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("diskHits", diskHits.get());
+        stats.put("misses", misses.get());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("memoryEntries", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("avgMissLatencyMs", avgMissLatencyMs);
+        stats.put("estimatedSavedLatencyMs", (long) (hits * avgMissLatencyMs));
+        return stats;
+    }
+
+    private boolean isCacheable(String text) {
+        return text != null && !text.isBlank();
+    }
+
+    /**
+     * 입력 텍스트 정규화: 유니코드 NFC 정규화 + 공백 정리
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).trim().replaceAll("\\s+", " ");
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(text).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private Path diskPath(String model, String hash) {
+        return cacheDir.resolve(model).resolve(hash.substring(0, 2)).resolve(hash + ".f32");
+    }
+
+    private float[] readFromDisk(String model, String hash) {
+        if (!diskEnabled) {
+            return null;
+        }
+        Path path = diskPath(model, hash);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+            int dimension = buffer.getInt();
+            if (dimension <= 0 || buffer.remaining() != dimension * Float.BYTES) {
+                log.warn("손상된 임베딩 캐시 파일을 무시합니다: {}", path);
+                return null;
+            }
+            float[] vector = new float[dimension];
+            buffer.asFloatBuffer().get(vector);
+            return vector;
+        } catch (IOException e) {
+            log.warn("임베딩 캐시 파일 읽기 실패: {} - {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String model, String hash, float[] vector) {
+        if (!diskEnabled) {
+            return;
+        }
+        Path path = diskPath(model, hash);
+        try {
+            Files.createDirectories(path.getParent());
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(vector.length);
+            buffer.asFloatBuffer().put(vector);
+
+            // 임시 파일에 쓴 후 이동하여 다른 스레드가 쓰다 만 파일을 읽지 않도록 함
+            Path tmp = Files.createTempFile(path.getParent(), hash, ".tmp");
+            Files.write(tmp, buffer.array());
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("임베딩 캐시 파일 쓰기 실패: {} - {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package grit.guidance.domain.roadmap.repository;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 임베딩 벡터 (float[] 기반)
+ * - List<Double> 대신 원시 배열을 그대로 보관하여 박싱 객체 생성을 없앰
+ * - JSON 숫자 배열과 float[] 사이를 Jackson 스트리밍 API로 직접 변환
+ * - 캐시와 배열을 공유하므로 values 는 읽기 전용으로 취급
+ */
+@JsonSerialize(using = EmbeddingVector.Serializer.class)
+@JsonDeserialize(using = EmbeddingVector.Deserializer.class)
+public record EmbeddingVector(float[] values) {
+
+    private static final int DEFAULT_CAPACITY = 1536;
+
+    public int dimension() {
+        return values.length;
+    }
+
+    public float get(int index) {
+        return values[index];
+    }
+
+    /**
+     * 임의 값 벡터 (OpenAI API 사용 불가 시 더미 벡터)
+     */
+    public static EmbeddingVector random(int dimension) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        float[] values = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            values[i] = random.nextFloat();
+        }
+        return new EmbeddingVector(values);
+    }
+
+    /**
+     * 현재 토큰이 START_ARRAY 인 파서에서 숫자 배열을 float[] 로 읽음 (END_ARRAY 에서 종료)
+     */
+    static float[] readFloats(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("임베딩 벡터는 JSON 배열이어야 합니다: " + parser.currentToken());
+        }
+        float[] values = new float[DEFAULT_CAPACITY];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parser.getFloatValue();
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof EmbeddingVector other && Arrays.equals(values, other.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingVector[dimension=" + values.length + "]";
+    }
+
+    public static class Serializer extends StdSerializer<EmbeddingVector> {
+
+        public Serializer() {
+            super(EmbeddingVector.class);
+        }
+
+        @Override
+        public void serialize(EmbeddingVector vector, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            float[] values = vector.values();
+            gen.writeStartArray(vector, values.length);
+            for (float value : values) {
+                gen.writeNumber(value);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public static class Deserializer extends StdDeserializer<EmbeddingVector> {
+
+        public Deserializer() {
+            super(EmbeddingVector.class);
+        }
+
+        @Override
+        public EmbeddingVector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return new EmbeddingVector(readFloats(parser));
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package grit.guidance.domain.roadmap.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JVM 내부 메모리 벡터 저장소 (vector.store.type=memory)
+ * - 과목 수가 수백 개 수준이므로 근사 검색 없이 전체 벡터와 내적을 계산하는 정확 검색
+ * - 벡터는 정규화 후 하나의 연속된 float[] 에 저장 (내적 = 코사인 유사도, Qdrant Cosine 점수와 동일)
+ * - 트랙 필터는 트랙별로 미리 계산한 BitSet 으로 처리
+ * - 쓰기 시 새 인덱스를 만들어 교체하므로 검색은 잠금 없이 수행
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "vector.store.type", havingValue = "memory")
+public class InMemoryCourseVectorStore implements CourseVectorStore {
+
+    private final OpenAiEmbeddingClient embeddingClient;
+    private volatile Index index = Index.EMPTY;
+
+    public InMemoryCourseVectorStore(OpenAiEmbeddingClient embeddingClient) {
+        this.embeddingClient = embeddingClient;
+        log.info("메모리 벡터 저장소 초기화 (vector.store.type=memory)");
+    }
+
+    @Override
+    public void addCourseDocument(Map<String, Object> document) {
+        List<EmbeddingVector> vectors = embeddingClient.embedDocuments(List.of(CourseDocumentTexts.embeddingText(document)));
+        if (!upsert(List.of(document), vectors).isEmpty()) {
+            log.error("메모리 벡터 저장소 저장 실패 (임베딩 없음): {}", document.get("id"));
+        }
+    }
+
+    @Override
+    public List<String> addCourseDocuments(List<Map<String, Object>> documents) {
+        List<String> texts = new ArrayList<>(documents.size());
+        for (Map<String, Object> document : documents) {
+            texts.add(CourseDocumentTexts.batchEmbeddingText(document));
+        }
+        List<String> failedIds = upsert(documents, embeddingClient.embedDocuments(texts));
+        log.info("메모리 벡터 저장소 저장 완료 - 요청 {}개, 실패 {}개, 전체 {}개",
+                documents.size(), failedIds.size(), index.size());
+        return failedIds;
+    }
+
+    @Override
+    public List<Map<String, Object>> searchSimilarCourses(String query, int topK) {
+        Index snapshot = index;
+        return search(snapshot, query, topK, null);
+    }
+
+    @Override
+    public List<Map<String, Object>> searchSimilarCoursesWithFilter(String query, int topK, List<String> trackNames) {
+        return searchSimilarCourses(query, topK, CourseSearchFilter.ofTracks(trackNames));
+    }
+
+    @Override
+    public List<Map<String, Object>> searchSimilarCourses(String query, int topK, CourseSearchFilter searchFilter) {
+        Index snapshot = index;
+        return search(snapshot, query, topK, toBitSet(snapshot, searchFilter));
+    }
+
+    @Override
+    public void prepareQueries(List<String> queries) {
+        embeddingClient.embedAll(queries);
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> searchSimilarCoursesBatch(List<String> queries, int topK,
+                                                                     CourseSearchFilter searchFilter) {
+        Index snapshot = index;
+        BitSet filter = toBitSet(snapshot, searchFilter);
+        List<EmbeddingVector> queryVectors = embeddingClient.embedAll(queries);
+        List<List<Map<String, Object>>> results = new ArrayList<>(queries.size());
+        for (EmbeddingVector queryVector : queryVectors) {
+            results.add(search(snapshot, queryVector, topK, filter));
+        }
+        return results;
+    }
+
+    /**
+     * 검색 조건을 만족하는 slot 집합 (트랙 BitSet 합집합에서 제외 과목/개설 학기 조건을 만족하지 않는 slot 제거)
+     */
+    private BitSet toBitSet(Index snapshot, CourseSearchFilter searchFilter) {
+        BitSet filter = new BitSet(snapshot.size());
+        List<String> trackNames = searchFilter.trackNames();
+        if (trackNames == null || trackNames.isEmpty()) {
+            filter.set(0, snapshot.size());
+        } else {
+            for (String trackName : trackNames) {
+                BitSet bits = snapshot.trackBits().get(trackName);
+                if (bits != null) {
+                    filter.or(bits);
+                }
+            }
+        }
+
+        Set<Long> excluded = searchFilter.excludedCourseIds();
+        for (int slot = filter.nextSetBit(0); slot >= 0; slot = filter.nextSetBit(slot + 1)) {
+            Long courseId = snapshot.courseIds()[slot];
+            if ((excluded != null && courseId != null && excluded.contains(courseId))
+                    || !searchFilter.isOpenInRemainingSemesters(snapshot.openGrades()[slot], snapshot.openSemesters()[slot])) {
+                filter.clear(slot);
+            }
+        }
+        return filter;
+    }
+
+    @Override
+    public synchronized boolean deleteCourseDocuments(List<String> courseIds) {
+        Set<String> removed = new HashSet<>(courseIds);
+        Map<String, Entry> entries = index.entries();
+        entries.keySet().removeAll(removed);
+        index = Index.build(entries);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteAllCourseDocuments() {
+        index = Index.EMPTY;
+        log.info("메모리 벡터 저장소의 모든 문서를 삭제했습니다.");
+        return true;
+    }
+
+    @Override
+    public Map<String, String> getDocumentFingerprints() {
+        Index snapshot = index;
+        Map<String, String> fingerprints = new HashMap<>();
+        for (int slot = 0; slot < snapshot.size(); slot++) {
+            Object fingerprint = snapshot.payloads().get(slot).get("fingerprint");
+            fingerprints.put(snapshot.ids().get(slot), fingerprint != null ? fingerprint.toString() : "");
+        }
+        return fingerprints;
+    }
+
+    @Override
+    public boolean isVectorStoreHealthy() {
+        return true;
+    }
+
+    @Override
+    public long getDocumentCount() {
+        return index.size();
+    }
+
+    @Override
+    public Map<String, Object> getEmbeddingCacheStats() {
+        return embeddingClient.getCacheStats();
+    }
+
+    /**
+     * 기존 인덱스에 문서를 추가/교체한 새 인덱스를 만들어 교체
+     * 임베딩이 없거나 차원이 맞지 않아 저장하지 않은 문서 ID 목록 반환
+     */
+    private synchronized List<String> upsert(List<Map<String, Object>> documents, List<EmbeddingVector> vectors) {
+        Map<String, Entry> entries = index.entries();
+        int dimension = index.dimension();
+        List<String> failedIds = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            Map<String, Object> document = documents.get(i);
+            if (vectors.get(i) == null) {
+                failedIds.add((String) document.get("id"));
+                continue;
+            }
+            float[] vector = normalize(vectors.get(i));
+            if (dimension == 0) {
+                dimension = vector.length;
+            } else if (vector.length != dimension) {
+                log.warn("벡터 차원이 일치하지 않아 저장하지 않습니다: {} (expected {}, actual {})",
+                        document.get("id"), dimension, vector.length);
+                failedIds.add((String) document.get("id"));
+                continue;
+            }
+            entries.put((String) document.get("id"), new Entry(new HashMap<>(document), vector));
+        }
+        index = Index.build(entries);
+        return failedIds;
+    }
+
+    private List<Map<String, Object>> search(Index snapshot, String query, int topK, BitSet filter) {
+        if (snapshot.size() == 0 || topK <= 0 || (filter != null && filter.isEmpty())) {
+            return List.of();
+        }
+        return search(snapshot, embeddingClient.embed(query), topK, filter);
+    }
+
+    private List<Map<String, Object>> search(Index snapshot, EmbeddingVector query, int topK, BitSet filter) {
+        if (snapshot.size() == 0 || topK <= 0 || (filter != null && filter.isEmpty())) {
+            return List.of();
+        }
+
+        float[] queryVector = normalize(query);
+        int dimension = snapshot.dimension();
+        if (queryVector.length != dimension) {
+            log.warn("쿼리 벡터 차원이 일치하지 않습니다 (expected {}, actual {})", dimension, queryVector.length);
+            return List.of();
+        }
+
+        float[] vectors = snapshot.vectors();
+        TopK top = new TopK(Math.min(topK, snapshot.size()));
+        if (filter == null) {
+            for (int slot = 0; slot < snapshot.size(); slot++) {
+                top.offer(slot, dot(vectors, slot * dimension, queryVector, dimension));
+            }
+        } else {
+            for (int slot = filter.nextSetBit(0); slot >= 0; slot = filter.nextSetBit(slot + 1)) {
+                top.offer(slot, dot(vectors, slot * dimension, queryVector, dimension));
+            }
+        }
+
+        int count = top.size();
+        int[] slots = new int[count];
+        float[] scores = new float[count];
+        top.drainDescending(slots, scores);
+
+        List<Map<String, Object>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> result = new HashMap<>(snapshot.payloads().get(slots[i]));
+            result.put("score", (double) scores[i]);
+            // text 필드 제거 (description과 중복)
+            result.remove("text");
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * 내적 계산 (독립된 누산기 4개로 나눠 JIT 자동 벡터화/파이프라이닝이 잘 되도록 작성)
+     */
+    private static float dot(float[] vectors, int offset, float[] query, int dimension) {
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        for (; i <= dimension - 4; i += 4) {
+            s0 += vectors[offset + i] * query[i];
+            s1 += vectors[offset + i + 1] * query[i + 1];
+            s2 += vectors[offset + i + 2] * query[i + 2];
+            s3 += vectors[offset + i + 3] * query[i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += vectors[offset + i] * query[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static float[] normalize(EmbeddingVector vector) {
+        float[] result = vector.values().clone();
+        double norm = 0.0;
+        for (float value : result) {
+            norm += (double) value * value;
+        }
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < result.length; i++) {
+                result[i] *= scale;
+            }
+        }
+        return result;
+    }
+
+    private record Entry(Map<String, Object> payload, float[] vector) {
+    }
+
+    /**
+     * 불변 검색 인덱스 (slot 번호 = 벡터 배열 내 위치 = payloads 인덱스)
+     */
+    private record Index(int dimension, int size, float[] vectors, List<String> ids,
+                         List<Map<String, Object>> payloads, Map<String, BitSet> trackBits,
+                         Long[] courseIds, Integer[] openGrades, String[] openSemesters) {
+
+        static final Index EMPTY = new Index(0, 0, new float[0], List.of(), List.of(), Map.of(),
+                new Long[0], new Integer[0], new String[0]);
+
+        Map<String, Entry> entries() {
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            for (int slot = 0; slot < size; slot++) {
+                float[] vector = Arrays.copyOfRange(vectors, slot * dimension, (slot + 1) * dimension);
+                entries.put(ids.get(slot), new Entry(payloads.get(slot), vector));
+            }
+            return entries;
+        }
+
+        static Index build(Map<String, Entry> entries) {
+            if (entries.isEmpty()) {
+                return EMPTY;
+            }
+            int dimension = entries.values().iterator().next().vector().length;
+            int size = entries.size();
+            float[] vectors = new float[size * dimension];
+            List<String> ids = new ArrayList<>(size);
+            List<Map<String, Object>> payloads = new ArrayList<>(size);
+            Map<String, BitSet> trackBits = new HashMap<>();
+            Long[] courseIds = new Long[size];
+            Integer[] openGrades = new Integer[size];
+            String[] openSemesters = new String[size];
+
+            int slot = 0;
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                System.arraycopy(entry.getValue().vector(), 0, vectors, slot * dimension, dimension);
+                ids.add(entry.getKey());
+                Map<String, Object> payload = entry.getValue().payload();
+                payloads.add(payload);
+                if (payload.get("tracks") instanceof Collection<?> tracks) {
+                    for (Object track : tracks) {
+                        trackBits.computeIfAbsent(String.valueOf(track), k -> new BitSet(size)).set(slot);
+                    }
+                }
+                if (payload.get("courseId") instanceof Number courseId) {
+                    courseIds[slot] = courseId.longValue();
+                }
+                if (payload.get("openGrade") instanceof Number openGrade) {
+                    openGrades[slot] = openGrade.intValue();
+                }
+                if (payload.get("openSemester") != null) {
+                    openSemesters[slot] = payload.get("openSemester").toString();
+                }
+                slot++;
+            }
+            return new Index(dimension, size, vectors, List.copyOf(ids), List.copyOf(payloads), Map.copyOf(trackBits),
+                    courseIds, openGrades, openSemesters);
+        }
+    }
+
+    /**
+     * 상위 K개 선택용 최소 힙 (루트 = 현재 K개 중 가장 낮은 점수)
+     */
+    private static final class TopK {
+        private final int[] slots;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.slots = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void offer(int slot, float score) {
+            if (size < scores.length) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 힙을 비우면서 점수 내림차순으로 채움
+         */
+        void drainDescending(int[] outSlots, float[] outScores) {
+            for (int i = size - 1; i >= 0; i--) {
+                outSlots[i] = slots[0];
+                outScores[i] = scores[0];
+                size--;
+                slots[0] = slots[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[i] <= scores[smallest]) {
+                    break;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int slot = slots[a];
+            slots[a] = slots[b];
+            slots[b] = slot;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package grit.guidance.domain.roadmap.repository;
+
+import grit.guidance.domain.roadmap.entity.LlmResponseCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCache, Long> {
+
+    Optional<LlmResponseCache> findByCacheKey(String cacheKey);
+
+    // 만료된 캐시 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LlmResponseCache c WHERE c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
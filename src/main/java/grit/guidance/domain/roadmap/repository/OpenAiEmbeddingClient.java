@@ -0,0 +1,273 @@
+package grit.guidance.domain.roadmap.repository;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import grit.guidance.global.config.OutboundHttpClients;
+import io.github.cdimascio.dotenv.Dotenv;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI 임베딩 API 클라이언트
+ * - 캐시에 없는 입력만 모아서 한 번의 요청에 여러 개씩(배치) 전송
+ * - 배치 크기는 입력 개수와 추정 토큰 수 기준으로 제한
+ * - 응답은 Jackson 스트리밍 파서로 읽어 float[] 에 바로 채움 (List<Double>/Map 중간 객체 없음)
+ */
+@Slf4j
+@Component
+public class OpenAiEmbeddingClient {
+
+    private static final String EMBEDDING_URL = "https://api.openai.com/v1/embeddings";
+    private static final int DUMMY_DIMENSION = 1536;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final RestTemplate restTemplate;
+    private final EmbeddingCache embeddingCache;
+    private final String openaiApiKey;
+    private final String embeddingModel;
+    private final int batchMaxInputs;
+    private final int batchMaxTokens;
+
+    public OpenAiEmbeddingClient(@Value("${spring.ai.openai.api-key:}") String openaiApiKey,
+                                 @Value("${openai.embedding.model:text-embedding-ada-002}") String embeddingModel,
+                                 @Value("${openai.embedding.batch.max-inputs:256}") int batchMaxInputs,
+                                 @Value("${openai.embedding.batch.max-tokens:100000}") int batchMaxTokens,
+                                 EmbeddingCache embeddingCache,
+                                 OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.openAiEmbedding();
+        this.embeddingCache = embeddingCache;
+        this.embeddingModel = embeddingModel;
+        this.batchMaxInputs = batchMaxInputs;
+        this.batchMaxTokens = batchMaxTokens;
+
+        // .env 파일에서 직접 API 키 읽기
+        String envApiKey = null;
+        try {
+            Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+            envApiKey = dotenv.get("OPENAI_API_KEY");
+        } catch (Exception e) {
+            log.warn(".env 파일을 읽을 수 없습니다: {}", e.getMessage());
+        }
+
+        // Spring 설정에서 읽은 키가 있으면 사용, 없으면 .env에서 읽은 키 사용
+        this.openaiApiKey = (openaiApiKey != null && !openaiApiKey.trim().isEmpty()) ? openaiApiKey : envApiKey;
+        log.info("OpenAI 임베딩 클라이언트 초기화 - model: {}, batchMaxInputs: {}, batchMaxTokens: {}, apiKey: {}",
+                embeddingModel, batchMaxInputs, batchMaxTokens, this.openaiApiKey != null ? "설정됨" : "없음");
+    }
+
+    /**
+     * 단일 텍스트 임베딩
+     */
+    public EmbeddingVector embed(String text) {
+        return embedAll(List.of(text == null ? "" : text)).get(0);
+    }
+
+    /**
+     * 여러 텍스트 임베딩 (입력 순서와 같은 순서로 반환)
+     * 검색 쿼리용: API 키가 없으면(로컬 개발) 더미 벡터를 쓰지만, 요청 실패/응답 누락은 IllegalStateException
+     * (임의 벡터로 검색한 결과가 추천에 섞이지 않도록 호출한 쪽에서 실패를 알 수 있게 함)
+     */
+    public List<EmbeddingVector> embedAll(List<String> texts) {
+        return embedAll(texts, true);
+    }
+
+    /**
+     * 저장할 문서 임베딩 (입력 순서와 같은 순서로 반환)
+     * 빈 입력/API 키 없음/요청 실패/응답 누락으로 실제 임베딩을 만들지 못한 위치는 null
+     */
+    public List<EmbeddingVector> embedDocuments(List<String> texts) {
+        return embedAll(texts, false);
+    }
+
+    private List<EmbeddingVector> embedAll(List<String> texts, boolean dummyFallback) {
+        EmbeddingVector[] results = new EmbeddingVector[texts.size()];
+
+        // 1. 캐시 조회, 캐시에 없는 입력은 텍스트별로 모음 (같은 텍스트는 한 번만 요청)
+        Map<String, List<Integer>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            float[] cached = embeddingCache.get(embeddingModel, text);
+            if (cached != null) {
+                results[i] = new EmbeddingVector(cached);
+            } else if (text == null || text.isBlank()) {
+                // 빈 입력은 OpenAI가 거부하므로 더미 벡터 사용
+                results[i] = dummyFallback ? generateDummyVector() : null;
+            } else {
+                pending.computeIfAbsent(text, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // OpenAI API 키가 없으면 더미 벡터 사용 (더미 벡터는 캐시하지 않음)
+        if (openaiApiKey == null || openaiApiKey.trim().isEmpty()) {
+            if (dummyFallback) {
+                log.warn("OpenAI API 키가 설정되지 않아 더미 벡터를 사용합니다. ({}개)", pending.size());
+                pending.values().forEach(indexes -> indexes.forEach(i -> results[i] = generateDummyVector()));
+            } else {
+                log.warn("OpenAI API 키가 설정되지 않아 문서 임베딩을 생성하지 못했습니다. ({}개)", pending.size());
+            }
+            return Arrays.asList(results);
+        }
+
+        // 2. 입력 개수/토큰 예산에 맞춰 배치 구성 후 요청
+        List<String> batch = new ArrayList<>();
+        int batchTokens = 0;
+        int requestCount = 0;
+        for (String text : pending.keySet()) {
+            int tokens = estimateTokens(text);
+            if (!batch.isEmpty() && (batch.size() >= batchMaxInputs || batchTokens + tokens > batchMaxTokens)) {
+                requestBatch(batch, pending, results, dummyFallback);
+                requestCount++;
+                batch = new ArrayList<>();
+                batchTokens = 0;
+            }
+            batch.add(text);
+            batchTokens += tokens;
+        }
+        requestBatch(batch, pending, results, dummyFallback);
+        requestCount++;
+
+        log.info("임베딩 생성 완료 - 입력 {}개, 캐시 미스 {}개, API 요청 {}회", texts.size(), pending.size(), requestCount);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 한 번의 임베딩 요청으로 배치 처리, 응답의 index로 원래 위치에 매핑
+     * 요청이 실패했거나 응답에 빠진 입력은 dummyFallback(검색 쿼리)이면 IllegalStateException, 아니면 null
+     */
+    private void requestBatch(List<String> batch, Map<String, List<Integer>> pending, EmbeddingVector[] results,
+                              boolean dummyFallback) {
+        long startedAt = System.nanoTime();
+        EmbeddingVector[] vectors = null;
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Content-Type", "application/json");
+            headers.set("Authorization", "Bearer " + openaiApiKey);
+            HttpEntity<EmbeddingRequest> entity = new HttpEntity<>(new EmbeddingRequest(batch, embeddingModel), headers);
+
+            vectors = restTemplate.execute(EMBEDDING_URL, HttpMethod.POST, restTemplate.httpEntityCallback(entity),
+                    response -> parseEmbeddingResponse(response.getBody(), batch.size()));
+        } catch (Exception e) {
+            log.error("OpenAI 임베딩 API 호출 실패 ({}개 입력): {}", batch.size(), e.getMessage());
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        int failed = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            String text = batch.get(i);
+            EmbeddingVector vector = vectors != null ? vectors[i] : null;
+            if (vector != null) {
+                embeddingCache.put(embeddingModel, text, vector.values());
+                embeddingCache.recordMissLatency(elapsed / batch.size());
+            } else {
+                failed++;
+            }
+            for (Integer index : pending.get(text)) {
+                results[index] = vector;
+            }
+        }
+        if (failed > 0) {
+            log.warn("임베딩을 받지 못한 입력 {}/{}개", failed, batch.size());
+            if (dummyFallback) {
+                throw new IllegalStateException("검색 쿼리 임베딩을 생성하지 못했습니다. (" + failed + "개)");
+            }
+        }
+    }
+
+    /**
+     * 임베딩 응답 스트리밍 파싱: {"data": [{"index": n, "embedding": [...]}, ...], ...}
+     * 응답에 빠진 항목은 null 로 남음 (EmbeddingParseBenchmark 에서 직접 호출하므로 package-private static)
+     */
+    static EmbeddingVector[] parseEmbeddingResponse(InputStream body, int expected) throws IOException {
+        EmbeddingVector[] vectors = new EmbeddingVector[expected];
+        int parsed = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("OpenAI 임베딩 응답 형식 오류");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (!"data".equals(field) || parser.currentToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    int index = -1;
+                    float[] embedding = null;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        parser.nextToken();
+                        if ("index".equals(name)) {
+                            index = parser.getIntValue();
+                        } else if ("embedding".equals(name)) {
+                            embedding = EmbeddingVector.readFloats(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    if (index >= 0 && index < expected && embedding != null) {
+                        vectors[index] = new EmbeddingVector(embedding);
+                        parsed++;
+                    }
+                }
+            }
+        }
+        if (parsed != expected) {
+            log.error("OpenAI 임베딩 응답 개수 불일치 - 요청: {}, 응답: {}", expected, parsed);
+        }
+        return vectors;
+    }
+
+    /**
+     * 토큰 수 추정 (배치 예산용, 보수적으로 UTF-8 2바이트당 1토큰)
+     */
+    private int estimateTokens(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length / 2 + 1;
+    }
+
+    /**
+     * 임베딩 캐시 적중/미스 통계
+     */
+    public Map<String, Object> getCacheStats() {
+        return embeddingCache.getStats();
+    }
+
+    /**
+     * 더미 벡터 생성 (OpenAI API 사용 불가 시)
+     */
+    private EmbeddingVector generateDummyVector() {
+        return EmbeddingVector.random(DUMMY_DIMENSION);
+    }
+
+    /**
+     * 임베딩 요청 본문
+     */
+    record EmbeddingRequest(
+            @JsonProperty("input")
+            List<String> input,
+
+            @JsonProperty("model")
+            String model
+    ) {
+    }
+}
@@ -0,0 +1,460 @@
+package grit.guidance.domain.roadmap.repository;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import grit.guidance.global.config.OutboundHttpClients;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Qdrant 컬렉션 생성/설정 관리
+ * - 검색/저장은 항상 alias(spring.ai.vectorstore.qdrant.collection) 이름으로 수행
+ * - 실제 컬렉션은 "{alias}_v{시각}" 형태의 버전 컬렉션
+ * - 시작 시 컬렉션이 없으면 생성, 있으면 설정을 확인하고 HNSW/양자화/payload 저장 설정이 다르면 PATCH
+ * - 벡터 크기/거리 함수처럼 변경할 수 없는 설정은 rebuild(새 버전 컬렉션 생성 → 포인트 복사/재임베딩 → alias 교체)로 반영
+ * - rebuild 중에는 포인트 저장/삭제(QdrantRepository)를 막아서 복사가 끝난 페이지에 대한 변경이 유실되지 않도록 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "vector.store.type", havingValue = "qdrant", matchIfMissing = true)
+public class QdrantCollectionManager {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int COPY_PAGE_SIZE = 256;
+
+    // 검색 필터에 사용하는 payload 필드 → 인덱스 타입
+    private static final Map<String, String> PAYLOAD_INDEXES = Map.of(
+            "tracks", "keyword",
+            "courseId", "integer",
+            "openGrade", "integer",
+            "openSemester", "keyword"
+    );
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final String aliasName;
+    private final boolean manageOnStartup;
+    private final int vectorSize;
+    private final String distance;
+    private final int hnswM;
+    private final int hnswEfConstruct;
+    private final boolean int8Quantization;
+    private final boolean onDiskPayload;
+    private final OpenAiEmbeddingClient embeddingClient;
+    // 읽기 잠금: 포인트 저장/삭제 (서로 동시에 가능), 쓰기 잠금: rebuild
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    public QdrantCollectionManager(@Value("${spring.ai.vectorstore.qdrant.host:localhost}") String qdrantHost,
+                                   @Value("${spring.ai.vectorstore.qdrant.port:6333}") int qdrantPort,
+                                   @Value("${spring.ai.vectorstore.qdrant.collection:test_collection}") String aliasName,
+                                   @Value("${qdrant.collection.manage-on-startup:true}") boolean manageOnStartup,
+                                   @Value("${qdrant.collection.vector-size:1536}") int vectorSize,
+                                   @Value("${qdrant.collection.distance:Cosine}") String distance,
+                                   @Value("${qdrant.collection.hnsw.m:16}") int hnswM,
+                                   @Value("${qdrant.collection.hnsw.ef-construct:100}") int hnswEfConstruct,
+                                   @Value("${qdrant.collection.quantization:none}") String quantization,
+                                   @Value("${qdrant.collection.on-disk-payload:true}") boolean onDiskPayload,
+                                   OpenAiEmbeddingClient embeddingClient,
+                                   OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.qdrant();
+        this.baseUrl = String.format("http://%s:%d", qdrantHost, qdrantPort);
+        this.aliasName = aliasName;
+        this.manageOnStartup = manageOnStartup;
+        this.vectorSize = vectorSize;
+        this.distance = distance;
+        this.hnswM = hnswM;
+        this.hnswEfConstruct = hnswEfConstruct;
+        this.int8Quantization = "int8".equalsIgnoreCase(quantization);
+        this.onDiskPayload = onDiskPayload;
+        this.embeddingClient = embeddingClient;
+    }
+
+    /**
+     * 포인트 저장/삭제를 rebuild 와 겹치지 않게 실행 (rebuild 중이면 끝날 때까지 대기)
+     */
+    public <T> T guardWrite(Supplier<T> write) {
+        rebuildLock.readLock().lock();
+        try {
+            return write.get();
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시작 시 컬렉션 생성 또는 설정 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!manageOnStartup) {
+            return;
+        }
+        try {
+            Map<String, Object> status = ensureCollection();
+            log.info("Qdrant 컬렉션 확인 완료: {}", status);
+        } catch (Exception e) {
+            log.error("Qdrant 컬렉션 초기화 실패 - alias: {} ({})", aliasName, e.getMessage());
+        }
+    }
+
+    /**
+     * 컬렉션이 없으면 새 버전 컬렉션 + alias 생성, 있으면 설정 확인 후 변경 가능한 설정 반영
+     */
+    public synchronized Map<String, Object> ensureCollection() {
+        String target = resolveAlias();
+        if (target == null && collectionExists(aliasName)) {
+            // alias 도입 전부터 있던 실제 컬렉션 (rebuild 시 alias 구조로 전환됨)
+            log.warn("'{}'는 alias가 아닌 실제 컬렉션입니다. rebuild 시 버전 컬렉션 + alias 구조로 전환됩니다.", aliasName);
+            target = aliasName;
+        }
+
+        if (target == null) {
+            String collection = newVersionName();
+            createCollection(collection);
+            swapAlias(false, collection);
+            log.info("Qdrant 컬렉션 생성 및 alias 연결: {} → {}", aliasName, collection);
+            return verify();
+        }
+
+        createPayloadIndexes(target);
+        Map<String, Object> status = verify();
+        if (Boolean.TRUE.equals(status.get("tunableMismatch"))) {
+            patchCollection(target);
+            status = verify();
+        }
+        if (Boolean.TRUE.equals(status.get("rebuildRequired"))) {
+            log.error("Qdrant 컬렉션의 벡터 설정이 다릅니다. rebuild가 필요합니다: {}", status);
+        }
+        return status;
+    }
+
+    /**
+     * 현재 컬렉션 설정과 기대 설정 비교
+     */
+    public Map<String, Object> verify() {
+        String target = resolveAlias();
+        String collection = target != null ? target : aliasName;
+        Map<String, Object> params = getCollectionConfig(collection);
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("alias", aliasName);
+        status.put("collection", collection);
+        status.put("aliased", target != null);
+        if (params == null) {
+            status.put("exists", false);
+            return status;
+        }
+
+        Map<String, Object> vectors = child(child(params, "params"), "vectors");
+        Map<String, Object> hnsw = child(params, "hnsw_config");
+        Object quantization = params.get("quantization_config");
+        Object onDisk = child(params, "params").get("on_disk_payload");
+
+        boolean vectorMatch = Objects.equals(toInt(vectors.get("size")), vectorSize)
+                && distance.equalsIgnoreCase(String.valueOf(vectors.get("distance")));
+        boolean hnswMatch = Objects.equals(toInt(hnsw.get("m")), hnswM)
+                && Objects.equals(toInt(hnsw.get("ef_construct")), hnswEfConstruct);
+        boolean quantizationMatch = int8Quantization == (quantization instanceof Map<?, ?> q && q.containsKey("scalar"));
+        boolean onDiskMatch = Objects.equals(onDisk, onDiskPayload);
+
+        status.put("exists", true);
+        status.put("vectorSize", vectors.get("size"));
+        status.put("distance", vectors.get("distance"));
+        status.put("hnswM", hnsw.get("m"));
+        status.put("hnswEfConstruct", hnsw.get("ef_construct"));
+        status.put("quantization", quantization != null ? quantization : "none");
+        status.put("onDiskPayload", onDisk);
+        status.put("rebuildRequired", !vectorMatch);
+        status.put("tunableMismatch", !(hnswMatch && quantizationMatch && onDiskMatch));
+        return status;
+    }
+
+    /**
+     * 재색인: 새 버전 컬렉션 생성 → 기존 포인트 복사(벡터 크기가 다르면 payload 로 재임베딩) → alias 교체 → 이전 컬렉션 삭제
+     * - 검색은 교체 직전까지 이전 컬렉션, 직후부터 새 컬렉션을 사용
+     * - 진행 중에는 포인트 저장/삭제가 대기하므로 복사 이후의 변경이 이전 컬렉션에만 남아 유실되지 않음
+     * - 복사/재임베딩이 하나라도 실패하면 새 컬렉션을 지우고 alias 를 그대로 둠 (빈/불완전한 컬렉션으로 교체하지 않음)
+     * - 단, alias 도입 전의 실제 컬렉션을 처음 전환할 때는 같은 이름의 alias 를 만들기 위해 기존 컬렉션을 먼저 삭제하므로
+     *   삭제와 alias 생성 사이의 짧은 시간 동안 검색이 실패함 (최초 1회)
+     */
+    public synchronized Map<String, Object> rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            return rebuildExclusively();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private Map<String, Object> rebuildExclusively() {
+        long startedAt = System.currentTimeMillis();
+        String current = resolveAlias();
+        boolean legacy = current == null && collectionExists(aliasName);
+        String source = current != null ? current : (legacy ? aliasName : null);
+
+        String collection = newVersionName();
+        createCollection(collection);
+
+        long copied = 0;
+        long reembedded = 0;
+        try {
+            if (source != null) {
+                Map<String, Object> sourceVectors = child(child(getCollectionConfig(source), "params"), "vectors");
+                if (Objects.equals(toInt(sourceVectors.get("size")), vectorSize)) {
+                    copied = copyPoints(source, collection);
+                } else {
+                    log.warn("벡터 크기가 달라 포인트를 복사하지 않고 payload 로 다시 임베딩합니다. ({} → {})",
+                            sourceVectors.get("size"), vectorSize);
+                    reembedded = reembedPoints(source, collection);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Qdrant 컬렉션 rebuild 실패 - 새 컬렉션 {} 삭제, alias 유지", collection);
+            try {
+                deleteCollection(collection);
+            } catch (RuntimeException cleanupFailure) {
+                log.warn("rebuild 실패 후 새 컬렉션 삭제 실패: {} ({})", collection, cleanupFailure.getMessage());
+                e.addSuppressed(cleanupFailure);
+            }
+            throw e;
+        }
+
+        if (legacy) {
+            // alias와 같은 이름의 실제 컬렉션은 alias 생성 전에 삭제해야 함 (최초 전환 시 1회, 이 사이 검색 실패)
+            log.warn("alias 전환을 위해 기존 컬렉션 '{}'를 삭제합니다. alias 생성 전까지 검색이 실패합니다.", aliasName);
+            deleteCollection(aliasName);
+        }
+        swapAlias(current != null, collection);
+        if (current != null) {
+            deleteCollection(current);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("alias", aliasName);
+        summary.put("previousCollection", source);
+        summary.put("collection", collection);
+        summary.put("copiedPoints", copied);
+        summary.put("reembeddedPoints", reembedded);
+        summary.put("elapsedMs", System.currentTimeMillis() - startedAt);
+        log.info("Qdrant 컬렉션 rebuild 완료: {}", summary);
+        return summary;
+    }
+
+    private void createCollection(String collection) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("vectors", Map.of("size", vectorSize, "distance", distance));
+        requestBody.put("hnsw_config", Map.of("m", hnswM, "ef_construct", hnswEfConstruct));
+        requestBody.put("on_disk_payload", onDiskPayload);
+        if (int8Quantization) {
+            requestBody.put("quantization_config", int8QuantizationConfig());
+        }
+        exchange("/collections/" + collection, HttpMethod.PUT, requestBody);
+        createPayloadIndexes(collection);
+        log.info("Qdrant 컬렉션 생성: {} (size={}, distance={}, m={}, ef_construct={}, int8={}, onDiskPayload={})",
+                collection, vectorSize, distance, hnswM, hnswEfConstruct, int8Quantization, onDiskPayload);
+    }
+
+    /**
+     * 변경 가능한 설정(HNSW, 양자화, payload 저장 위치) 반영
+     */
+    private void patchCollection(String collection) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("hnsw_config", Map.of("m", hnswM, "ef_construct", hnswEfConstruct));
+        requestBody.put("params", Map.of("on_disk_payload", onDiskPayload));
+        requestBody.put("quantization_config", int8Quantization ? int8QuantizationConfig() : "Disabled");
+        exchange("/collections/" + collection, HttpMethod.PATCH, requestBody);
+        log.info("Qdrant 컬렉션 설정 변경: {}", collection);
+    }
+
+    private Map<String, Object> int8QuantizationConfig() {
+        return Map.of("scalar", Map.of("type", "int8", "quantile", 0.99, "always_ram", true));
+    }
+
+    private void createPayloadIndexes(String collection) {
+        PAYLOAD_INDEXES.forEach((fieldName, fieldSchema) -> {
+            try {
+                Map<String, Object> requestBody = new HashMap<>();
+                requestBody.put("field_name", fieldName);
+                requestBody.put("field_schema", fieldSchema);
+                exchange("/collections/" + collection + "/index?wait=true", HttpMethod.PUT, requestBody);
+            } catch (Exception e) {
+                log.warn("Qdrant payload 인덱스 생성 실패: {}.{} - {}", collection, fieldName, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 원본 컬렉션의 포인트를 벡터 포함 그대로 복사 (재임베딩 없음)
+     */
+    private long copyPoints(String source, String destination) {
+        long copied = 0;
+        Object offset = null;
+        do {
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("limit", COPY_PAGE_SIZE);
+            requestBody.put("with_payload", true);
+            requestBody.put("with_vector", true);
+            if (offset != null) {
+                requestBody.put("offset", offset);
+            }
+            ResponseEntity<ScrollResponse> response = restTemplate.exchange(
+                    baseUrl + "/collections/" + source + "/points/scroll", HttpMethod.POST,
+                    new HttpEntity<>(requestBody, jsonHeaders()), ScrollResponse.class);
+            ScrollResult result = Objects.requireNonNull(response.getBody()).result();
+            if (!result.points().isEmpty()) {
+                restTemplate.exchange(baseUrl + "/collections/" + destination + "/points?wait=true", HttpMethod.PUT,
+                        new HttpEntity<>(new QdrantRepository.QdrantUpsertRequest(result.points()), jsonHeaders()), String.class);
+                copied += result.points().size();
+            }
+            offset = result.nextPageOffset();
+        } while (offset != null);
+        return copied;
+    }
+
+    /**
+     * 원본 컬렉션의 payload(과목 문서)로 다시 임베딩해서 저장 (벡터 크기가 바뀐 경우)
+     * 임베딩을 만들지 못한 문서가 있으면 IllegalStateException (불완전한 컬렉션으로 교체하지 않음)
+     */
+    private long reembedPoints(String source, String destination) {
+        long reembedded = 0;
+        Object offset = null;
+        do {
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("limit", COPY_PAGE_SIZE);
+            requestBody.put("with_payload", true);
+            requestBody.put("with_vector", false);
+            if (offset != null) {
+                requestBody.put("offset", offset);
+            }
+            ResponseEntity<ScrollResponse> response = restTemplate.exchange(
+                    baseUrl + "/collections/" + source + "/points/scroll", HttpMethod.POST,
+                    new HttpEntity<>(requestBody, jsonHeaders()), ScrollResponse.class);
+            ScrollResult result = Objects.requireNonNull(response.getBody()).result();
+            if (!result.points().isEmpty()) {
+                List<String> texts = new ArrayList<>(result.points().size());
+                for (QdrantRepository.QdrantPoint point : result.points()) {
+                    texts.add(CourseDocumentTexts.batchEmbeddingText(point.payload()));
+                }
+                List<EmbeddingVector> vectors = embeddingClient.embedDocuments(texts);
+                List<QdrantRepository.QdrantPoint> points = new ArrayList<>(vectors.size());
+                for (int i = 0; i < vectors.size(); i++) {
+                    QdrantRepository.QdrantPoint point = result.points().get(i);
+                    if (vectors.get(i) == null) {
+                        throw new IllegalStateException("재임베딩에 실패한 문서가 있습니다: " + point.payload().get("id"));
+                    }
+                    points.add(new QdrantRepository.QdrantPoint(point.id(), vectors.get(i), point.payload()));
+                }
+                restTemplate.exchange(baseUrl + "/collections/" + destination + "/points?wait=true", HttpMethod.PUT,
+                        new HttpEntity<>(new QdrantRepository.QdrantUpsertRequest(points), jsonHeaders()), String.class);
+                reembedded += points.size();
+            }
+            offset = result.nextPageOffset();
+        } while (offset != null);
+        return reembedded;
+    }
+
+    /**
+     * alias 를 새 컬렉션으로 연결 (삭제+생성을 한 요청으로 보내 원자적으로 교체)
+     */
+    private void swapAlias(boolean aliasExists, String collection) {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        if (aliasExists) {
+            actions.add(Map.of("delete_alias", Map.of("alias_name", aliasName)));
+        }
+        actions.add(Map.of("create_alias", Map.of("collection_name", collection, "alias_name", aliasName)));
+        exchange("/collections/aliases", HttpMethod.POST, Map.of("actions", actions));
+    }
+
+    private void deleteCollection(String collection) {
+        exchange("/collections/" + collection, HttpMethod.DELETE, null);
+        log.info("Qdrant 컬렉션 삭제: {}", collection);
+    }
+
+    /**
+     * alias 가 가리키는 실제 컬렉션 이름 (alias 가 없으면 null)
+     */
+    private String resolveAlias() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/aliases", Map.class);
+        Map<String, Object> result = child(response.getBody(), "result");
+        List<Map<String, Object>> aliases = (List<Map<String, Object>>) result.getOrDefault("aliases", List.of());
+        return aliases.stream()
+                .filter(alias -> aliasName.equals(alias.get("alias_name")))
+                .map(alias -> (String) alias.get("collection_name"))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean collectionExists(String collection) {
+        return getCollectionConfig(collection) != null;
+    }
+
+    /**
+     * 컬렉션 설정 (result.config), 없으면 null
+     */
+    private Map<String, Object> getCollectionConfig(String collection) {
+        try {
+            ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/collections/" + collection, Map.class);
+            return child(child(response.getBody(), "result"), "config");
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
+
+    private void exchange(String path, HttpMethod method, Object requestBody) {
+        restTemplate.exchange(baseUrl + path, method, new HttpEntity<>(requestBody, jsonHeaders()), String.class);
+    }
+
+    private HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+        return headers;
+    }
+
+    private String newVersionName() {
+        return aliasName + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+    }
+
+    private static Map<String, Object> child(Map<String, Object> map, String key) {
+        Object value = map != null ? map.get(key) : null;
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static Integer toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    record ScrollResponse(
+            @JsonProperty("result")
+            ScrollResult result
+    ) {
+    }
+
+    record ScrollResult(
+            @JsonProperty("points")
+            List<QdrantRepository.QdrantPoint> points,
+
+            @JsonProperty("next_page_offset")
+            Object nextPageOffset
+    ) {
+    }
+}
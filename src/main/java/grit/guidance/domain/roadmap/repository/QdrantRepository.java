@@ -1,8 +1,12 @@
 package grit.guidance.domain.roadmap.repository;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.github.cdimascio.dotenv.Dotenv;
+import grit.guidance.global.config.OutboundHttpClients;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -12,386 +16,324 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
 
+@Slf4j
 @Repository
-public class QdrantRepository {
+@ConditionalOnProperty(name = "vector.store.type", havingValue = "qdrant", matchIfMissing = true)
+public class QdrantRepository implements CourseVectorStore {
+
+    private static final int SCROLL_PAGE_SIZE = 256;
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final String qdrantHost;
     private final int qdrantPort;
     private final String collectionName;
-    private final String openaiApiKey;
+    private final int upsertChunkSize;
+    private final OpenAiEmbeddingClient embeddingClient;
+    private final QdrantCollectionManager collectionManager;
 
     public QdrantRepository(@Value("${spring.ai.vectorstore.qdrant.host:localhost}") String qdrantHost,
                            @Value("${spring.ai.vectorstore.qdrant.port:6333}") int qdrantPort,
                            @Value("${spring.ai.vectorstore.qdrant.collection:test_collection}") String collectionName,
-                           @Value("${spring.ai.openai.api-key:}") String openaiApiKey) {
-        this.restTemplate = new RestTemplate();
+                           @Value("${qdrant.upsert.chunk-size:128}") int upsertChunkSize,
+                           OpenAiEmbeddingClient embeddingClient,
+                           QdrantCollectionManager collectionManager,
+                           OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.qdrant();
         this.objectMapper = new ObjectMapper();
         this.qdrantHost = qdrantHost;
         this.qdrantPort = qdrantPort;
         this.collectionName = collectionName;
+        this.upsertChunkSize = upsertChunkSize;
+        this.embeddingClient = embeddingClient;
+        this.collectionManager = collectionManager;
         
-        // .env 파일에서 직접 API 키 읽기
-        String envApiKey = null;
-        try {
-            Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
-            envApiKey = dotenv.get("OPENAI_API_KEY");
-        } catch (Exception e) {
-            System.out.println(".env 파일을 읽을 수 없습니다: " + e.getMessage());
-        }
-        
-        // Spring 설정에서 읽은 키가 있으면 사용, 없으면 .env에서 읽은 키 사용
-        this.openaiApiKey = (openaiApiKey != null && !openaiApiKey.trim().isEmpty()) ? openaiApiKey : envApiKey;
-        
-        // 디버깅용 로그
-        System.out.println("QdrantRepository 초기화:");
-        System.out.println("  - qdrantHost: " + qdrantHost);
-        System.out.println("  - qdrantPort: " + qdrantPort);
-        System.out.println("  - collectionName: " + collectionName);
-        System.out.println("  - Spring API Key: " + (openaiApiKey != null ? openaiApiKey.substring(0, Math.min(20, openaiApiKey.length())) + "..." : "null"));
-        System.out.println("  - .env API Key: " + (envApiKey != null ? envApiKey.substring(0, Math.min(20, envApiKey.length())) + "..." : "null"));
-        System.out.println("  - Final API Key: " + (this.openaiApiKey != null ? this.openaiApiKey.substring(0, Math.min(20, this.openaiApiKey.length())) + "..." : "null"));
+        log.debug("QdrantRepository 초기화: qdrantHost={}, qdrantPort={}, collectionName={}, upsertChunkSize={}",
+                qdrantHost, qdrantPort, collectionName, upsertChunkSize);
     }
 
     /**
-     * OpenAI API를 사용하여 텍스트를 벡터로 변환
+     * OpenAI API를 사용하여 텍스트를 벡터로 변환 (캐시 우선 조회)
      */
-    private List<Double> generateEmbedding(String text) {
-        try {
-            // OpenAI API 키가 없으면 더미 벡터 사용
-            if (openaiApiKey == null || openaiApiKey.trim().isEmpty()) {
-                System.out.println("OpenAI API 키가 설정되지 않아 더미 벡터를 사용합니다.");
-                return generateDummyVector();
-            }
+    private EmbeddingVector generateEmbedding(String text) {
+        return embeddingClient.embed(text);
+    }
 
-            // OpenAI API 호출
-            String url = "https://api.openai.com/v1/embeddings";
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("input", text);
-            requestBody.put("model", "text-embedding-ada-002");
+    /**
+     * 임베딩 캐시 적중/미스 통계
+     */
+    @Override
+    public Map<String, Object> getEmbeddingCacheStats() {
+        return embeddingClient.getCacheStats();
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("Authorization", "Bearer " + openaiApiKey);
+    /**
+     * 과목 문서를 Qdrant에 직접 저장
+     */
+    @Override
+    public void addCourseDocument(Map<String, Object> document) {
+        // 저장/삭제는 컬렉션 rebuild 와 겹치지 않게 실행
+        collectionManager.guardWrite(() -> {
+            storeDocument(document);
+            return null;
+        });
+    }
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+    private void storeDocument(Map<String, Object> document) {
+        try {
+            String id = (String) document.get("id");
             
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            // 벡터화할 텍스트 생성 (과목명 + 설명 + 기타 정보)
+            String text = CourseDocumentTexts.embeddingText(document);
             
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> data = (List<Map<String, Object>>) responseBody.get("data");
-                if (data != null && !data.isEmpty()) {
-                    List<Double> embedding = (List<Double>) data.get(0).get("embedding");
-                    System.out.println("OpenAI API로 벡터 생성 성공: " + text.substring(0, Math.min(50, text.length())) + "...");
-                    return embedding;
-                }
+            // OpenAI API로 벡터 생성 후 Qdrant 포인트 저장 (ID를 숫자로 변환), 실제 임베딩이 없으면 저장하지 않음
+            EmbeddingVector vector = embeddingClient.embedDocuments(List.of(text)).get(0);
+            if (vector == null) {
+                log.error("Qdrant 직접 저장 실패 (임베딩 없음): {}", id);
+                return;
+            }
+            if (upsertPoints(List.of(new QdrantPoint(toPointId(id), vector, document)))) {
+                log.debug("Qdrant 직접 저장 성공: {} - {}", id, text.substring(0, Math.min(50, text.length())));
             }
-            
-            System.err.println("OpenAI API 응답 오류: " + response.getStatusCode());
-            return generateDummyVector();
             
         } catch (Exception e) {
-            System.err.println("OpenAI API 호출 실패: " + e.getMessage());
-            return generateDummyVector();
+            log.error("Qdrant 직접 저장 실패", e);
         }
     }
 
     /**
-     * 더미 벡터 생성 (OpenAI API 사용 불가 시)
+     * 여러 과목 문서를 벡터 스토어에 일괄 저장
+     * 임베딩을 만들지 못했거나 저장 요청이 실패한 문서 ID 목록 반환
      */
-    private List<Double> generateDummyVector() {
-        List<Double> vector = new ArrayList<>();
-        for (int i = 0; i < 1536; i++) {
-            vector.add(Math.random());
-        }
-        return vector;
+    @Override
+    public List<String> addCourseDocuments(List<Map<String, Object>> documents) {
+        return collectionManager.guardWrite(() -> storeDocuments(documents));
     }
 
-    /**
-     * 문서에서 벡터화할 텍스트 생성
-     */
-    private String createEmbeddingText(Map<String, Object> document) {
-        StringBuilder text = new StringBuilder();
-
-        // 과목명
-        String courseName = (String) document.get("courseName");
-        if (courseName != null) {
-            text.append(courseName).append(" ");
-        }
-
-        // 과목 설명
-        String description = (String) document.get("description");
-        if (description != null && !description.trim().isEmpty()) {
-            text.append(description).append(" ");
-        }
-
-        // 과목 코드
-        String courseCode = (String) document.get("courseCode");
-        if (courseCode != null) {
-            text.append(courseCode).append(" ");
-        }
+    private List<String> storeDocuments(List<Map<String, Object>> documents) {
+        List<String> failedIds = new ArrayList<>();
+        try {
+            // 1. 벡터화할 텍스트 수집 (description 사용, 비어있으면 문서 정보로 대체)
+            List<String> texts = new ArrayList<>(documents.size());
+            for (Map<String, Object> document : documents) {
+                texts.add(CourseDocumentTexts.batchEmbeddingText(document));
+            }
 
-        // 학점 정보
-        Object credits = document.get("credits");
-        if (credits != null) {
-            text.append(credits).append("학점 ");
-        }
+            // 2. 임베딩 배치 생성 (여러 입력을 한 번의 요청으로 전송, 실패한 위치는 null)
+            List<EmbeddingVector> vectors = embeddingClient.embedDocuments(texts);
 
-        // 개설 학년
-        Object openGrade = document.get("openGrade");
-        if (openGrade != null) {
-            text.append(openGrade).append("학년 ");
-        }
+            // 3. Qdrant 포인트 생성 (ID를 숫자로 변환), 실제 임베딩이 없는 문서는 저장하지 않음
+            List<QdrantPoint> points = new ArrayList<>(documents.size());
+            List<String> pointIds = new ArrayList<>(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                Map<String, Object> document = documents.get(i);
+                String id = (String) document.get("id");
+                if (vectors.get(i) == null) {
+                    failedIds.add(id);
+                    continue;
+                }
+                points.add(new QdrantPoint(toPointId(id), vectors.get(i), document));
+                pointIds.add(id);
+            }
 
-        // 개설 학기
-        String openSemester = (String) document.get("openSemester");
-        if (openSemester != null) {
-            text.append(openSemester).append(" ");
-        }
+            // 4. Qdrant API로 청크 단위 일괄 저장
+            for (int from = 0; from < points.size(); from += upsertChunkSize) {
+                int to = Math.min(from + upsertChunkSize, points.size());
+                if (!upsertPoints(points.subList(from, to))) {
+                    failedIds.addAll(pointIds.subList(from, to));
+                }
+            }
 
-        // 트랙명 (트랙 요구사항인 경우)
-        String trackName = (String) document.get("trackName");
-        if (trackName != null) {
-            text.append(trackName).append(" ");
-        }
+            log.info("Qdrant 직접 일괄 저장 완료: {}/{}개 문서 (실패 {}개)",
+                    documents.size() - failedIds.size(), documents.size(), failedIds.size());
+            return failedIds;
 
-        // 과목 타입 (트랙 요구사항인 경우)
-        String courseTypeDescription = (String) document.get("courseTypeDescription");
-        if (courseTypeDescription != null) {
-            text.append(courseTypeDescription).append(" ");
+        } catch (Exception e) {
+            log.error("Qdrant 직접 일괄 저장 실패", e);
+            return documents.stream().map(document -> (String) document.get("id")).toList();
         }
-
-        return text.toString().trim();
     }
 
     /**
-     * 과목 문서를 Qdrant에 직접 저장
+     * 포인트 청크 하나를 Qdrant에 저장
      */
-    public void addCourseDocument(Map<String, Object> document) {
+    private boolean upsertPoints(List<QdrantPoint> points) {
         try {
-            String id = (String) document.get("id");
-            
-            // 벡터화할 텍스트 생성 (과목명 + 설명 + 기타 정보)
-            String text = createEmbeddingText(document);
-            
-            // OpenAI API로 벡터 생성
-            List<Double> vector = generateEmbedding(text);
-            
-            // Qdrant 포인트 생성 (ID를 숫자로 변환)
-            int numericId = Math.abs(id.hashCode());
-            Map<String, Object> point = new HashMap<>();
-            point.put("id", numericId);
-            point.put("vector", vector);
-            point.put("payload", document);
-            
-            // Qdrant API로 저장
             String url = String.format("http://%s:%d/collections/%s/points", qdrantHost, qdrantPort, collectionName);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("points", List.of(point));
-            requestBody.put("ids", List.of(numericId));
-            
+
             HttpHeaders headers = new HttpHeaders();
             headers.set("Content-Type", "application/json");
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
+            HttpEntity<QdrantUpsertRequest> entity = new HttpEntity<>(new QdrantUpsertRequest(points), headers);
+
             ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, entity, String.class);
-            
+
             if (response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("Qdrant 직접 저장 성공: " + id + " - " + text.substring(0, Math.min(50, text.length())));
-            } else {
-                System.err.println("Qdrant 저장 실패: " + response.getStatusCode());
+                return true;
             }
-            
+            log.error("Qdrant 청크 저장 실패: {}", response.getStatusCode());
+            return false;
         } catch (Exception e) {
-            System.err.println("Qdrant 직접 저장 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 청크 저장 실패 ({}개): {}", points.size(), e.getMessage());
+            return false;
         }
     }
 
     /**
-     * 여러 과목 문서를 벡터 스토어에 일괄 저장
+     * 유사한 과목을 검색 (개수 지정)
      */
-    public void addCourseDocuments(List<Map<String, Object>> documents) {
+    @Override
+    public List<Map<String, Object>> searchSimilarCourses(String query, int topK) {
+        log.debug("Qdrant 검색 시작: query='{}', topK={}", query, topK);
+
+        // 쿼리 텍스트를 벡터로 변환 (임베딩 실패는 빈 결과로 숨기지 않고 호출한 쪽으로 전달)
+        EmbeddingVector queryVector = generateEmbedding(query);
         try {
-            List<Map<String, Object>> points = new ArrayList<>();
-            
-            List<Integer> ids = new ArrayList<>();
-            
-            for (Map<String, Object> document : documents) {
-                String description = (String) document.get("description");
-                String id = (String) document.get("id");
-                
-                // OpenAI API로 벡터 생성 (description 사용)
-                List<Double> vector = generateEmbedding(description);
-                
-                // Qdrant 포인트 생성 (ID를 숫자로 변환)
-                int numericId = Math.abs(id.hashCode());
-                Map<String, Object> point = new HashMap<>();
-                point.put("id", numericId);
-                point.put("vector", vector);
-                point.put("payload", document);
-                
-                points.add(point);
-                ids.add(numericId);
-            }
-            
-            // Qdrant API로 일괄 저장
-            String url = String.format("http://%s:%d/collections/%s/points", qdrantHost, qdrantPort, collectionName);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("points", points);
-            requestBody.put("ids", ids);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, entity, String.class);
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("Qdrant 직접 일괄 저장 성공: " + documents.size() + "개 문서");
-            } else {
-                System.err.println("Qdrant 일괄 저장 실패: " + response.getStatusCode());
-            }
-            
+            List<Map<String, Object>> results = search(new QdrantSearchRequest(queryVector, topK, true, null));
+            log.debug("Qdrant 검색 성공: {}개 결과 반환", results.size());
+            return results;
+                    
         } catch (Exception e) {
-            System.err.println("Qdrant 직접 일괄 저장 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 직접 검색 실패", e);
+            return List.of();
         }
     }
 
     /**
-     * 유사한 과목을 검색 (개수 지정)
+     * 트랙 필터링을 포함한 유사도 검색
      */
-    public List<Map<String, Object>> searchSimilarCourses(String query, int topK) {
+    @Override
+    public List<Map<String, Object>> searchSimilarCoursesWithFilter(String query, int topK, List<String> trackNames) {
+        return searchSimilarCourses(query, topK, CourseSearchFilter.ofTracks(trackNames));
+    }
+
+    /**
+     * 검색 조건(트랙/제외 과목/남은 학기)을 Qdrant filter 로 적용한 유사도 검색
+     */
+    @Override
+    public List<Map<String, Object>> searchSimilarCourses(String query, int topK, CourseSearchFilter searchFilter) {
+        log.debug("🔍 Qdrant 필터링 검색 시작: query='{}', topK={}, filter={}", query, topK, searchFilter);
+
+        // 쿼리 텍스트를 벡터로 변환 (임베딩 실패는 빈 결과로 숨기지 않고 호출한 쪽으로 전달)
+        EmbeddingVector queryVector = generateEmbedding(query);
         try {
-            System.out.println("Qdrant 검색 시작: query='" + query + "', topK=" + topK);
-            
-            // 쿼리 텍스트를 벡터로 변환
-            List<Double> queryVector = generateEmbedding(query);
-            
-            // Qdrant 검색 API 호출
-            String url = String.format("http://%s:%d/collections/%s/points/search", qdrantHost, qdrantPort, collectionName);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("vector", queryVector);
-            requestBody.put("limit", topK);
-            requestBody.put("with_payload", true);
-            
-            System.out.println("Qdrant 요청 본문: " + objectMapper.writeValueAsString(requestBody));
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> results = (List<Map<String, Object>>) responseBody.get("result");
-                
-                System.out.println("Qdrant 검색 성공: " + (results != null ? results.size() : 0) + "개 결과 반환");
-                
-                if (results != null) {
-                    return results.stream()
-                            .map(result -> {
-                                Map<String, Object> payload = (Map<String, Object>) result.get("payload");
-                                Map<String, Object> searchResult = new HashMap<>(payload);
-                                searchResult.put("score", result.get("score"));
-                                // text 필드 제거 (description과 중복)
-                                searchResult.remove("text");
-                                return searchResult;
-                            })
-                            .toList();
-                } else {
-                    System.out.println("Qdrant 검색 결과가 null입니다.");
-                    return List.of();
-                }
-            } else {
-                System.err.println("Qdrant 검색 실패: " + response.getStatusCode());
-                return List.of();
+            Map<String, Object> filter = searchFilter.toQdrantFilter();
+            if (filter != null && log.isDebugEnabled()) {
+                // 벡터(1536개 숫자)는 로그에서 제외
+                log.debug("Qdrant 필터링 조건: {}", objectMapper.writeValueAsString(filter));
             }
+            
+            List<Map<String, Object>> results = search(new QdrantSearchRequest(queryVector, topK, true, filter));
+            log.debug("Qdrant 필터링 검색 성공: {}개 결과 반환", results.size());
+            return results;
                     
         } catch (Exception e) {
-            System.err.println("Qdrant 직접 검색 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 필터링 검색 실패", e);
             return List.of();
         }
     }
 
     /**
-     * 트랙 필터링을 포함한 유사도 검색
+     * 쿼리 임베딩 선행 생성 (이후 배치 검색에서는 캐시된 벡터 사용)
      */
-    public List<Map<String, Object>> searchSimilarCoursesWithFilter(String query, int topK, List<String> trackNames) {
+    @Override
+    public void prepareQueries(List<String> queries) {
+        embeddingClient.embedAll(queries);
+    }
+
+    /**
+     * 여러 쿼리를 search/batch API 한 번으로 검색
+     * 쿼리 임베딩도 한 번의 배치 요청으로 생성 (캐시에 있는 쿼리는 요청하지 않음)
+     */
+    @Override
+    public List<List<Map<String, Object>>> searchSimilarCoursesBatch(List<String> queries, int topK,
+                                                                     CourseSearchFilter searchFilter) {
+        log.debug("🔍 Qdrant 배치 검색 시작: {}개 쿼리, topK={}, filter={}", queries.size(), topK, searchFilter);
+
+        // 임베딩 실패는 빈 결과로 숨기지 않고 호출한 쪽으로 전달
+        List<EmbeddingVector> queryVectors = embeddingClient.embedAll(queries);
         try {
-            System.out.println("🔍 Qdrant 필터링 검색 시작: query='" + query + "', topK=" + topK + ", trackNames=" + trackNames);
-            
-            // 쿼리 텍스트를 벡터로 변환
-            List<Double> queryVector = generateEmbedding(query);
-            
-            // Qdrant 검색 API 호출
-            String url = String.format("http://%s:%d/collections/%s/points/search", qdrantHost, qdrantPort, collectionName);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("vector", queryVector);
-            requestBody.put("limit", topK);
-            requestBody.put("with_payload", true);
-            
-            // 트랙 필터링 조건 추가
-            if (trackNames != null && !trackNames.isEmpty()) {
-                Map<String, Object> filter = new HashMap<>();
-                Map<String, Object> must = new HashMap<>();
-                Map<String, Object> key = new HashMap<>();
-                key.put("key", "tracks");
-                key.put("match", Map.of("any", trackNames));
-                must.put("must", List.of(key));
-                filter.put("must", List.of(must));
-                requestBody.put("filter", filter);
+            Map<String, Object> filter = searchFilter.toQdrantFilter();
+
+            List<QdrantSearchRequest> searches = new ArrayList<>(queryVectors.size());
+            for (EmbeddingVector queryVector : queryVectors) {
+                searches.add(new QdrantSearchRequest(queryVector, topK, true, filter));
             }
-            
-            System.out.println("Qdrant 필터링 요청 본문: " + objectMapper.writeValueAsString(requestBody));
-            
+
+            String url = String.format("http://%s:%d/collections/%s/points/search/batch", qdrantHost, qdrantPort, collectionName);
+
             HttpHeaders headers = new HttpHeaders();
             headers.set("Content-Type", "application/json");
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
+            HttpEntity<QdrantSearchBatchRequest> entity = new HttpEntity<>(new QdrantSearchBatchRequest(searches), headers);
+
             ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> results = (List<Map<String, Object>>) responseBody.get("result");
-                
-                System.out.println("Qdrant 필터링 검색 성공: " + (results != null ? results.size() : 0) + "개 결과 반환");
-                
-                if (results != null) {
-                    return results.stream()
-                            .map(result -> {
-                                Map<String, Object> payload = (Map<String, Object>) result.get("payload");
-                                Map<String, Object> searchResult = new HashMap<>(payload);
-                                searchResult.put("score", result.get("score"));
-                                // text 필드 제거 (description과 중복)
-                                searchResult.remove("text");
-                                return searchResult;
-                            })
-                            .toList();
-                } else {
-                    System.out.println("Qdrant 필터링 검색 결과가 null입니다.");
-                    return List.of();
-                }
-            } else {
-                System.err.println("Qdrant 필터링 검색 실패: " + response.getStatusCode());
-                return List.of();
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                log.error("Qdrant 배치 검색 실패: {}", response.getStatusCode());
+                return emptyResults(queries.size());
             }
-                    
+
+            List<List<Map<String, Object>>> batchResults = (List<List<Map<String, Object>>>) response.getBody().get("result");
+            if (batchResults == null || batchResults.size() != queries.size()) {
+                log.error("Qdrant 배치 검색 결과 개수가 쿼리 개수와 다릅니다.");
+                return emptyResults(queries.size());
+            }
+
+            List<List<Map<String, Object>>> results = new ArrayList<>(batchResults.size());
+            for (List<Map<String, Object>> batchResult : batchResults) {
+                results.add(toSearchResults(batchResult));
+            }
+            log.debug("Qdrant 배치 검색 성공: {}개 결과 반환", results.stream().mapToInt(List::size).sum());
+            return results;
+
         } catch (Exception e) {
-            System.err.println("Qdrant 필터링 검색 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 배치 검색 실패", e);
+            return emptyResults(queries.size());
+        }
+    }
+
+    private static List<List<Map<String, Object>>> emptyResults(int size) {
+        return Collections.nCopies(size, List.of());
+    }
+
+    /**
+     * Qdrant 검색 API 호출 후 payload + score 목록으로 변환
+     */
+    private List<Map<String, Object>> search(QdrantSearchRequest request) {
+        String url = String.format("http://%s:%d/collections/%s/points/search", qdrantHost, qdrantPort, collectionName);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+        HttpEntity<QdrantSearchRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            log.error("Qdrant 검색 실패: {}", response.getStatusCode());
             return List.of();
         }
+
+        List<Map<String, Object>> results = (List<Map<String, Object>>) response.getBody().get("result");
+        if (results == null) {
+            log.debug("Qdrant 검색 결과가 null입니다.");
+            return List.of();
+        }
+
+        return toSearchResults(results);
+    }
+
+    /**
+     * Qdrant 검색 결과(scored point 목록)를 payload + score 목록으로 변환
+     */
+    static List<Map<String, Object>> toSearchResults(List<Map<String, Object>> results) {
+        return results.stream()
+                .map(result -> {
+                    Map<String, Object> payload = (Map<String, Object>) result.get("payload");
+                    Map<String, Object> searchResult = new HashMap<>(payload);
+                    searchResult.put("score", result.get("score"));
+                    // text 필드 제거 (description과 중복)
+                    searchResult.remove("text");
+                    return searchResult;
+                })
+                .toList();
     }
 
 
@@ -399,11 +341,15 @@ public class QdrantRepository {
      * 특정 과목 문서 삭제 (ID 기반)
      */
     public boolean deleteCourseDocument(String courseId) {
+        return collectionManager.guardWrite(() -> deletePoint(courseId));
+    }
+
+    private boolean deletePoint(String courseId) {
         try {
             String url = String.format("http://%s:%d/collections/%s/points/delete", qdrantHost, qdrantPort, collectionName);
             
             Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("points", List.of(courseId));
+            requestBody.put("points", List.of(toPointId(courseId)));
             
             HttpHeaders headers = new HttpHeaders();
             headers.set("Content-Type", "application/json");
@@ -412,15 +358,14 @@ public class QdrantRepository {
             ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
             
             if (response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("Qdrant 직접 문서 삭제 성공: " + courseId);
+                log.debug("Qdrant 직접 문서 삭제 성공: {}", courseId);
                 return true;
             } else {
-                System.err.println("Qdrant 문서 삭제 실패: " + response.getStatusCode());
+                log.error("Qdrant 문서 삭제 실패: {}", response.getStatusCode());
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("Qdrant 직접 문서 삭제 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 직접 문서 삭제 실패", e);
             return false;
         }
     }
@@ -428,12 +373,17 @@ public class QdrantRepository {
     /**
      * 여러 과목 문서 삭제
      */
+    @Override
     public boolean deleteCourseDocuments(List<String> courseIds) {
+        return collectionManager.guardWrite(() -> deletePoints(courseIds));
+    }
+
+    private boolean deletePoints(List<String> courseIds) {
         try {
             String url = String.format("http://%s:%d/collections/%s/points/delete", qdrantHost, qdrantPort, collectionName);
             
             Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("points", courseIds);
+            requestBody.put("points", courseIds.stream().map(this::toPointId).toList());
             
             HttpHeaders headers = new HttpHeaders();
             headers.set("Content-Type", "application/json");
@@ -442,15 +392,14 @@ public class QdrantRepository {
             ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
             
             if (response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("Qdrant 직접 " + courseIds.size() + "개 문서 삭제 성공");
+                log.debug("Qdrant 직접 {}개 문서 삭제 성공", courseIds.size());
                 return true;
             } else {
-                System.err.println("Qdrant 일괄 삭제 실패: " + response.getStatusCode());
+                log.error("Qdrant 일괄 삭제 실패: {}", response.getStatusCode());
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("Qdrant 직접 일괄 삭제 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 직접 일괄 삭제 실패", e);
             return false;
         }
     }
@@ -458,7 +407,12 @@ public class QdrantRepository {
     /**
      * 모든 과목 문서 삭제 (개발/테스트용)
      */
+    @Override
     public boolean deleteAllCourseDocuments() {
+        return collectionManager.guardWrite(this::deleteAllPoints);
+    }
+
+    private boolean deleteAllPoints() {
         try {
             String url = String.format("http://%s:%d/collections/%s/points/delete", qdrantHost, qdrantPort, collectionName);
             
@@ -472,29 +426,85 @@ public class QdrantRepository {
             ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
             
             if (response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("Qdrant 직접 전체 삭제 성공");
+                log.debug("Qdrant 직접 전체 삭제 성공");
                 return true;
             } else {
-                System.err.println("Qdrant 전체 삭제 실패: " + response.getStatusCode());
+                log.error("Qdrant 전체 삭제 실패: {}", response.getStatusCode());
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("Qdrant 직접 전체 삭제 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Qdrant 직접 전체 삭제 실패", e);
             return false;
         }
     }
 
+    /**
+     * 저장된 모든 문서의 ID → fingerprint 조회 (scroll API, 벡터 제외)
+     * fingerprint 가 없는 예전 문서는 빈 문자열, 조회 실패 시 null
+     */
+    @Override
+    public Map<String, String> getDocumentFingerprints() {
+        try {
+            String url = String.format("http://%s:%d/collections/%s/points/scroll", qdrantHost, qdrantPort, collectionName);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Content-Type", "application/json");
+
+            Map<String, String> fingerprints = new HashMap<>();
+            Object offset = null;
+            do {
+                Map<String, Object> requestBody = new HashMap<>();
+                requestBody.put("limit", SCROLL_PAGE_SIZE);
+                requestBody.put("with_payload", Map.of("include", List.of("id", "fingerprint")));
+                requestBody.put("with_vector", false);
+                if (offset != null) {
+                    requestBody.put("offset", offset);
+                }
+
+                HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+                ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+                if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                    log.error("Qdrant scroll 실패: {}", response.getStatusCode());
+                    return null;
+                }
+
+                Map<String, Object> result = (Map<String, Object>) response.getBody().get("result");
+                List<Map<String, Object>> points = (List<Map<String, Object>>) result.get("points");
+                for (Map<String, Object> point : points) {
+                    Map<String, Object> payload = (Map<String, Object>) point.get("payload");
+                    if (payload != null && payload.get("id") instanceof String id) {
+                        Object fingerprint = payload.get("fingerprint");
+                        fingerprints.put(id, fingerprint != null ? fingerprint.toString() : "");
+                    }
+                }
+                offset = result.get("next_page_offset");
+            } while (offset != null);
+
+            return fingerprints;
+        } catch (Exception e) {
+            log.error("Qdrant fingerprint 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 문서 ID("course_1")를 Qdrant 포인트 ID로 변환 (저장 시와 같은 규칙)
+     */
+    private long toPointId(String documentId) {
+        return Math.abs(documentId.hashCode());
+    }
+
     /**
      * 벡터 스토어 상태 확인
      */
+    @Override
     public boolean isVectorStoreHealthy() {
         try {
             String url = String.format("http://%s:%d/collections/%s", qdrantHost, qdrantPort, collectionName);
             ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
             return response.getStatusCode().is2xxSuccessful();
         } catch (Exception e) {
-            System.err.println("Qdrant 상태 확인 실패: " + e.getMessage());
+            log.error("Qdrant 상태 확인 실패: {}", e.getMessage());
             return false;
         }
     }
@@ -502,6 +512,7 @@ public class QdrantRepository {
     /**
      * 저장된 문서 개수 확인
      */
+    @Override
     public long getDocumentCount() {
         try {
             String url = String.format("http://%s:%d/collections/%s", qdrantHost, qdrantPort, collectionName);
@@ -515,8 +526,51 @@ public class QdrantRepository {
             }
             return 0L;
         } catch (Exception e) {
-            System.err.println("Qdrant 문서 개수 확인 실패: " + e.getMessage());
+            log.error("Qdrant 문서 개수 확인 실패: {}", e.getMessage());
             return -1L;
         }
     }
+
+    /**
+     * Qdrant 포인트 (vector 는 float[] 에서 바로 JSON 배열로 직렬화)
+     */
+    record QdrantPoint(
+            @JsonProperty("id")
+            long id,
+
+            @JsonProperty("vector")
+            EmbeddingVector vector,
+
+            @JsonProperty("payload")
+            Map<String, Object> payload
+    ) {
+    }
+
+    record QdrantUpsertRequest(
+            @JsonProperty("points")
+            List<QdrantPoint> points
+    ) {
+    }
+
+    record QdrantSearchBatchRequest(
+            @JsonProperty("searches")
+            List<QdrantSearchRequest> searches
+    ) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record QdrantSearchRequest(
+            @JsonProperty("vector")
+            EmbeddingVector vector,
+
+            @JsonProperty("limit")
+            int limit,
+
+            @JsonProperty("with_payload")
+            boolean withPayload,
+
+            @JsonProperty("filter")
+            Map<String, Object> filter
+    ) {
+    }
 }
@@ -4,6 +4,9 @@ import grit.guidance.domain.course.entity.Semester;
 import grit.guidance.domain.roadmap.entity.RecommendedCourse;
 import grit.guidance.domain.user.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,9 @@ public interface RecommendedCourseRepository extends JpaRepository<RecommendedCo
     List<RecommendedCourse> findAllByUser(Users user);
     void deleteByUser(Users user);
     List<RecommendedCourse> findByUserAndRecommendGradeAndRecommendSemester(Users user, Integer recommendGrade, Semester recommendSemester);
+
+    // 소프트 삭제한 추천 과목 복구 (스트리밍 저장 실패 시 이전 로드맵으로 되돌림)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE recommended_course SET deleted_at = NULL, updated_at = NOW() WHERE recommended_course_id IN (:ids)", nativeQuery = true)
+    int restoreByIds(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
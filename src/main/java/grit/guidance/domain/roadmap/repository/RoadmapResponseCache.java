@@ -0,0 +1,170 @@
+package grit.guidance.domain.roadmap.repository;
+
+import grit.guidance.domain.roadmap.entity.LlmResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LLM 로드맵 응답 캐시 (프롬프트 입력 fingerprint → 응답 JSON)
+ * - 1차: 크기가 제한된 메모리 LRU 캐시 (TTL 적용)
+ * - 2차: DB(llm_response_cache) 캐시 (재시작/다른 인스턴스에서도 재사용)
+ * 키에 모델명과 프롬프트 버전이 포함되므로 프롬프트가 바뀌면 예전 항목은 자연스럽게 사용되지 않고 TTL 후 삭제됨
+ */
+@Slf4j
+@Component
+public class RoadmapResponseCache {
+
+    // 만료 항목 정리 주기 (저장 횟수 기준)
+    private static final int PURGE_INTERVAL = 100;
+
+    private final LlmResponseCacheRepository llmResponseCacheRepository;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final boolean durableEnabled;
+    private final Map<String, Entry> memoryCache;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong durableHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+
+    private record Entry(String responseJson, LocalDateTime expiresAt) {
+    }
+
+    public RoadmapResponseCache(LlmResponseCacheRepository llmResponseCacheRepository,
+                                @Value("${roadmap.llm-cache.ttl-hours:168}") long ttlHours,
+                                @Value("${roadmap.llm-cache.max-entries:512}") int maxEntries,
+                                @Value("${roadmap.llm-cache.durable-enabled:true}") boolean durableEnabled) {
+        this.llmResponseCacheRepository = llmResponseCacheRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxEntries = maxEntries;
+        this.durableEnabled = durableEnabled;
+        // accessOrder=true 로 LRU 동작, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목 제거
+        this.memoryCache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > RoadmapResponseCache.this.maxEntries;
+            }
+        };
+        log.info("LLM 응답 캐시 초기화 - ttl: {}시간, maxEntries: {}, durableEnabled: {}", ttlHours, maxEntries, durableEnabled);
+    }
+
+    /**
+     * 캐시 조회 (메모리 → DB 순서), 없거나 만료되었으면 empty
+     */
+    public Optional<String> get(String cacheKey) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Entry entry;
+        synchronized (memoryCache) {
+            entry = memoryCache.get(cacheKey);
+            if (entry != null && entry.expiresAt().isBefore(now)) {
+                memoryCache.remove(cacheKey);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            memoryHits.incrementAndGet();
+            return Optional.of(entry.responseJson());
+        }
+
+        if (durableEnabled) {
+            try {
+                Optional<LlmResponseCache> stored = llmResponseCacheRepository.findByCacheKey(cacheKey)
+                        .filter(cache -> !cache.isExpired(now));
+                if (stored.isPresent()) {
+                    durableHits.incrementAndGet();
+                    synchronized (memoryCache) {
+                        memoryCache.put(cacheKey, new Entry(stored.get().getResponseJson(), stored.get().getExpiresAt()));
+                    }
+                    return Optional.of(stored.get().getResponseJson());
+                }
+            } catch (Exception e) {
+                // DB 캐시 장애가 추천 자체를 막지 않도록 미스로 처리
+                log.warn("LLM 응답 DB 캐시 조회 실패: {}", e.getMessage());
+            }
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시 저장 (메모리 + DB)
+     */
+    public void put(String cacheKey, String model, String responseJson) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        synchronized (memoryCache) {
+            memoryCache.put(cacheKey, new Entry(responseJson, expiresAt));
+        }
+        if (!durableEnabled) {
+            return;
+        }
+
+        try {
+            LlmResponseCache cache = llmResponseCacheRepository.findByCacheKey(cacheKey)
+                    .orElseGet(() -> LlmResponseCache.builder()
+                            .cacheKey(cacheKey)
+                            .model(model)
+                            .responseJson(responseJson)
+                            .expiresAt(expiresAt)
+                            .build());
+            cache.refresh(responseJson, expiresAt);
+            llmResponseCacheRepository.save(cache);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키를 다른 요청이 먼저 저장한 경우 (내용이 같으므로 무시)
+            log.debug("LLM 응답 DB 캐시 동시 저장 무시: {}", cacheKey);
+        } catch (Exception e) {
+            log.warn("LLM 응답 DB 캐시 저장 실패: {}", e.getMessage());
+        }
+
+        if (puts.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purgeExpired();
+        }
+    }
+
+    /**
+     * 만료된 DB 캐시 삭제
+     */
+    public void purgeExpired() {
+        try {
+            int deleted = llmResponseCacheRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 LLM 응답 캐시 {}개 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("만료된 LLM 응답 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 적중/미스 통계
+     */
+    public Map<String, Object> getStats() {
+        long hits = memoryHits.get() + durableHits.get();
+        long total = hits + misses.get();
+        int size;
+        synchronized (memoryCache) {
+            size = memoryCache.size();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("durableHits", durableHits.get());
+        stats.put("misses", misses.get());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("memoryEntries", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlHours", ttl.toHours());
+        return stats;
+    }
+}
@@ -5,20 +5,39 @@ import grit.guidance.domain.course.entity.TrackRequirement;
 import grit.guidance.domain.course.repository.CourseRepository;
 import grit.guidance.domain.course.repository.TrackRequirementRepository;
 import grit.guidance.domain.roadmap.dto.CourseRecommendationRequest;
-import grit.guidance.domain.roadmap.repository.QdrantRepository;
+import grit.guidance.domain.roadmap.repository.CourseSearchFilter;
+import grit.guidance.domain.roadmap.repository.CourseVectorStore;
 import grit.guidance.domain.user.repository.CompletedCourseRepository;
 import grit.guidance.domain.user.repository.EnrolledCourseRepository;
 import grit.guidance.domain.user.repository.UsersRepository;
+import grit.guidance.domain.user.entity.CompletedCourse;
 import grit.guidance.domain.user.entity.Users;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,14 +45,56 @@ import java.util.stream.Collectors;
 public class CourseEmbeddingService {
 
     private static final Logger log = LoggerFactory.getLogger(CourseEmbeddingService.class);
+
+    // 2단계 벡터 검색으로 가져올 추천 과목 수
+    private static final int RECOMMENDED_COURSE_LIMIT = 30;
+
+    // 관심 기술 스택이 없을 때 사용하는 검색 쿼리
+    private static final String DEFAULT_TECH_STACK_QUERY = "프로그래밍 개발";
+
+    // 핵심 과목 검색 쿼리
+    private static final String CORE_SUBJECTS_QUERY = "프로그래밍랩 컴퓨터구조 프로그래밍언어론 객체지향언어1 자료구조 " +
+            "객체지향언어2 데이터통신 알고리즘 오픈소스소프트웨어 운영체제 " +
+            "데이터베이스 소프트웨어공학 설계패턴 네트워크프로그래밍 시스템프로그래밍 컴파일러 정보보안";
+
+    // 응답에 표시할 파이프라인 단계 순서
+    private static final List<String> PIPELINE_STAGES = List.of(
+            "studentData", "semester", "trackData", "queryEmbedding", "mandatoryCourses", "vectorSearch", "rerank", "prepare", "llm", "total");
     
     private final CourseRepository courseRepository;
     private final TrackRequirementRepository trackRequirementRepository;
-    private final QdrantRepository qdrantRepository;
+    private final CourseVectorStore courseVectorStore;
+    private final CourseRankFusion courseRankFusion;
+    private final CourseReRanker courseReRanker;
     private final CompletedCourseRepository completedCourseRepository;
     private final EnrolledCourseRepository enrolledCourseRepository;
     private final UsersRepository usersRepository;
     private final LlmRoadmapService llmRoadmapService;
+    private final LocalRoadmapPlanner localRoadmapPlanner;
+
+    // 추천 파이프라인 병렬 단계 실행용 (DB 조회/원격 호출 대기가 대부분이므로 가상 스레드 사용)
+    private final ExecutorService pipelineExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("roadmap-pipeline-", 0).factory());
+
+    /**
+     * 추천 파이프라인에서 공유하는 학생 데이터 (한 번만 조회)
+     */
+    private record StudentSnapshot(Long userId, List<CompletedCourse> completedCourses,
+                                   boolean hasCurrentEnrollment, Set<Long> takenCourseIds) {
+    }
+
+    /**
+     * 벡터 검색 쿼리 (쿼리 종류와 쿼리 문자열은 같은 순서)
+     */
+    private record SearchQueries(List<String> trackNames, List<CourseRankFusion.QueryType> queryTypes, List<String> queries) {
+    }
+
+    /**
+     * LLM 단계 입력 (학기 정보, 필수 과목, 추천 과목)
+     */
+    private record PipelineInputs(Map<String, Object> semesterInfo, List<Map<String, Object>> mandatoryCourses,
+                                  List<Map<String, Object>> recommendedCourses) {
+    }
 
     /**
      * 모든 과목을 Qdrant에 저장 (트랙 정보 포함)
@@ -52,13 +113,14 @@ public class CourseEmbeddingService {
             }
 
             // 2. 과목을 Map으로 변환 (트랙 정보 포함)
-            List<Map<String, Object>> courseDocuments = courses.stream()
-                    .map(this::createCourseDocumentWithTracks)
-                    .collect(Collectors.toList());
+            List<Map<String, Object>> courseDocuments = toCourseDocuments(courses);
 
             // 3. Qdrant에 저장
-            qdrantRepository.addCourseDocuments(courseDocuments);
-            log.info("{}개의 과목을 Qdrant에 성공적으로 저장했습니다.", courseDocuments.size());
+            List<String> failedIds = courseVectorStore.addCourseDocuments(courseDocuments);
+            if (!failedIds.isEmpty()) {
+                log.warn("{}개의 과목은 저장하지 못했습니다: {}", failedIds.size(), failedIds);
+            }
+            log.info("{}개의 과목을 Qdrant에 성공적으로 저장했습니다.", courseDocuments.size() - failedIds.size());
 
         } catch (Exception e) {
             log.error("과목 데이터 벡터화 및 저장 실패", e);
@@ -73,8 +135,10 @@ public class CourseEmbeddingService {
         try {
             log.info("과목 벡터화 및 저장: {} - {}", course.getCourseCode(), course.getCourseName());
 
-            Map<String, Object> document = createCourseDocumentWithTracks(course);
-            qdrantRepository.addCourseDocument(document);
+            CourseTrackIndex trackIndex = CourseTrackIndex.of(
+                    trackRequirementRepository.findByCourseIdWithTrack(course.getId()));
+            Map<String, Object> document = createCourseDocumentWithTracks(course, trackIndex);
+            courseVectorStore.addCourseDocument(document);
 
             log.info("과목 저장 완료: {} - {}", course.getCourseCode(), course.getCourseName());
 
@@ -84,27 +148,62 @@ public class CourseEmbeddingService {
         }
     }
 
+    /**
+     * 현재 DB의 모든 과목 문서 생성 (벡터 저장소 동기화용)
+     */
+    public List<Map<String, Object>> buildAllCourseDocuments() {
+        return toCourseDocuments(courseRepository.findAll());
+    }
+
+    /**
+     * 과목 목록을 문서로 변환 (트랙 요구사항은 한 번에 조회하여 전체 과목에서 재사용)
+     */
+    private List<Map<String, Object>> toCourseDocuments(List<Course> courses) {
+        CourseTrackIndex trackIndex = CourseTrackIndex.of(trackRequirementRepository.findAllWithCourseAndTrack());
+        return courses.stream()
+                .map(course -> createCourseDocumentWithTracks(course, trackIndex))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Course 엔티티를 Map으로 변환 (트랙 정보 포함)
      */
-    private Map<String, Object> createCourseDocumentWithTracks(Course course) {
+    private Map<String, Object> createCourseDocumentWithTracks(Course course, CourseTrackIndex trackIndex) {
+        List<TrackRequirement> trackRequirements = trackIndex.requirementsOf(course.getId());
+
         // 1. 벡터화할 텍스트 생성 (트랙 정보 포함)
-        String text = createEmbeddingTextWithTracks(course);
+        String text = createEmbeddingTextWithTracks(course, trackRequirements);
 
         // 2. 메타데이터 생성 (트랙 정보 포함)
-        Map<String, Object> metadata = createCourseMetadataWithTracks(course);
+        Map<String, Object> metadata = createCourseMetadataWithTracks(course, trackRequirements);
 
         // 3. Map에 ID와 텍스트 추가
         metadata.put("id", "course_" + course.getId());
         metadata.put("text", text);
 
+        // 4. 내용 fingerprint (변경된 과목만 다시 임베딩하기 위해 payload에 함께 저장)
+        metadata.put("fingerprint", fingerprint(metadata));
+
         return metadata;
     }
 
+    /**
+     * 문서 내용 fingerprint: 키 정렬 후 전체 필드의 SHA-256
+     */
+    private String fingerprint(Map<String, Object> document) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(new TreeMap<>(document).toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
     /**
      * 벡터화할 텍스트 생성 (트랙 정보 포함)
      */
-    private String createEmbeddingTextWithTracks(Course course) {
+    private String createEmbeddingTextWithTracks(Course course, List<TrackRequirement> trackRequirements) {
         StringBuilder text = new StringBuilder();
 
         // 과목명
@@ -126,7 +225,6 @@ public class CourseEmbeddingService {
         text.append(course.getOpenSemester().name()).append(" ");
 
         // 트랙 정보 추가 (TrackRequirement를 통해)
-        List<TrackRequirement> trackRequirements = trackRequirementRepository.findByCourseId(course.getId());
         for (TrackRequirement tr : trackRequirements) {
             text.append(tr.getTrack().getTrackName()).append(" ");
             text.append(tr.getCourseType().getDescription()).append(" ");
@@ -138,7 +236,7 @@ public class CourseEmbeddingService {
     /**
      * 과목 메타데이터 생성 (트랙 정보 포함)
      */
-    private Map<String, Object> createCourseMetadataWithTracks(Course course) {
+    private Map<String, Object> createCourseMetadataWithTracks(Course course, List<TrackRequirement> trackRequirements) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("courseId", course.getId());
         metadata.put("courseCode", course.getCourseCode());
@@ -149,9 +247,6 @@ public class CourseEmbeddingService {
         metadata.put("openSemester", course.getOpenSemester().name());
         metadata.put("type", "course");
 
-        // 트랙 정보 추가 (TrackRequirement를 통해)
-        List<TrackRequirement> trackRequirements = trackRequirementRepository.findByCourseId(course.getId());
-        
         // 트랙 목록만 저장
         List<String> tracks = trackRequirements.stream()
                 .map(tr -> tr.getTrack().getTrackName())
@@ -168,7 +263,7 @@ public class CourseEmbeddingService {
     public List<Map<String, Object>> searchCourses(String query, int topK) {
         try {
             log.info("과목 검색: {} (상위 {}개)", query, topK);
-            return qdrantRepository.searchSimilarCourses(query, topK);
+            return courseVectorStore.searchSimilarCourses(query, topK);
         } catch (Exception e) {
             log.error("과목 검색 실패: {}", query, e);
             throw new RuntimeException("과목 검색에 실패했습니다.", e);
@@ -183,7 +278,7 @@ public class CourseEmbeddingService {
             log.info("CourseEmbeddingService 검색 시작: query='{}', topK={}", userQuery, topK);
             
             // Qdrant에서 유사도 검색
-            List<Map<String, Object>> searchResults = qdrantRepository.searchSimilarCourses(userQuery, topK);
+            List<Map<String, Object>> searchResults = courseVectorStore.searchSimilarCourses(userQuery, topK);
             
             log.info("CourseEmbeddingService 검색 완료: {}개의 과목을 찾았습니다.", searchResults.size());
             return searchResults;
@@ -202,43 +297,9 @@ public class CourseEmbeddingService {
         try {
             log.info("1단계: 필수 과목 목록 확보 시작 - trackIds={}, studentId={}", trackIds, studentId);
 
-            // 1. 학번으로 사용자 찾기
-            Users user = usersRepository.findByStudentId(studentId)
-                    .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
-
-            // 2. 사용자의 트랙에서 전공필수/전공기초 과목 조회
+            StudentSnapshot student = loadStudentSnapshot(studentId);
             List<TrackRequirement> trackRequirements = trackRequirementRepository.findByTrackIdsAndCourseType(trackIds);
-            
-            // 3. 이미 이수한 과목과 수강중인 과목 ID 목록 조회
-            List<Long> completedCourseIds = completedCourseRepository.findCourseIdsByUserId(user.getId());
-            List<Long> enrolledCourseIds = enrolledCourseRepository.findCourseIdsByUserId(user.getId());
-            
-            // 4. 이수/수강중인 과목 제외
-            List<Map<String, Object>> mandatoryCourses = new ArrayList<>();
-            
-            for (TrackRequirement requirement : trackRequirements) {
-                Course course = requirement.getCourse();
-                Long courseId = course.getId();
-                
-                // 이미 이수했거나 수강중인 과목은 제외
-                if (completedCourseIds.contains(courseId) || enrolledCourseIds.contains(courseId)) {
-                    continue;
-                }
-                
-                // 필수 과목 정보 생성
-                Map<String, Object> courseInfo = new HashMap<>();
-                courseInfo.put("courseId", courseId);
-                courseInfo.put("courseName", course.getCourseName());
-                courseInfo.put("courseCode", course.getCourseCode());
-                courseInfo.put("credits", course.getCredits());
-                courseInfo.put("openGrade", course.getOpenGrade());
-                courseInfo.put("openSemester", course.getOpenSemester());
-                courseInfo.put("description", course.getDescription());
-                courseInfo.put("courseType", requirement.getCourseType()); // "MANDATORY" 또는 "FOUNDATION"
-                courseInfo.put("trackName", requirement.getTrack().getTrackName());
-                
-                mandatoryCourses.add(courseInfo);
-            }
+            List<Map<String, Object>> mandatoryCourses = filterMandatoryCourses(trackRequirements, student.takenCourseIds());
 
             log.info("1단계: 필수 과목 목록 확보 완료 - {}개 과목", mandatoryCourses.size());
             return mandatoryCourses;
@@ -249,6 +310,38 @@ public class CourseEmbeddingService {
         }
     }
 
+    /**
+     * 트랙의 전공필수/전공기초 과목 중 이수/수강중 과목 제외
+     */
+    private List<Map<String, Object>> filterMandatoryCourses(List<TrackRequirement> trackRequirements, Set<Long> takenCourseIds) {
+        List<Map<String, Object>> mandatoryCourses = new ArrayList<>();
+
+        for (TrackRequirement requirement : trackRequirements) {
+            Course course = requirement.getCourse();
+            Long courseId = course.getId();
+
+            // 이미 이수했거나 수강중인 과목은 제외
+            if (takenCourseIds.contains(courseId)) {
+                continue;
+            }
+
+            // 필수 과목 정보 생성
+            Map<String, Object> courseInfo = new HashMap<>();
+            courseInfo.put("courseId", courseId);
+            courseInfo.put("courseName", course.getCourseName());
+            courseInfo.put("courseCode", course.getCourseCode());
+            courseInfo.put("credits", course.getCredits());
+            courseInfo.put("openGrade", course.getOpenGrade());
+            courseInfo.put("openSemester", course.getOpenSemester());
+            courseInfo.put("description", course.getDescription());
+            courseInfo.put("courseType", requirement.getCourseType()); // "MANDATORY" 또는 "FOUNDATION"
+            courseInfo.put("trackName", requirement.getTrack().getTrackName());
+
+            mandatoryCourses.add(courseInfo);
+        }
+        return mandatoryCourses;
+    }
+
     /**
      * 2단계: 벡터 DB 검색 목록 확보 (유사도 검색)
      * 사용자의 트랙과 학습 스타일을 고려하여 Qdrant에서 유사도 검색
@@ -256,146 +349,124 @@ public class CourseEmbeddingService {
     public List<Map<String, Object>> getRecommendedCourses(List<Long> trackIds, String studentId,
                                                           CourseRecommendationRequest.LearningStyle learningStyle,
                                                           CourseRecommendationRequest.AdvancedSettings advancedSettings) {
+        return getRecommendedCourses(trackIds, studentId, learningStyle, advancedSettings, calculateUserSemester(studentId));
+    }
+
+    /**
+     * 2단계: 벡터 DB 검색 (학기 정보 사용)
+     * 이수/수강중 과목 제외, 트랙, 남은 학기 개설 조건을 모두 검색 엔진 필터로 적용하여 limit 개수만큼 바로 사용
+     */
+    public List<Map<String, Object>> getRecommendedCourses(List<Long> trackIds, String studentId,
+                                                          CourseRecommendationRequest.LearningStyle learningStyle,
+                                                          CourseRecommendationRequest.AdvancedSettings advancedSettings,
+                                                          Map<String, Object> semesterInfo) {
         try {
             log.info("2단계: 벡터 DB 검색 시작 - trackIds={}, studentId={}, learningStyle={}, advancedSettings={}",
                     trackIds, studentId, learningStyle, advancedSettings);
 
-            // 1. 학번으로 사용자 찾기
-            Users user = usersRepository.findByStudentId(studentId)
-                    .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
-
-            // 2. 이미 이수한 과목과 수강중인 과목 ID 목록 조회
-            List<Long> completedCourseIds = completedCourseRepository.findCourseIdsByUserId(user.getId());
-            List<Long> enrolledCourseIds = enrolledCourseRepository.findCourseIdsByUserId(user.getId());
-            
-            // 3. 트랙 정보 조회 (1트랙, 2트랙 구분)
-            List<String> trackNames = getTrackNamesByIds(trackIds);
-            String primaryTrack = trackNames.size() > 0 ? trackNames.get(0) : null;
-            String secondaryTrack = trackNames.size() > 1 ? trackNames.get(1) : null;
-            
-            log.info("트랙 정보 - 1트랙: {}, 2트랙: {}", primaryTrack, secondaryTrack);
-            
-            // 4. 검색 쿼리 생성 (1트랙 + 2트랙 + tech_stack + 핵심과목 조합, 가중치 적용)
-            StringBuilder searchQueryBuilder = new StringBuilder();
-            
-            // 1트랙 추가 (가중치 높음 - 2번 반복)
-            if (primaryTrack != null) {
-                searchQueryBuilder.append(primaryTrack).append(" ").append(primaryTrack).append(" ");
-                log.info("1트랙 (가중치 높음): {}", primaryTrack);
-            }
-            
-            // 2트랙 추가 (가중치 중간)
-            if (secondaryTrack != null) {
-                searchQueryBuilder.append(secondaryTrack).append(" ");
-                log.info("2트랙 (가중치 중간): {}", secondaryTrack);
-            }
-            
-            // tech_stack 추가 (가중치 높음 - 2번 반복)
-            if (advancedSettings != null && advancedSettings.getTechStack() != null && !advancedSettings.getTechStack().trim().isEmpty()) {
-                String techStack = advancedSettings.getTechStack().trim();
-                searchQueryBuilder.append(techStack).append(" ").append(techStack);
-                log.info("Tech Stack (가중치 높음): {}", techStack);
-            } else {
-                searchQueryBuilder.append("프로그래밍 개발"); // 기본 검색 쿼리
-                log.info("기본 검색 쿼리 사용: 프로그래밍 개발");
-            }
-            
-            // 핵심 과목 추가 (가중치 중간 - 1번씩)
-            String coreSubjects = "프로그래밍랩 컴퓨터구조 프로그래밍언어론 객체지향언어1 자료구조 " +
-                                "객체지향언어2 데이터통신 알고리즘 오픈소스소프트웨어 운영체제 " +
-                                "데이터베이스 소프트웨어공학 설계패턴 네트워크프로그래밍 시스템프로그래밍 컴파일러 정보보안";
-            searchQueryBuilder.append(" ").append(coreSubjects);
-            log.info("핵심 과목 추가: {}", coreSubjects);
-            
-            String searchQuery = searchQueryBuilder.toString().trim();
-            log.info("통합 검색 쿼리 (가중치 적용): {}", searchQuery);
-            
-            // 5. Qdrant에서 트랙 필터링된 유사도 검색
-            List<Map<String, Object>> searchResults = qdrantRepository.searchSimilarCoursesWithFilter(
-                    searchQuery, 30, trackNames);
-            log.info(" Qdrant 검색 결과: {}개", searchResults.size());
-            
-            // Qdrant 검색 결과 상세 로그
-            log.info("Qdrant 검색 결과 상세 (전체 {}개):", searchResults.size());
-            for (int i = 0; i < searchResults.size(); i++) { // 전체 결과 로그
-                Map<String, Object> course = searchResults.get(i);
-                log.info("  {}. {} ({}) - 유사도: {}", 
-                    i + 1,
-                    course.get("courseName"),
-                    course.get("courseCode"),
-                    course.get("score"));
-            }
-            
-            // 6. 이수/수강중인 과목 제외
-            List<Map<String, Object>> recommendedCourses = new ArrayList<>();
-            
-            for (Map<String, Object> course : searchResults) {
-                // Qdrant 결과에서 courseId 추출 (문자열로 저장되어 있을 수 있음)
-                Object courseIdObj = course.get("courseId");
-                Long courseId = null;
-                
-                if (courseIdObj instanceof Long) {
-                    courseId = (Long) courseIdObj;
-                } else if (courseIdObj instanceof String) {
-                    try {
-                        courseId = Long.parseLong((String) courseIdObj);
-                    } catch (NumberFormatException e) {
-                        log.warn("잘못된 courseId 형식: {}", courseIdObj);
-                        continue;
-                    }
-                } else if (courseIdObj instanceof Integer) {
-                    courseId = ((Integer) courseIdObj).longValue();
-                }
-                
-                if (courseId == null) {
-                    continue;
-                }
-                
-                // 이미 이수했거나 수강중인 과목은 제외
-                if (completedCourseIds.contains(courseId) || enrolledCourseIds.contains(courseId)) {
-                    continue;
-                }
-                
-                recommendedCourses.add(course);
-            }
-
-            log.info("2단계: 벡터 DB 검색 완료 - {}개 과목 (이수/수강중인 과목 제외 후)", recommendedCourses.size());
-            
-            // 최종 추천 과목 상세 로그
-            log.info("최종 추천 과목 목록:");
-            for (int i = 0; i < recommendedCourses.size(); i++) {
-                Map<String, Object> course = recommendedCourses.get(i);
-                log.info("  {}. {} ({}) - {}학년 {}학기 - 유사도: {}", 
-                    i + 1,
-                    course.get("courseName"),
-                    course.get("courseCode"),
-                    course.get("openGrade"),
-                    course.get("openSemester"),
-                    course.get("score"));
-            }
-            
-            return recommendedCourses;
+            StudentSnapshot student = loadStudentSnapshot(studentId);
+            SearchQueries searchQueries = buildSearchQueries(
+                    trackNamesOf(trackRequirementRepository.findByTrackIdsAndCourseType(trackIds), trackIds), advancedSettings);
+            return searchRecommendedCourses(searchQueries, student.takenCourseIds(), semesterInfo);
 
         } catch (Exception e) {
             log.error("2단계: 벡터 DB 검색 실패 - trackIds={}, studentId={}, learningStyle={}", trackIds, studentId, learningStyle, e);
             throw new RuntimeException("벡터 DB 검색에 실패했습니다.", e);
         }
     }
-    
+
     /**
-     * 트랙 ID 목록으로 트랙 이름 목록 조회
+     * 트랙별 검색 쿼리 생성 (1트랙 / 2트랙 / tech_stack / 핵심과목을 각각 별도 쿼리로, 가중치는 결과 융합 시 적용)
      */
-    private List<String> getTrackNamesByIds(List<Long> trackIds) {
-        try {
-            List<TrackRequirement> requirements = trackRequirementRepository.findByTrackIdsAndCourseType(trackIds);
-            return requirements.stream()
-                    .map(req -> req.getTrack().getTrackName())
-                    .distinct()
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("트랙 이름 조회 실패 - trackIds: {}", trackIds, e);
-            return new ArrayList<>();
+    private SearchQueries buildSearchQueries(List<String> trackNames,
+                                             CourseRecommendationRequest.AdvancedSettings advancedSettings) {
+        String primaryTrack = trackNames.size() > 0 ? trackNames.get(0) : null;
+        String secondaryTrack = trackNames.size() > 1 ? trackNames.get(1) : null;
+
+        log.info("트랙 정보 - 1트랙: {}, 2트랙: {}", primaryTrack, secondaryTrack);
+
+        List<CourseRankFusion.QueryType> queryTypes = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+
+        if (primaryTrack != null) {
+            queryTypes.add(CourseRankFusion.QueryType.PRIMARY_TRACK);
+            queries.add(primaryTrack);
+            log.info("1트랙 쿼리: {}", primaryTrack);
         }
+
+        if (secondaryTrack != null) {
+            queryTypes.add(CourseRankFusion.QueryType.SECONDARY_TRACK);
+            queries.add(secondaryTrack);
+            log.info("2트랙 쿼리: {}", secondaryTrack);
+        }
+
+        queryTypes.add(CourseRankFusion.QueryType.TECH_STACK);
+        if (advancedSettings != null && advancedSettings.getTechStack() != null && !advancedSettings.getTechStack().trim().isEmpty()) {
+            String techStack = advancedSettings.getTechStack().trim();
+            queries.add(techStack);
+            log.info("Tech Stack 쿼리: {}", techStack);
+        } else {
+            queries.add(DEFAULT_TECH_STACK_QUERY);
+            log.info("기본 검색 쿼리 사용: {}", DEFAULT_TECH_STACK_QUERY);
+        }
+
+        queryTypes.add(CourseRankFusion.QueryType.CORE_SUBJECTS);
+        queries.add(CORE_SUBJECTS_QUERY);
+        log.info("핵심 과목 쿼리: {}", CORE_SUBJECTS_QUERY);
+
+        return new SearchQueries(trackNames, queryTypes, queries);
+    }
+
+    /**
+     * 트랙 + 이수/수강중 과목 제외 + 남은 학기 개설 조건으로 필터링된 유사도 검색 후 쿼리별 결과 융합
+     */
+    private List<Map<String, Object>> searchRecommendedCourses(SearchQueries searchQueries, Set<Long> excludedCourseIds,
+                                                               Map<String, Object> semesterInfo) {
+        CourseSearchFilter filter = CourseSearchFilter.of(searchQueries.trackNames(), excludedCourseIds,
+                (Integer) semesterInfo.get("nextYear"), (String) semesterInfo.get("nextSemester"));
+
+        // 쿼리 전체를 한 번에 검색
+        List<List<Map<String, Object>>> queryResults = courseVectorStore.searchSimilarCoursesBatch(
+                searchQueries.queries(), RECOMMENDED_COURSE_LIMIT, filter);
+
+        // 쿼리별 결과를 가중치에 따라 하나의 순위로 융합
+        List<Map<String, Object>> recommendedCourses = courseRankFusion.fuse(
+                searchQueries.queryTypes(), queryResults, RECOMMENDED_COURSE_LIMIT);
+
+        log.info("2단계: 벡터 DB 검색 완료 - {}개 과목 (이수/수강중 {}개 제외, {}학년 {}학기 이후 개설)",
+                recommendedCourses.size(), excludedCourseIds.size(), filter.fromGrade(), filter.fromSemester());
+
+        // 최종 추천 과목 상세 로그
+        log.info("최종 추천 과목 목록:");
+        for (int i = 0; i < recommendedCourses.size(); i++) {
+            Map<String, Object> course = recommendedCourses.get(i);
+            log.info("  {}. {} ({}) - {}학년 {}학기 - 유사도: {}, 융합 점수: {}",
+                i + 1,
+                course.get("courseName"),
+                course.get("courseCode"),
+                course.get("openGrade"),
+                course.get("openSemester"),
+                course.get("score"),
+                course.get("fusionScore"));
+        }
+
+        return recommendedCourses;
+    }
+
+    /**
+     * 트랙 요구사항에서 트랙 이름 목록 추출 (조회 순서 유지)
+     */
+    private static List<String> trackNamesOf(List<TrackRequirement> requirements, List<Long> trackIds) {
+        // 조회 결과에는 순서가 없으므로 요청한 trackIds 순서(1트랙, 2트랙)로 정렬
+        Map<Long, String> namesById = new HashMap<>();
+        for (TrackRequirement req : requirements) {
+            namesById.putIfAbsent(req.getTrack().getId(), req.getTrack().getTrackName());
+        }
+        return trackIds.stream()
+                .distinct()
+                .map(namesById::get)
+                .filter(name -> name != null)
+                .collect(Collectors.toList());
     }
 
     
@@ -414,116 +485,224 @@ public class CourseEmbeddingService {
             return new ArrayList<>();
         }
     }
+
+    /**
+     * 학생 데이터 조회 (사용자, 이수 과목, 수강중 과목 ID)
+     */
+    private StudentSnapshot loadStudentSnapshot(String studentId) {
+        Users user = usersRepository.findByStudentId(studentId)
+                .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
+
+        // 이수 과목은 과목까지 함께 조회되므로 ID도 여기서 추출
+        List<CompletedCourse> completedCourses = completedCourseRepository.findByUsers(user);
+        List<Long> enrolledCourseIds = enrolledCourseRepository.findCourseIdsByUserId(user.getId());
+
+        Set<Long> takenCourseIds = new HashSet<>(enrolledCourseIds);
+        for (CompletedCourse completed : completedCourses) {
+            takenCourseIds.add(completed.getCourse().getId());
+        }
+        return new StudentSnapshot(user.getId(), completedCourses, !enrolledCourseIds.isEmpty(), takenCourseIds);
+    }
     
     /**
      * 사용자의 현재 학기 상태 계산
      */
     private Map<String, Object> calculateUserSemester(String studentId) {
         try {
-            // 1. 학번으로 사용자 찾기
-            Users user = usersRepository.findByStudentId(studentId)
-                    .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
+            return calculateUserSemester(loadStudentSnapshot(studentId));
+        } catch (Exception e) {
+            log.error("사용자 학기 계산 실패 - studentId: {}", studentId, e);
+            throw new RuntimeException("사용자 학기 계산에 실패했습니다.", e);
+        }
+    }
 
-            // 2. 이수한 과목 중 가장 최신 학년/학기 찾기
-            List<grit.guidance.domain.user.entity.CompletedCourse> completedCourses = 
-                    completedCourseRepository.findByUsers(user);
-            
-            int latestYear = 0;
-            String latestSemester = "FIRST";
-            
-            if (!completedCourses.isEmpty()) {
-                for (grit.guidance.domain.user.entity.CompletedCourse completed : completedCourses) {
-                    if (completed.getCompletedYear() > latestYear) {
-                        latestYear = completed.getCompletedYear();
-                        latestSemester = completed.getCompletedSemester().toString();
-                    } else if (completed.getCompletedYear() == latestYear) {
-                        // 같은 년도면 학기 비교 (SECOND > FIRST)
-                        if ("SECOND".equals(completed.getCompletedSemester().toString()) && 
-                            "FIRST".equals(latestSemester)) {
-                            latestSemester = "SECOND";
-                        }
+    private Map<String, Object> calculateUserSemester(StudentSnapshot student) {
+        // 1. 이수한 과목 중 가장 최신 학년/학기 찾기
+        List<CompletedCourse> completedCourses = student.completedCourses();
+
+        int latestYear = 0;
+        String latestSemester = "FIRST";
+
+        // 학년(gradeLevel) 기준으로 비교 (이수년도는 달력 연도이므로 학년 계산에 사용하지 않음)
+        if (!completedCourses.isEmpty()) {
+            for (CompletedCourse completed : completedCourses) {
+                if (completed.getGradeLevel() == null) {
+                    continue;
+                }
+                if (completed.getGradeLevel() > latestYear) {
+                    latestYear = completed.getGradeLevel();
+                    latestSemester = completed.getCompletedSemester().toString();
+                } else if (completed.getGradeLevel() == latestYear) {
+                    // 같은 년도면 학기 비교 (SECOND > FIRST)
+                    if ("SECOND".equals(completed.getCompletedSemester().toString()) &&
+                        "FIRST".equals(latestSemester)) {
+                        latestSemester = "SECOND";
                     }
                 }
             }
-            
-            // 3. 현재 수강중인 과목이 있는지 확인
-            List<grit.guidance.domain.user.entity.EnrolledCourse> enrolledCourses = 
-                    enrolledCourseRepository.findByUser(user);
-            boolean hasCurrentEnrollment = !enrolledCourses.isEmpty();
-            
-            // 4. 다음 학기 계산
-            int nextYear;
-            String nextSemester;
-            
-            if (hasCurrentEnrollment) {
-                // 현재 수강중인 과목이 있으면, 현재 수강중인 학기의 다음 학기
-                // 최신 이수가 3-1이고 현재 수강중이면 → 현재는 3-2 → 다음은 4-1
-                if ("FIRST".equals(latestSemester)) {
-                    // 최신 이수가 1학기면, 현재는 2학기 → 다음은 다음년도 1학기
-                    nextYear = latestYear + 1;
-                    nextSemester = "FIRST";
-                } else { // SECOND
-                    // 최신 이수가 2학기면, 현재는 다음년도 1학기 → 다음은 다음년도 2학기
-                    nextYear = latestYear + 1;
-                    nextSemester = "SECOND";
-                }
-            } else {
-                // 현재 수강중인 과목이 없으면 +1학기
-                if ("FIRST".equals(latestSemester)) {
-                    nextYear = latestYear;
-                    nextSemester = "SECOND";
-                } else { // SECOND
-                    nextYear = latestYear + 1;
-                    nextSemester = "FIRST";
-                }
+        }
+
+        // 2. 현재 수강중인 과목이 있는지 확인
+        boolean hasCurrentEnrollment = student.hasCurrentEnrollment();
+
+        // 3. 다음 학기 계산
+        int nextYear;
+        String nextSemester;
+
+        if (hasCurrentEnrollment) {
+            // 현재 수강중인 과목이 있으면, 현재 수강중인 학기의 다음 학기
+            // 최신 이수가 3-1이고 현재 수강중이면 → 현재는 3-2 → 다음은 4-1
+            if ("FIRST".equals(latestSemester)) {
+                // 최신 이수가 1학기면, 현재는 2학기 → 다음은 다음년도 1학기
+                nextYear = latestYear + 1;
+                nextSemester = "FIRST";
+            } else { // SECOND
+                // 최신 이수가 2학기면, 현재는 다음년도 1학기 → 다음은 다음년도 2학기
+                nextYear = latestYear + 1;
+                nextSemester = "SECOND";
+            }
+        } else {
+            // 현재 수강중인 과목이 없으면 +1학기
+            if ("FIRST".equals(latestSemester)) {
+                nextYear = latestYear;
+                nextSemester = "SECOND";
+            } else { // SECOND
+                nextYear = latestYear + 1;
+                nextSemester = "FIRST";
             }
-            
-            Map<String, Object> semesterInfo = new HashMap<>();
-            semesterInfo.put("latestCompletedYear", latestYear);
-            semesterInfo.put("latestCompletedSemester", latestSemester);
-            semesterInfo.put("hasCurrentEnrollment", hasCurrentEnrollment);
-            semesterInfo.put("nextYear", nextYear);
-            semesterInfo.put("nextSemester", nextSemester);
-            semesterInfo.put("recommendationStartYear", nextYear);
-            semesterInfo.put("recommendationStartSemester", nextSemester);
-            
-            log.info("학기 계산 완료 - 최신이수: {}{}, 현재수강: {}, 추천시작: {}{}",
-                    latestYear, latestSemester, hasCurrentEnrollment, nextYear, nextSemester);
-            
-            return semesterInfo;
-            
-        } catch (Exception e) {
-            log.error("사용자 학기 계산 실패 - studentId: {}", studentId, e);
-            throw new RuntimeException("사용자 학기 계산에 실패했습니다.", e);
         }
+
+        Map<String, Object> semesterInfo = new HashMap<>();
+        semesterInfo.put("latestCompletedYear", latestYear);
+        semesterInfo.put("latestCompletedSemester", latestSemester);
+        semesterInfo.put("hasCurrentEnrollment", hasCurrentEnrollment);
+        semesterInfo.put("nextYear", nextYear);
+        semesterInfo.put("nextSemester", nextSemester);
+        semesterInfo.put("recommendationStartYear", nextYear);
+        semesterInfo.put("recommendationStartSemester", nextSemester);
+
+        log.info("학기 계산 완료 - 최신이수: {}{}, 현재수강: {}, 추천시작: {}{}",
+                latestYear, latestSemester, hasCurrentEnrollment, nextYear, nextSemester);
+
+        return semesterInfo;
     }
-    
+
     /**
-     * 특정 과목이 주어진 트랙들에 속하는지 확인
+     * 통합 추천 0~2단계를 병렬로 실행
+     * - 학생 데이터(사용자/이수/수강중) 조회 → 학기 계산
+     * - 트랙 요구사항 조회 → 검색 쿼리 생성 → 쿼리 임베딩 (원격 호출)
+     * 두 흐름이 모두 끝나면 필수 과목 필터링과 벡터 검색을 진행 (검색 필터에 이수 과목/학기 정보가 필요하므로 임베딩까지만 겹침)
+     * 벡터 검색 결과는 재정렬하여 상위 과목만 LLM 에 전달 (재정렬용 DB 조회는 학생 데이터 조회 후 검색과 병렬로 진행)
+     * 사용자/트랙 데이터는 한 번만 조회하여 모든 단계에서 공유, 단계별 소요 시간은 stageTimings 에 기록
      */
-    private boolean isCourseInTracks(Long courseId, List<Long> trackIds) {
+    private PipelineInputs preparePipelineInputs(List<Long> trackIds, String studentId,
+                                                 CourseRecommendationRequest.AdvancedSettings advancedSettings,
+                                                 Map<String, Long> stageTimings) {
+        long startedAt = System.nanoTime();
+
+        CompletableFuture<StudentSnapshot> studentFuture = CompletableFuture.supplyAsync(
+                () -> timed(stageTimings, "studentData", () -> loadStudentSnapshot(studentId)), pipelineExecutor);
+        CompletableFuture<Map<String, Object>> semesterFuture = studentFuture.thenApply(
+                student -> timed(stageTimings, "semester", () -> calculateUserSemester(student)));
+
+        CompletableFuture<List<TrackRequirement>> trackFuture = CompletableFuture.supplyAsync(
+                () -> timed(stageTimings, "trackData", () -> trackRequirementRepository.findByTrackIdsAndCourseType(trackIds)),
+                pipelineExecutor);
+        CompletableFuture<SearchQueries> queryFuture = trackFuture.thenApply(
+                requirements -> timed(stageTimings, "queryEmbedding", () -> {
+                    SearchQueries searchQueries = buildSearchQueries(trackNamesOf(requirements, trackIds), advancedSettings);
+                    courseVectorStore.prepareQueries(searchQueries.queries());
+                    return searchQueries;
+                }));
+
+        CompletableFuture<List<Map<String, Object>>> mandatoryFuture = trackFuture.thenCombine(studentFuture,
+                (requirements, student) -> timed(stageTimings, "mandatoryCourses",
+                        () -> filterMandatoryCourses(requirements, student.takenCourseIds())));
+        CompletableFuture<List<Map<String, Object>>> recommendedFuture = queryFuture.thenCombine(
+                studentFuture.thenCombine(semesterFuture, (student, semesterInfo) -> Map.entry(student, semesterInfo)),
+                (searchQueries, studentAndSemester) -> timed(stageTimings, "vectorSearch",
+                        () -> searchRecommendedCourses(searchQueries, studentAndSemester.getKey().takenCourseIds(),
+                                studentAndSemester.getValue())));
+
+        CompletableFuture<CourseReRanker.FeatureSources> rerankSourcesFuture = courseReRanker.isEnabled()
+                ? studentFuture.thenApplyAsync(student -> courseReRanker.loadSources(trackIds, student.userId()), pipelineExecutor)
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<Map<String, Object>>> rerankedFuture = courseReRanker.isEnabled()
+                ? CompletableFuture.allOf(recommendedFuture, mandatoryFuture, rerankSourcesFuture)
+                        .thenApply(ignored -> timed(stageTimings, "rerank", () -> courseReRanker.rerank(
+                                recommendedFuture.join(), mandatoryFuture.join(), trackIds,
+                                studentFuture.join().takenCourseIds(), semesterFuture.join(), rerankSourcesFuture.join())))
+                : recommendedFuture;
+
+        PipelineInputs inputs = new PipelineInputs(join(semesterFuture), join(mandatoryFuture), join(rerankedFuture));
+        stageTimings.put("prepare", elapsedMs(startedAt));
+
+        log.info("사용자 학기 정보: {}", inputs.semesterInfo());
+        log.info("1단계 완료: 필수 과목 {}개", inputs.mandatoryCourses().size());
+        log.info("2단계 완료: 추천 과목 {}개", inputs.recommendedCourses().size());
+        return inputs;
+    }
+
+    private static <T> T timed(Map<String, Long> stageTimings, String stage, Supplier<T> task) {
+        long startedAt = System.nanoTime();
         try {
-            List<TrackRequirement> requirements = trackRequirementRepository.findByCourseId(courseId);
-            return requirements.stream()
-                    .anyMatch(req -> trackIds.contains(req.getTrack().getId()));
-        } catch (Exception e) {
-            log.warn("트랙 확인 실패 - courseId: {}, trackIds: {}", courseId, trackIds, e);
-            return false;
+            return task.get();
+        } finally {
+            stageTimings.put(stage, elapsedMs(startedAt));
+        }
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 병렬 단계 결과 대기 (단계 실패 시 원래 예외를 그대로 전달)
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
+    /**
+     * 응답용 단계별 소요 시간 (단계 순서대로 정렬)
+     */
+    private static Map<String, Long> orderedStageTimings(Map<String, Long> stageTimings) {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String stage : PIPELINE_STAGES) {
+            Long elapsed = stageTimings.get(stage);
+            if (elapsed != null) {
+                ordered.put(stage, elapsed);
+            }
+        }
+        return ordered;
+    }
+    
     /**
      * Qdrant 상태 확인
      */
     public boolean isQdrantHealthy() {
-        return qdrantRepository.isVectorStoreHealthy();
+        return courseVectorStore.isVectorStoreHealthy();
     }
 
     /**
      * 저장된 과목 개수 확인
      */
     public long getStoredCourseCount() {
-        return qdrantRepository.getDocumentCount();
+        return courseVectorStore.getDocumentCount();
+    }
+
+    /**
+     * 임베딩 캐시 통계 조회
+     */
+    public Map<String, Object> getEmbeddingCacheStats() {
+        return courseVectorStore.getEmbeddingCacheStats();
     }
 
     /**
@@ -537,36 +716,53 @@ public class CourseEmbeddingService {
         
         try {
             log.info("통합 로드맵 추천 시작 - trackIds={}, studentId={}", trackIds, studentId);
+            long startedAt = System.nanoTime();
+            Map<String, Long> stageTimings = new ConcurrentHashMap<>();
 
-            // 0단계: 사용자 학기 상태 파악
-            Map<String, Object> semesterInfo = calculateUserSemester(studentId);
-            log.info("사용자 학기 정보: {}", semesterInfo);
-            
-            // 1단계: 필수 과목 목록 확보 (규칙 기반 필터링)
-            List<Map<String, Object>> mandatoryCourses = getMandatoryCourses(trackIds, studentId);
-            log.info("1단계 완료: 필수 과목 {}개", mandatoryCourses.size());
-            
-            // 2단계: 벡터 DB 검색 목록 확보 (유사도 검색)
-            List<Map<String, Object>> recommendedCourses = getRecommendedCourses(
-                    trackIds, studentId, learningStyle, advancedSettings);
-            log.info("2단계 완료: 추천 과목 {}개", recommendedCourses.size());
+            // 0~2단계: 학기 상태 파악 / 필수 과목 목록 확보 / 벡터 DB 검색 (병렬 실행)
+            PipelineInputs inputs = preparePipelineInputs(trackIds, studentId, advancedSettings, stageTimings);
+            Map<String, Object> semesterInfo = inputs.semesterInfo();
+            List<Map<String, Object>> mandatoryCourses = inputs.mandatoryCourses();
+            List<Map<String, Object>> recommendedCourses = inputs.recommendedCourses();
             
             // 3단계: LLM에게 로드맵 추천 요청 (학기 정보 포함)
             String techStack = (advancedSettings != null && advancedSettings.getTechStack() != null) 
                     ? advancedSettings.getTechStack() : "";
             
-            Map<String, Object> llmResponse = llmRoadmapService.generateRoadmapRecommendation(
-                    studentId, trackIds, mandatoryCourses, recommendedCourses, techStack, semesterInfo);
+            // LLM 응답은 규칙 기반 배치기로 검증/보정, LLM 실패 시 규칙 기반 로드맵으로 대체
+            List<Map<String, Object>> roadMap;
+            String source;
+            if (localRoadmapPlanner.isLocalMode()) {
+                roadMap = localRoadmapPlanner.plan(mandatoryCourses, recommendedCourses, semesterInfo);
+                source = "local";
+            } else {
+                long llmStartedAt = System.nanoTime();
+                try {
+                    Map<String, Object> llmResponse = llmRoadmapService.generateRoadmapRecommendation(
+                            studentId, trackIds, mandatoryCourses, recommendedCourses, techStack, semesterInfo);
+                    roadMap = localRoadmapPlanner.repair(
+                            (List<Map<String, Object>>) llmResponse.get("roadMap"), mandatoryCourses, recommendedCourses, semesterInfo);
+                    source = "llm";
+                } catch (Exception e) {
+                    log.warn("LLM 로드맵 추천 실패 - 규칙 기반 로드맵으로 대체합니다. studentId={}", studentId, e);
+                    roadMap = localRoadmapPlanner.plan(mandatoryCourses, recommendedCourses, semesterInfo);
+                    source = "local-fallback";
+                }
+                stageTimings.put("llm", elapsedMs(llmStartedAt));
+            }
+            stageTimings.put("total", elapsedMs(startedAt));
             
             // 4단계: 최종 응답 구성 (LLM 추천 결과만 반환)
             Map<String, Object> response = new HashMap<>();
             response.put("studentId", studentId);
             response.put("trackIds", trackIds);
             response.put("semesterInfo", semesterInfo);
-            response.put("roadMap", llmResponse.get("roadMap"));
+            response.put("roadMap", roadMap);
+            response.put("source", source);
+            response.put("stageTimingsMs", orderedStageTimings(stageTimings));
             response.put("status", "success");
             
-            log.info("통합 로드맵 추천 완료");
+            log.info("통합 로드맵 추천 완료 - 단계별 소요 시간(ms): {}", orderedStageTimings(stageTimings));
             return response;
 
         } catch (Exception e) {
@@ -574,4 +770,87 @@ public class CourseEmbeddingService {
             throw new RuntimeException("통합 로드맵 추천에 실패했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 통합 로드맵 추천 - 스트리밍 (1단계 + 2단계 + LLM 스트리밍)
+     * LLM 응답에서 학기 블록이 완성될 때마다 onSemester 로 전달
+     */
+    public Map<String, Object> streamIntegratedRoadmapRecommendation(
+            List<Long> trackIds,
+            String studentId,
+            CourseRecommendationRequest.LearningStyle learningStyle,
+            CourseRecommendationRequest.AdvancedSettings advancedSettings,
+            Consumer<Map<String, Object>> onSemester) {
+
+        try {
+            log.info("통합 로드맵 스트리밍 추천 시작 - trackIds={}, studentId={}", trackIds, studentId);
+            long startedAt = System.nanoTime();
+            Map<String, Long> stageTimings = new ConcurrentHashMap<>();
+
+            // 0~2단계: 학기 상태 파악 / 필수 과목 목록 확보 / 벡터 DB 검색 (병렬 실행)
+            PipelineInputs inputs = preparePipelineInputs(trackIds, studentId, advancedSettings, stageTimings);
+            Map<String, Object> semesterInfo = inputs.semesterInfo();
+            List<Map<String, Object>> mandatoryCourses = inputs.mandatoryCourses();
+            List<Map<String, Object>> recommendedCourses = inputs.recommendedCourses();
+
+            // 3단계: LLM 스트리밍 로드맵 추천 (학기 블록 단위로 전달)
+            String techStack = (advancedSettings != null && advancedSettings.getTechStack() != null)
+                    ? advancedSettings.getTechStack() : "";
+
+            // 학기 블록마다 규칙 기반 배치기로 검증/보정 후 전달 (잘못된 학기의 과목은 개설 학기 블록으로 옮겨 전달)
+            LocalRoadmapPlanner.Session session = localRoadmapPlanner.newSession(mandatoryCourses, recommendedCourses, semesterInfo);
+            List<Map<String, Object>> roadMap = new ArrayList<>();
+            Consumer<Map<String, Object>> emit = semester -> {
+                roadMap.add(semester);
+                onSemester.accept(semester);
+            };
+            String source;
+            if (localRoadmapPlanner.isLocalMode()) {
+                localRoadmapPlanner.plan(mandatoryCourses, recommendedCourses, semesterInfo).forEach(emit);
+                source = "local";
+            } else {
+                long llmStartedAt = System.nanoTime();
+                try {
+                    llmRoadmapService.streamRoadmapRecommendation(
+                            studentId, trackIds, mandatoryCourses, recommendedCourses, techStack, semesterInfo,
+                            semester -> session.offerSemester(semester).forEach(emit));
+                    session.finish().forEach(emit);
+                    source = "llm";
+                } catch (Exception e) {
+                    // 이미 전달한 학기는 유지하고 남은 학기만 규칙 기반으로 채움 (잘린 로드맵을 남기지 않음)
+                    boolean partial = !roadMap.isEmpty();
+                    log.warn("LLM 로드맵 스트리밍 실패 - 남은 학기를 규칙 기반 로드맵으로 대체합니다. studentId={}, 전달한 학기: {}개",
+                            studentId, roadMap.size(), e);
+                    session.finishLocally().forEach(emit);
+                    source = partial ? "llm+local-fallback" : "local-fallback";
+                }
+                stageTimings.put("llm", elapsedMs(llmStartedAt));
+            }
+            stageTimings.put("total", elapsedMs(startedAt));
+            if (!session.repairs().isEmpty()) {
+                log.info("LLM 로드맵 보정 {}건: {}", session.repairs().size(), session.repairs());
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("studentId", studentId);
+            response.put("trackIds", trackIds);
+            response.put("semesterInfo", semesterInfo);
+            response.put("roadMap", roadMap);
+            response.put("source", source);
+            response.put("stageTimingsMs", orderedStageTimings(stageTimings));
+            response.put("status", "success");
+
+            log.info("통합 로드맵 스트리밍 추천 완료 - 단계별 소요 시간(ms): {}", orderedStageTimings(stageTimings));
+            return response;
+
+        } catch (Exception e) {
+            log.error("통합 로드맵 스트리밍 추천 실패 - trackIds={}, studentId={}", trackIds, studentId, e);
+            throw new RuntimeException("통합 로드맵 추천에 실패했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pipelineExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,102 @@
+package grit.guidance.domain.roadmap.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 쿼리별 검색 결과 융합
+ * - 1트랙 / 2트랙 / 관심 기술 스택 / 핵심 과목을 각각 따로 검색한 뒤 쿼리별 가중치를 적용해 하나의 순위로 합침
+ * - rrf: 가중 Reciprocal Rank Fusion (weight / (k + rank)), 쿼리마다 다른 유사도 분포의 영향을 받지 않음
+ * - weighted: 쿼리별 유사도의 가중 평균 (결과에 없는 쿼리는 0점)
+ */
+@Slf4j
+@Component
+public class CourseRankFusion {
+
+    public enum QueryType {
+        PRIMARY_TRACK,
+        SECONDARY_TRACK,
+        TECH_STACK,
+        CORE_SUBJECTS
+    }
+
+    enum Strategy {
+        RRF,
+        WEIGHTED
+    }
+
+    private final Strategy strategy;
+    private final int rrfK;
+    private final Map<QueryType, Double> weights = new EnumMap<>(QueryType.class);
+
+    public CourseRankFusion(@Value("${recommendation.fusion.strategy:rrf}") String strategy,
+                            @Value("${recommendation.fusion.rrf-k:60}") int rrfK,
+                            @Value("${recommendation.fusion.weights.primary-track:1.0}") double primaryTrackWeight,
+                            @Value("${recommendation.fusion.weights.secondary-track:0.6}") double secondaryTrackWeight,
+                            @Value("${recommendation.fusion.weights.tech-stack:1.0}") double techStackWeight,
+                            @Value("${recommendation.fusion.weights.core-subjects:0.5}") double coreSubjectsWeight) {
+        this.strategy = Strategy.valueOf(strategy.trim().toUpperCase());
+        this.rrfK = rrfK;
+        weights.put(QueryType.PRIMARY_TRACK, primaryTrackWeight);
+        weights.put(QueryType.SECONDARY_TRACK, secondaryTrackWeight);
+        weights.put(QueryType.TECH_STACK, techStackWeight);
+        weights.put(QueryType.CORE_SUBJECTS, coreSubjectsWeight);
+        log.info("추천 결과 융합 설정 - strategy={}, rrfK={}, weights={}", this.strategy, rrfK, weights);
+    }
+
+    /**
+     * 쿼리별 검색 결과를 융합하여 상위 limit 개 반환
+     * 결과의 score 는 쿼리 중 가장 높은 유사도, fusionScore 는 융합 점수 (정렬 기준)
+     *
+     * @param queryTypes 검색 결과와 같은 순서의 쿼리 종류
+     * @param results    쿼리별 검색 결과 (유사도 내림차순)
+     */
+    public List<Map<String, Object>> fuse(List<QueryType> queryTypes, List<List<Map<String, Object>>> results, int limit) {
+        double totalWeight = 0;
+        for (QueryType queryType : queryTypes) {
+            totalWeight += weights.get(queryType);
+        }
+
+        Map<Object, Map<String, Object>> courses = new LinkedHashMap<>();
+        Map<Object, Double> fusionScores = new HashMap<>();
+        Map<Object, Double> bestScores = new HashMap<>();
+
+        for (int q = 0; q < results.size(); q++) {
+            double weight = weights.get(queryTypes.get(q));
+            List<Map<String, Object>> ranked = results.get(q);
+            for (int rank = 0; rank < ranked.size(); rank++) {
+                Map<String, Object> course = ranked.get(rank);
+                Object id = course.get("id");
+                double score = course.get("score") instanceof Number number ? number.doubleValue() : 0.0;
+
+                double contribution = strategy == Strategy.RRF
+                        ? weight / (rrfK + rank + 1)
+                        : totalWeight > 0 ? weight * score / totalWeight : 0.0;
+
+                courses.putIfAbsent(id, course);
+                fusionScores.merge(id, contribution, Double::sum);
+                bestScores.merge(id, score, Math::max);
+            }
+        }
+
+        List<Object> ids = new ArrayList<>(courses.keySet());
+        ids.sort((a, b) -> Double.compare(fusionScores.get(b), fusionScores.get(a)));
+
+        List<Map<String, Object>> fused = new ArrayList<>(Math.min(limit, ids.size()));
+        for (Object id : ids.subList(0, Math.min(limit, ids.size()))) {
+            Map<String, Object> course = new HashMap<>(courses.get(id));
+            course.put("score", bestScores.get(id));
+            course.put("fusionScore", fusionScores.get(id));
+            fused.add(course);
+        }
+        return fused;
+    }
+}
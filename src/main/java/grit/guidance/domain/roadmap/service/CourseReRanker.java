@@ -0,0 +1,276 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.repository.TrackRequirementRepository;
+import grit.guidance.domain.course.service.CourseCatalog;
+import grit.guidance.domain.course.service.PrerequisiteGraph;
+import grit.guidance.domain.user.repository.FavoriteCourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벡터 검색 결과 재정렬 (LLM 에 전달하기 전 후보 과목을 줄임)
+ * - 벡터 점수(융합 점수), 1트랙/2트랙 과목 구분(전필/전기/전선), 남은 학기 여유 학점,
+ *   선수과목 충족 여부(이수/수강중 + 더 이른 학기의 필수 과목), 관심과목 여부를 가중합
+ * - 특성값은 후보마다 한 번만 계산하고, 필요한 DB 데이터(트랙 구분, 관심과목)는 요청마다 한 번씩만 조회 (선수과목은 카탈로그 그래프 사용)
+ */
+@Slf4j
+@Component
+public class CourseReRanker {
+
+    // 4학년 2학기까지 배치
+    private static final int LAST_SLOT = slotOf(4, "SECOND");
+
+    /**
+     * 재정렬에 필요한 DB 데이터 (요청 하나에서 공유)
+     * - courseTypes: 과목 ID → 트랙 ID → 과목 구분
+     * - prerequisiteGraph: 카탈로그 선수과목 그래프
+     */
+    record FeatureSources(Map<Long, Map<Long, CourseType>> courseTypes,
+                          PrerequisiteGraph prerequisiteGraph,
+                          Set<Long> favoriteCourseIds) {
+    }
+
+    /**
+     * 후보 과목 특성값 (모두 0~1)
+     */
+    private record Features(double vector, double track, double fit, double prerequisite, double favorite) {
+    }
+
+    private final TrackRequirementRepository trackRequirementRepository;
+    private final CourseCatalog courseCatalog;
+    private final FavoriteCourseRepository favoriteCourseRepository;
+    private final boolean enabled;
+    private final int limit;
+    private final int maxCreditsPerSemester;
+    private final double vectorWeight;
+    private final double trackWeight;
+    private final double fitWeight;
+    private final double prerequisiteWeight;
+    private final double favoriteWeight;
+    private final double secondaryTrackFactor;
+    private final Map<CourseType, Double> courseTypeWeights = new EnumMap<>(CourseType.class);
+
+    public CourseReRanker(TrackRequirementRepository trackRequirementRepository,
+                          CourseCatalog courseCatalog,
+                          FavoriteCourseRepository favoriteCourseRepository,
+                          @Value("${recommendation.rerank.enabled:true}") boolean enabled,
+                          @Value("${recommendation.rerank.limit:15}") int limit,
+                          @Value("${roadmap.planner.max-credits-per-semester:18}") int maxCreditsPerSemester,
+                          @Value("${recommendation.rerank.weights.vector:0.45}") double vectorWeight,
+                          @Value("${recommendation.rerank.weights.track:0.2}") double trackWeight,
+                          @Value("${recommendation.rerank.weights.fit:0.1}") double fitWeight,
+                          @Value("${recommendation.rerank.weights.prerequisite:0.15}") double prerequisiteWeight,
+                          @Value("${recommendation.rerank.weights.favorite:0.1}") double favoriteWeight,
+                          @Value("${recommendation.rerank.secondary-track-factor:0.7}") double secondaryTrackFactor,
+                          @Value("${recommendation.rerank.course-type.mandatory:1.0}") double mandatoryWeight,
+                          @Value("${recommendation.rerank.course-type.foundation:0.9}") double foundationWeight,
+                          @Value("${recommendation.rerank.course-type.elective:0.6}") double electiveWeight,
+                          @Value("${recommendation.rerank.course-type.general-elective:0.2}") double generalElectiveWeight) {
+        this.trackRequirementRepository = trackRequirementRepository;
+        this.courseCatalog = courseCatalog;
+        this.favoriteCourseRepository = favoriteCourseRepository;
+        this.enabled = enabled;
+        this.limit = limit;
+        this.maxCreditsPerSemester = maxCreditsPerSemester;
+        this.vectorWeight = vectorWeight;
+        this.trackWeight = trackWeight;
+        this.fitWeight = fitWeight;
+        this.prerequisiteWeight = prerequisiteWeight;
+        this.favoriteWeight = favoriteWeight;
+        this.secondaryTrackFactor = secondaryTrackFactor;
+        courseTypeWeights.put(CourseType.MANDATORY, mandatoryWeight);
+        courseTypeWeights.put(CourseType.FOUNDATION, foundationWeight);
+        courseTypeWeights.put(CourseType.ELECTIVE, electiveWeight);
+        courseTypeWeights.put(CourseType.GENERAL_ELECTIVE, generalElectiveWeight);
+        log.info("추천 과목 재정렬 설정 - enabled={}, limit={}, weights=[vector={}, track={}, fit={}, prerequisite={}, favorite={}]",
+                enabled, limit, vectorWeight, trackWeight, fitWeight, prerequisiteWeight, favoriteWeight);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재정렬용 DB 데이터 조회 (벡터 검색과 병렬로 실행)
+     */
+    FeatureSources loadSources(List<Long> trackIds, Long userId) {
+        Map<Long, Map<Long, CourseType>> courseTypes = new HashMap<>();
+        for (Object[] row : trackRequirementRepository.findCourseTypesByTrackIds(trackIds)) {
+            courseTypes.computeIfAbsent((Long) row[0], k -> new HashMap<>()).put((Long) row[1], (CourseType) row[2]);
+        }
+
+        Set<Long> favoriteCourseIds = new HashSet<>(favoriteCourseRepository.findCourseIdsByUserId(userId));
+        return new FeatureSources(courseTypes, courseCatalog.snapshot().prerequisiteGraph(), favoriteCourseIds);
+    }
+
+    /**
+     * 추천 과목을 재정렬하여 상위 limit 개 반환 (각 과목에 rerankScore 추가)
+     *
+     * @param trackIds       선택한 트랙 (첫 번째가 1트랙)
+     * @param takenCourseIds 이수/수강중 과목 ID
+     */
+    List<Map<String, Object>> rerank(List<Map<String, Object>> recommendedCourses,
+                                     List<Map<String, Object>> mandatoryCourses,
+                                     List<Long> trackIds,
+                                     Set<Long> takenCourseIds,
+                                     Map<String, Object> semesterInfo,
+                                     FeatureSources sources) {
+        if (recommendedCourses.isEmpty()) {
+            return recommendedCourses;
+        }
+
+        Integer nextYear = (Integer) semesterInfo.get("nextYear");
+        int startSlot = nextYear != null ? slotOf(nextYear, (String) semesterInfo.get("nextSemester")) : 0;
+        Long primaryTrackId = trackIds.size() > 0 ? trackIds.get(0) : null;
+        Long secondaryTrackId = trackIds.size() > 1 ? trackIds.get(1) : null;
+
+        // 필수 과목이 학기별로 차지하는 학점, 필수 과목의 개설 학기 (선수과목 충족 판단용)
+        Map<Integer, Integer> mandatoryCredits = new HashMap<>();
+        Map<Long, Integer> mandatorySlots = new HashMap<>();
+        for (Map<String, Object> course : mandatoryCourses) {
+            Integer slot = slotOf(course);
+            if (slot == null) {
+                continue;
+            }
+            mandatoryCredits.merge(slot, creditsOf(course), Integer::sum);
+            if (course.get("courseId") instanceof Number id) {
+                mandatorySlots.put(id.longValue(), slot);
+            }
+        }
+
+        double maxVectorScore = 0;
+        for (Map<String, Object> course : recommendedCourses) {
+            maxVectorScore = Math.max(maxVectorScore, vectorScoreOf(course));
+        }
+
+        List<Map<String, Object>> scored = new ArrayList<>(recommendedCourses.size());
+        Map<Object, Features> featuresByCode = new HashMap<>();
+        for (Map<String, Object> course : recommendedCourses) {
+            Long courseId = course.get("courseId") instanceof Number id ? id.longValue() : null;
+            Integer slot = slotOf(course);
+
+            Features features = new Features(
+                    maxVectorScore > 0 ? vectorScoreOf(course) / maxVectorScore : 0.0,
+                    trackFeature(sources.courseTypes().get(courseId), primaryTrackId, secondaryTrackId),
+                    fitFeature(slot, startSlot, mandatoryCredits),
+                    prerequisiteFeature(sources.prerequisiteGraph().directPrerequisiteIds(courseId), slot, takenCourseIds, mandatorySlots),
+                    courseId != null && sources.favoriteCourseIds().contains(courseId) ? 1.0 : 0.0);
+
+            Map<String, Object> ranked = new HashMap<>(course);
+            ranked.put("rerankScore", score(features));
+            scored.add(ranked);
+            featuresByCode.put(course.get("courseCode"), features);
+        }
+
+        // 점수가 같으면 원래(융합) 순서 유지
+        scored.sort(Comparator.comparingDouble((Map<String, Object> course) -> (Double) course.get("rerankScore")).reversed());
+        List<Map<String, Object>> result = scored.size() > limit ? new ArrayList<>(scored.subList(0, limit)) : scored;
+
+        log.info("추천 과목 재정렬 완료 - {}개 중 {}개 사용", recommendedCourses.size(), result.size());
+        for (int i = 0; i < result.size(); i++) {
+            Map<String, Object> course = result.get(i);
+            Features features = featuresByCode.get(course.get("courseCode"));
+            log.info("  {}. {} ({}) - 재정렬 점수: {} [vector={}, track={}, fit={}, prerequisite={}, favorite={}]",
+                    i + 1,
+                    course.get("courseName"),
+                    course.get("courseCode"),
+                    String.format("%.3f", (Double) course.get("rerankScore")),
+                    String.format("%.2f", features.vector()),
+                    String.format("%.2f", features.track()),
+                    String.format("%.2f", features.fit()),
+                    String.format("%.2f", features.prerequisite()),
+                    String.format("%.0f", features.favorite()));
+        }
+        return result;
+    }
+
+    private double score(Features features) {
+        return vectorWeight * features.vector()
+                + trackWeight * features.track()
+                + fitWeight * features.fit()
+                + prerequisiteWeight * features.prerequisite()
+                + favoriteWeight * features.favorite();
+    }
+
+    /**
+     * 1트랙/2트랙에서의 과목 구분 가중치 중 큰 값 (2트랙은 secondaryTrackFactor 를 곱함)
+     */
+    private double trackFeature(Map<Long, CourseType> typesByTrack, Long primaryTrackId, Long secondaryTrackId) {
+        if (typesByTrack == null) {
+            return 0.0;
+        }
+        double value = 0.0;
+        CourseType primaryType = primaryTrackId != null ? typesByTrack.get(primaryTrackId) : null;
+        if (primaryType != null) {
+            value = courseTypeWeights.get(primaryType);
+        }
+        CourseType secondaryType = secondaryTrackId != null ? typesByTrack.get(secondaryTrackId) : null;
+        if (secondaryType != null) {
+            value = Math.max(value, courseTypeWeights.get(secondaryType) * secondaryTrackFactor);
+        }
+        return value;
+    }
+
+    /**
+     * 개설 학기가 남은 학기 안에 있으면 그 학기에 필수 과목을 넣고 남는 학점 비율, 아니면 0
+     */
+    private double fitFeature(Integer slot, int startSlot, Map<Integer, Integer> mandatoryCredits) {
+        if (slot == null || slot < startSlot || slot > LAST_SLOT) {
+            return 0.0;
+        }
+        int used = mandatoryCredits.getOrDefault(slot, 0);
+        return Math.max(0.0, 1.0 - (double) used / maxCreditsPerSemester);
+    }
+
+    /**
+     * 선수과목 중 이수/수강중이거나 더 이른 학기에 배치될 필수 과목의 비율 (선수과목이 없으면 1)
+     */
+    private static double prerequisiteFeature(List<Long> prerequisiteIds, Integer slot,
+                                              Set<Long> takenCourseIds, Map<Long, Integer> mandatorySlots) {
+        if (prerequisiteIds == null || prerequisiteIds.isEmpty()) {
+            return 1.0;
+        }
+        int satisfied = 0;
+        for (Long prerequisiteId : prerequisiteIds) {
+            Integer prerequisiteSlot = mandatorySlots.get(prerequisiteId);
+            if (takenCourseIds.contains(prerequisiteId)
+                    || (prerequisiteSlot != null && slot != null && prerequisiteSlot < slot)) {
+                satisfied++;
+            }
+        }
+        return (double) satisfied / prerequisiteIds.size();
+    }
+
+    private static double vectorScoreOf(Map<String, Object> course) {
+        Object score = course.get("fusionScore") != null ? course.get("fusionScore") : course.get("score");
+        return score instanceof Number number ? number.doubleValue() : 0.0;
+    }
+
+    private static Integer slotOf(Map<String, Object> course) {
+        Object openSemester = course.get("openSemester");
+        if (!(course.get("openGrade") instanceof Number grade) || openSemester == null) {
+            return null;
+        }
+        return slotOf(grade.intValue(), openSemester.toString());
+    }
+
+    private static int creditsOf(Map<String, Object> course) {
+        return course.get("credits") instanceof Number credits ? credits.intValue() : 3;
+    }
+
+    // 학년/학기 → 0부터 시작하는 학기 순번 (1학년 1학기 = 0)
+    private static int slotOf(int grade, String semester) {
+        return (grade - 1) * 2 + ("SECOND".equals(semester) ? 1 : 0);
+    }
+}
@@ -0,0 +1,38 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.entity.TrackRequirement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과목 ID → 트랙 요구사항 인덱스
+ * 과목 문서를 만들 때 과목마다 트랙 요구사항을 조회하지 않도록 한 번의 조회 결과를 배치 전체에서 재사용
+ */
+final class CourseTrackIndex {
+
+    private final Map<Long, List<TrackRequirement>> requirementsByCourseId;
+
+    private CourseTrackIndex(Map<Long, List<TrackRequirement>> requirementsByCourseId) {
+        this.requirementsByCourseId = requirementsByCourseId;
+    }
+
+    /**
+     * 트랙 요구사항 목록으로 인덱스 생성 (track 이 함께 조회된 요구사항이어야 추가 쿼리가 발생하지 않음)
+     */
+    static CourseTrackIndex of(List<TrackRequirement> requirements) {
+        Map<Long, List<TrackRequirement>> requirementsByCourseId = new HashMap<>();
+        for (TrackRequirement requirement : requirements) {
+            requirementsByCourseId
+                    .computeIfAbsent(requirement.getCourse().getId(), k -> new ArrayList<>())
+                    .add(requirement);
+        }
+        return new CourseTrackIndex(requirementsByCourseId);
+    }
+
+    List<TrackRequirement> requirementsOf(Long courseId) {
+        return requirementsByCourseId.getOrDefault(courseId, List.of());
+    }
+}
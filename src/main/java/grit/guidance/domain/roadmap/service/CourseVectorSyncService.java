@@ -0,0 +1,116 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.event.CourseCatalogChangedEvent;
+import grit.guidance.domain.roadmap.repository.CourseVectorStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DB 과목 카탈로그 → 벡터 저장소 증분 동기화
+ * - 문서 payload 에 저장된 fingerprint 와 현재 DB 문서의 fingerprint 를 비교
+ * - 새로 생긴/바뀐 과목만 임베딩 후 저장, DB에서 사라진(소프트 삭제된) 과목은 벡터 저장소에서 삭제
+ * - 과목 데이터 새로고침/설명 크롤링 커밋 후 자동 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseVectorSyncService {
+
+    private final CourseEmbeddingService courseEmbeddingService;
+    private final CourseVectorStore courseVectorStore;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCourseCatalogChanged(CourseCatalogChangedEvent event) {
+        try {
+            log.info("과목 카탈로그 변경 감지 ({}) - 벡터 저장소 동기화 시작", event.reason());
+            sync();
+        } catch (Exception e) {
+            // 동기화 실패가 관리자 요청 자체를 실패시키지 않도록 로그만 남김
+            log.error("벡터 저장소 자동 동기화 실패 ({})", event.reason(), e);
+        }
+    }
+
+    /**
+     * 증분 동기화 실행 후 결과 요약 반환
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> syncCourses() {
+        return sync();
+    }
+
+    private synchronized Map<String, Object> sync() {
+        long startedAt = System.currentTimeMillis();
+
+        Map<String, String> storedFingerprints = courseVectorStore.getDocumentFingerprints();
+        if (storedFingerprints == null) {
+            throw new RuntimeException("벡터 저장소의 문서 목록을 조회하지 못했습니다.");
+        }
+
+        // 1. DB 문서와 저장된 fingerprint 비교
+        List<Map<String, Object>> documents = courseEmbeddingService.buildAllCourseDocuments();
+        List<Map<String, Object>> changed = new ArrayList<>();
+        Set<String> addedIds = new HashSet<>();
+        int unchanged = 0;
+        for (Map<String, Object> document : documents) {
+            String id = (String) document.get("id");
+            String stored = storedFingerprints.remove(id);
+            if (stored == null) {
+                addedIds.add(id);
+            } else if (stored.equals(document.get("fingerprint"))) {
+                unchanged++;
+                continue;
+            }
+            changed.add(document);
+        }
+
+        // 2. 남은 문서는 DB에 없는 과목
+        List<String> stale = new ArrayList<>(storedFingerprints.keySet());
+
+        // 3. 변경분만 반영
+        // 임베딩/저장에 실패한 문서는 새 fingerprint 가 저장되지 않으므로 다음 동기화 때 다시 시도됨
+        List<String> failedIds = List.of();
+        if (!changed.isEmpty()) {
+            failedIds = courseVectorStore.addCourseDocuments(changed);
+        }
+        boolean deleted = stale.isEmpty() || courseVectorStore.deleteCourseDocuments(stale);
+
+        int failedAdds = 0;
+        for (String failedId : failedIds) {
+            if (addedIds.contains(failedId)) {
+                failedAdds++;
+            }
+        }
+        int added = addedIds.size() - failedAdds;
+        int updated = changed.size() - addedIds.size() - (failedIds.size() - failedAdds);
+        int failed = failedIds.size() + (deleted ? 0 : stale.size());
+
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        if (failed > 0) {
+            log.warn("벡터 저장소 동기화 실패 문서 {}개 - 저장 실패: {}, 삭제 실패: {}",
+                    failed, failedIds, deleted ? 0 : stale.size());
+        }
+        log.info("벡터 저장소 동기화 완료 - 추가: {}, 변경: {}, 삭제: {}, 변경 없음: {}, 실패: {}, {}ms",
+                added, updated, deleted ? stale.size() : 0, unchanged, failed, elapsedMs);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("added", added);
+        summary.put("updated", updated);
+        summary.put("deleted", deleted ? stale.size() : 0);
+        summary.put("unchanged", unchanged);
+        summary.put("failed", failed);
+        summary.put("elapsedMs", elapsedMs);
+        return summary;
+    }
+}
@@ -0,0 +1,34 @@
+package grit.guidance.domain.roadmap.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 벡터 저장소 사용 시 애플리케이션 시작 후 과목 벡터를 적재
+ * (임베딩 디스크 캐시가 있으면 OpenAI 호출 없이 적재됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "vector.store.type", havingValue = "memory")
+public class InMemoryVectorStoreInitializer {
+
+    private final CourseEmbeddingService courseEmbeddingService;
+    private final CourseVectorSyncService courseVectorSyncService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCourseVectors() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            courseVectorSyncService.syncCourses();
+            log.info("메모리 벡터 저장소 적재 완료 - {}개, {}ms",
+                    courseEmbeddingService.getStoredCourseCount(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("메모리 벡터 저장소 적재 실패", e);
+        }
+    }
+}
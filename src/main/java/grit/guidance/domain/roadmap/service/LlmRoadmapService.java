@@ -1,21 +1,34 @@
 package grit.guidance.domain.roadmap.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import grit.guidance.domain.roadmap.dto.LlmRoadmapPlan;
+import grit.guidance.domain.roadmap.repository.RoadmapResponseCache;
+import grit.guidance.global.config.OutboundHttpClients;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
-import org.apache.hc.client5.http.cookie.CookieStore;
-import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +36,11 @@ import java.util.Map;
 public class LlmRoadmapService {
 
     private final ObjectMapper objectMapper;
+    private final OutboundHttpClients outboundHttpClients;
+    private final RoadmapResponseCache roadmapResponseCache;
+    private final RoadmapPromptBuilder roadmapPromptBuilder;
+    private final RoadmapModelRouter roadmapModelRouter;
+    private final MeterRegistry meterRegistry;
 
     @Value("${openai.api.key}")
     private String openaiApiKey;
@@ -30,20 +48,59 @@ public class LlmRoadmapService {
     @Value("${openai.api.url}")
     private String openaiApiUrl;
 
-    /**
-     * RestTemplate을 매번 새로 생성하여 쿠키 충돌 방지
-     */
-    private RestTemplate createFreshRestTemplate() {
-        CookieStore cookieStore = new BasicCookieStore();
-        HttpClient httpClient = HttpClientBuilder.create()
-                .setDefaultCookieStore(cookieStore)
-                .disableRedirectHandling()
-                .setUserAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/108.0.0.0 Safari/537.36")
-                .build();
-
-        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-        return new RestTemplate(requestFactory);
-    }
+    // true 이면 JSON 스키마(structured output)로 응답 형식을 강제, false 이면 응답 텍스트에서 JSON 추출
+    @Value("${openai.chat.structured-output:true}")
+    private boolean structuredOutput;
+
+    private static final double TEMPERATURE = 0.7;
+    private static final int MAX_TOKENS = 2000;
+
+    // 로드맵 응답 스키마 (모든 요청에 같은 스키마를 사용해야 프롬프트 prefix 캐시가 유지되므로 과목 코드는 응답 후 검증)
+    private static final String ROADMAP_SCHEMA = """
+            {
+              "type": "json_schema",
+              "json_schema": {
+                "name": "roadmap",
+                "strict": true,
+                "schema": {
+                  "type": "object",
+                  "additionalProperties": false,
+                  "required": ["roadMap"],
+                  "properties": {
+                    "roadMap": {
+                      "type": "array",
+                      "items": {
+                        "type": "object",
+                        "additionalProperties": false,
+                        "required": ["recommendYear", "recommendSemester", "courses"],
+                        "properties": {
+                          "recommendYear": {"type": "integer"},
+                          "recommendSemester": {"type": "string", "enum": ["FIRST", "SECOND"]},
+                          "courses": {
+                            "type": "array",
+                            "items": {
+                              "type": "object",
+                              "additionalProperties": false,
+                              "required": ["courseCode", "courseName", "recommendDescription"],
+                              "properties": {
+                                "courseCode": {"type": "string"},
+                                "courseName": {"type": "string"},
+                                "recommendDescription": {"type": "string"}
+                              }
+                            }
+                          }
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            }
+            """;
+    private static final JsonNode ROADMAP_RESPONSE_FORMAT = readJson(ROADMAP_SCHEMA);
+
+    // 프롬프트 템플릿 fingerprint (템플릿이 바뀌면 캐시 키가 바뀜, 최초 사용 시 계산)
+    private volatile String promptVersion;
 
     /**
      * LLM에게 로드맵 추천 요청
@@ -85,13 +142,57 @@ public class LlmRoadmapService {
                     course.get("score"));
             }
 
-            // 프롬프트 생성 (학기 정보 포함)
-            String prompt = buildPrompt(mandatoryCourses, recommendedCourses, techStack, semesterInfo);
+            // 같은 입력(과목 목록, 학기 정보, 기술 스택, 모델, 프롬프트 버전)으로 생성한 응답이 있으면 재사용
+            String cacheKey = cacheKey(mandatoryCourses, recommendedCourses, techStack, semesterInfo);
+            Optional<String> cached = roadmapResponseCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("LLM 로드맵 추천 캐시 적중 - key: {}", cacheKey);
+                return objectMapper.readValue(cached.get(), Map.class);
+            }
+
+            // 프롬프트 생성 (학기 정보 포함, 토큰 예산 적용)
+            RoadmapPromptBuilder.RoadmapPrompt prompt = roadmapPromptBuilder.build(
+                    mandatoryCourses, recommendedCourses, techStack, semesterInfo);
             
-            // OpenAI API 호출
-            Map<String, Object> response = callOpenAI(prompt);
+            // 문제 크기로 모델 선택 후 호출, 후보 과목 기준으로 검증/부분 보정 (작은 모델 결과가 품질 기준 미달이면 큰 모델로 재생성)
+            RoadmapModelRouter.Route route = route(prompt, mandatoryCourses, semesterInfo);
+            LlmRoadmapPlan plan;
+            boolean complete = false;
+            while (true) {
+                RoadmapPlanValidator validator = new RoadmapPlanValidator(mandatoryCourses, recommendedCourses);
+                String issue;
+                try {
+                    ParsedPlan parsed = callOpenAI(prompt, route);
+                    plan = validator.validate(parsed.plan());
+                    complete = parsed.complete();
+                    recordValidation(validator, route);
+                    issue = route.tier() == RoadmapModelRouter.Tier.SMALL
+                            ? roadmapModelRouter.qualityIssue(plan, validator, mandatoryCourses) : null;
+                } catch (RuntimeException e) {
+                    if (route.tier() == RoadmapModelRouter.Tier.LARGE) {
+                        throw e;
+                    }
+                    log.warn("작은 모델 로드맵 생성 실패 - {}", e.getMessage());
+                    issue = "error";
+                    plan = null;
+                }
+                if (issue == null) {
+                    break;
+                }
+                log.warn("작은 모델({}) 결과 품질 기준 미달({}) - 큰 모델로 다시 생성합니다.", route.model(), issue);
+                route = roadmapModelRouter.escalate(issue);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("roadMap", plan.roadMap().stream().map(this::toMap).toList());
+            // 잘린 응답에서 일부 학기만 살린 결과는 캐시하지 않음 (다음 요청에서 다시 생성)
+            if (complete && !plan.roadMap().isEmpty()) {
+                roadmapResponseCache.put(cacheKey, route.model(), objectMapper.writeValueAsString(response));
+            } else {
+                log.warn("불완전한 LLM 로드맵 응답이라 캐시하지 않습니다. - key: {}", cacheKey);
+            }
             
-            log.info("LLM 로드맵 추천 완료");
+            log.info("LLM 로드맵 추천 완료 - model: {} ({})", route.model(), route.reason());
             return response;
 
         } catch (Exception e) {
@@ -101,134 +202,186 @@ public class LlmRoadmapService {
     }
 
     /**
-     * 프롬프트 생성
+     * LLM에게 로드맵 추천을 스트리밍으로 요청
+     * 응답 토큰을 받는 대로 파싱하여 학기 블록이 완성될 때마다 onSemester 로 전달하고, 전체 결과({"roadMap": [...]})를 반환
+     * 캐시에 같은 입력의 응답이 있으면 저장된 학기 블록을 바로 전달
      */
-    private String buildPrompt(List<Map<String, Object>> mandatoryCourses, 
-                              List<Map<String, Object>> recommendedCourses, 
-                              String techStack,
-                              Map<String, Object> semesterInfo) {
-        
-        StringBuilder prompt = new StringBuilder();
-        
-        prompt.append("당신은 한성대학교 컴퓨터공학부 학생들을 위한 최고의 학업 로드맵 설계 AI입니다. ");
-        prompt.append("당신의 임무는 주어진 학생 정보와 추천 과목 목록, 그리고 절대 규칙을 바탕으로, ");
-        prompt.append("학생의 성공적인 미래를 위한 최적의 학기별 수강 계획을 짜주는 것입니다.\n\n");
-        
-        // 학생 학기 정보 추가
+    public Map<String, Object> streamRoadmapRecommendation(
+            String studentId,
+            List<Long> trackIds,
+            List<Map<String, Object>> mandatoryCourses,
+            List<Map<String, Object>> recommendedCourses,
+            String techStack,
+            Map<String, Object> semesterInfo,
+            Consumer<Map<String, Object>> onSemester) {
+
+        try {
+            log.info("LLM 로드맵 스트리밍 추천 요청 시작 - studentId: {}, trackIds: {}, mandatory: {}개, recommended: {}개",
+                    studentId, trackIds, mandatoryCourses.size(), recommendedCourses.size());
+
+            String cacheKey = cacheKey(mandatoryCourses, recommendedCourses, techStack, semesterInfo);
+            Optional<String> cached = roadmapResponseCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("LLM 로드맵 추천 캐시 적중 - key: {}", cacheKey);
+                Map<String, Object> response = objectMapper.readValue(cached.get(), Map.class);
+                List<Map<String, Object>> roadMap = (List<Map<String, Object>>) response.get("roadMap");
+                if (roadMap != null) {
+                    roadMap.forEach(onSemester);
+                }
+                return response;
+            }
+
+            RoadmapPromptBuilder.RoadmapPrompt prompt = roadmapPromptBuilder.build(
+                    mandatoryCourses, recommendedCourses, techStack, semesterInfo);
+            // 학기 블록이 완성될 때마다 후보 과목 기준으로 검증/부분 보정 후 전달
+            // 이미 전달한 학기는 되돌릴 수 없으므로, 작은 모델은 학기를 하나도 전달하기 전에 실패한 경우에만 큰 모델로 재생성
+            RoadmapModelRouter.Route route = route(prompt, mandatoryCourses, semesterInfo);
+            List<Map<String, Object>> roadMap = new ArrayList<>();
+            boolean complete;
+            while (true) {
+                try {
+                    complete = streamPlan(prompt, route, mandatoryCourses, recommendedCourses, semester -> {
+                        roadMap.add(semester);
+                        onSemester.accept(semester);
+                    });
+                    if (!roadMap.isEmpty() || route.tier() == RoadmapModelRouter.Tier.LARGE) {
+                        break;
+                    }
+                    route = roadmapModelRouter.escalate("empty");
+                } catch (RuntimeException e) {
+                    if (!roadMap.isEmpty() || route.tier() == RoadmapModelRouter.Tier.LARGE) {
+                        throw e;
+                    }
+                    log.warn("작은 모델 로드맵 스트리밍 실패 - 큰 모델로 다시 생성합니다. {}", e.getMessage());
+                    route = roadmapModelRouter.escalate("error");
+                }
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("roadMap", roadMap);
+            // 응답이 끝까지 도착해 전체 JSON 으로 닫힌 경우만 캐시 (중간에 끊긴 스트림의 학기 일부는 캐시하지 않음)
+            if (complete && !roadMap.isEmpty()) {
+                roadmapResponseCache.put(cacheKey, route.model(), objectMapper.writeValueAsString(response));
+            } else {
+                log.warn("불완전한 LLM 로드맵 스트리밍 응답이라 캐시하지 않습니다. - key: {}", cacheKey);
+            }
+
+            log.info("LLM 로드맵 스트리밍 추천 완료 - {}개 학기, model: {} ({})", roadMap.size(), route.model(), route.reason());
+            return response;
+
+        } catch (Exception e) {
+            log.error("LLM 로드맵 스트리밍 추천 실패", e);
+            throw new RuntimeException("로드맵 추천 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 프롬프트 입력의 정규화 fingerprint (SHA-256)
+     * 과목은 코드만 정렬하여 사용하므로 목록 순서/유사도 점수가 달라도 같은 키가 됨
+     */
+    private String cacheKey(List<Map<String, Object>> mandatoryCourses,
+                            List<Map<String, Object>> recommendedCourses,
+                            String techStack,
+                            Map<String, Object> semesterInfo) {
+        StringBuilder key = new StringBuilder();
+        key.append("model=").append(roadmapModelRouter.fingerprint()).append('\n');
+        key.append("prompt=").append(promptVersion()).append('\n');
+        key.append("mandatory=").append(sortedCourseCodes(mandatoryCourses)).append('\n');
+        key.append("recommended=").append(sortedCourseCodes(recommendedCourses)).append('\n');
         if (semesterInfo != null) {
-            int latestYear = (Integer) semesterInfo.get("latestCompletedYear");
-            String latestSemester = (String) semesterInfo.get("latestCompletedSemester");
-            boolean hasCurrentEnrollment = (Boolean) semesterInfo.get("hasCurrentEnrollment");
-            int nextYear = (Integer) semesterInfo.get("nextYear");
-            String nextSemester = (String) semesterInfo.get("nextSemester");
-            
-            prompt.append("**학생 학기 정보:**\n");
-            prompt.append(String.format("- 최신 이수 학기: %d학년 %s학기\n", latestYear, latestSemester));
-            prompt.append(String.format("- 현재 수강중: %s\n", hasCurrentEnrollment ? "예" : "아니오"));
-            prompt.append(String.format("- 추천 시작 학기: %d학년 %s학기부터\n\n", nextYear, nextSemester));
+            key.append("semester=")
+                    .append(semesterInfo.get("latestCompletedYear")).append('|')
+                    .append(semesterInfo.get("latestCompletedSemester")).append('|')
+                    .append(semesterInfo.get("hasCurrentEnrollment")).append('|')
+                    .append(semesterInfo.get("nextYear")).append('|')
+                    .append(semesterInfo.get("nextSemester")).append('\n');
         }
-        
-        prompt.append("아래 목록의 과목들을 활용하여 로드맵을 구성하세요. ");
-        prompt.append("목록은 '필수 과목'과 '추천 과목'으로 나뉩니다.\n\n");
-        
-        // 1. 필수 과목 목록
-        prompt.append("1. 필수 과목 목록 (반드시 로드맵에 포함되어야 함)\n");
-        if (mandatoryCourses.isEmpty()) {
-            prompt.append("없음\n");
-        } else {
-            for (Map<String, Object> course : mandatoryCourses) {
-                prompt.append(String.format("- %s (%s): %s - %s [개설: %d학년 %s학기]\n", 
-                    course.get("courseName") != null ? course.get("courseName") : "N/A", 
-                    course.get("courseCode") != null ? course.get("courseCode") : "N/A",
-                    course.get("courseType") != null ? course.get("courseType") : "N/A",
-                    course.get("description") != null ? course.get("description") : "N/A",
-                    course.get("openGrade") != null ? course.get("openGrade") : "N/A",
-                    course.get("openSemester") != null ? course.get("openSemester") : "N/A"));
-            }
+        key.append("techStack=").append(normalizeTechStack(techStack));
+        return sha256(key.toString());
+    }
+
+    private static List<String> sortedCourseCodes(List<Map<String, Object>> courses) {
+        return courses.stream()
+                .map(course -> Objects.toString(course.get("courseCode"), ""))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 기술 스택 정규화: 유니코드 NFC + 소문자 + 공백 정리
+     */
+    private static String normalizeTechStack(String techStack) {
+        if (techStack == null) {
+            return "";
         }
-        
-        prompt.append("\n");
-        
-        // 2. 추천 과목 목록
-        prompt.append("2. 추천 과목 목록 (학생의 선호도에 따라 선택적으로 포함)\n");
-        if (techStack != null && !techStack.trim().isEmpty()) {
-            prompt.append(String.format("학생의 관심 기술 스택: %s\n", techStack));
+        return Normalizer.normalize(techStack, Normalizer.Form.NFC).trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 프롬프트 템플릿 버전: 모든 필드를 채운 예시 입력으로 만든 프롬프트와 요청 파라미터의 해시
+     * 템플릿 문구/형식이 바뀌면 자동으로 값이 바뀌어 예전 캐시를 사용하지 않음
+     */
+    private String promptVersion() {
+        String version = promptVersion;
+        if (version == null) {
+            Map<String, Object> sampleCourse = new HashMap<>();
+            sampleCourse.put("courseName", "courseName");
+            sampleCourse.put("courseCode", "courseCode");
+            sampleCourse.put("courseType", "courseType");
+            sampleCourse.put("description", "description");
+            sampleCourse.put("tracks", List.of("track"));
+            sampleCourse.put("openGrade", 1);
+            sampleCourse.put("openSemester", "FIRST");
+            sampleCourse.put("score", 1.0);
+
+            Map<String, Object> sampleSemester = new HashMap<>();
+            sampleSemester.put("latestCompletedYear", 1);
+            sampleSemester.put("latestCompletedSemester", "FIRST");
+            sampleSemester.put("hasCurrentEnrollment", true);
+            sampleSemester.put("nextYear", 1);
+            sampleSemester.put("nextSemester", "SECOND");
+
+            RoadmapPromptBuilder.RoadmapPrompt samplePrompt = roadmapPromptBuilder.build(
+                    List.of(sampleCourse), List.of(sampleCourse), "techStack", sampleSemester);
+            String template = samplePrompt.system() + "|" + samplePrompt.user()
+                    + "|temperature=" + TEMPERATURE + "|max_tokens=" + MAX_TOKENS
+                    + "|structuredOutput=" + structuredOutput + (structuredOutput ? "|" + ROADMAP_SCHEMA : "");
+            version = sha256(template).substring(0, 16);
+            promptVersion = version;
+            log.info("LLM 프롬프트 버전: {}", version);
         }
-        
-        if (recommendedCourses.isEmpty()) {
-            prompt.append("없음\n");
-        } else {
-            for (Map<String, Object> course : recommendedCourses) {
-                // score 값 안전하게 처리
-                Object scoreObj = course.get("score");
-                String scoreStr = "N/A";
-                if (scoreObj instanceof Number) {
-                    scoreStr = String.format("%.3f", ((Number) scoreObj).doubleValue());
-                } else if (scoreObj != null) {
-                    scoreStr = scoreObj.toString();
-                }
-                
-                prompt.append(String.format("- %s (%s): %s - %s [개설: %d학년 %s학기] (유사도: %s)\n", 
-                    course.get("courseName") != null ? course.get("courseName") : "N/A", 
-                    course.get("courseCode") != null ? course.get("courseCode") : "N/A",
-                    course.get("description") != null ? course.get("description") : "N/A",
-                    course.get("tracks") != null ? course.get("tracks") : "N/A",
-                    course.get("openGrade") != null ? course.get("openGrade") : "N/A",
-                    course.get("openSemester") != null ? course.get("openSemester") : "N/A",
-                    scoreStr));
-            }
+        return version;
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
-        
-        prompt.append("\n");
-        
-        // 3. JSON 형식 요구사항
-        prompt.append("결과는 반드시 아래와 같은 JSON 형식으로만 응답해야 합니다. ");
-        prompt.append("roadMap 배열 안에는 학기별로 추천 과목을 그룹화하고, ");
-        prompt.append("각 과목에는 추천 이유(recommendDescription)를 반드시 포함해야 합니다.\n");
-        prompt.append("**중요 규칙:**\n");
-        prompt.append("1. 추천 시작 학기부터 순차적으로 로드맵을 구성하세요.\n");
-        prompt.append("2. 각 과목은 해당 과목의 개설 학년/학기에만 추천할 수 있습니다.\n");
-        prompt.append("3. 예: 3학년 2학기 과목은 3학년 2학기에만 추천 가능합니다.\n");
-        prompt.append("4. 캡스톤 과목은 하나만 추천하세요.\n");
-        prompt.append("5. (ipp)과목은 추천하지 마세요.\n\n");
-        
-        prompt.append("{\n");
-        prompt.append("  \"roadMap\": [\n");
-        prompt.append("    {\n");
-        prompt.append("      \"recommendYear\": 4,\n");
-        prompt.append("      \"recommendSemester\": \"SECOND\",\n");
-        prompt.append("      \"courses\": [\n");
-        prompt.append("        {\n");
-        prompt.append("          \"courseCode\": \"과목코드\",\n");
-        prompt.append("          \"courseName\": \"과목이름\",\n");
-        prompt.append("          \"recommendDescription\": \"추천이유\"\n");
-        prompt.append("        },\n");
-        prompt.append("        {\n");
-        prompt.append("          \"courseCode\": \"과목코드\",\n");
-        prompt.append("          \"courseName\": \"과목이름\",\n");
-        prompt.append("          \"recommendDescription\": \"추천이유\"\n");
-        prompt.append("        }\n");
-        prompt.append("      ]\n");
-        prompt.append("    }\n");
-        prompt.append("  ]\n");
-        prompt.append("}\n");
-        
-        return prompt.toString();
+    }
+
+    /**
+     * 파싱한 LLM 로드맵과 응답 완결 여부 (잘린 응답에서 완성된 학기 블록만 살린 경우 complete=false, 캐시하지 않음)
+     */
+    private record ParsedPlan(LlmRoadmapPlan plan, boolean complete) {
     }
 
     /**
      * OpenAI API 호출
      */
-    private Map<String, Object> callOpenAI(String prompt) throws Exception {
+    private ParsedPlan callOpenAI(RoadmapPromptBuilder.RoadmapPrompt prompt, RoadmapModelRouter.Route route) {
         String url = openaiApiUrl + "/v1/chat/completions";
         
         Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-4o");
-        requestBody.put("messages", List.of(
-            Map.of("role", "user", "content", prompt)
-        ));
-        requestBody.put("temperature", 0.7);
-        requestBody.put("max_tokens", 2000);
+        requestBody.put("model", route.model());
+        requestBody.put("messages", messages(prompt));
+        requestBody.put("temperature", TEMPERATURE);
+        requestBody.put("max_tokens", MAX_TOKENS);
+        if (structuredOutput) {
+            requestBody.put("response_format", ROADMAP_RESPONSE_FORMAT);
+        }
         
         HttpHeaders headers = new HttpHeaders();
         headers.set("Content-Type", "application/json");
@@ -236,34 +389,280 @@ public class LlmRoadmapService {
         
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
         
-        log.info("OpenAI API 호출 시작");
-        RestTemplate restTemplate = createFreshRestTemplate();
-        ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+        log.info("OpenAI API 호출 시작 - model: {} ({})", route.model(), route.reason());
+        long startedAt = System.nanoTime();
+        ResponseEntity<Map> response;
+        try {
+            response = outboundHttpClients.openAi().exchange(url, HttpMethod.POST, entity, Map.class);
+        } catch (RuntimeException e) {
+            roadmapModelRouter.recordCall(route, System.nanoTime() - startedAt, "error");
+            throw e;
+        }
+        roadmapModelRouter.recordCall(route, System.nanoTime() - startedAt,
+                response.getStatusCode().is2xxSuccessful() ? "success" : "error");
         
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             Map<String, Object> responseBody = response.getBody();
+            recordTokenUsage(prompt, route, objectMapper.valueToTree(responseBody.get("usage")));
             List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
             
             if (choices != null && !choices.isEmpty()) {
                 Map<String, Object> choice = choices.get(0);
                 Map<String, Object> message = (Map<String, Object>) choice.get("message");
+                if (message.get("refusal") != null) {
+                    throw new RuntimeException("LLM이 로드맵 생성을 거부했습니다: " + message.get("refusal"));
+                }
                 String content = (String) message.get("content");
                 
-                log.info("OpenAI API 응답 성공");
+                log.info("OpenAI API 응답 성공 - finish_reason: {}", choice.get("finish_reason"));
                 log.info("LLM 응답 내용: {}", content);
                 
-                // JSON 추출 (마크다운 코드 블록에서 JSON 부분만 추출)
-                String jsonContent = extractJsonFromContent(content);
-                log.info("추출된 JSON: {}", jsonContent);
-                
-                // JSON 파싱
-                return objectMapper.readValue(jsonContent, Map.class);
+                // max_tokens 에 걸려 끊긴 응답은 파싱되더라도 완전한 결과로 보지 않음
+                ParsedPlan parsed = parsePlan(content);
+                return "length".equals(choice.get("finish_reason")) ? new ParsedPlan(parsed.plan(), false) : parsed;
             }
         }
         
         throw new RuntimeException("OpenAI API 호출 실패: " + response.getStatusCode());
     }
 
+    /**
+     * OpenAI API 스트리밍 호출 (stream=true, SSE 형식의 "data: {...}" 줄마다 토큰 조각을 parser 로 전달)
+     */
+    private void callOpenAIStreaming(RoadmapPromptBuilder.RoadmapPrompt prompt, RoadmapModelRouter.Route route,
+                                     RoadmapStreamParser parser) {
+        String url = openaiApiUrl + "/v1/chat/completions";
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", route.model());
+        requestBody.put("messages", messages(prompt));
+        requestBody.put("temperature", TEMPERATURE);
+        requestBody.put("max_tokens", MAX_TOKENS);
+        requestBody.put("stream", true);
+        if (structuredOutput) {
+            requestBody.put("response_format", ROADMAP_RESPONSE_FORMAT);
+        }
+        // 마지막 청크에 토큰 사용량 포함
+        requestBody.put("stream_options", Map.of("include_usage", true));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+        headers.set("Authorization", "Bearer " + openaiApiKey);
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+
+        log.info("OpenAI API 스트리밍 호출 시작 - model: {} ({})", route.model(), route.reason());
+        long startedAt = System.currentTimeMillis();
+        long startedNanos = System.nanoTime();
+        try {
+            outboundHttpClients.openAi().execute(url, HttpMethod.POST,
+                    outboundHttpClients.openAi().httpEntityCallback(entity),
+                    response -> {
+                        try (BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                            boolean firstToken = true;
+                            String line;
+                            while ((line = reader.readLine()) != null) {
+                                if (!line.startsWith("data:")) {
+                                    continue;
+                                }
+                                String data = line.substring(5).trim();
+                                if ("[DONE]".equals(data)) {
+                                    break;
+                                }
+                                JsonNode chunk = objectMapper.readTree(data);
+                                if (chunk.path("usage").isObject()) {
+                                    recordTokenUsage(prompt, route, chunk.get("usage"));
+                                }
+                                JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+                                if (content.isTextual()) {
+                                    if (firstToken) {
+                                        log.info("OpenAI 첫 토큰 수신 - {}ms", System.currentTimeMillis() - startedAt);
+                                        firstToken = false;
+                                    }
+                                    parser.accept(content.asText());
+                                }
+                            }
+                        }
+                        return null;
+                    });
+        } catch (RuntimeException e) {
+            roadmapModelRouter.recordCall(route, System.nanoTime() - startedNanos, "error");
+            throw e;
+        }
+        roadmapModelRouter.recordCall(route, System.nanoTime() - startedNanos, "success");
+        log.info("OpenAI API 스트리밍 응답 완료 - {}ms", System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 문제 크기(남은 학기 수, 후보 과목 수, 프롬프트 추정 토큰 수)로 모델 선택
+     */
+    private RoadmapModelRouter.Route route(RoadmapPromptBuilder.RoadmapPrompt prompt,
+                                           List<Map<String, Object>> mandatoryCourses,
+                                           Map<String, Object> semesterInfo) {
+        RoadmapModelRouter.Route route = roadmapModelRouter.route(remainingSemesters(semesterInfo),
+                mandatoryCourses.size() + prompt.recommendedIncluded(), prompt.estimatedTokens());
+        log.info("로드맵 생성 모델 선택 - {} {} ({})", route.tier(), route.model(), route.reason());
+        return route;
+    }
+
+    /**
+     * 추천 시작 학기부터 4학년 2학기까지 남은 학기 수
+     */
+    private static int remainingSemesters(Map<String, Object> semesterInfo) {
+        if (semesterInfo == null || !(semesterInfo.get("nextYear") instanceof Integer nextYear)) {
+            return 8;
+        }
+        int startSlot = (Math.max(nextYear, 1) - 1) * 2 + ("SECOND".equals(semesterInfo.get("nextSemester")) ? 1 : 0);
+        return Math.max(0, 8 - startSlot);
+    }
+
+    /**
+     * 스트리밍 호출 1회: 학기 블록이 완성될 때마다 검증/부분 보정 후 onSemester 로 전달
+     * 응답이 완전한 JSON 으로 끝났으면 true (중간에 잘렸으면 false)
+     */
+    private boolean streamPlan(RoadmapPromptBuilder.RoadmapPrompt prompt, RoadmapModelRouter.Route route,
+                            List<Map<String, Object>> mandatoryCourses, List<Map<String, Object>> recommendedCourses,
+                            Consumer<Map<String, Object>> onSemester) {
+        RoadmapPlanValidator validator = new RoadmapPlanValidator(mandatoryCourses, recommendedCourses);
+        Consumer<LlmRoadmapPlan.Semester> emit = semester -> onSemester.accept(toMap(validator.validate(semester)));
+        RoadmapStreamParser parser = new RoadmapStreamParser(objectMapper, semester -> emit.accept(toSemester(semester)));
+        callOpenAIStreaming(prompt, route, parser);
+
+        boolean complete = parser.isComplete();
+        if (parser.semesters().isEmpty()) {
+            // 학기 블록을 하나도 찾지 못한 경우 (형식이 다른 응답) 전체 텍스트에서 JSON 추출 시도
+            log.warn("스트리밍 응답에서 학기 블록을 찾지 못해 전체 응답을 파싱합니다.");
+            ParsedPlan parsed = parsePlan(parser.content());
+            if (parsed.plan().roadMap() != null) {
+                parsed.plan().roadMap().forEach(emit);
+            }
+            complete = parsed.complete();
+        }
+        recordValidation(validator, route);
+        return complete;
+    }
+
+    /**
+     * 응답 내용을 로드맵 응답 형식으로 변환
+     * structured output 이면 그대로, 아니면 마크다운 코드 블록 등에서 JSON 부분만 추출하여 파싱
+     * max_tokens 초과 등으로 응답이 잘린 경우 완성된 학기 블록만 사용 (하나도 없으면 실패)
+     */
+    private ParsedPlan parsePlan(String content) {
+        if (content == null || content.isBlank()) {
+            throw new RuntimeException("LLM 응답이 비어있습니다.");
+        }
+        try {
+            String json = structuredOutput ? content : extractJsonFromContent(content);
+            LlmRoadmapPlan plan = objectMapper.readValue(json, LlmRoadmapPlan.class);
+            return new ParsedPlan(plan, plan.roadMap() != null);
+        } catch (Exception e) {
+            RoadmapStreamParser salvage = new RoadmapStreamParser(objectMapper, semester -> { });
+            salvage.accept(content);
+            if (salvage.semesters().isEmpty()) {
+                throw new RuntimeException("LLM 응답을 로드맵 형식으로 해석할 수 없습니다. 응답: " + content, e);
+            }
+            log.warn("LLM 응답이 완전한 JSON 이 아니어서 완성된 학기 블록 {}개만 사용합니다.", salvage.semesters().size());
+            return new ParsedPlan(new LlmRoadmapPlan(salvage.semesters().stream().map(this::toSemester).toList()), false);
+        }
+    }
+
+    private LlmRoadmapPlan.Semester toSemester(Map<String, Object> semester) {
+        return objectMapper.convertValue(semester, LlmRoadmapPlan.Semester.class);
+    }
+
+    private Map<String, Object> toMap(LlmRoadmapPlan.Semester semester) {
+        return objectMapper.convertValue(semester, Map.class);
+    }
+
+    /**
+     * 과목 검증 결과 기록 (그대로 사용 / 보정 / 제외 건수)
+     */
+    private void recordValidation(RoadmapPlanValidator validator, RoadmapModelRouter.Route route) {
+        validationCounter(route, "valid").increment(validator.validCount());
+        validationCounter(route, "repaired").increment(validator.repairedCount());
+        validationCounter(route, "dropped").increment(validator.droppedCount());
+        if (!validator.repairs().isEmpty()) {
+            log.info("LLM 로드맵 과목 보정 {}건: {}", validator.repairs().size(), validator.repairs());
+        }
+    }
+
+    private Counter validationCounter(RoadmapModelRouter.Route route, String result) {
+        return Counter.builder("roadmap.llm.entries")
+                .description("LLM 로드맵 응답 과목 검증 결과")
+                .tag("tier", route.tier().name())
+                .tag("model", route.model())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static JsonNode readJson(String json) {
+        try {
+            return new ObjectMapper().readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("JSON 상수를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 요청 메시지: 고정 지시문(system)을 먼저, 학생별 입력(user)을 뒤에 두어 prefix 캐시 적용
+     */
+    private static List<Map<String, Object>> messages(RoadmapPromptBuilder.RoadmapPrompt prompt) {
+        return List.of(
+            Map.of("role", "system", "content", prompt.system()),
+            Map.of("role", "user", "content", prompt.user())
+        );
+    }
+
+    /**
+     * 응답 usage 기록 (프롬프트/응답/캐시 적중 토큰 수, 로컬 추정치 대비 실제 비율)
+     */
+    private void recordTokenUsage(RoadmapPromptBuilder.RoadmapPrompt prompt, RoadmapModelRouter.Route route, JsonNode usage) {
+        if (usage == null || !usage.isObject()) {
+            return;
+        }
+        long promptTokens = usage.path("prompt_tokens").asLong();
+        long completionTokens = usage.path("completion_tokens").asLong();
+        long cachedTokens = usage.path("prompt_tokens_details").path("cached_tokens").asLong();
+
+        tokenCounter(route, "prompt").increment(promptTokens);
+        tokenCounter(route, "completion").increment(completionTokens);
+        tokenCounter(route, "cached").increment(cachedTokens);
+        roadmapModelRouter.recordCost(route, promptTokens, cachedTokens, completionTokens);
+        DistributionSummary.builder("roadmap.llm.prompt.tokens.estimated")
+                .description("로컬 추정 프롬프트 토큰 수")
+                .tag("model", route.model())
+                .register(meterRegistry)
+                .record(prompt.estimatedTokens());
+        if (prompt.estimatedTokens() > 0 && promptTokens > 0) {
+            DistributionSummary.builder("roadmap.llm.prompt.tokens.estimate.ratio")
+                    .description("실제 프롬프트 토큰 수 / 로컬 추정치")
+                    .tag("model", route.model())
+                    .register(meterRegistry)
+                    .record((double) promptTokens / prompt.estimatedTokens());
+        }
+        if (prompt.trimmed()) {
+            Counter.builder("roadmap.llm.prompt.trimmed")
+                    .description("토큰 예산 때문에 추천 과목을 제외한 프롬프트 수")
+                    .tag("model", route.model())
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        log.info("LLM 토큰 사용량 - model: {}, prompt: {} (추정 {}, 캐시 {}), completion: {}",
+                route.model(), promptTokens, prompt.estimatedTokens(), cachedTokens, completionTokens);
+    }
+
+    private Counter tokenCounter(RoadmapModelRouter.Route route, String type) {
+        return Counter.builder("roadmap.llm.tokens")
+                .description("LLM 로드맵 요청 토큰 사용량")
+                .tag("tier", route.tier().name())
+                .tag("model", route.model())
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
     /**
      * LLM 응답에서 JSON 부분만 추출
      */
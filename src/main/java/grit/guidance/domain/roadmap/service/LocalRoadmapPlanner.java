@@ -0,0 +1,401 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.service.CourseCatalog;
+import grit.guidance.domain.course.service.PrerequisiteGraph;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 규칙 기반 로드맵 배치기
+ * - 필수/추천 과목을 개설 학년/학기에만 배치 (추천 시작 학기 이전, 4학년 2학기 이후는 제외)
+ * - 목록 안의 (간접 포함) 선수과목보다 늦거나 같은 학기에 개설되는 추천 과목 제외
+ * - 학기별 최대 학점, 캡스톤 1개, (IPP) 과목 제외
+ * - LLM 없이 바로 로드맵 생성 (OpenAI 장애/지연 시 대체 경로) 하거나, LLM 응답을 검증/보정하는 데 사용
+ */
+@Slf4j
+@Component
+public class LocalRoadmapPlanner {
+
+    // 4학년 2학기까지 배치
+    private static final int LAST_SLOT = slotOf(4, "SECOND");
+
+    private final CourseCatalog courseCatalog;
+    private final int maxCreditsPerSemester;
+    private final boolean localMode;
+
+    public LocalRoadmapPlanner(CourseCatalog courseCatalog,
+                               @Value("${roadmap.planner.max-credits-per-semester:18}") int maxCreditsPerSemester,
+                               @Value("${roadmap.planner.mode:llm}") String mode) {
+        this.courseCatalog = courseCatalog;
+        this.maxCreditsPerSemester = maxCreditsPerSemester;
+        this.localMode = "local".equalsIgnoreCase(mode.trim());
+        log.info("로드맵 배치기 초기화 - mode: {}, maxCreditsPerSemester: {}", mode, maxCreditsPerSemester);
+    }
+
+    /**
+     * LLM 없이 규칙 기반 배치만 사용하는지 여부 (roadmap.planner.mode=local)
+     */
+    public boolean isLocalMode() {
+        return localMode;
+    }
+
+    /**
+     * 규칙 기반 로드맵 생성 (필수 과목 → 추천 과목(유사도 순) 순서로 배치)
+     */
+    public List<Map<String, Object>> plan(List<Map<String, Object>> mandatoryCourses,
+                                          List<Map<String, Object>> recommendedCourses,
+                                          Map<String, Object> semesterInfo) {
+        Session session = newSession(mandatoryCourses, recommendedCourses, semesterInfo);
+        for (Map<String, Object> course : mandatoryCourses) {
+            session.offer((String) course.get("courseCode"), null, null);
+        }
+        for (Map<String, Object> course : recommendedCourses) {
+            session.offer((String) course.get("courseCode"), null, null);
+        }
+        List<Map<String, Object>> roadMap = session.finish();
+        log.info("규칙 기반 로드맵 생성 완료 - {}개 학기", roadMap.size());
+        return roadMap;
+    }
+
+    /**
+     * LLM 로드맵 검증/보정
+     * 목록에 없는 과목, (IPP), 중복, 지난 학기, 두 번째 캡스톤 제외 / 잘못된 학기는 개설 학기로 이동 / 빠진 필수 과목 추가
+     */
+    public List<Map<String, Object>> repair(List<Map<String, Object>> roadMap,
+                                            List<Map<String, Object>> mandatoryCourses,
+                                            List<Map<String, Object>> recommendedCourses,
+                                            Map<String, Object> semesterInfo) {
+        Session session = newSession(mandatoryCourses, recommendedCourses, semesterInfo);
+        if (roadMap != null) {
+            for (Map<String, Object> semester : roadMap) {
+                session.offerCourses(semester);
+            }
+        }
+        List<Map<String, Object>> repaired = session.finish();
+        if (!session.repairs().isEmpty()) {
+            log.info("LLM 로드맵 보정 {}건: {}", session.repairs().size(), session.repairs());
+        }
+        return repaired;
+    }
+
+    /**
+     * 학기 블록 단위로 검증/보정하는 세션 (스트리밍 응답용, 요청 하나에서만 사용)
+     */
+    public Session newSession(List<Map<String, Object>> mandatoryCourses,
+                              List<Map<String, Object>> recommendedCourses,
+                              Map<String, Object> semesterInfo) {
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+        for (Map<String, Object> course : mandatoryCourses) {
+            Candidate candidate = Candidate.of(course, true);
+            if (candidate != null) {
+                candidates.putIfAbsent(candidate.courseCode(), candidate);
+            }
+        }
+        for (Map<String, Object> course : recommendedCourses) {
+            Candidate candidate = Candidate.of(course, false);
+            if (candidate != null) {
+                candidates.putIfAbsent(candidate.courseCode(), candidate);
+            }
+        }
+
+        Integer nextYear = semesterInfo != null ? (Integer) semesterInfo.get("nextYear") : null;
+        String nextSemester = semesterInfo != null ? (String) semesterInfo.get("nextSemester") : null;
+        int startSlot = nextYear != null ? slotOf(nextYear, nextSemester) : 0;
+
+        return new Session(candidates, courseCatalog.snapshot().prerequisiteGraph(), startSlot, maxCreditsPerSemester);
+    }
+
+    // 학년/학기 → 0부터 시작하는 학기 순번 (1학년 1학기 = 0)
+    private static int slotOf(int grade, String semester) {
+        return (grade - 1) * 2 + ("SECOND".equals(semester) ? 1 : 0);
+    }
+
+    private record Candidate(Long courseId, String courseCode, String courseName, int credits, int slot,
+                             boolean mandatory, String reason) {
+
+        static Candidate of(Map<String, Object> course, boolean mandatory) {
+            Object code = course.get("courseCode");
+            Object openGrade = course.get("openGrade");
+            Object openSemester = course.get("openSemester");
+            if (code == null || !(openGrade instanceof Number grade) || openSemester == null) {
+                return null;
+            }
+            Long courseId = course.get("courseId") instanceof Number id ? id.longValue() : null;
+            int credits = course.get("credits") instanceof Number c ? c.intValue() : 3;
+            String courseName = String.valueOf(course.get("courseName"));
+            return new Candidate(courseId, code.toString(), courseName, credits,
+                    slotOf(grade.intValue(), openSemester.toString()), mandatory, reasonOf(course, mandatory));
+        }
+
+        private static String reasonOf(Map<String, Object> course, boolean mandatory) {
+            if (mandatory) {
+                Object courseType = course.get("courseType");
+                String type = courseType instanceof CourseType t ? t.getDescription()
+                        : courseType != null ? courseType.toString() : "필수";
+                return String.format("%s %s 과목으로 졸업을 위해 이수해야 합니다.",
+                        course.getOrDefault("trackName", ""), type).trim();
+            }
+            return String.format("관심 분야와 관련성이 높은 과목입니다. (트랙: %s)", course.getOrDefault("tracks", "-"));
+        }
+
+        boolean isCapstone() {
+            return courseName.contains("캡스톤");
+        }
+
+        boolean isIpp() {
+            return courseName.toUpperCase(Locale.ROOT).contains("(IPP)");
+        }
+    }
+
+    private static final class Placed {
+        final Candidate candidate;
+        final String description;
+        boolean emitted;
+
+        Placed(Candidate candidate, String description) {
+            this.candidate = candidate;
+            this.description = description;
+        }
+    }
+
+    public static final class Session {
+
+        private final Map<String, Candidate> candidates;
+        private final Map<Long, Candidate> candidatesById = new HashMap<>();
+        private final PrerequisiteGraph prerequisiteGraph;
+        private final int startSlot;
+        private final int maxCredits;
+
+        private final TreeMap<Integer, List<Placed>> slots = new TreeMap<>();
+        private final Set<String> placedCodes = new HashSet<>();
+        private final List<String> repairs = new ArrayList<>();
+        private boolean capstonePlaced;
+        // 이미 학기 블록으로 내보낸 마지막 학기 순번 (이 학기까지는 새 과목을 배치하지 않음)
+        private int drainedSlot;
+
+        private Session(Map<String, Candidate> candidates, PrerequisiteGraph prerequisiteGraph,
+                        int startSlot, int maxCredits) {
+            this.candidates = candidates;
+            this.prerequisiteGraph = prerequisiteGraph;
+            this.startSlot = startSlot;
+            this.maxCredits = maxCredits;
+            this.drainedSlot = startSlot - 1;
+            for (Candidate candidate : candidates.values()) {
+                if (candidate.courseId() != null) {
+                    candidatesById.put(candidate.courseId(), candidate);
+                }
+            }
+        }
+
+        /**
+         * LLM 학기 블록 하나 검증 후, 이 학기까지 확정된(아직 내보내지 않은) 학기 블록 반환
+         * 학기를 알 수 없는 블록은 과목만 배치하고 아무것도 내보내지 않음 (다음 블록이나 finish() 에서 내보냄)
+         */
+        public List<Map<String, Object>> offerSemester(Map<String, Object> semester) {
+            Integer declaredSlot = offerCourses(semester);
+            return declaredSlot != null ? drain(declaredSlot) : List.of();
+        }
+
+        /**
+         * LLM 학기 블록의 과목을 모두 배치 시도 후 LLM 이 지정한 학기 순번 반환
+         */
+        private Integer offerCourses(Map<String, Object> semester) {
+            Object year = semester.get("recommendYear");
+            Object semesterName = semester.get("recommendSemester");
+            Integer declaredSlot = year instanceof Number y && semesterName != null
+                    ? slotOf(y.intValue(), semesterName.toString()) : null;
+
+            Object courses = semester.get("courses");
+            if (courses instanceof List<?> list) {
+                for (Object item : list) {
+                    if (item instanceof Map<?, ?> course) {
+                        Object code = course.get("courseCode");
+                        Object description = course.get("recommendDescription");
+                        offer(code != null ? code.toString() : null,
+                                description != null ? description.toString() : null, declaredSlot);
+                    }
+                }
+            }
+            return declaredSlot;
+        }
+
+        /**
+         * 과목 하나 배치 시도 (배치되면 true)
+         *
+         * @param declaredSlot LLM 이 배치한 학기 (null 이면 개설 학기에 배치)
+         */
+        boolean offer(String courseCode, String description, Integer declaredSlot) {
+            Candidate candidate = courseCode != null ? candidates.get(courseCode) : null;
+            if (candidate == null) {
+                repairs.add("목록에 없는 과목 제외: " + courseCode);
+                return false;
+            }
+            if (candidate.isIpp()) {
+                repairs.add("(IPP) 과목 제외: " + courseCode);
+                return false;
+            }
+            if (placedCodes.contains(courseCode)) {
+                repairs.add("중복 과목 제외: " + courseCode);
+                return false;
+            }
+            int slot = candidate.slot();
+            if (slot < startSlot || slot > LAST_SLOT) {
+                repairs.add("남은 학기에 개설되지 않는 과목 제외: " + courseCode);
+                return false;
+            }
+            if (slot <= drainedSlot) {
+                // 개설 학기 블록을 이미 내보냈으므로 같은 학기 블록을 다시 만들지 않음
+                repairs.add("이미 전달한 학기에 개설되는 과목 제외: " + courseCode);
+                return false;
+            }
+            if (candidate.isCapstone() && capstonePlaced && !candidate.mandatory()) {
+                repairs.add("두 번째 캡스톤 과목 제외: " + courseCode);
+                return false;
+            }
+            if (!candidate.mandatory() && violatesPrerequisiteOrder(candidate)) {
+                repairs.add("선수과목보다 먼저/함께 개설되는 과목 제외: " + courseCode);
+                return false;
+            }
+            if (declaredSlot != null && declaredSlot != slot) {
+                repairs.add("개설 학기로 이동: " + courseCode);
+            }
+
+            capstonePlaced |= candidate.isCapstone();
+            placedCodes.add(courseCode);
+            slots.computeIfAbsent(slot, k -> new ArrayList<>())
+                    .add(new Placed(candidate, description != null && !description.isBlank() ? description : candidate.reason()));
+            return true;
+        }
+
+        // 목록 안의 (간접 포함) 선수과목이 같거나 늦은 학기에 개설되면 순서를 지킬 수 없음
+        private boolean violatesPrerequisiteOrder(Candidate candidate) {
+            if (candidate.courseId() == null) {
+                return false;
+            }
+            for (Long prerequisiteId : prerequisiteGraph.allPrerequisiteIds(candidate.courseId())) {
+                Candidate prerequisite = candidatesById.get(prerequisiteId);
+                if (prerequisite != null && !prerequisite.isIpp() && prerequisite.slot() >= candidate.slot()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 빠진 필수 과목을 추가하고 남은 학기 블록 전체 반환
+         * (남은 학기에 개설되지 않는 필수 과목은 여기서 한 번만 제외 사유를 기록)
+         */
+        public List<Map<String, Object>> finish() {
+            for (Candidate candidate : candidates.values()) {
+                if (candidate.mandatory() && !placedCodes.contains(candidate.courseCode())
+                        && offer(candidate.courseCode(), null, null)) {
+                    repairs.add("빠진 필수 과목 추가: " + candidate.courseCode());
+                }
+            }
+            return drain(LAST_SLOT);
+        }
+
+        /**
+         * LLM 스트림이 중간에 끊겼을 때 남은 학기를 규칙 기반으로 채워 남은 학기 블록 전체 반환
+         * 아직 내보내지 않은 학기에 개설되는 후보를 plan() 과 같은 순서(필수 → 추천)로 배치하므로 잘린 로드맵을 남기지 않음
+         */
+        public List<Map<String, Object>> finishLocally() {
+            for (Candidate candidate : candidates.values()) {
+                if (!candidate.isIpp() && candidate.slot() > drainedSlot
+                        && !placedCodes.contains(candidate.courseCode())) {
+                    offer(candidate.courseCode(), null, null);
+                }
+            }
+            return finish();
+        }
+
+        /**
+         * uptoSlot 까지의 학기 중 아직 내보내지 않은 과목을 학기 블록으로 반환
+         * 학기 학점이 최대 학점을 넘으면 내보내지 않은 추천 과목을 뒤에서부터 제외 (필수 과목은 유지)
+         */
+        private List<Map<String, Object>> drain(int uptoSlot) {
+            placeMissingMandatory(uptoSlot);
+            List<Map<String, Object>> blocks = new ArrayList<>();
+            for (Map.Entry<Integer, List<Placed>> entry : slots.headMap(uptoSlot, true).entrySet()) {
+                List<Placed> placed = entry.getValue();
+                int credits = placed.stream().mapToInt(p -> p.candidate.credits()).sum();
+                for (int i = placed.size() - 1; i >= 0 && credits > maxCredits; i--) {
+                    Placed p = placed.get(i);
+                    if (!p.emitted && !p.candidate.mandatory()) {
+                        placed.remove(i);
+                        placedCodes.remove(p.candidate.courseCode());
+                        credits -= p.candidate.credits();
+                        repairs.add("학기 최대 학점 초과로 제외: " + p.candidate.courseCode());
+                        if (p.candidate.isCapstone()) {
+                            capstonePlaced = isAnyCapstonePlaced();
+                        }
+                    }
+                }
+
+                List<Map<String, Object>> courses = new ArrayList<>();
+                for (Placed p : placed) {
+                    if (!p.emitted) {
+                        p.emitted = true;
+                        Map<String, Object> course = new LinkedHashMap<>();
+                        course.put("courseCode", p.candidate.courseCode());
+                        course.put("courseName", p.candidate.courseName());
+                        course.put("recommendDescription", p.description);
+                        courses.add(course);
+                    }
+                }
+                if (!courses.isEmpty()) {
+                    int slot = entry.getKey();
+                    Map<String, Object> block = new LinkedHashMap<>();
+                    block.put("recommendYear", slot / 2 + 1);
+                    block.put("recommendSemester", slot % 2 == 0 ? "FIRST" : "SECOND");
+                    block.put("courses", courses);
+                    blocks.add(block);
+                }
+            }
+            drainedSlot = Math.max(drainedSlot, uptoSlot);
+            return blocks;
+        }
+
+        /**
+         * 내보낼 학기(uptoSlot 까지)에 개설되는데 아직 배치되지 않은 필수 과목 추가
+         * 학기 블록을 내보낸 뒤에는 그 학기에 과목을 넣을 수 없으므로, LLM 이 빠뜨린 필수 과목은 내보내기 전에 채움
+         */
+        private void placeMissingMandatory(int uptoSlot) {
+            for (Candidate candidate : candidates.values()) {
+                if (candidate.mandatory() && !candidate.isIpp()
+                        && candidate.slot() > drainedSlot && candidate.slot() <= uptoSlot
+                        && !placedCodes.contains(candidate.courseCode())
+                        && offer(candidate.courseCode(), null, null)) {
+                    repairs.add("빠진 필수 과목 추가: " + candidate.courseCode());
+                }
+            }
+        }
+
+        private boolean isAnyCapstonePlaced() {
+            for (List<Placed> placed : slots.values()) {
+                for (Placed p : placed) {
+                    if (p.candidate.isCapstone()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        public List<String> repairs() {
+            return repairs;
+        }
+    }
+}
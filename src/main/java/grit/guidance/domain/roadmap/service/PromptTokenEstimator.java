@@ -0,0 +1,54 @@
+package grit.guidance.domain.roadmap.service;
+
+/**
+ * 프롬프트 토큰 수 로컬 추정기 (BPE 토크나이저 근사)
+ * - 영문/숫자 연속 구간: 4글자당 1토큰
+ * - 한글/한자 등 그 외 문자: 글자당 1토큰 (cl100k/o200k 계열에서 한글 음절은 대부분 1~2토큰)
+ * - 공백은 앞뒤 토큰에 합쳐지므로 0토큰, 메시지마다 role/구분자 오버헤드 추가
+ * 실제 사용량은 응답의 usage 로 기록하여 추정 오차를 함께 확인
+ */
+final class PromptTokenEstimator {
+
+    // chat 메시지 1개당 role/구분자 토큰
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    // 응답 시작 토큰
+    private static final int REPLY_PRIMING_TOKENS = 3;
+
+    private PromptTokenEstimator() {
+    }
+
+    /**
+     * chat 요청 메시지 전체의 토큰 수 추정
+     */
+    static int estimateMessages(String... contents) {
+        int tokens = REPLY_PRIMING_TOKENS;
+        for (String content : contents) {
+            tokens += MESSAGE_OVERHEAD_TOKENS + estimate(content);
+        }
+        return tokens;
+    }
+
+    /**
+     * 텍스트 하나의 토큰 수 추정
+     */
+    static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int tokens = 0;
+        int asciiRun = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                asciiRun++;
+                continue;
+            }
+            tokens += (asciiRun + 3) / 4;
+            asciiRun = 0;
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        return tokens + (asciiRun + 3) / 4;
+    }
+}
@@ -2,20 +2,24 @@ package grit.guidance.domain.roadmap.service;
 
 import grit.guidance.domain.course.entity.Course;
 import grit.guidance.domain.course.entity.Semester;
-import grit.guidance.domain.course.repository.CourseRepository;
+import grit.guidance.domain.course.service.CourseCatalog;
 import grit.guidance.domain.roadmap.entity.RecommendedCourse;
 import grit.guidance.domain.roadmap.repository.RecommendedCourseRepository;
 import grit.guidance.domain.user.entity.Users;
+import grit.guidance.domain.user.event.StudentAcademicDataChangedEvent;
 import grit.guidance.domain.user.repository.UsersRepository;
+import grit.guidance.global.common.StripedLocks;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +28,23 @@ public class RecommendedCourseService {
     private static final Logger log = LoggerFactory.getLogger(RecommendedCourseService.class);
     
     private final RecommendedCourseRepository recommendedCourseRepository;
-    private final CourseRepository courseRepository;
+    private final CourseCatalog courseCatalog;
     private final UsersRepository usersRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 같은 학생의 추천 결과 쓰기(삭제 후 저장)는 순서대로 실행 (잠금은 트랜잭션 커밋이 끝날 때까지 유지)
+    private final StripedLocks studentWriteLocks = new StripedLocks(64);
 
     //로드맵 추천 결과를 저장
-    @Transactional
     public void saveRecommendedCourses(String studentId, List<Long> trackIds, List<Map<String, Object>> roadMap) {
+        studentWriteLocks.withLock(studentId, () -> transactionTemplate.execute(status -> {
+            replaceRecommendedCourses(studentId, trackIds, roadMap);
+            return null;
+        }));
+    }
+
+    private void replaceRecommendedCourses(String studentId, List<Long> trackIds, List<Map<String, Object>> roadMap) {
         try {
             log.info("로드맵 추천 결과 저장 시작 - studentId: {}, trackIds: {}", studentId, trackIds);
 
@@ -44,47 +59,12 @@ public class RecommendedCourseService {
             // 3. 새로운 추천 과목 저장
             int totalSaved = 0;
             for (Map<String, Object> semester : roadMap) {
-                Integer recommendYear = (Integer) semester.get("recommendYear");
-                String semesterStr = (String) semester.get("recommendSemester");
-
-                @SuppressWarnings("unchecked") // 컴파일 경고 억제 (현재 해당 타입이 확실함.)
-                List<Map<String, Object>> courses = (List<Map<String, Object>>) semester.get("courses");
-
-                if (courses != null) {
-                    for (Map<String, Object> courseData : courses) {
-                        String courseCode = (String) courseData.get("courseCode");
-                        String courseName = (String) courseData.get("courseName");
-                        String recommendDescription = (String) courseData.get("recommendDescription");
-
-                        // 과목 조회
-                        Optional<Course> courseOpt = courseRepository.findByCourseCode(courseCode);
-                        if (courseOpt.isPresent()) {
-                            Course course = courseOpt.get();
-                            
-                            // Semester enum 변환
-                            Semester semesterEnum = "FIRST".equals(semesterStr) ? Semester.FIRST : Semester.SECOND;
-
-                            // RecommendedCourse 생성 및 저장
-                            RecommendedCourse recommendedCourse = RecommendedCourse.builder()
-                                    .user(user)
-                                    .course(course)
-                                    .recommendDescription(recommendDescription)
-                                    .recommendGrade(recommendYear)
-                                    .recommendSemester(semesterEnum)
-                                    .build();
-
-                            recommendedCourseRepository.save(recommendedCourse);
-                            totalSaved++;
-                            
-                            log.debug("추천 과목 저장 완료 - {}: {} ({})", 
-                                    courseCode, courseName, recommendYear + "학년 " + semesterStr);
-                        } else {
-                            log.warn("과목을 찾을 수 없음 - courseCode: {}", courseCode);
-                        }
-                    }
-                }
+                totalSaved += saveSemester(user, semester);
             }
 
+            // 커밋 후 학생 학업 상태 캐시 무효화
+            eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "recommendation-save"));
+
             log.info("로드맵 추천 결과 저장 완료 - 총 {}개 과목 저장", totalSaved);
 
         } catch (Exception e) {
@@ -93,4 +73,153 @@ public class RecommendedCourseService {
         }
     }
 
+    /**
+     * 스트리밍 저장 시작 (같은 스레드에서 사용 후 close)
+     * 첫 학기 저장 때 학생 잠금을 잡고 기존 추천을 지운 뒤, close 까지 잠금을 유지하여
+     * 삭제 + 학기별 저장 사이에 같은 학생의 일괄 저장(saveRecommendedCourses)이 끼어들지 않도록 함
+     * complete() 없이 close 되면(생성/저장 실패) 저장한 학기를 지우고 이전 로드맵을 복구 (잘린 로드맵을 남기지 않음)
+     */
+    public StreamingSave startStreamingSave(String studentId) {
+        return new StreamingSave(studentId);
+    }
+
+    public final class StreamingSave implements AutoCloseable {
+
+        private final String studentId;
+        private final ReentrantLock lock;
+        private boolean started;
+        private boolean completed;
+        // 첫 학기 저장 전에 삭제한 이전 추천 과목 ID (실패 시 복구)
+        private List<Long> previousIds = List.of();
+
+        private StreamingSave(String studentId) {
+            this.studentId = studentId;
+            this.lock = studentWriteLocks.lockFor(studentId);
+        }
+
+        // 학기 블록 하나 저장 (첫 학기면 잠금을 잡고 기존 추천 과목을 먼저 삭제), 저장된 개수 반환
+        public int saveSemester(Map<String, Object> semester) {
+            if (!started) {
+                lock.lock();
+                started = true;
+                previousIds = clearRecommendedCourses(studentId);
+            }
+            return saveRecommendedSemester(studentId, semester);
+        }
+
+        // 마지막 학기까지 저장 완료 (close 때 이전 로드맵을 복구하지 않음)
+        public void complete() {
+            completed = true;
+        }
+
+        // 학기를 하나라도 저장했는지 여부 (false 면 기존 로드맵이 그대로 남아 있음)
+        public boolean isStarted() {
+            return started;
+        }
+
+        @Override
+        public void close() {
+            if (!started) {
+                return;
+            }
+            started = false;
+            try {
+                if (!completed) {
+                    restoreRecommendedCourses(studentId, previousIds);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 스트리밍 로드맵 생성 시작 전 기존 추천 과목 삭제 후 삭제한 추천 과목 ID 반환 (소프트 삭제이므로 복구 가능)
+    public List<Long> clearRecommendedCourses(String studentId) {
+        return studentWriteLocks.withLock(studentId, () -> transactionTemplate.execute(status -> {
+            Users user = usersRepository.findByStudentId(studentId)
+                    .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
+            List<Long> previousIds = recommendedCourseRepository.findAllByUser(user).stream()
+                    .map(RecommendedCourse::getId)
+                    .toList();
+            recommendedCourseRepository.deleteByUser(user);
+            eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "recommendation-clear"));
+            log.info("기존 추천 과목 삭제 완료 - studentId: {}, {}개", studentId, previousIds.size());
+            return previousIds;
+        }));
+    }
+
+    // 스트리밍 저장 실패 시 새로 저장한 학기를 지우고 이전 추천 과목 복구
+    private void restoreRecommendedCourses(String studentId, List<Long> previousIds) {
+        try {
+            studentWriteLocks.withLock(studentId, () -> transactionTemplate.execute(status -> {
+                Users user = usersRepository.findByStudentId(studentId)
+                        .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
+                recommendedCourseRepository.deleteByUser(user);
+                int restored = previousIds.isEmpty() ? 0 : recommendedCourseRepository.restoreByIds(previousIds);
+                eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "recommendation-restore"));
+                log.warn("로드맵 스트리밍 저장 실패 - 이전 추천 과목 {}개 복구 (studentId: {})", restored, studentId);
+                return null;
+            }));
+        } catch (Exception e) {
+            log.error("이전 추천 과목 복구 실패 - studentId: {}", studentId, e);
+        }
+    }
+
+    // 스트리밍으로 완성된 학기 블록 하나 저장
+    public int saveRecommendedSemester(String studentId, Map<String, Object> semester) {
+        return studentWriteLocks.withLock(studentId, () -> transactionTemplate.execute(status -> {
+            Users user = usersRepository.findByStudentId(studentId)
+                    .orElseThrow(() -> new RuntimeException("학번 " + studentId + "에 해당하는 사용자를 찾을 수 없습니다."));
+            int saved = saveSemester(user, semester);
+            eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "recommendation-semester"));
+            log.info("추천 학기 저장 완료 - studentId: {}, {}학년 {}학기, {}개 과목",
+                    studentId, semester.get("recommendYear"), semester.get("recommendSemester"), saved);
+            return saved;
+        }));
+    }
+
+    // 학기 블록 하나의 추천 과목 저장 후 저장된 개수 반환
+    private int saveSemester(Users user, Map<String, Object> semester) {
+        Integer recommendYear = (Integer) semester.get("recommendYear");
+        String semesterStr = (String) semester.get("recommendSemester");
+
+        @SuppressWarnings("unchecked") // 컴파일 경고 억제 (현재 해당 타입이 확실함.)
+        List<Map<String, Object>> courses = (List<Map<String, Object>>) semester.get("courses");
+
+        int saved = 0;
+        if (courses != null) {
+            for (Map<String, Object> courseData : courses) {
+                String courseCode = (String) courseData.get("courseCode");
+                String courseName = (String) courseData.get("courseName");
+                String recommendDescription = (String) courseData.get("recommendDescription");
+
+                // 과목 조회 (카탈로그 메모리 조회)
+                Optional<Course> courseOpt = courseCatalog.referenceByCode(courseCode);
+                if (courseOpt.isPresent()) {
+                    Course course = courseOpt.get();
+
+                    // Semester enum 변환
+                    Semester semesterEnum = "FIRST".equals(semesterStr) ? Semester.FIRST : Semester.SECOND;
+
+                    // RecommendedCourse 생성 및 저장
+                    RecommendedCourse recommendedCourse = RecommendedCourse.builder()
+                            .user(user)
+                            .course(course)
+                            .recommendDescription(recommendDescription)
+                            .recommendGrade(recommendYear)
+                            .recommendSemester(semesterEnum)
+                            .build();
+
+                    recommendedCourseRepository.save(recommendedCourse);
+                    saved++;
+
+                    log.debug("추천 과목 저장 완료 - {}: {} ({})",
+                            courseCode, courseName, recommendYear + "학년 " + semesterStr);
+                } else {
+                    log.warn("과목을 찾을 수 없음 - courseCode: {}", courseCode);
+                }
+            }
+        }
+        return saved;
+    }
 }
@@ -0,0 +1,296 @@
+package grit.guidance.domain.roadmap.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비동기 로드맵 생성 작업 상태
+ * - 진행 상태/완성된 학기 블록을 보관하고, 구독 중인 SSE 클라이언트에게 이벤트 전달
+ * - 상태 변경은 stateLock 안에서 하고, SSE 전송은 구독자 목록을 복사한 뒤 stateLock 밖에서 수행
+ *   (느린 클라이언트가 상태 조회를 막거나 가상 스레드가 캐리어 스레드를 점유하지 않도록 ReentrantLock 사용)
+ * - 전송 순서는 stateLock 을 놓기 전에 sendLock 을 이어 잡아 상태 변경 순서와 같게 유지
+ *   (새 구독자가 중간 이벤트를 놓치거나 중복으로 받지 않도록 함)
+ */
+public class RoadmapJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String id;
+    private final String studentId;
+    // 학번 + 트랙 + 학습 스타일 + 기술 스택 (같은 요청인지 비교)
+    private final String requestKey;
+    private final Instant createdAt = Instant.now();
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    private Status status = Status.QUEUED;
+    private String stage = "queued";
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+    private int savedCourseCount;
+    // 완료 시 채워짐: 로드맵 생성 방식(llm/local/local-fallback), 단계별 소요 시간
+    private String source;
+    private Map<String, Long> stageTimingsMs;
+    private final List<Map<String, Object>> semesters = new ArrayList<>();
+    private final List<SseEmitter> subscribers = new ArrayList<>();
+
+    RoadmapJob(String id, String studentId, String requestKey) {
+        this.id = id;
+        this.studentId = studentId;
+        this.requestKey = requestKey;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    String getRequestKey() {
+        return requestKey;
+    }
+
+    public boolean isActive() {
+        stateLock.lock();
+        try {
+            return status == Status.QUEUED || status == Status.RUNNING;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    boolean isExpired(Instant threshold) {
+        stateLock.lock();
+        try {
+            return finishedAt != null && finishedAt.isBefore(threshold);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    void start() {
+        Dispatch dispatch;
+        stateLock.lock();
+        try {
+            status = Status.RUNNING;
+            startedAt = Instant.now();
+            stage = "preparing";
+            dispatch = prepare("status", toStatus(), false);
+        } finally {
+            stateLock.unlock();
+        }
+        deliver(dispatch);
+    }
+
+    void updateStage(String stage) {
+        Dispatch dispatch;
+        stateLock.lock();
+        try {
+            this.stage = stage;
+            dispatch = prepare("status", toStatus(), false);
+        } finally {
+            stateLock.unlock();
+        }
+        deliver(dispatch);
+    }
+
+    void addSemester(Map<String, Object> semester, int savedCount) {
+        Dispatch dispatch;
+        stateLock.lock();
+        try {
+            semesters.add(semester);
+            savedCourseCount += savedCount;
+            dispatch = prepare("semester", semester, false);
+        } finally {
+            stateLock.unlock();
+        }
+        deliver(dispatch);
+    }
+
+    void succeed(String source, Map<String, Long> stageTimingsMs) {
+        Dispatch dispatch;
+        stateLock.lock();
+        try {
+            this.source = source;
+            this.stageTimingsMs = stageTimingsMs;
+            status = Status.SUCCEEDED;
+            stage = "completed";
+            finishedAt = Instant.now();
+            dispatch = prepare("complete", toStatus(), true);
+        } finally {
+            stateLock.unlock();
+        }
+        deliver(dispatch);
+    }
+
+    void fail(String error) {
+        Dispatch dispatch;
+        stateLock.lock();
+        try {
+            status = Status.FAILED;
+            stage = "failed";
+            this.error = error;
+            finishedAt = Instant.now();
+            dispatch = prepare("error", toStatus(), true);
+        } finally {
+            stateLock.unlock();
+        }
+        deliver(dispatch);
+    }
+
+    /**
+     * 구독 시작: 현재 상태와 지금까지 완성된 학기를 먼저 보낸 뒤 이후 이벤트를 전달 (이미 끝난 작업이면 결과만 보내고 종료)
+     */
+    void subscribe(SseEmitter emitter) {
+        Map<String, Object> current;
+        List<Map<String, Object>> replay;
+        boolean finished;
+        stateLock.lock();
+        try {
+            current = toStatus();
+            replay = List.copyOf(semesters);
+            finished = status == Status.SUCCEEDED || status == Status.FAILED;
+            if (!finished) {
+                subscribers.add(emitter);
+            }
+            sendLock.lock();
+        } finally {
+            stateLock.unlock();
+        }
+
+        IOException failure = null;
+        try {
+            send(emitter, "status", current);
+            for (Map<String, Object> semester : replay) {
+                send(emitter, "semester", semester);
+            }
+            if (finished) {
+                send(emitter, "SUCCEEDED".equals(current.get("status")) ? "complete" : "error", current);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            sendLock.unlock();
+        }
+
+        if (failure != null) {
+            unsubscribe(emitter);
+            emitter.completeWithError(failure);
+            return;
+        }
+        if (finished) {
+            emitter.complete();
+            return;
+        }
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        emitter.onError(e -> unsubscribe(emitter));
+    }
+
+    private void unsubscribe(SseEmitter emitter) {
+        stateLock.lock();
+        try {
+            subscribers.remove(emitter);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    // 전송할 이벤트와 전송 시점의 구독자 목록
+    private record Dispatch(List<SseEmitter> targets, String event, Object data, boolean close) {
+    }
+
+    /**
+     * 이벤트 전송 준비 (stateLock 을 잡은 상태로 호출): 구독자 목록을 복사하고 sendLock 을 잡음
+     * close 면 구독 목록을 비움 (전송 후 모든 구독 종료)
+     */
+    private Dispatch prepare(String event, Object data, boolean close) {
+        List<SseEmitter> targets = List.copyOf(subscribers);
+        if (close) {
+            subscribers.clear();
+        }
+        sendLock.lock();
+        return new Dispatch(targets, event, data, close);
+    }
+
+    /**
+     * 구독자에게 이벤트 전송 (stateLock 밖에서 호출, prepare 에서 잡은 sendLock 해제)
+     * 연결이 끊긴 구독자는 제거하고 작업은 계속 진행
+     * 구독 해제/종료는 sendLock 을 놓은 뒤 수행 (stateLock → sendLock 순서만 사용하여 교착 방지)
+     */
+    private void deliver(Dispatch dispatch) {
+        List<SseEmitter> disconnected = new ArrayList<>();
+        try {
+            for (SseEmitter emitter : dispatch.targets()) {
+                try {
+                    send(emitter, dispatch.event(), dispatch.data());
+                } catch (IOException e) {
+                    disconnected.add(emitter);
+                }
+            }
+        } finally {
+            sendLock.unlock();
+        }
+        for (SseEmitter emitter : disconnected) {
+            unsubscribe(emitter);
+        }
+        for (SseEmitter emitter : dispatch.close() ? dispatch.targets() : disconnected) {
+            emitter.complete();
+        }
+    }
+
+    private static void send(SseEmitter emitter, String event, Object data) throws IOException {
+        emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 상태 조회 응답
+     */
+    public Map<String, Object> toStatus() {
+        stateLock.lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("jobId", id);
+            status.put("studentId", studentId);
+            status.put("status", this.status.name());
+            status.put("stage", stage);
+            status.put("semesterCount", semesters.size());
+            status.put("savedCourseCount", savedCourseCount);
+            status.put("createdAt", createdAt.toString());
+            status.put("startedAt", startedAt != null ? startedAt.toString() : null);
+            status.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+            if (startedAt != null) {
+                Instant end = finishedAt != null ? finishedAt : Instant.now();
+                status.put("elapsedMs", end.toEpochMilli() - startedAt.toEpochMilli());
+            }
+            if (source != null) {
+                status.put("source", source);
+            }
+            if (stageTimingsMs != null) {
+                status.put("stageTimingsMs", stageTimingsMs);
+            }
+            if (error != null) {
+                status.put("error", error);
+            }
+            return status;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.dto.CourseRecommendationRequest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 비동기 로드맵 생성 작업 관리
+ * - 요청은 작업 ID만 바로 반환하고, 전용 가상 스레드에서 학기 계산 → 필수 과목 → 벡터 검색 → LLM → 저장을 진행
+ * - 동시에 실행되는 파이프라인 수는 OpenAI 사용량 한도에 맞춘 semaphore 로 제한 (나머지는 대기 상태로 줄을 섬)
+ * - 같은 학생이 같은 요청(트랙/학습 스타일/기술 스택)으로 진행 중인 작업이 있으면 새로 만들지 않고 그 작업을 반환
+ *   (요청 내용이 다르면 저장 중인 로드맵과 섞이지 않도록 거절)
+ * - 끝난 작업은 retention 시간 동안만 조회 가능 (작업 등록/상태 조회 때 만료 작업 정리)
+ */
+@Slf4j
+@Service
+public class RoadmapJobService {
+
+    private final CourseEmbeddingService courseEmbeddingService;
+    private final RecommendedCourseService recommendedCourseService;
+    private final Semaphore pipelinePermits;
+    private final long emitterTimeoutMs;
+    private final Duration retention;
+
+    private final Map<String, RoadmapJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, RoadmapJob> activeJobsByStudent = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("roadmap-job-", 0).factory());
+
+    public RoadmapJobService(CourseEmbeddingService courseEmbeddingService,
+                             RecommendedCourseService recommendedCourseService,
+                             MeterRegistry meterRegistry,
+                             @Value("${roadmap.job.max-concurrency:4}") int maxConcurrency,
+                             @Value("${roadmap.stream.timeout-ms:120000}") long emitterTimeoutMs,
+                             @Value("${roadmap.job.retention-minutes:30}") long retentionMinutes) {
+        this.courseEmbeddingService = courseEmbeddingService;
+        this.recommendedCourseService = recommendedCourseService;
+        this.pipelinePermits = new Semaphore(maxConcurrency, true);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        Gauge.builder("roadmap.jobs.active", activeJobsByStudent, Map::size)
+                .description("진행 중인(대기 포함) 로드맵 생성 작업 수").register(meterRegistry);
+        Gauge.builder("roadmap.jobs.waiting", pipelinePermits, Semaphore::getQueueLength)
+                .description("실행 슬롯을 기다리는 로드맵 생성 작업 수").register(meterRegistry);
+        Gauge.builder("roadmap.jobs.running", pipelinePermits, p -> maxConcurrency - p.availablePermits())
+                .description("실행 중인 로드맵 생성 작업 수").register(meterRegistry);
+        log.info("로드맵 작업 실행기 초기화 - maxConcurrency: {}, retention: {}분", maxConcurrency, retentionMinutes);
+    }
+
+    /**
+     * 로드맵 생성 작업 등록 (같은 학생의 같은 요청이 진행 중이면 그 작업 반환)
+     *
+     * @throws IllegalStateException 같은 학생의 다른 요청이 진행 중인 경우
+     */
+    public RoadmapJob submit(CourseRecommendationRequest request) {
+        purgeExpiredJobs();
+
+        String studentId = request.getStudentId();
+        String requestKey = RoadmapRequestCoalescer.roadmapKey(request);
+        boolean[] created = {false};
+        RoadmapJob job = activeJobsByStudent.compute(studentId, (key, existing) -> {
+            if (existing != null && existing.isActive()) {
+                return existing;
+            }
+            created[0] = true;
+            return new RoadmapJob(UUID.randomUUID().toString(), studentId, requestKey);
+        });
+
+        if (!created[0] && !job.getRequestKey().equals(requestKey)) {
+            log.info("다른 요청으로 진행 중인 로드맵 작업이 있어 거절 - jobId: {}, studentId: {}", job.getId(), studentId);
+            throw new IllegalStateException("요청 내용이 다른 로드맵 작업이 진행 중입니다. 작업이 끝난 뒤 다시 요청해 주세요. (jobId: " + job.getId() + ")");
+        }
+        if (created[0]) {
+            jobs.put(job.getId(), job);
+            executor.execute(() -> run(job, request));
+            log.info("로드맵 작업 등록 - jobId: {}, studentId: {}", job.getId(), studentId);
+        } else {
+            log.info("진행 중인 로드맵 작업에 합류 - jobId: {}, studentId: {}", job.getId(), studentId);
+        }
+        return job;
+    }
+
+    // 상태 조회 때도 만료 작업을 정리 (새 작업 등록이 없어도 끝난 작업이 계속 쌓이지 않도록 함)
+    public Optional<RoadmapJob> findJob(String jobId) {
+        purgeExpiredJobs();
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 작업 진행 상황 SSE 구독 (status, semester, complete, error 이벤트)
+     */
+    public SseEmitter subscribe(RoadmapJob job) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run(RoadmapJob job, CourseRecommendationRequest request) {
+        String studentId = job.getStudentId();
+        Map<String, Object> result;
+        try {
+            job.updateStage("waiting");
+            pipelinePermits.acquire();
+            try {
+                job.start();
+                // 첫 학기가 완성된 시점에 기존 추천을 지움 (생성 전에 실패하면 기존 로드맵 유지)
+                // 삭제부터 마지막 학기 저장까지 학생 잠금을 유지하여 같은 학생의 일괄 저장과 섞이지 않도록 함
+                // 마지막 학기까지 저장하지 못하면 close 에서 저장한 학기를 지우고 이전 로드맵을 복구
+                try (RecommendedCourseService.StreamingSave save = recommendedCourseService.startStreamingSave(studentId)) {
+                    result = courseEmbeddingService.streamIntegratedRoadmapRecommendation(
+                            request.getTrackIds(), studentId, request.getLearningStyle(), request.getAdvancedSettings(),
+                            semester -> {
+                                if (!save.isStarted()) {
+                                    job.updateStage("generating");
+                                }
+                                int saved = save.saveSemester(semester);
+                                job.addSemester(semester, saved);
+                            });
+                    save.complete();
+                }
+            } finally {
+                pipelinePermits.release();
+            }
+            job.succeed((String) result.get("source"), (Map<String, Long>) result.get("stageTimingsMs"));
+            log.info("로드맵 작업 완료 - jobId: {}, {}", job.getId(), job.toStatus());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("작업이 중단되었습니다.");
+        } catch (Exception e) {
+            log.error("로드맵 작업 실패 - jobId: {}, studentId: {}", job.getId(), studentId, e);
+            job.fail(e.getMessage());
+        } finally {
+            activeJobsByStudent.remove(studentId, job);
+        }
+    }
+
+    /**
+     * retention 시간이 지난 완료 작업 삭제
+     */
+    private void purgeExpiredJobs() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isExpired(threshold));
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,181 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.dto.LlmRoadmapPlan;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로드맵 생성 모델 선택
+ * - 남은 학기 수, 후보 과목 수, 프롬프트 추정 토큰 수가 모두 기준 이하인 작은 문제는 작은 모델(SMALL), 나머지는 큰 모델(LARGE)
+ * - 작은 모델 결과가 품질 기준(빈 결과, 제외된 과목 비율, 필수 과목 포함 비율)을 통과하지 못하면 큰 모델로 다시 생성
+ * - 등급별 호출 시간/토큰 비용/재생성 횟수를 기록하여 기준값 조정에 사용
+ */
+@Slf4j
+@Component
+public class RoadmapModelRouter {
+
+    public enum Tier {
+        SMALL,
+        LARGE
+    }
+
+    /**
+     * 선택된 모델과 선택 이유
+     */
+    record Route(Tier tier, String model, String reason) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String smallModel;
+    private final String largeModel;
+    private final int smallMaxSemesters;
+    private final int smallMaxCandidates;
+    private final int smallMaxPromptTokens;
+    private final double maxDroppedRatio;
+    private final double minMandatoryCoverage;
+    // 100만 토큰당 가격 (USD): 입력, 캐시된 입력, 출력
+    private final double[] smallPrices;
+    private final double[] largePrices;
+
+    public RoadmapModelRouter(MeterRegistry meterRegistry,
+                              @Value("${roadmap.routing.enabled:true}") boolean enabled,
+                              @Value("${roadmap.routing.small-model:gpt-4o-mini}") String smallModel,
+                              @Value("${openai.chat.model:gpt-4o}") String largeModel,
+                              @Value("${roadmap.routing.small.max-semesters:3}") int smallMaxSemesters,
+                              @Value("${roadmap.routing.small.max-candidates:20}") int smallMaxCandidates,
+                              @Value("${roadmap.routing.small.max-prompt-tokens:3000}") int smallMaxPromptTokens,
+                              @Value("${roadmap.routing.escalation.max-dropped-ratio:0.2}") double maxDroppedRatio,
+                              @Value("${roadmap.routing.escalation.min-mandatory-coverage:0.5}") double minMandatoryCoverage,
+                              @Value("${roadmap.routing.price.small:0.15,0.075,0.60}") double[] smallPrices,
+                              @Value("${roadmap.routing.price.large:2.50,1.25,10.00}") double[] largePrices) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.smallModel = smallModel;
+        this.largeModel = largeModel;
+        this.smallMaxSemesters = smallMaxSemesters;
+        this.smallMaxCandidates = smallMaxCandidates;
+        this.smallMaxPromptTokens = smallMaxPromptTokens;
+        this.maxDroppedRatio = maxDroppedRatio;
+        this.minMandatoryCoverage = minMandatoryCoverage;
+        this.smallPrices = smallPrices;
+        this.largePrices = largePrices;
+        log.info("로드맵 모델 라우팅 - enabled: {}, small: {} (학기 ≤ {}, 후보 ≤ {}, 토큰 ≤ {}), large: {}",
+                enabled, smallModel, smallMaxSemesters, smallMaxCandidates, smallMaxPromptTokens, largeModel);
+    }
+
+    /**
+     * 문제 크기로 모델 선택
+     */
+    Route route(int remainingSemesters, int candidateCount, int promptTokens) {
+        if (!enabled) {
+            return new Route(Tier.LARGE, largeModel, "routing-disabled");
+        }
+        if (remainingSemesters > smallMaxSemesters) {
+            return new Route(Tier.LARGE, largeModel, "semesters=" + remainingSemesters);
+        }
+        if (candidateCount > smallMaxCandidates) {
+            return new Route(Tier.LARGE, largeModel, "candidates=" + candidateCount);
+        }
+        if (promptTokens > smallMaxPromptTokens) {
+            return new Route(Tier.LARGE, largeModel, "promptTokens=" + promptTokens);
+        }
+        return new Route(Tier.SMALL, smallModel,
+                "semesters=" + remainingSemesters + ",candidates=" + candidateCount + ",promptTokens=" + promptTokens);
+    }
+
+    /**
+     * 재생성용 큰 모델
+     */
+    Route escalate(String reason) {
+        Counter.builder("roadmap.llm.escalations")
+                .description("작은 모델 결과가 품질 기준을 통과하지 못해 큰 모델로 다시 생성한 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new Route(Tier.LARGE, largeModel, "escalated:" + reason);
+    }
+
+    /**
+     * 작은 모델 결과 품질 확인, 통과하면 null, 아니면 재생성 이유
+     */
+    String qualityIssue(LlmRoadmapPlan plan, RoadmapPlanValidator validator, List<Map<String, Object>> mandatoryCourses) {
+        if (plan.roadMap() == null || plan.roadMap().isEmpty()) {
+            return "empty";
+        }
+        int total = validator.validCount() + validator.repairedCount() + validator.droppedCount();
+        if (total == 0) {
+            return "empty";
+        }
+        if ((double) validator.droppedCount() / total > maxDroppedRatio) {
+            return "invalid-entries";
+        }
+        if (!mandatoryCourses.isEmpty()) {
+            Set<String> planned = new HashSet<>();
+            for (LlmRoadmapPlan.Semester semester : plan.roadMap()) {
+                if (semester.courses() != null) {
+                    semester.courses().forEach(course -> planned.add(course.courseCode()));
+                }
+            }
+            long covered = mandatoryCourses.stream()
+                    .map(course -> Objects.toString(course.get("courseCode"), ""))
+                    .distinct()
+                    .filter(planned::contains)
+                    .count();
+            long mandatoryCount = mandatoryCourses.stream().map(course -> course.get("courseCode")).distinct().count();
+            if ((double) covered / mandatoryCount < minMandatoryCoverage) {
+                return "missing-mandatory";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 호출 시간 기록 (outcome: success, error)
+     */
+    void recordCall(Route route, long elapsedNanos, String outcome) {
+        Timer.builder("roadmap.llm.latency")
+                .description("LLM 로드맵 생성 호출 시간")
+                .tag("tier", route.tier().name())
+                .tag("model", route.model())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 토큰 사용량으로 추정 비용 기록 (캐시된 입력 토큰은 할인 가격 적용)
+     */
+    void recordCost(Route route, long promptTokens, long cachedTokens, long completionTokens) {
+        double[] prices = route.tier() == Tier.SMALL ? smallPrices : largePrices;
+        double cost = ((promptTokens - cachedTokens) * prices[0] + cachedTokens * prices[1] + completionTokens * prices[2]) / 1_000_000;
+        Counter.builder("roadmap.llm.cost")
+                .description("LLM 로드맵 생성 추정 비용")
+                .baseUnit("usd")
+                .tag("tier", route.tier().name())
+                .tag("model", route.model())
+                .register(meterRegistry)
+                .increment(cost);
+    }
+
+    /**
+     * 응답 캐시 키에 포함할 라우팅 설정 (설정이 바뀌면 예전 응답을 사용하지 않음)
+     */
+    String fingerprint() {
+        if (!enabled) {
+            return largeModel;
+        }
+        return smallModel + "/" + largeModel + "/" + smallMaxSemesters + "/" + smallMaxCandidates + "/" + smallMaxPromptTokens;
+    }
+}
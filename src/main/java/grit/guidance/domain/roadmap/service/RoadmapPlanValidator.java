@@ -0,0 +1,142 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.dto.LlmRoadmapPlan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * LLM 로드맵 응답의 과목을 후보 과목 목록(필수 + 추천)과 대조하여 검증/부분 보정
+ * - 과목 코드가 후보에 있으면 과목명을 후보 기준으로 맞춤
+ * - 코드가 틀렸지만 과목명이 후보와 일치하면 코드를 고침
+ * - 그래도 찾을 수 없는 과목과 중복 과목만 제외 (나머지 결과는 그대로 사용하고 재생성하지 않음)
+ * 요청 하나에서만 사용 (중복 판단을 위해 이미 확인한 과목을 기억, 스레드 안전하지 않음)
+ */
+final class RoadmapPlanValidator {
+
+    // 정규화한 코드 → 후보 과목의 원래 코드/과목명
+    private final Map<String, String> codesByKey = new HashMap<>();
+    private final Map<String, String> namesByCode = new HashMap<>();
+    private final Map<String, String> codesByName = new HashMap<>();
+    private final Set<String> seenCodes = new HashSet<>();
+    private final List<String> repairs = new ArrayList<>();
+
+    private int validCount;
+    private int repairedCount;
+    private int droppedCount;
+
+    RoadmapPlanValidator(List<Map<String, Object>> mandatoryCourses, List<Map<String, Object>> recommendedCourses) {
+        List<Map<String, Object>> candidates = new ArrayList<>(mandatoryCourses);
+        candidates.addAll(recommendedCourses);
+        for (Map<String, Object> course : candidates) {
+            String code = Objects.toString(course.get("courseCode"), "").trim();
+            if (code.isEmpty()) {
+                continue;
+            }
+            String name = Objects.toString(course.get("courseName"), "");
+            codesByKey.putIfAbsent(normalizeCode(code), code);
+            namesByCode.putIfAbsent(code, name);
+            if (!name.isBlank()) {
+                codesByName.putIfAbsent(normalizeName(name), code);
+            }
+        }
+    }
+
+    /**
+     * 응답 전체 검증
+     */
+    LlmRoadmapPlan validate(LlmRoadmapPlan plan) {
+        List<LlmRoadmapPlan.Semester> semesters = new ArrayList<>();
+        if (plan != null && plan.roadMap() != null) {
+            for (LlmRoadmapPlan.Semester semester : plan.roadMap()) {
+                semesters.add(validate(semester));
+            }
+        }
+        return new LlmRoadmapPlan(semesters);
+    }
+
+    /**
+     * 학기 블록 하나 검증 (스트리밍에서는 블록이 도착할 때마다 호출)
+     */
+    LlmRoadmapPlan.Semester validate(LlmRoadmapPlan.Semester semester) {
+        List<LlmRoadmapPlan.Course> courses = new ArrayList<>();
+        if (semester.courses() != null) {
+            for (LlmRoadmapPlan.Course course : semester.courses()) {
+                LlmRoadmapPlan.Course validated = validate(course);
+                if (validated != null) {
+                    courses.add(validated);
+                }
+            }
+        }
+        return new LlmRoadmapPlan.Semester(semester.recommendYear(), semester.recommendSemester(), courses);
+    }
+
+    private LlmRoadmapPlan.Course validate(LlmRoadmapPlan.Course course) {
+        String code = codesByKey.get(normalizeCode(course.courseCode()));
+        String name = code != null ? namesByCode.get(code) : null;
+        boolean repaired = false;
+
+        if (code == null) {
+            // 코드가 후보에 없으면 과목명으로 찾기
+            String codeByName = codesByName.get(normalizeName(course.courseName()));
+            if (codeByName == null) {
+                drop(course, "후보 목록에 없는 과목");
+                return null;
+            }
+            repairs.add(course.courseCode() + " → " + codeByName + ": 과목명(" + course.courseName() + ")으로 코드 보정");
+            code = codeByName;
+            name = namesByCode.get(code);
+            repaired = true;
+        } else if (!name.equals(course.courseName())) {
+            repairs.add(code + ": 과목명 보정 (" + course.courseName() + " → " + name + ")");
+            repaired = true;
+        }
+
+        if (!seenCodes.add(code)) {
+            drop(course, "중복 추천");
+            return null;
+        }
+
+        if (repaired) {
+            repairedCount++;
+        } else {
+            validCount++;
+        }
+        return new LlmRoadmapPlan.Course(code, name, course.recommendDescription());
+    }
+
+    private void drop(LlmRoadmapPlan.Course course, String reason) {
+        droppedCount++;
+        repairs.add(course.courseCode() + "(" + course.courseName() + "): " + reason + " - 제외");
+    }
+
+    private static String normalizeCode(String code) {
+        return Objects.toString(code, "").trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeName(String name) {
+        return Objects.toString(name, "").replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    int validCount() {
+        return validCount;
+    }
+
+    int repairedCount() {
+        return repairedCount;
+    }
+
+    int droppedCount() {
+        return droppedCount;
+    }
+
+    List<String> repairs() {
+        return repairs;
+    }
+}
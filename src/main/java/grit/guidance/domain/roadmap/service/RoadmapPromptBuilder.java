@@ -0,0 +1,235 @@
+package grit.guidance.domain.roadmap.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 로드맵 생성 프롬프트 구성
+ * - 항상 같은 내용인 지시문/규칙/응답 형식은 system 메시지로 맨 앞에 두어 OpenAI 프롬프트 prefix 캐시가 적용되도록 함
+ * - 학생 정보와 과목 목록은 user 메시지에 '|' 구분 표 형식으로 작성 (유사도 점수는 목록 순서로 대신함)
+ * - 추정 토큰 수가 예산을 넘으면 과목 설명을 점점 짧게 요약하고, 그래도 넘으면 순위가 낮은 추천 과목부터 제외
+ */
+@Slf4j
+@Component
+public class RoadmapPromptBuilder {
+
+    // 설명 요약 단계의 최소 길이 (이보다 짧게 줄여야 하면 설명을 생략)
+    private static final int MIN_DESCRIPTION_CHARS = 30;
+    // 예산 초과 시 한 번에 제외할 추천 과목 수
+    private static final int RECOMMENDED_DROP_STEP = 5;
+
+    static final String SYSTEM_PROMPT = """
+            당신은 한성대학교 컴퓨터공학부 학생들을 위한 최고의 학업 로드맵 설계 AI입니다. \
+            당신의 임무는 주어진 학생 정보와 과목 목록, 그리고 절대 규칙을 바탕으로, \
+            학생의 성공적인 미래를 위한 최적의 학기별 수강 계획을 짜주는 것입니다.
+
+            **입력 형식:**
+            - 과목 목록은 '|'로 구분된 표이며 첫 줄은 열 이름입니다.
+            - 개설 열은 "학년-학기"입니다. (예: 3-2 = 3학년 2학기, 학기 1 = FIRST, 2 = SECOND)
+            - 필수 과목 목록의 과목은 반드시 로드맵에 포함되어야 합니다.
+            - 추천 과목 목록은 학생과 관련도가 높은 순서이며, 학생의 선호도에 따라 선택적으로 포함합니다.
+
+            결과는 반드시 아래와 같은 JSON 형식으로만 응답해야 합니다. \
+            roadMap 배열 안에는 학기별로 추천 과목을 그룹화하고, \
+            각 과목에는 추천 이유(recommendDescription)를 반드시 포함해야 합니다.
+            **중요 규칙:**
+            1. 추천 시작 학기부터 순차적으로 로드맵을 구성하세요.
+            2. 각 과목은 해당 과목의 개설 학년/학기에만 추천할 수 있습니다.
+            3. 예: 3학년 2학기 과목은 3학년 2학기에만 추천 가능합니다.
+            4. 캡스톤 과목은 하나만 추천하세요.
+            5. (ipp)과목은 추천하지 마세요.
+
+            {
+              "roadMap": [
+                {
+                  "recommendYear": 4,
+                  "recommendSemester": "SECOND",
+                  "courses": [
+                    {
+                      "courseCode": "과목코드",
+                      "courseName": "과목이름",
+                      "recommendDescription": "추천이유"
+                    }
+                  ]
+                }
+              ]
+            }
+            """;
+
+    private final int maxInputTokens;
+    private final int descriptionMaxChars;
+    private final int minRecommendedCourses;
+
+    /**
+     * 완성된 프롬프트와 예산 적용 결과
+     */
+    record RoadmapPrompt(String system, String user, int estimatedTokens,
+                         int recommendedIncluded, int recommendedTotal, int descriptionLimit) {
+
+        boolean trimmed() {
+            return recommendedIncluded < recommendedTotal;
+        }
+    }
+
+    public RoadmapPromptBuilder(@Value("${roadmap.prompt.max-input-tokens:6000}") int maxInputTokens,
+                                @Value("${roadmap.prompt.description-max-chars:120}") int descriptionMaxChars,
+                                @Value("${roadmap.prompt.min-recommended-courses:10}") int minRecommendedCourses) {
+        this.maxInputTokens = maxInputTokens;
+        this.descriptionMaxChars = descriptionMaxChars;
+        this.minRecommendedCourses = minRecommendedCourses;
+        log.info("로드맵 프롬프트 설정 - maxInputTokens: {}, descriptionMaxChars: {}, minRecommendedCourses: {}",
+                maxInputTokens, descriptionMaxChars, minRecommendedCourses);
+    }
+
+    /**
+     * 예산에 맞춘 프롬프트 생성
+     */
+    RoadmapPrompt build(List<Map<String, Object>> mandatoryCourses,
+                        List<Map<String, Object>> recommendedCourses,
+                        String techStack,
+                        Map<String, Object> semesterInfo) {
+        int descriptionLimit = descriptionMaxChars;
+        int recommendedCount = recommendedCourses.size();
+        int systemTokens = PromptTokenEstimator.estimate(SYSTEM_PROMPT);
+
+        while (true) {
+            String user = buildUserPrompt(mandatoryCourses, recommendedCourses.subList(0, recommendedCount),
+                    techStack, semesterInfo, descriptionLimit);
+            int estimatedTokens = PromptTokenEstimator.estimateMessages(SYSTEM_PROMPT, user);
+
+            if (estimatedTokens > maxInputTokens && descriptionLimit > 0) {
+                // 1) 설명을 절반씩 줄이고, 최소 길이보다 짧아지면 생략
+                descriptionLimit = descriptionLimit / 2 >= MIN_DESCRIPTION_CHARS ? descriptionLimit / 2 : 0;
+                continue;
+            }
+            if (estimatedTokens > maxInputTokens && recommendedCount > minRecommendedCourses) {
+                // 2) 순위가 낮은 추천 과목부터 제외 (필수 과목은 제외하지 않음)
+                recommendedCount = Math.max(minRecommendedCourses, recommendedCount - RECOMMENDED_DROP_STEP);
+                continue;
+            }
+
+            RoadmapPrompt prompt = new RoadmapPrompt(SYSTEM_PROMPT, user, estimatedTokens,
+                    recommendedCount, recommendedCourses.size(), descriptionLimit);
+            if (estimatedTokens > maxInputTokens) {
+                log.warn("로드맵 프롬프트가 토큰 예산을 초과합니다 - 추정 {}토큰 (예산 {}, system {})",
+                        estimatedTokens, maxInputTokens, systemTokens);
+            } else {
+                log.info("로드맵 프롬프트 생성 - 추정 {}토큰 (예산 {}, system {}), 추천 과목 {}/{}개, 설명 최대 {}자",
+                        estimatedTokens, maxInputTokens, systemTokens, recommendedCount, recommendedCourses.size(), descriptionLimit);
+            }
+            return prompt;
+        }
+    }
+
+    /**
+     * 학생별로 달라지는 부분 (학기 정보, 기술 스택, 과목 표)
+     */
+    private String buildUserPrompt(List<Map<String, Object>> mandatoryCourses,
+                                   List<Map<String, Object>> recommendedCourses,
+                                   String techStack,
+                                   Map<String, Object> semesterInfo,
+                                   int descriptionLimit) {
+        StringBuilder prompt = new StringBuilder();
+
+        if (semesterInfo != null) {
+            prompt.append("**학생 학기 정보:**\n");
+            prompt.append(String.format("- 최신 이수 학기: %s학년 %s학기\n",
+                    semesterInfo.get("latestCompletedYear"), semesterInfo.get("latestCompletedSemester")));
+            prompt.append(String.format("- 현재 수강중: %s\n",
+                    Boolean.TRUE.equals(semesterInfo.get("hasCurrentEnrollment")) ? "예" : "아니오"));
+            prompt.append(String.format("- 추천 시작 학기: %s학년 %s학기부터\n",
+                    semesterInfo.get("nextYear"), semesterInfo.get("nextSemester")));
+        }
+        if (techStack != null && !techStack.trim().isEmpty()) {
+            prompt.append(String.format("- 관심 기술 스택: %s\n", cell(techStack)));
+        }
+
+        prompt.append("\n1. 필수 과목 목록\n");
+        if (mandatoryCourses.isEmpty()) {
+            prompt.append("없음\n");
+        } else {
+            prompt.append("코드|과목명|구분|개설|설명\n");
+            for (Map<String, Object> course : mandatoryCourses) {
+                prompt.append(cell(course.get("courseCode"))).append('|')
+                        .append(cell(course.get("courseName"))).append('|')
+                        .append(cell(course.get("courseType"))).append('|')
+                        .append(openTerm(course)).append('|')
+                        .append(summarize(course.get("description"), descriptionLimit)).append('\n');
+            }
+        }
+
+        prompt.append("\n2. 추천 과목 목록\n");
+        if (recommendedCourses.isEmpty()) {
+            prompt.append("없음\n");
+        } else {
+            prompt.append("코드|과목명|개설|트랙|설명\n");
+            for (Map<String, Object> course : recommendedCourses) {
+                prompt.append(cell(course.get("courseCode"))).append('|')
+                        .append(cell(course.get("courseName"))).append('|')
+                        .append(openTerm(course)).append('|')
+                        .append(tracks(course.get("tracks"))).append('|')
+                        .append(summarize(course.get("description"), descriptionLimit)).append('\n');
+            }
+        }
+        return prompt.toString();
+    }
+
+    /**
+     * 개설 학년-학기 (예: 3-2)
+     */
+    private static String openTerm(Map<String, Object> course) {
+        String semester = Objects.toString(course.get("openSemester"), "");
+        String semesterNumber = switch (semester) {
+            case "FIRST" -> "1";
+            case "SECOND" -> "2";
+            default -> cell(semester);
+        };
+        return cell(course.get("openGrade")) + "-" + semesterNumber;
+    }
+
+    private static String tracks(Object tracks) {
+        if (tracks instanceof List<?> list) {
+            return String.join(",", list.stream().map(RoadmapPromptBuilder::cell).toList());
+        }
+        return cell(tracks);
+    }
+
+    /**
+     * 설명 요약: 길이 제한 안에 들어오는 첫 문장까지, 문장이 길면 제한 길이에서 자름 (limit 0 이면 생략)
+     */
+    static String summarize(Object description, int limit) {
+        String text = cell(description);
+        if (limit <= 0 || text.isEmpty()) {
+            return "";
+        }
+        if (text.length() <= limit) {
+            return text;
+        }
+        int sentenceEnd = -1;
+        for (int i = 0; i < limit; i++) {
+            char c = text.charAt(i);
+            if ((c == '.' || c == '!' || c == '?') && (i + 1 == text.length() || text.charAt(i + 1) == ' ')) {
+                sentenceEnd = i + 1;
+            }
+        }
+        if (sentenceEnd >= limit / 2) {
+            return text.substring(0, sentenceEnd);
+        }
+        return text.substring(0, limit - 1) + "…";
+    }
+
+    /**
+     * 표 칸 값: 구분자/줄바꿈을 공백으로 바꾸고 연속 공백 정리
+     */
+    private static String cell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        return value.toString().replace('|', ' ').replaceAll("\\s+", " ").trim();
+    }
+}
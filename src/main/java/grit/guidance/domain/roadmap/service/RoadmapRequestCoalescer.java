@@ -0,0 +1,89 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.dto.CourseRecommendationRequest;
+import grit.guidance.global.common.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 병합 (더블 클릭, 프론트 재시도 등으로 같은 요청이 동시에 들어온 경우)
+ * - 통합 로드맵: 학번 + 트랙 + 학습 스타일 + 기술 스택이 같으면 진행 중인 생성/저장 결과를 함께 받음
+ * - 과목 검색: 정규화한 검색어 + topK 가 같으면 진행 중인 검색 결과를 함께 받음
+ */
+@Component
+public class RoadmapRequestCoalescer {
+
+    private final SingleFlight<String, Map<String, Object>> roadmapFlight = new SingleFlight<>();
+    private final SingleFlight<String, Map<String, Object>> searchFlight = new SingleFlight<>();
+
+    public RoadmapRequestCoalescer(MeterRegistry meterRegistry) {
+        register(meterRegistry, "roadmap", roadmapFlight);
+        register(meterRegistry, "search", searchFlight);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String endpoint, SingleFlight<String, Map<String, Object>> flight) {
+        Gauge.builder("roadmap.requests.in_flight", flight, SingleFlight::inFlightCount)
+                .description("진행 중인 요청 수 (병합된 요청 제외)")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        FunctionCounter.builder("roadmap.requests.coalesced", flight, SingleFlight::coalescedCount)
+                .description("진행 중인 동일 요청에 합류한 요청 수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    public Map<String, Object> roadmap(CourseRecommendationRequest request, Supplier<Map<String, Object>> task) {
+        return roadmapFlight.execute(roadmapKey(request), task);
+    }
+
+    public Map<String, Object> search(String query, int topK, Supplier<Map<String, Object>> task) {
+        return searchFlight.execute(normalize(query) + "|" + topK, task);
+    }
+
+    // 로드맵 요청 식별 키 (RoadmapJobService 에서 진행 중인 작업과 같은 요청인지 비교할 때도 사용)
+    static String roadmapKey(CourseRecommendationRequest request) {
+        StringBuilder key = new StringBuilder();
+        key.append(request.getStudentId()).append('|').append(trackKey(request.getTrackIds()));
+        CourseRecommendationRequest.LearningStyle style = request.getLearningStyle();
+        if (style != null) {
+            key.append('|').append(style.getCreditsPerSemester())
+                    .append('|').append(style.getStylePreference())
+                    .append('|').append(style.getRatioPreference());
+        }
+        if (request.getAdvancedSettings() != null) {
+            key.append('|').append(normalize(request.getAdvancedSettings().getTechStack()));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 트랙 ID 정렬/중복 제거 (클라이언트가 보낸 순서와 관계없이 같은 키)
+     * 첫 번째 트랙은 1트랙 검색 가중치를 받으므로 따로 남김
+     */
+    private static String trackKey(List<Long> trackIds) {
+        if (trackIds == null || trackIds.isEmpty()) {
+            return "";
+        }
+        List<Long> sorted = trackIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        return sorted + "@" + trackIds.get(0);
+    }
+
+    /**
+     * 유니코드 NFC + 소문자 + 공백 정리
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -1,21 +1,12 @@
 package grit.guidance.domain.roadmap.service;
 
-import grit.guidance.domain.course.entity.Course;
 import grit.guidance.domain.course.entity.CourseType;
-import grit.guidance.domain.course.entity.Track;
-import grit.guidance.domain.course.repository.TrackRequirementRepository;
-import grit.guidance.domain.course.repository.CoursePrerequisiteRepository;
+import grit.guidance.domain.course.service.CourseCatalogSnapshot;
+import grit.guidance.domain.course.service.PrerequisiteGraph;
 import grit.guidance.domain.roadmap.dto.*;
-import grit.guidance.domain.roadmap.entity.RecommendedCourse;
-import grit.guidance.domain.user.entity.CompletedCourse;
-import grit.guidance.domain.user.entity.EnrolledCourse;
-import grit.guidance.domain.user.entity.Users;
-import grit.guidance.domain.user.entity.UserTrack;
-import grit.guidance.domain.user.repository.CompletedCourseRepository;
-import grit.guidance.domain.user.repository.EnrolledCourseRepository;
-import grit.guidance.domain.user.repository.UsersRepository;
-import grit.guidance.domain.user.repository.UserTrackRepository;
-import grit.guidance.domain.roadmap.repository.RecommendedCourseRepository;
+import grit.guidance.domain.user.entity.TrackType;
+import grit.guidance.domain.user.service.StudentAcademicSnapshot;
+import grit.guidance.domain.user.service.StudentAcademicSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,43 +18,25 @@ import java.util.*;
 @RequiredArgsConstructor
 public class RoadmapService {
 
-    private final UsersRepository usersRepository;
-    private final CompletedCourseRepository completedCourseRepository;
-    private final EnrolledCourseRepository enrolledCourseRepository;
-    private final RecommendedCourseRepository recommendedCourseRepository;
-    private final TrackRequirementRepository trackRequirementRepository;
-    private final UserTrackRepository userTrackRepository;
-    private final CoursePrerequisiteRepository coursePrerequisiteRepository;
+    private final StudentAcademicSnapshotCache studentAcademicSnapshotCache;
 
     public RoadmapResponseDto getRoadmapData(String studentId) {
         try {
-            // 1. 사용자 정보 조회
-            Users user = usersRepository.findByStudentId(studentId)
+            // 1. 사용자 학업 상태 조회 (이수/수강 중/추천 과목을 담은 캐시된 스냅샷)
+            StudentAcademicSnapshot user = studentAcademicSnapshotCache.find(studentId)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            log.info("이수 완료 과목 수: {}", user.completedCourses().size());
+            log.info("수강 중인 과목 수: {}", user.enrolledCourseIds().size());
+            log.info("추천 과목 수: {}", user.recommendedCourses().size());
 
-            // 2. 이수 완료 과목 조회
-            List<CompletedCourse> completedCourses = completedCourseRepository.findByUsers(user);
-            log.info("이수 완료 과목 수: {}", completedCourses.size());
+            // 2. 학기별로 그룹화하여 로드맵 데이터 생성
+            List<SemesterDto> semesters = buildSemesterData(user);
 
-            // 3. 수강 중인 과목 조회
-            List<EnrolledCourse> enrolledCourses = enrolledCourseRepository.findByUser(user);
-            log.info("수강 중인 과목 수: {}", enrolledCourses.size());
-
-            // 4. 추천 과목 조회
-            List<RecommendedCourse> recommendedCourses = recommendedCourseRepository.findAllByUser(user);
-            log.info("추천 과목 수: {}", recommendedCourses.size());
-
-            // 5. 사용자 트랙 정보 조회
-            List<UserTrack> userTracks = userTrackRepository.findByUsers(user);
-            
-            // 6. 학기별로 그룹화하여 로드맵 데이터 생성
-            List<SemesterDto> semesters = buildSemesterData(completedCourses, enrolledCourses, recommendedCourses, userTracks, user);
-
-            // 7. 로드맵 데이터 생성 (학년, 학기 정보 포함)
+            // 3. 로드맵 데이터 생성 (학년, 학기 정보 포함)
             RoadmapDataDto data = new RoadmapDataDto(
                     semesters, 
-                    user.getGrade(), 
-                    user.getSemester().toString()
+                    user.grade(), 
+                    user.semester().toString()
             );
             return RoadmapResponseDto.success(data);
 
@@ -73,85 +46,97 @@ public class RoadmapService {
         }
     }
 
-    private List<SemesterDto> buildSemesterData(List<CompletedCourse> completedCourses, 
-                                               List<EnrolledCourse> enrolledCourses, 
-                                               List<RecommendedCourse> recommendedCourses,
-                                               List<UserTrack> userTracks,
-                                               Users user) {
+    private List<SemesterDto> buildSemesterData(StudentAcademicSnapshot user) {
         
         // 모든 과목을 학기별로 그룹화
         Map<String, List<CourseDto>> semesterMap = new HashMap<>();
 
+        // 과목 정보/과목 구분/선수과목은 과목마다 조회하지 않고 학업 상태와 같은 카탈로그 스냅샷 사용
+        CourseCatalogSnapshot catalog = user.catalog();
+        PrerequisiteGraph prerequisiteGraph = catalog.prerequisiteGraph();
+
         // 1. 이수 완료 과목 처리
-        for (CompletedCourse completedCourse : completedCourses) {
-            Course course = completedCourse.getCourse();
-            String semesterKey = completedCourse.getGradeLevel() + "_" + completedCourse.getCompletedSemester().ordinal();
+        for (StudentAcademicSnapshot.CompletedEntry completedCourse : user.completedCourses()) {
+            Optional<CourseCatalogSnapshot.CourseEntry> courseOpt = catalog.findById(completedCourse.courseId());
+            if (courseOpt.isEmpty()) {
+                continue;
+            }
+            CourseCatalogSnapshot.CourseEntry course = courseOpt.get();
+            String semesterKey = completedCourse.gradeLevel() + "_" + completedCourse.completedSemester().ordinal();
             
             // 이수 완료 과목의 courseType 조회
-            String courseType = getCourseTypeForCompletedCourse(course.getId(), completedCourse.getTrack());
+            String courseType = getCourseTypeForCompletedCourse(catalog, course.id(), completedCourse.trackId());
             
             // 선수과목 ID 조회
-            List<Long> prerequisiteIds = coursePrerequisiteRepository.findPrerequisiteIdsByCourseId(course.getId());
+            List<Long> prerequisiteIds = prerequisiteGraph.directPrerequisiteIds(course.id());
             
             CourseDto courseDto = CourseDto.createCompleted(
-                    course.getId(),
-                    course.getCourseName(),
-                    course.getCredits(),
+                    course.id(),
+                    course.courseName(),
+                    course.credits(),
                     courseType,
                     prerequisiteIds,
-                    course.getDescription(),
-                    completedCourse.getCompletedGrade().name()
+                    course.description(),
+                    completedCourse.completedGrade().name()
             );
 
             semesterMap.computeIfAbsent(semesterKey, k -> new ArrayList<>()).add(courseDto);
         }
 
         // 2. 수강 중인 과목 처리 (별도 학기로 분리)
-        for (EnrolledCourse enrolledCourse : enrolledCourses) {
-            Course course = enrolledCourse.getCourse();
+        for (Long courseId : user.enrolledCourseIds()) {
+            Optional<CourseCatalogSnapshot.CourseEntry> courseOpt = catalog.findById(courseId);
+            if (courseOpt.isEmpty()) {
+                continue;
+            }
+            CourseCatalogSnapshot.CourseEntry course = courseOpt.get();
             // TAKING 과목들을 현재 학기로 설정
-            int takingYear = user.getGrade();
-            int takingSemester = user.getSemester().ordinal(); // 현재 학기 (0-based)
+            int takingYear = user.grade();
+            int takingSemester = user.semester().ordinal(); // 현재 학기 (0-based)
             
             String semesterKey = takingYear + "_" + takingSemester;
             
             // 수강 중인 과목의 courseType 조회
-            String courseType = getCourseTypeForEnrolledOrRecommendedCourse(course.getId(), userTracks);
+            String courseType = getCourseTypeForEnrolledOrRecommendedCourse(catalog, course.id(), user);
             
             // 선수과목 ID 조회
-            List<Long> prerequisiteIds = coursePrerequisiteRepository.findPrerequisiteIdsByCourseId(course.getId());
+            List<Long> prerequisiteIds = prerequisiteGraph.directPrerequisiteIds(course.id());
             
             CourseDto courseDto = CourseDto.createTaking(
-                    course.getId(),
-                    course.getCourseName(),
-                    course.getCredits(),
+                    course.id(),
+                    course.courseName(),
+                    course.credits(),
                     courseType,
                     prerequisiteIds,
-                    course.getDescription()
+                    course.description()
             );
 
             semesterMap.computeIfAbsent(semesterKey, k -> new ArrayList<>()).add(courseDto);
         }
 
         // 3. 추천 과목 처리
-        for (RecommendedCourse recommendedCourse : recommendedCourses) {
-            Course course = recommendedCourse.getCourse();
-            String semesterKey = recommendedCourse.getRecommendGrade() + "_" + recommendedCourse.getRecommendSemester().ordinal();
+        for (StudentAcademicSnapshot.RecommendedEntry recommendedCourse : user.recommendedCourses()) {
+            Optional<CourseCatalogSnapshot.CourseEntry> courseOpt = catalog.findById(recommendedCourse.courseId());
+            if (courseOpt.isEmpty()) {
+                continue;
+            }
+            CourseCatalogSnapshot.CourseEntry course = courseOpt.get();
+            String semesterKey = recommendedCourse.recommendGrade() + "_" + recommendedCourse.recommendSemester().ordinal();
             
             // 추천 과목의 courseType 조회
-            String courseType = getCourseTypeForEnrolledOrRecommendedCourse(course.getId(), userTracks);
+            String courseType = getCourseTypeForEnrolledOrRecommendedCourse(catalog, course.id(), user);
             
             // 선수과목 ID 조회
-            List<Long> prerequisiteIds = coursePrerequisiteRepository.findPrerequisiteIdsByCourseId(course.getId());
+            List<Long> prerequisiteIds = prerequisiteGraph.directPrerequisiteIds(course.id());
             
             CourseDto courseDto = CourseDto.createRecommended(
-                    course.getId(),
-                    course.getCourseName(),
-                    course.getCredits(),
+                    course.id(),
+                    course.courseName(),
+                    course.credits(),
                     courseType,
                     prerequisiteIds,
-                    course.getDescription(),
-                    recommendedCourse.getRecommendDescription()
+                    course.description(),
+                    recommendedCourse.recommendDescription()
             );
 
             semesterMap.computeIfAbsent(semesterKey, k -> new ArrayList<>()).add(courseDto);
@@ -184,43 +169,25 @@ public class RoadmapService {
     /**
      * 이수 완료 과목의 courseType 조회
      */
-    private String getCourseTypeForCompletedCourse(Long courseId, Track track) {
-        if (track == null) {
+    private String getCourseTypeForCompletedCourse(CourseCatalogSnapshot catalog, Long courseId, Long trackId) {
+        if (trackId == null) {
             return "일반선택";
         }
         
-        Optional<CourseType> courseType = trackRequirementRepository
-                .findCourseTypeByCourseIdAndTrackId(courseId, track.getId());
-        
-        return courseType.map(CourseType::getDescription).orElse("일반선택");
+        return findCourseType(catalog, courseId, trackId)
+                .map(CourseType::getDescription)
+                .orElse("일반선택");
     }
 
     /**
      * 수강 중인 과목이나 추천 과목의 courseType 조회
      * PRIMARY 트랙 먼저 검색, 없으면 SECONDARY 트랙 검색, 그래도 없으면 "일반선택"
      */
-    private String getCourseTypeForEnrolledOrRecommendedCourse(Long courseId, List<UserTrack> userTracks) {
-        // PRIMARY 트랙 찾기
-        Optional<UserTrack> primaryTrack = userTracks.stream()
-                .filter(ut -> ut.getTrackType().name().equals("PRIMARY"))
-                .findFirst();
-        
-        if (primaryTrack.isPresent()) {
-            Optional<CourseType> courseType = trackRequirementRepository
-                    .findCourseTypeByCourseIdAndTrackId(courseId, primaryTrack.get().getTrack().getId());
-            if (courseType.isPresent()) {
-                return courseType.get().getDescription();
-            }
-        }
-        
-        // SECONDARY 트랙 찾기
-        Optional<UserTrack> secondaryTrack = userTracks.stream()
-                .filter(ut -> ut.getTrackType().name().equals("SECONDARY"))
-                .findFirst();
-        
-        if (secondaryTrack.isPresent()) {
-            Optional<CourseType> courseType = trackRequirementRepository
-                    .findCourseTypeByCourseIdAndTrackId(courseId, secondaryTrack.get().getTrack().getId());
+    private String getCourseTypeForEnrolledOrRecommendedCourse(CourseCatalogSnapshot catalog, Long courseId,
+                                                               StudentAcademicSnapshot user) {
+        for (TrackType trackType : List.of(TrackType.PRIMARY, TrackType.SECONDARY)) {
+            Optional<CourseType> courseType = user.findTrack(trackType)
+                    .flatMap(track -> findCourseType(catalog, courseId, track.trackId()));
             if (courseType.isPresent()) {
                 return courseType.get().getDescription();
             }
@@ -228,4 +195,14 @@ public class RoadmapService {
         
         return "일반선택";
     }
+
+    /**
+     * 카탈로그 이수 요건에서 과목의 트랙별 구분 조회
+     */
+    private Optional<CourseType> findCourseType(CourseCatalogSnapshot catalog, Long courseId, Long trackId) {
+        return catalog.requirementsOfCourse(courseId).stream()
+                .filter(requirement -> requirement.trackId().equals(trackId))
+                .map(CourseCatalogSnapshot.RequirementEntry::courseType)
+                .findFirst();
+    }
 }
@@ -0,0 +1,128 @@
+package grit.guidance.domain.roadmap.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍으로 도착하는 LLM 응답에서 학기 블록을 점진적으로 추출
+ * - {"roadMap": [ {학기}, {학기}, ... ]} 구조에서 최상위 객체 안 배열의 원소 객체가 닫히는 순간 해당 학기를 파싱해 전달
+ * - 문자열 안의 괄호/이스케이프를 구분하고, JSON 앞뒤의 마크다운 코드 블록 등은 무시
+ * - 요청 하나에서만 사용 (스레드 안전하지 않음)
+ */
+final class RoadmapStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<Map<String, Object>> onSemester;
+
+    private final StringBuilder content = new StringBuilder();
+    private final Deque<Character> containers = new ArrayDeque<>();
+    private final List<Map<String, Object>> semesters = new ArrayList<>();
+
+    private boolean inString;
+    private boolean escaped;
+    private boolean closed;
+    private int semesterStart = -1;
+
+    RoadmapStreamParser(ObjectMapper objectMapper, Consumer<Map<String, Object>> onSemester) {
+        this.objectMapper = objectMapper;
+        this.onSemester = onSemester;
+    }
+
+    /**
+     * 새로 도착한 토큰 조각 처리
+     */
+    void accept(String chunk) {
+        int offset = content.length();
+        content.append(chunk);
+        for (int i = offset; i < content.length(); i++) {
+            consume(content.charAt(i), i);
+        }
+    }
+
+    private void consume(char c, int index) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+        // 최상위 JSON 객체 밖(코드 블록 표시, 설명 문장 등)은 무시
+        if (containers.isEmpty() && c != '{') {
+            return;
+        }
+
+        switch (c) {
+            case '"' -> inString = true;
+            case '{' -> {
+                // {"roadMap": [ 바로 안쪽 객체 = 학기 블록
+                if (isSemesterLevel()) {
+                    semesterStart = index;
+                }
+                containers.push('{');
+            }
+            case '[' -> containers.push('[');
+            case '}', ']' -> {
+                if (containers.isEmpty()) {
+                    return;
+                }
+                containers.pop();
+                if (containers.isEmpty()) {
+                    closed = true;
+                }
+                if (c == '}' && semesterStart >= 0 && isSemesterLevel()) {
+                    emit(content.substring(semesterStart, index + 1));
+                    semesterStart = -1;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private boolean isSemesterLevel() {
+        return containers.size() == 2 && containers.peek() == '[';
+    }
+
+    private void emit(String json) {
+        Map<String, Object> semester;
+        try {
+            semester = objectMapper.readValue(json, Map.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("LLM 응답의 학기 블록을 파싱할 수 없습니다: " + json, e);
+        }
+        semesters.add(semester);
+        onSemester.accept(semester);
+    }
+
+    /**
+     * 지금까지 완성된 학기 블록
+     */
+    List<Map<String, Object>> semesters() {
+        return semesters;
+    }
+
+    /**
+     * 최상위 JSON 객체가 닫혔는지 여부 (false 면 응답이 중간에 잘린 것)
+     */
+    boolean isComplete() {
+        return closed;
+    }
+
+    /**
+     * 지금까지 받은 전체 응답 텍스트
+     */
+    String content() {
+        return content.toString();
+    }
+}
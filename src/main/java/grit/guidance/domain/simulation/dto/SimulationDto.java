@@ -39,6 +39,10 @@ public class SimulationDto {
         private Integer openGrade;
         private Semester openSemester;
         private List<Long> applicableTrackIds;
+
+        // 직접 선수과목 ID 목록과 모두 이수했는지 여부
+        private List<Long> prerequisiteIds;
+        private Boolean prerequisitesSatisfied;
     }
 
     // ... (PlanSummaryDto, PlanDetailDto, CourseDetailDto 등 나머지 DTO는 그대로 유지)
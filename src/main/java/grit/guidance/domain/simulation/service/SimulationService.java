@@ -1,9 +1,10 @@
 package grit.guidance.domain.simulation.service;
 
 import grit.guidance.domain.course.entity.Course;
-import grit.guidance.domain.course.entity.TrackRequirement;
-import grit.guidance.domain.course.repository.CourseRepository;
-import grit.guidance.domain.course.repository.TrackRequirementRepository;
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.service.CourseCatalog;
+import grit.guidance.domain.course.service.CourseCatalogSnapshot;
+import grit.guidance.domain.course.service.PrerequisiteGraph;
 import grit.guidance.domain.graduation.dto.GraduationResponseDto;
 import grit.guidance.domain.graduation.service.GraduationService;
 import grit.guidance.domain.simulation.dto.GraduationPlanRequestDto;
@@ -14,19 +15,20 @@ import grit.guidance.domain.simulation.entity.GraduationPlan;
 import grit.guidance.domain.simulation.entity.GraduationPlanCourse;
 import grit.guidance.domain.simulation.repository.GraduationPlanCourseRepository;
 import grit.guidance.domain.simulation.repository.GraduationPlanRepository;
-import grit.guidance.domain.user.entity.CompletedCourse;
-import grit.guidance.domain.user.entity.UserTrack;
 import grit.guidance.domain.user.entity.Users;
-import grit.guidance.domain.user.repository.CompletedCourseRepository;
-import grit.guidance.domain.user.repository.UserTrackRepository;
 import grit.guidance.domain.user.repository.UsersRepository;
+import grit.guidance.domain.user.service.StudentAcademicSnapshot;
+import grit.guidance.domain.user.service.StudentAcademicSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import grit.guidance.domain.user.dto.UserTrackDto;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,10 +40,8 @@ import java.util.stream.Collectors;
 public class SimulationService {
 
     private final UsersRepository usersRepository;
-    private final UserTrackRepository userTrackRepository;
-    private final TrackRequirementRepository trackRequirementRepository;
-    private final CompletedCourseRepository completedCourseRepository;
-    private final CourseRepository courseRepository;
+    private final StudentAcademicSnapshotCache studentAcademicSnapshotCache;
+    private final CourseCatalog courseCatalog;
     private final GraduationPlanRepository graduationPlanRepository;
     private final GraduationPlanCourseRepository graduationPlanCourseRepository;
     private final GraduationService graduationService;
@@ -51,20 +51,19 @@ public class SimulationService {
      */
     public SimulationDto.SimulationDataResponseDto getSimulationData(String studentId) {
         GraduationResponseDto dashboardData = graduationService.getDashboardData(studentId);
-        Users user = usersRepository.findByStudentId(studentId)
+        // 트랙/이수 과목은 캐시된 학업 상태 스냅샷에서 조회
+        StudentAcademicSnapshot user = studentAcademicSnapshotCache.find(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. 학번: " + studentId));
 
         // [추가] 사용자의 트랙 정보를 조회하고, 응답에 포함될 DTO 리스트로 변환합니다.
-        List<UserTrack> userTracks = userTrackRepository.findByUsers(user);
-        List<UserTrackDto> userTrackDtos = userTracks.stream()
-                .map(ut -> UserTrackDto.builder()
-                        .trackId(ut.getTrack().getId())
-                        .trackName(ut.getTrack().getTrackName())
+        List<UserTrackDto> userTrackDtos = user.tracks().stream()
+                .map(track -> UserTrackDto.builder()
+                        .trackId(track.trackId())
+                        .trackName(track.trackName())
                         .build())
                 .collect(Collectors.toList());
 
-        // [수정] 헬퍼 메소드를 호출할 때, 위에서 조회한 userTracks 정보를 넘겨주어 DB 조회를 한번 줄입니다.
-        List<SimulationDto.AvailableCourseDto> availableCourses = getAvailableCoursesForUser(user, userTracks);
+        List<SimulationDto.AvailableCourseDto> availableCourses = getAvailableCoursesForUser(user);
 
         // [수정] 최종 응답 DTO를 생성할 때, userTracks 정보를 함께 담아줍니다.
         return SimulationDto.SimulationDataResponseDto.builder()
@@ -96,7 +95,7 @@ public class SimulationService {
         if (courseCodes != null && !courseCodes.isEmpty()) {
             List<GraduationPlanCourse> planCourses = courseCodes.stream()
                     .map(code -> {
-                        Course course = courseRepository.findByCourseCode(code)
+                        Course course = courseCatalog.referenceByCode(code)
                                 .orElseThrow(() -> new IllegalArgumentException("과목을 찾을 수 없습니다. 코드: " + code));
                         return GraduationPlanCourse.builder()
                                 .graduationPlan(savedPlan)
@@ -165,7 +164,7 @@ public class SimulationService {
         List<String> courseCodes = requestDto.getSelectedCourseCodes();
         if (courseCodes != null && !courseCodes.isEmpty()) {
             courseCodes.forEach(code -> {
-                Course course = courseRepository.findByCourseCode(code)
+                Course course = courseCatalog.referenceByCode(code)
                         .orElseThrow(() -> new IllegalArgumentException("과목을 찾을 수 없습니다. 코드: " + code));
                 GraduationPlanCourse newPlanCourse = GraduationPlanCourse.builder()
                         .graduationPlan(plan)
@@ -191,46 +190,55 @@ public class SimulationService {
     /**
      * 수강 가능 과목 목록 조회 헬퍼 메소드 (핵심 로직 수정 부분)
      */
-    private List<SimulationDto.AvailableCourseDto> getAvailableCoursesForUser(Users user, List<UserTrack> userTracks) {
-        Set<String> completedCourseCodes = completedCourseRepository.findByUsers(user).stream()
-                .map(completedCourse -> completedCourse.getCourse().getCourseCode())
-                .collect(Collectors.toSet());
-
-        List<TrackRequirement> trackRequirements = new ArrayList<>();
-        for (UserTrack userTrack : userTracks) {
-            trackRequirements.addAll(trackRequirementRepository.findByTrackId(userTrack.getTrack().getId()));
+    private List<SimulationDto.AvailableCourseDto> getAvailableCoursesForUser(StudentAcademicSnapshot user) {
+        // 과목 정보/이수 요건/선수과목은 학업 상태와 같은 카탈로그 스냅샷에서 조회
+        CourseCatalogSnapshot catalog = user.catalog();
+        PrerequisiteGraph prerequisiteGraph = catalog.prerequisiteGraph();
+        BitSet completed = user.completedMask();
+        Set<String> completedCourseCodes = new HashSet<>();
+        for (int i = completed.nextSetBit(0); i >= 0; i = completed.nextSetBit(i + 1)) {
+            completedCourseCodes.add(catalog.courseAt(i).courseCode());
         }
 
-        // [수정] 과목(Course)을 기준으로 모든 관련 정보를 List로 그룹핑하여, 더 많은 정보를 한 번에 처리할 수 있도록 구조를 변경했습니다.
-        Map<Course, List<TrackRequirement>> courseToRequirementsMap = trackRequirements.stream()
-                .filter(req -> !"FOUNDATION".equals(req.getCourseType().name()))
-                .collect(Collectors.groupingBy(TrackRequirement::getCourse));
+        // [수정] 과목을 기준으로 모든 관련 이수 요건을 List로 그룹핑하여, 더 많은 정보를 한 번에 처리할 수 있도록 구조를 변경했습니다.
+        Map<CourseCatalogSnapshot.CourseEntry, List<CourseCatalogSnapshot.RequirementEntry>> courseToRequirementsMap = new LinkedHashMap<>();
+        for (Long trackId : user.trackIds()) {
+            for (CourseCatalogSnapshot.RequirementEntry requirement : catalog.requirementsOfTrack(trackId)) {
+                if (requirement.courseType() == CourseType.FOUNDATION) {
+                    continue;
+                }
+                catalog.findById(requirement.courseId()).ifPresent(course ->
+                        courseToRequirementsMap.computeIfAbsent(course, k -> new ArrayList<>()).add(requirement));
+            }
+        }
 
         return courseToRequirementsMap.entrySet().stream()
-                .filter(entry -> !completedCourseCodes.contains(entry.getKey().getCourseCode()))
+                .filter(entry -> !completedCourseCodes.contains(entry.getKey().courseCode()))
                 .map(entry -> {
-                    Course course = entry.getKey();
-                    List<TrackRequirement> requirements = entry.getValue();
+                    CourseCatalogSnapshot.CourseEntry course = entry.getKey();
+                    List<CourseCatalogSnapshot.RequirementEntry> requirements = entry.getValue();
 
                     boolean isMandatory = requirements.stream()
-                            .anyMatch(req -> "MANDATORY".equals(req.getCourseType().name()));
+                            .anyMatch(req -> req.courseType() == CourseType.MANDATORY);
                     String finalCourseType = isMandatory ? "MANDATORY" : "ELECTIVE";
 
                     // [추가] 그룹핑된 정보를 바탕으로, 해당 과목이 속한 모든 트랙의 ID 목록을 생성합니다.
                     List<Long> applicableTrackIds = requirements.stream()
-                            .map(req -> req.getTrack().getId())
+                            .map(CourseCatalogSnapshot.RequirementEntry::trackId)
                             .distinct()
                             .collect(Collectors.toList());
 
                     // [수정] 최종 DTO를 생성할 때, 요청하신 모든 추가 정보를 채워 넣습니다.
                     return SimulationDto.AvailableCourseDto.builder()
-                            .courseCode(course.getCourseCode())
-                            .courseName(course.getCourseName())
-                            .credit(course.getCredits())
+                            .courseCode(course.courseCode())
+                            .courseName(course.courseName())
+                            .credit(course.credits())
                             .courseType(finalCourseType)
-                            .openGrade(course.getOpenGrade())             // <-- 추가된 정보
-                            .openSemester(course.getOpenSemester())     // <-- 추가된 정보
+                            .openGrade(course.openGrade())             // <-- 추가된 정보
+                            .openSemester(course.openSemester())     // <-- 추가된 정보
                             .applicableTrackIds(applicableTrackIds)     // <-- 추가된 정보
+                            .prerequisiteIds(prerequisiteGraph.directPrerequisiteIds(course.id()))
+                            .prerequisitesSatisfied(prerequisiteGraph.missingPrerequisiteIds(course.id(), completed).isEmpty())
                             .build();
                 })
                 .collect(Collectors.toList());
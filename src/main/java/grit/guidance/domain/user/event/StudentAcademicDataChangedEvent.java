@@ -0,0 +1,8 @@
+package grit.guidance.domain.user.event;
+
+/**
+ * 학생의 학업 데이터(사용자 정보/트랙/이수/수강중/관심과목/추천 과목)가 변경되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후 학생 학업 상태 캐시 무효화에 사용
+ */
+public record StudentAcademicDataChangedEvent(String studentId, String reason) {
+}
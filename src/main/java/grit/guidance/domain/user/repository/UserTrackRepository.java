@@ -19,6 +19,10 @@ public interface UserTrackRepository extends JpaRepository<UserTrack, Long> {
     
     // 사용자의 모든 트랙 정보 조회
     List<UserTrack> findByUsers(Users user);
+
+    // 사용자 ID로 트랙 정보 조회 (Track 정보 포함)
+    @Query("SELECT ut FROM UserTrack ut JOIN FETCH ut.track WHERE ut.users.id = :userId")
+    List<UserTrack> findWithTrackByUserId(@Param("userId") Long userId);
     
     // 중복 체크: 사용자와 트랙이 모두 같은 사용자 트랙이 있는지 확인
     boolean existsByUsersAndTrack(Users user, Track track);
@@ -3,13 +3,8 @@ package grit.guidance.domain.user.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import grit.guidance.domain.course.entity.Semester;
+import grit.guidance.domain.course.service.CourseCatalogSnapshot;
 import grit.guidance.domain.user.dto.*;
-import grit.guidance.domain.user.entity.UserTrack;
-import grit.guidance.domain.user.entity.Users;
-import grit.guidance.domain.user.repository.UserTrackRepository;
-import grit.guidance.domain.user.repository.UsersRepository;
-import grit.guidance.domain.roadmap.entity.RecommendedCourse;
-import grit.guidance.domain.roadmap.repository.RecommendedCourseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,37 +19,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final UsersRepository usersRepository;
-    private final UserTrackRepository userTrackRepository;
-    private final RecommendedCourseRepository recommendedCourseRepository;
+    private final StudentAcademicSnapshotCache studentAcademicSnapshotCache;
     private final ObjectMapper objectMapper;
 
     public DashboardResponseDto getDashboardData(String studentId) {
         try {
-            // 1. 사용자 정보 조회
-            Users user = usersRepository.findByStudentId(studentId)
+            // 1. 사용자 학업 상태 조회 (캐시된 스냅샷)
+            StudentAcademicSnapshot user = studentAcademicSnapshotCache.find(studentId)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
             // 2. 사용자 트랙 정보 조회
-            List<UserTrack> userTracks = userTrackRepository.findByUsers(user);
-            List<String> trackNames = userTracks.stream()
-                    .map(ut -> ut.getTrack().getTrackName())
-                    .toList();
+            List<String> trackNames = user.trackNames();
 
             // 3. 사용자 정보 DTO 생성
             UserInfoDto userInfo = new UserInfoDto(
-                    user.getName(),
-                    user.getGrade(),
-                    user.getSemester().ordinal() + 1, // FIRST=1, SECOND=2
+                    user.name(),
+                    user.grade(),
+                    user.semester().ordinal() + 1, // FIRST=1, SECOND=2
                     "컴퓨터공학부", // 하드코딩 또는 사용자 테이블에서 가져오기
                     trackNames
             );
 
             // 4. 학업 현황 DTO 생성
             AcademicStatusDto academicStatus = new AcademicStatusDto(
-                    user.getGpa(),
+                    user.gpa(),
                     new BigDecimal("4.5"), // 기본값
-                    user.getEarnedCredits(),
+                    user.earnedCredits(),
                     130 // 기본값
             );
 
@@ -88,20 +78,19 @@ public class DashboardService {
     /**
      * 다음 학기 추천 과목 조회
      */
-    private List<NextSemesterCourseDto> getNextSemesterCourses(Users user) {
+    private List<NextSemesterCourseDto> getNextSemesterCourses(StudentAcademicSnapshot user) {
         try {
             // 다음 학기 계산
-            Integer nextGrade = user.getGrade() + 1;
-            Semester nextSemester = user.getSemester() == Semester.FIRST ? Semester.SECOND : Semester.FIRST;
-            
-            // 다음 학기에 해당하는 추천 과목만 조회
-            List<RecommendedCourse> recommendedCourses = recommendedCourseRepository
-                    .findByUserAndRecommendGradeAndRecommendSemester(user, nextGrade, nextSemester);
+            Integer nextGrade = user.grade() + 1;
+            Semester nextSemester = user.semester() == Semester.FIRST ? Semester.SECOND : Semester.FIRST;
             
-            return recommendedCourses.stream()
-                    .map(rc -> new NextSemesterCourseDto(
-                            rc.getCourse().getId(),
-                            rc.getCourse().getCourseName()
+            // 다음 학기에 해당하는 추천 과목만 조회 (과목명은 카탈로그에서 조회)
+            CourseCatalogSnapshot catalog = user.catalog();
+            return user.recommendedCoursesIn(nextGrade, nextSemester).stream()
+                    .flatMap(rc -> catalog.findById(rc.courseId()).stream())
+                    .map(course -> new NextSemesterCourseDto(
+                            course.id(),
+                            course.courseName()
                     ))
                     .toList();
         } catch (Exception e) {
@@ -113,15 +102,15 @@ public class DashboardService {
     /**
      * 오늘의 시간표 조회
      */
-    private List<TimetableDetailDto> getTodaySchedule(Users user) {
+    private List<TimetableDetailDto> getTodaySchedule(StudentAcademicSnapshot user) {
         try {
-            if (user.getTimetable() == null || user.getTimetable().trim().isEmpty()) {
+            if (user.timetable() == null || user.timetable().trim().isEmpty()) {
                 return new ArrayList<>();
             }
 
             // JSON 문자열을 TimetableDetailDto 리스트로 파싱
             List<TimetableDetailDto> allSchedules = objectMapper.readValue(
-                    user.getTimetable(),
+                    user.timetable(),
                     new TypeReference<List<TimetableDetailDto>>() {}
             );
 
@@ -6,11 +6,13 @@ import grit.guidance.domain.user.dto.FavoriteCourseRequest;
 import grit.guidance.domain.user.dto.FavoriteCourseResponse;
 import grit.guidance.domain.user.entity.FavoriteCourse;
 import grit.guidance.domain.user.entity.Users;
+import grit.guidance.domain.user.event.StudentAcademicDataChangedEvent;
 import grit.guidance.domain.user.repository.FavoriteCourseRepository;
 import grit.guidance.domain.user.repository.UsersRepository;
 import grit.guidance.global.jwt.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class FavoriteCourseService {
     private final UsersRepository usersRepository;
     private final CourseRepository courseRepository;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public FavoriteCourseResponse addFavoriteCourse(String studentId, FavoriteCourseRequest request) {
@@ -60,6 +63,7 @@ public class FavoriteCourseService {
                     .build();
             
             favoriteCourseRepository.save(favoriteCourse);
+            eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "favorite-add"));
             
             log.info("관심과목 추가 완료: userId={}, courseId={}, courseName={}", 
                     user.getId(), request.courseId(), course.getCourseName());
@@ -82,6 +86,7 @@ public class FavoriteCourseService {
 
             // 2. 관심과목 삭제
             favoriteCourseRepository.deleteByUsersAndCourseId(user, courseId);
+            eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "favorite-remove"));
             
             log.info("관심과목 삭제 완료: userId={}, courseId={}", user.getId(), courseId);
 
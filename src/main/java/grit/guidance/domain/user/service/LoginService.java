@@ -3,12 +3,13 @@ package grit.guidance.domain.user.service;
 import grit.guidance.domain.course.entity.Course;
 import grit.guidance.domain.course.entity.Semester;
 import grit.guidance.domain.course.entity.Track;
-import grit.guidance.domain.course.repository.CourseRepository;
 import grit.guidance.domain.course.repository.TrackRepository;
+import grit.guidance.domain.course.service.CourseCatalog;
 import grit.guidance.domain.graduation.entity.CrawlingGraduation;
 import grit.guidance.domain.graduation.repository.CrawlingGraduationRepository;
 import grit.guidance.domain.user.dto.*;
 import grit.guidance.domain.user.entity.*;
+import grit.guidance.domain.user.event.StudentAcademicDataChangedEvent;
 import grit.guidance.domain.user.repository.CompletedCourseRepository;
 import grit.guidance.domain.user.repository.EnrolledCourseRepository;
 import grit.guidance.domain.user.repository.UsersRepository;
@@ -16,6 +17,7 @@ import grit.guidance.domain.user.repository.UserTrackRepository;
 import grit.guidance.global.jwt.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,13 +50,14 @@ public class LoginService {
     private final UserTrackRepository userTrackRepository;
     private final CompletedCourseRepository completedCourseRepository;
     private final EnrolledCourseRepository enrolledCourseRepository;
-    private final CourseRepository courseRepository;
+    private final CourseCatalog courseCatalog;
     private final TrackRepository trackRepository;
     private final CrawlingGraduationRepository crawlingGraduationRepository; // ⭐ 추가: CrawlingGraduation 리포지토리
     private final GraduationRequirementRepository graduationRequirementRepository;
     private final JwtService jwtService;
     private final UsersCrawlingService crawlingService;
     private final CrawlingConditionService crawlingConditionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * RestTemplate을 매번 새로 생성하여 쿠키 충돌 방지
@@ -318,6 +321,9 @@ public class LoginService {
         log.info("사용자 크롤링 시간 업데이트 완료: studentId={}, lastCrawlTime={}, updatedAt={}",
                 studentId, existingUser.getLastCrawlTime(), existingUser.getUpdatedAt());
 
+        // 커밋 후 학생 학업 상태 캐시 무효화
+        eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "login-sync"));
+
         log.info("사용자 정보 저장/업데이트 완료: studentId={}", studentId);
     }
 
@@ -472,8 +478,8 @@ public class LoginService {
             int gradeLevel = calculateGradeLevelByYear(year, years);
             
             for (CourseGradeResponse course : semester.courses()) {
-                // 과목 코드로 Course 엔티티 찾기
-                Optional<Course> courseOpt = courseRepository.findByCourseCode(course.code());
+                // 과목 코드로 Course 엔티티 찾기 (카탈로그 메모리 조회)
+                Optional<Course> courseOpt = courseCatalog.referenceByCode(course.code());
                 if (courseOpt.isPresent()) {
                     Course courseEntity = courseOpt.get();
                     
@@ -609,16 +615,16 @@ public class LoginService {
         int notFoundCount = 0;
         
         for (String courseName : enrolledCourseNames) {
-            var courseOpt = courseRepository.findByCourseName(courseName);
+            var courseOpt = courseCatalog.findByName(courseName);
             if (courseOpt.isPresent()) {
-                Course course = courseOpt.get();
+                var course = courseOpt.get();
                 EnrolledCourse enrolledCourse = EnrolledCourse.builder()
                         .user(user)
-                        .course(course)
+                        .course(courseCatalog.reference(course))
                         .build();
                 enrolledCourseRepository.save(enrolledCourse);
                 savedCount++;
-                log.info("수강 과목 저장 완료: {} - {}", courseName, course.getCourseCode());
+                log.info("수강 과목 저장 완료: {} - {}", courseName, course.courseCode());
             } else {
                 notFoundCount++;
                 log.warn("수강 과목을 DB에서 찾을 수 없음: {}", courseName);
@@ -0,0 +1,240 @@
+package grit.guidance.domain.user.service;
+
+import grit.guidance.domain.course.entity.Semester;
+import grit.guidance.domain.course.service.CourseCatalogSnapshot;
+import grit.guidance.domain.roadmap.entity.RecommendedCourse;
+import grit.guidance.domain.user.entity.CompletedCourse;
+import grit.guidance.domain.user.entity.CompletedGrade;
+import grit.guidance.domain.user.entity.TrackType;
+import grit.guidance.domain.user.entity.UserTrack;
+import grit.guidance.domain.user.entity.Users;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 학생 한 명의 학업 상태 읽기 전용 스냅샷 (사용자 정보, 트랙, 이수/수강중/관심/추천 과목)
+ * - 엔티티가 아닌 ID 와 값만 보관하고, 과목 집합은 함께 만든 과목 카탈로그 스냅샷의 순번(ordinal) BitSet 으로 보관
+ * - 과목 이름/학점/이수 요건은 catalog() 로 조회 (마스크와 같은 순번 기준)
+ * - 만든 뒤에는 바뀌지 않으므로 여러 요청에서 잠금 없이 공유 가능 (BitSet 은 복사본 반환)
+ */
+public final class StudentAcademicSnapshot {
+
+    public record TrackEntry(Long trackId, String trackName, TrackType trackType) {
+    }
+
+    public record CompletedEntry(Long courseId, Long trackId, Integer gradeLevel, Semester completedSemester,
+                                 CompletedGrade completedGrade) {
+    }
+
+    public record RecommendedEntry(Long courseId, Integer recommendGrade, Semester recommendSemester,
+                                   String recommendDescription) {
+    }
+
+    private final CourseCatalogSnapshot catalog;
+    private final LocalDateTime loadedAt;
+    private final Long userId;
+    private final String studentId;
+    private final String name;
+    private final Integer grade;
+    private final Semester semester;
+    private final BigDecimal gpa;
+    private final Integer earnedCredits;
+    private final String timetable;
+    private final List<TrackEntry> tracks;
+    private final List<CompletedEntry> completedCourses;
+    private final List<Long> enrolledCourseIds;
+    private final List<RecommendedEntry> recommendedCourses;
+    // 순번 → 처음 조회된 이수 기록
+    private final Map<Integer, CompletedEntry> completedByOrdinal;
+    private final BitSet completed;
+    private final BitSet enrolled;
+    private final BitSet favorite;
+
+    private StudentAcademicSnapshot(CourseCatalogSnapshot catalog, Users user, List<TrackEntry> tracks,
+                                    List<CompletedEntry> completedCourses, List<Long> enrolledCourseIds,
+                                    List<Long> favoriteCourseIds, List<RecommendedEntry> recommendedCourses) {
+        this.catalog = catalog;
+        this.loadedAt = LocalDateTime.now();
+        this.userId = user.getId();
+        this.studentId = user.getStudentId();
+        this.name = user.getName();
+        this.grade = user.getGrade();
+        this.semester = user.getSemester();
+        this.gpa = user.getGpa();
+        this.earnedCredits = user.getEarnedCredits();
+        this.timetable = user.getTimetable();
+        this.tracks = List.copyOf(tracks);
+        this.completedCourses = List.copyOf(completedCourses);
+        this.enrolledCourseIds = List.copyOf(enrolledCourseIds);
+        this.recommendedCourses = List.copyOf(recommendedCourses);
+
+        Map<Integer, CompletedEntry> byOrdinal = new HashMap<>();
+        this.completed = new BitSet(catalog.size());
+        for (CompletedEntry entry : this.completedCourses) {
+            int ordinal = catalog.ordinalOf(entry.courseId());
+            if (ordinal >= 0) {
+                completed.set(ordinal);
+                byOrdinal.putIfAbsent(ordinal, entry);
+            }
+        }
+        this.completedByOrdinal = Map.copyOf(byOrdinal);
+        this.enrolled = toOrdinals(catalog, this.enrolledCourseIds);
+        this.favorite = toOrdinals(catalog, favoriteCourseIds);
+    }
+
+    /**
+     * DB 조회 결과로 스냅샷 생성 (트랜잭션 안에서 호출, 연관 과목/트랙은 ID 만 읽음)
+     *
+     * @param userTracks 트랙을 함께 조회한 사용자 트랙
+     */
+    static StudentAcademicSnapshot of(CourseCatalogSnapshot catalog, Users user, List<UserTrack> userTracks,
+                                      List<CompletedCourse> completedCourses, List<Long> enrolledCourseIds,
+                                      List<Long> favoriteCourseIds, List<RecommendedCourse> recommendedCourses) {
+        List<TrackEntry> tracks = new ArrayList<>(userTracks.size());
+        for (UserTrack userTrack : userTracks) {
+            tracks.add(new TrackEntry(userTrack.getTrack().getId(), userTrack.getTrack().getTrackName(),
+                    userTrack.getTrackType()));
+        }
+
+        List<CompletedEntry> completed = new ArrayList<>(completedCourses.size());
+        for (CompletedCourse completedCourse : completedCourses) {
+            completed.add(new CompletedEntry(completedCourse.getCourse().getId(),
+                    completedCourse.getTrack() != null ? completedCourse.getTrack().getId() : null,
+                    completedCourse.getGradeLevel(), completedCourse.getCompletedSemester(),
+                    completedCourse.getCompletedGrade()));
+        }
+
+        List<RecommendedEntry> recommended = new ArrayList<>(recommendedCourses.size());
+        for (RecommendedCourse recommendedCourse : recommendedCourses) {
+            recommended.add(new RecommendedEntry(recommendedCourse.getCourse().getId(),
+                    recommendedCourse.getRecommendGrade(), recommendedCourse.getRecommendSemester(),
+                    recommendedCourse.getRecommendDescription()));
+        }
+
+        return new StudentAcademicSnapshot(catalog, user, tracks, completed, enrolledCourseIds, favoriteCourseIds, recommended);
+    }
+
+    private static BitSet toOrdinals(CourseCatalogSnapshot catalog, List<Long> courseIds) {
+        BitSet ordinals = new BitSet(catalog.size());
+        for (Long courseId : courseIds) {
+            int ordinal = catalog.ordinalOf(courseId);
+            if (ordinal >= 0) {
+                ordinals.set(ordinal);
+            }
+        }
+        return ordinals;
+    }
+
+    // 스냅샷을 만들 때 사용한 과목 카탈로그 (마스크 순번 기준)
+    public CourseCatalogSnapshot catalog() {
+        return catalog;
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    public Long userId() {
+        return userId;
+    }
+
+    public String studentId() {
+        return studentId;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Integer grade() {
+        return grade;
+    }
+
+    public Semester semester() {
+        return semester;
+    }
+
+    public BigDecimal gpa() {
+        return gpa;
+    }
+
+    public Integer earnedCredits() {
+        return earnedCredits;
+    }
+
+    // 시간표 JSON 문자열
+    public String timetable() {
+        return timetable;
+    }
+
+    public List<TrackEntry> tracks() {
+        return tracks;
+    }
+
+    public List<Long> trackIds() {
+        return tracks.stream().map(TrackEntry::trackId).toList();
+    }
+
+    public List<String> trackNames() {
+        return tracks.stream().map(TrackEntry::trackName).toList();
+    }
+
+    public Optional<TrackEntry> findTrack(TrackType trackType) {
+        return tracks.stream().filter(track -> track.trackType() == trackType).findFirst();
+    }
+
+    // 조회 순서 그대로의 이수 기록 (같은 과목 재수강 기록 포함)
+    public List<CompletedEntry> completedCourses() {
+        return completedCourses;
+    }
+
+    public Optional<CompletedEntry> findCompleted(int ordinal) {
+        return Optional.ofNullable(completedByOrdinal.get(ordinal));
+    }
+
+    public List<Long> enrolledCourseIds() {
+        return enrolledCourseIds;
+    }
+
+    public List<RecommendedEntry> recommendedCourses() {
+        return recommendedCourses;
+    }
+
+    public List<RecommendedEntry> recommendedCoursesIn(Integer recommendGrade, Semester recommendSemester) {
+        return recommendedCourses.stream()
+                .filter(course -> Objects.equals(course.recommendGrade(), recommendGrade)
+                        && course.recommendSemester() == recommendSemester)
+                .toList();
+    }
+
+    // 이수한 과목 순번 (복사본)
+    public BitSet completedMask() {
+        return (BitSet) completed.clone();
+    }
+
+    // 수강 중인 과목 순번 (복사본)
+    public BitSet enrolledMask() {
+        return (BitSet) enrolled.clone();
+    }
+
+    // 관심과목 순번 (복사본)
+    public BitSet favoriteMask() {
+        return (BitSet) favorite.clone();
+    }
+
+    public boolean isCompleted(int ordinal) {
+        return completed.get(ordinal);
+    }
+
+    public boolean isFavorite(int ordinal) {
+        return favorite.get(ordinal);
+    }
+}
@@ -0,0 +1,172 @@
+package grit.guidance.domain.user.service;
+
+import grit.guidance.domain.course.service.CourseCatalog;
+import grit.guidance.domain.course.service.CourseCatalogSnapshot;
+import grit.guidance.domain.roadmap.repository.RecommendedCourseRepository;
+import grit.guidance.domain.user.event.StudentAcademicDataChangedEvent;
+import grit.guidance.domain.user.repository.CompletedCourseRepository;
+import grit.guidance.domain.user.repository.EnrolledCourseRepository;
+import grit.guidance.domain.user.repository.FavoriteCourseRepository;
+import grit.guidance.domain.user.repository.UserTrackRepository;
+import grit.guidance.domain.user.repository.UsersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학생 학업 상태 스냅샷 캐시 (학번 → StudentAcademicSnapshot)
+ * - 크기가 제한된 메모리 LRU 캐시 (TTL 적용), 대시보드/로드맵/시뮬레이션/과목 조회가 같은 스냅샷을 공유
+ * - 동기화/관심과목/추천 과목 저장 커밋 후 StudentAcademicDataChangedEvent 로 해당 학생 항목을 무효화
+ * - 과목 카탈로그 스냅샷이 교체되면 순번이 달라질 수 있으므로 다음 조회 때 다시 생성
+ */
+@Slf4j
+@Component
+public class StudentAcademicSnapshotCache {
+
+    private final CourseCatalog courseCatalog;
+    private final UsersRepository usersRepository;
+    private final UserTrackRepository userTrackRepository;
+    private final CompletedCourseRepository completedCourseRepository;
+    private final EnrolledCourseRepository enrolledCourseRepository;
+    private final FavoriteCourseRepository favoriteCourseRepository;
+    private final RecommendedCourseRepository recommendedCourseRepository;
+    private final TransactionTemplate readTransaction;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Map<String, Entry> cache;
+
+    // 무효화 횟수 (조회 중에 무효화가 있었으면 읽은 결과를 캐시에 넣지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private record Entry(StudentAcademicSnapshot snapshot, LocalDateTime expiresAt) {
+    }
+
+    public StudentAcademicSnapshotCache(CourseCatalog courseCatalog,
+                                        UsersRepository usersRepository,
+                                        UserTrackRepository userTrackRepository,
+                                        CompletedCourseRepository completedCourseRepository,
+                                        EnrolledCourseRepository enrolledCourseRepository,
+                                        FavoriteCourseRepository favoriteCourseRepository,
+                                        RecommendedCourseRepository recommendedCourseRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${user.academic-snapshot-cache.ttl-minutes:30}") long ttlMinutes,
+                                        @Value("${user.academic-snapshot-cache.max-entries:1000}") int maxEntries) {
+        this.courseCatalog = courseCatalog;
+        this.usersRepository = usersRepository;
+        this.userTrackRepository = userTrackRepository;
+        this.completedCourseRepository = completedCourseRepository;
+        this.enrolledCourseRepository = enrolledCourseRepository;
+        this.favoriteCourseRepository = favoriteCourseRepository;
+        this.recommendedCourseRepository = recommendedCourseRepository;
+        // 호출한 쪽 트랜잭션의 커밋 전 변경 내용이 캐시에 들어가지 않도록 새 트랜잭션에서 커밋된 데이터만 조회
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxEntries = maxEntries;
+        // accessOrder=true 로 LRU 동작, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목 제거
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > StudentAcademicSnapshotCache.this.maxEntries;
+            }
+        };
+        log.info("학생 학업 상태 캐시 초기화 - ttl: {}분, maxEntries: {}", ttlMinutes, maxEntries);
+    }
+
+    /**
+     * 학생 학업 상태 조회 (캐시에 없거나 만료/카탈로그 변경 시 DB 에서 생성), 사용자가 없으면 empty
+     */
+    public Optional<StudentAcademicSnapshot> find(String studentId) {
+        CourseCatalogSnapshot catalog = courseCatalog.snapshot();
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (cache) {
+            Entry entry = cache.get(studentId);
+            if (entry != null) {
+                if (!entry.expiresAt().isBefore(now) && entry.snapshot().catalog().version() == catalog.version()) {
+                    hits.incrementAndGet();
+                    return Optional.of(entry.snapshot());
+                }
+                cache.remove(studentId);
+            }
+        }
+
+        misses.incrementAndGet();
+        long generation = invalidations.get();
+        StudentAcademicSnapshot snapshot = load(studentId, catalog);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        synchronized (cache) {
+            // 읽는 동안 무효화가 있었다면 이미 지난 데이터일 수 있으므로 저장하지 않음
+            if (invalidations.get() == generation) {
+                cache.put(studentId, new Entry(snapshot, now.plus(ttl)));
+            }
+        }
+        return Optional.of(snapshot);
+    }
+
+    private StudentAcademicSnapshot load(String studentId, CourseCatalogSnapshot catalog) {
+        long startedAt = System.currentTimeMillis();
+        StudentAcademicSnapshot snapshot = readTransaction.execute(status -> usersRepository.findByStudentId(studentId)
+                .map(user -> StudentAcademicSnapshot.of(catalog, user,
+                        userTrackRepository.findWithTrackByUserId(user.getId()),
+                        completedCourseRepository.findByUsers(user),
+                        enrolledCourseRepository.findCourseIdsByUserId(user.getId()),
+                        favoriteCourseRepository.findCourseIdsByUserId(user.getId()),
+                        recommendedCourseRepository.findAllByUser(user)))
+                .orElse(null));
+        if (snapshot != null) {
+            log.debug("학생 학업 상태 생성 - studentId: {}, catalogVersion: {}, {}ms",
+                    studentId, catalog.version(), System.currentTimeMillis() - startedAt);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 학생 항목 무효화 (다음 조회 때 다시 생성)
+     */
+    public void invalidate(String studentId) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.remove(studentId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentAcademicDataChanged(StudentAcademicDataChangedEvent event) {
+        invalidate(event.studentId());
+        log.debug("학생 학업 상태 캐시 무효화 ({}) - studentId: {}", event.reason(), event.studentId());
+    }
+
+    /**
+     * 캐시 통계 (메모리 항목 수, 적중/미스)
+     */
+    public Map<String, Object> stats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return Map.of(
+                "size", size,
+                "hits", hits.get(),
+                "misses", misses.get(),
+                "invalidations", invalidations.get()
+        );
+    }
+}
@@ -3,8 +3,8 @@ package grit.guidance.domain.user.service;
 import grit.guidance.domain.course.entity.Course;
 import grit.guidance.domain.course.entity.Semester;
 import grit.guidance.domain.course.entity.Track;
-import grit.guidance.domain.course.repository.CourseRepository;
 import grit.guidance.domain.course.repository.TrackRepository;
+import grit.guidance.domain.course.service.CourseCatalog;
 import grit.guidance.domain.graduation.entity.CrawlingGraduation;
 import grit.guidance.domain.graduation.repository.CrawlingGraduationRepository;
 import grit.guidance.domain.user.dto.HansungDataResponse;
@@ -12,12 +12,14 @@ import grit.guidance.domain.user.dto.MajorRequiredCreditsResponse;
 import grit.guidance.domain.user.dto.SemesterGradeResponse;
 import grit.guidance.domain.user.dto.CourseGradeResponse;
 import grit.guidance.domain.user.entity.*;
+import grit.guidance.domain.user.event.StudentAcademicDataChangedEvent;
 import grit.guidance.domain.user.repository.CompletedCourseRepository;
 import grit.guidance.domain.user.repository.GraduationRequirementRepository;
 import grit.guidance.domain.user.repository.UserTrackRepository;
 import grit.guidance.domain.user.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,12 +41,13 @@ public class UserAcademicInfoSyncService {
 
     private final UsersCrawlingService crawlingService;
     private final UsersRepository usersRepository;
-    private final CourseRepository courseRepository;
+    private final CourseCatalog courseCatalog;
     private final TrackRepository trackRepository;
     private final UserTrackRepository userTrackRepository;
     private final CompletedCourseRepository completedCourseRepository;
     private final CrawlingGraduationRepository crawlingGraduationRepository;
     private final GraduationRequirementRepository graduationRequirementRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void syncHansungInfo(String studentId, String password) {
@@ -102,6 +105,9 @@ public class UserAcademicInfoSyncService {
             // ⭐ GraduationRequirement 저장 로직 추가
             saveOrUpdateGraduationRequirement(users);
 
+            // 커밋 후 학생 학업 상태 캐시 무효화
+            eventPublisher.publishEvent(new StudentAcademicDataChangedEvent(studentId, "sync"));
+
             log.info("{} 학생 정보 동기화 완료", studentId);
 
             log.info("{} 학생 정보 동기화 완료", studentId);
@@ -217,7 +223,7 @@ public class UserAcademicInfoSyncService {
         List<CompletedCourse> newCompletedCourses = semesters.stream()
                 .flatMap(semester -> semester.courses().stream()
                         .map(courseGrade -> {
-                            Optional<Course> courseOpt = courseRepository.findByCourseCode(courseGrade.code());
+                            Optional<Course> courseOpt = courseCatalog.referenceByCode(courseGrade.code());
                             if (courseOpt.isPresent()) {
                                 Course course = courseOpt.get();
 
@@ -236,7 +242,7 @@ public class UserAcademicInfoSyncService {
 
                                     if (track == null) {
                                         log.warn("DB에 존재하지 않는 트랙 이름입니다: {}({}). 해당 트랙 정보를 저장하지 않습니다.",
-                                                trackStatus, course.getCourseName());
+                                                trackStatus, courseGrade.name());
                                     }
                                 }
 
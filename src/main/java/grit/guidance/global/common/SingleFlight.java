@@ -0,0 +1,70 @@
+package grit.guidance.global.common;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 작업이 진행 중이면 새로 실행하지 않고 진행 중인 작업의 결과를 함께 받음 (single-flight)
+ * - 처음 들어온 요청이 호출 스레드에서 작업을 실행하고, 나머지는 완료될 때까지 기다렸다가 같은 결과(또는 같은 예외)를 받음
+ * - 결과는 저장하지 않음: 작업이 끝나면 키를 지우므로 이후 요청은 다시 실행됨
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public V execute(K key, Supplier<V> task) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V result = task.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // 현재 진행 중인 작업 수
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // 실제로 실행한 작업 수
+    public long executionCount() {
+        return executions.get();
+    }
+
+    // 진행 중인 작업에 합류한 요청 수
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+}
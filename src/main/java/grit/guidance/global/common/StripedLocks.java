@@ -0,0 +1,39 @@
+package grit.guidance.global.common;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 키별 직렬화용 잠금 (키의 해시로 고정 개수의 잠금 중 하나를 사용)
+ * - 같은 키의 작업은 항상 같은 잠금을 사용하므로 순서대로 실행됨 (다른 키가 같은 잠금을 공유할 수는 있음)
+ * - 키마다 잠금을 만들지 않으므로 사용자 수가 늘어도 메모리가 늘지 않음
+ * - ReentrantLock 을 사용하여 가상 스레드에서도 캐리어 스레드를 점유하지 않음
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+
+    public StripedLocks(int stripes) {
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(Object key, Supplier<T> task) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키에 해당하는 잠금 (여러 호출에 걸쳐 잠금을 유지해야 할 때 직접 lock/unlock, 같은 스레드에서 해제해야 함)
+     */
+    public ReentrantLock lockFor(Object key) {
+        return locks[Math.floorMod(key.hashCode(), locks.length)];
+    }
+}
@@ -0,0 +1,252 @@
+package grit.guidance.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API(Qdrant, OpenAI 채팅, OpenAI 임베딩)용 공용 HTTP 클라이언트
+ * - 대상별로 Apache HttpClient5 커넥션 풀을 하나씩 두고 재사용 (keep-alive)
+ * - 연결/응답 타임아웃, 대상별 최대 동시 요청 수 제한 (응답 본문을 닫을 때까지 한 요청으로 계산)
+ * - 임베딩은 채팅과 따로 제한해서 긴 채팅 호출(스트리밍 포함)이 검색 쿼리 임베딩을 막지 않도록 함
+ * - 대상별 지연시간(outbound.http.requests)과 커넥션 풀 사용량(outbound.http.pool.*) 메트릭 노출
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients {
+
+    private final Upstream qdrant;
+    private final Upstream openAi;
+    private final Upstream openAiEmbedding;
+
+    public OutboundHttpClients(MeterRegistry meterRegistry,
+                               @Value("${outbound.qdrant.max-connections:20}") int qdrantMaxConnections,
+                               @Value("${outbound.qdrant.max-concurrency:16}") int qdrantMaxConcurrency,
+                               @Value("${outbound.qdrant.connect-timeout-ms:1000}") long qdrantConnectTimeoutMs,
+                               @Value("${outbound.qdrant.read-timeout-ms:5000}") long qdrantReadTimeoutMs,
+                               @Value("${outbound.openai.max-connections:20}") int openAiMaxConnections,
+                               @Value("${outbound.openai.max-concurrency:8}") int openAiMaxConcurrency,
+                               @Value("${outbound.openai.connect-timeout-ms:3000}") long openAiConnectTimeoutMs,
+                               @Value("${outbound.openai.read-timeout-ms:60000}") long openAiReadTimeoutMs,
+                               @Value("${outbound.openai-embedding.max-connections:20}") int embeddingMaxConnections,
+                               @Value("${outbound.openai-embedding.max-concurrency:16}") int embeddingMaxConcurrency,
+                               @Value("${outbound.openai-embedding.connect-timeout-ms:3000}") long embeddingConnectTimeoutMs,
+                               @Value("${outbound.openai-embedding.read-timeout-ms:30000}") long embeddingReadTimeoutMs,
+                               @Value("${outbound.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        this.qdrant = new Upstream("qdrant", meterRegistry, qdrantMaxConnections, qdrantMaxConcurrency,
+                qdrantConnectTimeoutMs, qdrantReadTimeoutMs, acquireTimeoutMs);
+        this.openAi = new Upstream("openai", meterRegistry, openAiMaxConnections, openAiMaxConcurrency,
+                openAiConnectTimeoutMs, openAiReadTimeoutMs, acquireTimeoutMs);
+        this.openAiEmbedding = new Upstream("openai-embedding", meterRegistry, embeddingMaxConnections,
+                embeddingMaxConcurrency, embeddingConnectTimeoutMs, embeddingReadTimeoutMs, acquireTimeoutMs);
+    }
+
+    /**
+     * Qdrant REST API용 RestTemplate
+     */
+    public RestTemplate qdrant() {
+        return qdrant.restTemplate;
+    }
+
+    /**
+     * OpenAI 채팅 API용 RestTemplate
+     */
+    public RestTemplate openAi() {
+        return openAi.restTemplate;
+    }
+
+    /**
+     * OpenAI 임베딩 API용 RestTemplate (채팅과 별도 커넥션 풀/동시 요청 수 제한)
+     */
+    public RestTemplate openAiEmbedding() {
+        return openAiEmbedding.restTemplate;
+    }
+
+    @PreDestroy
+    public void close() {
+        qdrant.close();
+        openAi.close();
+        openAiEmbedding.close();
+    }
+
+    /**
+     * 외부 API 대상 하나에 대한 커넥션 풀 + 동시성 제한 + 메트릭
+     */
+    private static final class Upstream {
+
+        private final String name;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final CloseableHttpClient httpClient;
+        private final RestTemplate restTemplate;
+
+        Upstream(String name, MeterRegistry meterRegistry, int maxConnections, int maxConcurrency,
+                 long connectTimeoutMs, long readTimeoutMs, long acquireTimeoutMs) {
+            this.name = name;
+            this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnections)
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                            .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                            .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                            .setTimeToLive(TimeValue.ofMinutes(5))
+                            .build())
+                    .build();
+            this.httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                            .build())
+                    .evictIdleConnections(TimeValue.ofSeconds(30))
+                    .disableCookieManagement()
+                    .build();
+
+            Semaphore permits = new Semaphore(maxConcurrency);
+            this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+            this.restTemplate.getInterceptors().add(limitingInterceptor(meterRegistry, permits, acquireTimeoutMs));
+
+            Gauge.builder("outbound.http.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                    .tag("upstream", name).description("사용 중인 커넥션 수").register(meterRegistry);
+            Gauge.builder("outbound.http.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                    .tag("upstream", name).description("유휴 커넥션 수").register(meterRegistry);
+            Gauge.builder("outbound.http.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                    .tag("upstream", name).description("커넥션 대기 중인 요청 수").register(meterRegistry);
+            Gauge.builder("outbound.http.pool.max", connectionManager, cm -> cm.getTotalStats().getMax())
+                    .tag("upstream", name).description("최대 커넥션 수").register(meterRegistry);
+            Gauge.builder("outbound.http.inflight", permits, p -> maxConcurrency - p.availablePermits())
+                    .tag("upstream", name).description("처리 중인 요청 수").register(meterRegistry);
+
+            log.info("외부 HTTP 클라이언트 초기화 - {}: maxConnections={}, maxConcurrency={}, connectTimeout={}ms, readTimeout={}ms",
+                    name, maxConnections, maxConcurrency, connectTimeoutMs, readTimeoutMs);
+        }
+
+        /**
+         * 동시 요청 수 제한 + 요청별 지연시간 기록
+         * 허가와 타이머는 응답 헤더가 아니라 응답을 닫을 때 반환/종료 (RestTemplate 은 본문을 다 읽은 뒤 응답을 닫음)
+         * 스트리밍 응답도 본문을 읽는 동안 동시 요청 수에 포함되고 본문 수신 시간까지 지연시간에 기록됨
+         */
+        private ClientHttpRequestInterceptor limitingInterceptor(MeterRegistry meterRegistry, Semaphore permits,
+                                                                 long acquireTimeoutMs) {
+            return (request, body, execution) -> {
+                boolean acquired;
+                try {
+                    acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ResourceAccessException(name + " 요청 대기 중 인터럽트되었습니다.");
+                }
+                if (!acquired) {
+                    meterRegistry.counter("outbound.http.rejected", "upstream", name).increment();
+                    throw new ResourceAccessException(name + " 동시 요청 한도를 초과했습니다.");
+                }
+
+                Timer.Sample sample = Timer.start(meterRegistry);
+                String method = request.getMethod().name();
+                ClientHttpResponse response = null;
+                try {
+                    response = execution.execute(request, body);
+                    String outcome = String.valueOf(response.getStatusCode().value());
+                    return new PermitReleasingResponse(response,
+                            () -> finish(meterRegistry, permits, sample, method, outcome));
+                } catch (IOException | RuntimeException e) {
+                    if (response != null) {
+                        response.close();
+                    }
+                    finish(meterRegistry, permits, sample, method, "IO_ERROR");
+                    throw e;
+                }
+            };
+        }
+
+        private void finish(MeterRegistry meterRegistry, Semaphore permits, Timer.Sample sample, String method,
+                            String outcome) {
+            permits.release();
+            sample.stop(Timer.builder("outbound.http.requests")
+                    .tag("upstream", name)
+                    .tag("method", method)
+                    .tag("status", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+
+        void close() {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("{} HTTP 클라이언트 종료 실패: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 응답을 닫을 때 (한 번만) 동시 요청 허가 반환 + 지연시간 기록
+     */
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        PermitReleasingResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
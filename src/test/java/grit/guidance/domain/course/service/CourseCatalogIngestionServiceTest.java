@@ -0,0 +1,204 @@
+package grit.guidance.domain.course.service;
+
+import grit.guidance.domain.course.entity.Track;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.profiles.active=test",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:ingestiondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "vector.store.type=memory",
+        "embedding.cache.disk-enabled=false",
+        "spring.autoconfigure.exclude[0]=org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+        "spring.autoconfigure.exclude[1]=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.autoconfigure.exclude[2]=org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration",
+        "spring.autoconfigure.exclude[3]=org.springframework.ai.autoconfigure.openai.OpenAiAutoConfiguration",
+        "spring.autoconfigure.exclude[4]=org.springframework.ai.autoconfigure.chat.client.ChatClientAutoConfiguration",
+        "spring.autoconfigure.exclude[5]=org.springframework.ai.autoconfigure.chat.observation.ChatObservationAutoConfiguration",
+        "spring.autoconfigure.exclude[6]=org.springframework.ai.autoconfigure.vectorstore.qdrant.QdrantVectorStoreAutoConfiguration",
+        "spring.autoconfigure.exclude[7]=org.springframework.ai.autoconfigure.embedding.openai.OpenAiEmbeddingAutoConfiguration",
+        "spring.autoconfigure.exclude[8]=org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration",
+        "spring.main.web-application-type=none",
+        "logging.level.org.springframework.security=OFF",
+        "logging.level.org.springframework.web=OFF",
+        "logging.level.org.springframework.ai=OFF"
+    }
+)
+@Transactional
+class CourseCatalogIngestionServiceTest {
+
+    private static final List<String> TRACKS = List.of("웹공학트랙", "모바일소프트웨어트랙", "빅데이터트랙", "디지털콘텐츠·가상현실트랙");
+
+    @Autowired
+    private CourseCatalogIngestionService ingestionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // courses.json 이 참조하는 트랙
+        for (String trackName : TRACKS) {
+            entityManager.persist(Track.builder().trackName(trackName).build());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("처음 반영하면 과목 코드가 같은 레코드는 한 과목으로 추가한다")
+    void upsertFromJson_InsertsDistinctCourses() {
+        // when
+        Map<String, Object> summary = ingestionService.upsertFromJson();
+
+        // then: 트랙별로 나뉜 레코드가 과목 코드 기준으로 합쳐짐
+        Map<String, Object> courses = changes(summary, "courses");
+        int activeCourses = countActiveCourses();
+        assertEquals(activeCourses, courses.get("inserted"));
+        assertEquals(0, courses.get("updated"));
+        assertEquals(0, courses.get("deleted"));
+        assertEquals(activeCourses, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT course_code) FROM course WHERE deleted_at IS NULL", Integer.class));
+        assertTrue((int) summary.get("rows") > activeCourses);
+        assertTrue((int) changes(summary, "requirements").get("inserted") >= activeCourses);
+        assertTrue((int) changes(summary, "prerequisites").get("inserted") > 0);
+        assertEquals(true, summary.get("changed"));
+    }
+
+    @Test
+    @DisplayName("같은 JSON 을 다시 반영하면 아무것도 바꾸지 않고 과목 ID 를 유지한다")
+    void upsertFromJson_ReloadKeepsIds() {
+        // given
+        ingestionService.upsertFromJson();
+        Map<String, Long> idsBefore = courseIdsByCode();
+
+        // when
+        Map<String, Object> summary = ingestionService.upsertFromJson();
+
+        // then
+        assertNoChanges(changes(summary, "courses"));
+        assertNoChanges(changes(summary, "requirements"));
+        assertNoChanges(changes(summary, "prerequisites"));
+        assertEquals(idsBefore.size(), changes(summary, "courses").get("unchanged"));
+        assertEquals(false, summary.get("changed"));
+        assertEquals(idsBefore, courseIdsByCode());
+    }
+
+    @Test
+    @DisplayName("바뀐 과목은 같은 ID 로 수정하고, JSON 에 설명이 없으면 크롤링된 설명을 유지한다")
+    void upsertFromJson_UpdatesInPlaceAndKeepsCrawledDescription() {
+        // given: 한 과목은 크롤링된 설명만 추가, 다른 과목은 과목명이 DB 에서 바뀐 상태
+        ingestionService.upsertFromJson();
+        Map<String, Long> idsBefore = courseIdsByCode();
+        List<String> codes = idsBefore.keySet().stream().sorted().toList();
+        String crawledCode = codes.get(0);
+        String renamedCode = codes.get(1);
+        String originalName = courseName(renamedCode);
+        jdbcTemplate.update("UPDATE course SET course_description = ? WHERE course_code = ?", "크롤링된 설명", crawledCode);
+        jdbcTemplate.update("UPDATE course SET course_name = ? WHERE course_code = ?", "예전 과목명", renamedCode);
+
+        // when
+        Map<String, Object> summary = ingestionService.upsertFromJson();
+
+        // then
+        Map<String, Object> courses = changes(summary, "courses");
+        assertEquals(0, courses.get("inserted"));
+        assertEquals(1, courses.get("updated"));
+        assertEquals(0, courses.get("deleted"));
+        assertEquals("크롤링된 설명", jdbcTemplate.queryForObject(
+                "SELECT course_description FROM course WHERE course_code = ?", String.class, crawledCode));
+        assertEquals(originalName, courseName(renamedCode));
+        assertEquals(idsBefore, courseIdsByCode());
+    }
+
+    @Test
+    @DisplayName("JSON 에 없는 과목과 DB 에 중복된 과목 코드는 소프트 삭제하고 가장 작은 ID 를 유지한다")
+    void upsertFromJson_SoftDeletesRemovedAndDuplicateCourses() {
+        // given: JSON 에 없는 과목 하나와 기존 과목 코드를 중복으로 가진 과목 하나
+        ingestionService.upsertFromJson();
+        Map<String, Long> idsBefore = courseIdsByCode();
+        String duplicatedCode = idsBefore.keySet().stream().sorted().findFirst().orElseThrow();
+        insertCourse("X999999", "없어진 과목");
+        insertCourse(duplicatedCode, "중복 과목");
+        Long removedId = courseId("X999999");
+        Long duplicateId = jdbcTemplate.queryForObject(
+                "SELECT MAX(course_id) FROM course WHERE course_code = ?", Long.class, duplicatedCode);
+
+        // when
+        Map<String, Object> summary = ingestionService.upsertFromJson();
+
+        // then
+        Map<String, Object> courses = changes(summary, "courses");
+        assertEquals(0, courses.get("inserted"));
+        assertEquals(0, courses.get("updated"));
+        assertEquals(2, courses.get("deleted"));
+        assertEquals(true, summary.get("changed"));
+        assertTrue(isDeleted(removedId));
+        assertTrue(isDeleted(duplicateId));
+        assertEquals(idsBefore, courseIdsByCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> changes(Map<String, Object> summary, String key) {
+        return (Map<String, Object>) summary.get(key);
+    }
+
+    private static void assertNoChanges(Map<String, Object> changes) {
+        assertEquals(0, changes.get("inserted"));
+        assertEquals(0, changes.getOrDefault("updated", 0));
+        assertEquals(0, changes.get("deleted"));
+    }
+
+    private int countActiveCourses() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM course WHERE deleted_at IS NULL", Integer.class);
+    }
+
+    private Map<String, Long> courseIdsByCode() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT course_id, course_code FROM course WHERE deleted_at IS NULL",
+                rs -> {
+                    assertNull(ids.put(rs.getString("course_code"), rs.getLong("course_id")));
+                });
+        return ids;
+    }
+
+    private Long courseId(String courseCode) {
+        return jdbcTemplate.queryForObject(
+                "SELECT course_id FROM course WHERE course_code = ? AND deleted_at IS NULL", Long.class, courseCode);
+    }
+
+    private String courseName(String courseCode) {
+        return jdbcTemplate.queryForObject(
+                "SELECT course_name FROM course WHERE course_code = ? AND deleted_at IS NULL", String.class, courseCode);
+    }
+
+    private boolean isDeleted(Long courseId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT deleted_at IS NOT NULL FROM course WHERE course_id = ?", Boolean.class, courseId);
+    }
+
+    private void insertCourse(String courseCode, String courseName) {
+        jdbcTemplate.update("INSERT INTO course (course_name, course_code, credits, open_grade, open_semester, created_at, updated_at) " +
+                "VALUES (?, ?, 3, 1, 'FIRST', NOW(), NOW())", courseName, courseCode);
+    }
+}
@@ -0,0 +1,127 @@
+package grit.guidance.domain.course.service;
+
+import grit.guidance.domain.course.entity.Semester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrerequisiteGraphTest {
+
+    @Test
+    @DisplayName("순환을 만드는 간선은 제외하고 cycles() 에 기록한다")
+    void of_DropsCycleEdge() {
+        // given: 1 → 3 → 2 → 1 (과목 → 선수과목)
+        PrerequisiteGraph graph = PrerequisiteGraph.of(courses(1L, 2L, 3L), Map.of(
+                1L, List.of(3L),
+                3L, List.of(2L),
+                2L, List.of(1L)
+        ));
+
+        // then: 순환 하나가 기록되고, 탐색 중 되돌아간 간선(2 → 1)만 제외됨
+        assertEquals(1, graph.cycles().size());
+        assertEquals(3, graph.cycles().get(0).size());
+        assertTrue(graph.cycles().get(0).containsAll(List.of(1L, 2L, 3L)));
+        assertEquals(List.of(), graph.directPrerequisiteIds(2L));
+        assertEquals(List.of(2L), graph.directPrerequisiteIds(3L));
+        assertEquals(List.of(3L), graph.directPrerequisiteIds(1L));
+        assertTrue(graph.requires(1L, 2L));
+        assertFalse(graph.requires(2L, 1L));
+        assertTopologicalOrder(graph);
+    }
+
+    @Test
+    @DisplayName("다이아몬드 관계의 전체 선수과목과 깊이를 계산한다")
+    void of_DiamondClosure() {
+        // given: 2, 3 은 1 이 선수과목, 4 는 2, 3 이 선수과목
+        PrerequisiteGraph graph = PrerequisiteGraph.of(courses(1L, 2L, 3L, 4L), Map.of(
+                2L, List.of(1L),
+                3L, List.of(1L),
+                4L, List.of(2L, 3L)
+        ));
+
+        // then
+        assertTrue(graph.cycles().isEmpty());
+        assertEquals(List.of(1L, 2L, 3L), graph.allPrerequisiteIds(4L));
+        assertEquals(List.of(1L), graph.allPrerequisiteIds(2L));
+        assertEquals(3, graph.depthOf(4L));
+        assertEquals(1, graph.depthOf(1L));
+        assertTrue(graph.requires(4L, 1L));
+        assertFalse(graph.requires(1L, 4L));
+        assertEquals(List.of(2L, 3L), graph.toCourseIds(graph.dependents(graph.ordinalOf(1L))));
+        assertEquals(List.of(2L, 3L), graph.toCourseIds(graph.unlockedBy(graph.toOrdinals(List.of(1L)))));
+        assertEquals(List.of(3L), graph.toCourseIds(graph.unlockedBy(graph.toOrdinals(List.of(1L, 2L)))));
+        assertEquals(List.of(3L), graph.missingPrerequisiteIds(4L, graph.toOrdinals(List.of(1L, 2L))));
+        assertTopologicalOrder(graph);
+    }
+
+    @Test
+    @DisplayName("이수한 과목을 제외한 가장 긴 선수과목 사슬을 찾는다")
+    void longestRemainingChain_SkipsCompletedCourses() {
+        // given: 1 ← 2 ← 3 ← 4 사슬과 선수과목이 없는 5
+        PrerequisiteGraph graph = PrerequisiteGraph.of(courses(1L, 2L, 3L, 4L, 5L), Map.of(
+                2L, List.of(1L),
+                3L, List.of(2L),
+                4L, List.of(3L)
+        ));
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L, 4L), graph.longestRemainingChain(new BitSet()));
+        assertEquals(List.of(3L, 4L), graph.longestRemainingChain(graph.toOrdinals(List.of(1L, 2L))));
+        assertEquals(List.of(5L), graph.longestRemainingChain(graph.toOrdinals(List.of(1L, 2L, 3L, 4L))));
+        assertEquals(List.of(), graph.longestRemainingChain(graph.toOrdinals(List.of(1L, 2L, 3L, 4L, 5L))));
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 과목을 가리키는 선수과목 관계는 무시한다")
+    void of_IgnoresUnknownCourseIds() {
+        // given: 1 의 선수과목 99, 카탈로그에 없는 77 의 선수과목 1
+        PrerequisiteGraph graph = PrerequisiteGraph.of(courses(1L, 2L), Map.of(
+                1L, List.of(99L),
+                77L, List.of(1L),
+                2L, List.of(1L, 99L)
+        ));
+
+        // then
+        assertTrue(graph.cycles().isEmpty());
+        assertEquals(-1, graph.ordinalOf(99L));
+        assertEquals(List.of(), graph.directPrerequisiteIds(1L));
+        assertEquals(List.of(1L), graph.directPrerequisiteIds(2L));
+        assertEquals(List.of(), graph.allPrerequisiteIds(99L));
+        assertEquals(0, graph.depthOf(99L));
+        assertEquals(List.of(), graph.missingPrerequisiteIds(1L, new BitSet()));
+        assertTrue(graph.dependents(graph.ordinalOf(2L)).isEmpty());
+        assertFalse(graph.requires(77L, 1L));
+    }
+
+    // 과목 ID 순서대로 순번을 매긴 카탈로그 과목 목록
+    private static List<CourseCatalogSnapshot.CourseEntry> courses(Long... ids) {
+        List<CourseCatalogSnapshot.CourseEntry> courses = new ArrayList<>();
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            courses.add(new CourseCatalogSnapshot.CourseEntry(ordinal, ids[ordinal], "V" + ids[ordinal],
+                    "과목" + ids[ordinal], 3, 1, Semester.FIRST, null));
+        }
+        return courses;
+    }
+
+    // 위상 순서에서 모든 선수과목이 과목보다 먼저 나와야 함
+    private static void assertTopologicalOrder(PrerequisiteGraph graph) {
+        int[] order = graph.topologicalOrder();
+        assertEquals(graph.size(), order.length);
+        int[] position = new int[graph.size()];
+        for (int i = 0; i < order.length; i++) {
+            position[order[i]] = i;
+        }
+        for (int course = 0; course < graph.size(); course++) {
+            BitSet prerequisites = graph.allPrerequisites(course);
+            for (int p = prerequisites.nextSetBit(0); p >= 0; p = prerequisites.nextSetBit(p + 1)) {
+                assertTrue(position[p] < position[course]);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.entity.Course;
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.entity.Semester;
+import grit.guidance.domain.course.entity.Track;
+import grit.guidance.domain.course.entity.TrackRequirement;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.profiles.active=test",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:querycountdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "vector.store.type=memory",
+        "embedding.cache.disk-enabled=false",
+        "spring.autoconfigure.exclude[0]=org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+        "spring.autoconfigure.exclude[1]=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.autoconfigure.exclude[2]=org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration",
+        "spring.autoconfigure.exclude[3]=org.springframework.ai.autoconfigure.openai.OpenAiAutoConfiguration",
+        "spring.autoconfigure.exclude[4]=org.springframework.ai.autoconfigure.chat.client.ChatClientAutoConfiguration",
+        "spring.autoconfigure.exclude[5]=org.springframework.ai.autoconfigure.chat.observation.ChatObservationAutoConfiguration",
+        "spring.autoconfigure.exclude[6]=org.springframework.ai.autoconfigure.vectorstore.qdrant.QdrantVectorStoreAutoConfiguration",
+        "spring.autoconfigure.exclude[7]=org.springframework.ai.autoconfigure.embedding.openai.OpenAiEmbeddingAutoConfiguration",
+        "spring.autoconfigure.exclude[8]=org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration",
+        "spring.main.web-application-type=none",
+        "logging.level.org.springframework.security=OFF",
+        "logging.level.org.springframework.web=OFF",
+        "logging.level.org.springframework.ai=OFF"
+    }
+)
+@Transactional
+class CourseDocumentQueryCountTest {
+
+    private static final int COURSE_COUNT = 20;
+
+    @Autowired
+    private CourseEmbeddingService courseEmbeddingService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("과목 문서 생성 시 과목 수와 관계없이 쿼리 수가 일정하다")
+    void buildAllCourseDocuments_UsesConstantQueryCount() {
+        // given: 과목마다 트랙 2개씩 연결
+        Track webTrack = Track.builder().trackName("웹공학트랙").build();
+        Track aiTrack = Track.builder().trackName("인공지능트랙").build();
+        entityManager.persist(webTrack);
+        entityManager.persist(aiTrack);
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            Course course = Course.builder()
+                    .courseName("과목" + i)
+                    .courseCode("V0" + i)
+                    .credits(3)
+                    .description("설명" + i)
+                    .openGrade(i % 4 + 1)
+                    .openSemester(i % 2 == 0 ? Semester.FIRST : Semester.SECOND)
+                    .build();
+            entityManager.persist(course);
+            entityManager.persist(TrackRequirement.builder().course(course).track(webTrack).courseType(CourseType.MANDATORY).build());
+            entityManager.persist(TrackRequirement.builder().course(course).track(aiTrack).courseType(CourseType.ELECTIVE).build());
+        }
+        // 영속성 컨텍스트를 비워 지연 로딩이 실제 쿼리로 드러나게 함
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<Map<String, Object>> documents = courseEmbeddingService.buildAllCourseDocuments();
+
+        // then: 과목 전체 조회 1번 + 트랙 요구사항(과목/트랙 fetch join) 조회 1번
+        assertEquals(COURSE_COUNT, documents.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        for (Map<String, Object> document : documents) {
+            assertEquals(List.of("웹공학트랙", "인공지능트랙"), document.get("tracks"));
+        }
+    }
+}
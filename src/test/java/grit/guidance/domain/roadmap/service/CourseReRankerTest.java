@@ -0,0 +1,148 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.entity.CourseType;
+import grit.guidance.domain.course.service.PrerequisiteGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourseReRankerTest {
+
+    // 2학년 1학기부터 배치
+    private static final Map<String, Object> SEMESTER_INFO = Map.of("nextYear", 2, "nextSemester", "FIRST");
+    // 1트랙 10, 2트랙 20
+    private static final List<Long> TRACK_IDS = List.of(10L, 20L);
+
+    private final PrerequisiteGraph prerequisiteGraph = mock(PrerequisiteGraph.class);
+
+    @Test
+    @DisplayName("1트랙 과목 구분 가중치를 그대로, 2트랙은 보정 계수를 곱해 둘 중 큰 값을 사용한다")
+    void rerank_WeighsTrackAndCourseType() {
+        // given: 트랙 특성만 반영
+        CourseReRanker reRanker = reRanker(10, 0, 1, 0, 0, 0);
+        CourseReRanker.FeatureSources sources = sources(Map.of(
+                1L, Map.of(10L, CourseType.MANDATORY),
+                2L, Map.of(20L, CourseType.MANDATORY),
+                3L, Map.of(10L, CourseType.ELECTIVE, 20L, CourseType.FOUNDATION)), Set.of());
+        List<Map<String, Object>> recommended = List.of(
+                course(4L, "D", 0.9, 2, "FIRST"),
+                course(3L, "C", 0.9, 2, "FIRST"),
+                course(2L, "B", 0.9, 2, "FIRST"),
+                course(1L, "A", 0.9, 2, "FIRST"));
+
+        // when
+        List<Map<String, Object>> ranked = reRanker.rerank(recommended, List.of(), TRACK_IDS, Set.of(), SEMESTER_INFO, sources);
+
+        // then: A 1트랙 전필 1.0 / B 2트랙 전필 0.7 / C max(1트랙 전선 0.6, 2트랙 전기 0.63) / D 트랙 과목 아님
+        assertEquals(List.of("A", "B", "C", "D"), codesOf(ranked));
+        assertScores(ranked, 1.0, 0.7, 0.63, 0.0);
+    }
+
+    @Test
+    @DisplayName("개설 학기에 필수 과목을 넣고 남는 학점이 많을수록, 지난 학기 과목은 0점으로 배치 여유를 계산한다")
+    void rerank_ScoresSemesterFit() {
+        // given: 여유 학점 특성만 반영, 2학년 1학기에 필수 과목 6학점
+        CourseReRanker reRanker = reRanker(10, 0, 0, 1, 0, 0);
+        List<Map<String, Object>> mandatory = List.of(
+                course(11L, "M1", 0.0, 2, "FIRST"),
+                course(12L, "M2", 0.0, 2, "FIRST"));
+        List<Map<String, Object>> recommended = List.of(
+                course(1L, "PAST", 0.9, 1, "SECOND"),
+                course(2L, "BUSY", 0.9, 2, "FIRST"),
+                course(3L, "FREE", 0.9, 2, "SECOND"));
+
+        // when
+        List<Map<String, Object>> ranked = reRanker.rerank(recommended, mandatory, TRACK_IDS, Set.of(),
+                SEMESTER_INFO, sources(Map.of(), Set.of()));
+
+        // then
+        assertEquals(List.of("FREE", "BUSY", "PAST"), codesOf(ranked));
+        assertScores(ranked, 1.0, 1.0 - 6.0 / 18, 0.0);
+    }
+
+    @Test
+    @DisplayName("선수과목 중 이수했거나 더 이른 학기의 필수 과목 비율로 선수과목 충족도를 계산한다")
+    void rerank_ScoresPrerequisiteSatisfaction() {
+        // given: 선수과목 특성만 반영, 1은 이수, 3은 2학년 1학기 필수 과목
+        CourseReRanker reRanker = reRanker(10, 0, 0, 0, 1, 0);
+        when(prerequisiteGraph.directPrerequisiteIds(5L)).thenReturn(List.of(1L, 2L));
+        when(prerequisiteGraph.directPrerequisiteIds(6L)).thenReturn(List.of(3L));
+        when(prerequisiteGraph.directPrerequisiteIds(8L)).thenReturn(List.of(3L));
+        List<Map<String, Object>> mandatory = List.of(course(3L, "M3", 0.0, 2, "FIRST"));
+        List<Map<String, Object>> recommended = List.of(
+                course(8L, "SAME_SEMESTER", 0.9, 2, "FIRST"),
+                course(5L, "HALF", 0.9, 3, "FIRST"),
+                course(6L, "AFTER_MANDATORY", 0.9, 2, "SECOND"),
+                course(7L, "NONE", 0.9, 3, "FIRST"));
+
+        // when
+        List<Map<String, Object>> ranked = reRanker.rerank(recommended, mandatory, TRACK_IDS, Set.of(1L),
+                SEMESTER_INFO, sources(Map.of(), Set.of()));
+
+        // then: 점수가 같으면 원래 순서 유지
+        assertEquals(List.of("AFTER_MANDATORY", "NONE", "HALF", "SAME_SEMESTER"), codesOf(ranked));
+        assertScores(ranked, 1.0, 1.0, 0.5, 0.0);
+    }
+
+    @Test
+    @DisplayName("관심과목 가산점으로 순위가 바뀌고, 상위 limit 개만 남긴다")
+    void rerank_BoostsFavoritesAndCutsToLimit() {
+        // given: 벡터 0.45 + 관심과목 0.1, 상위 2개만 사용
+        CourseReRanker reRanker = reRanker(2, 0.45, 0, 0, 0, 0.1);
+        List<Map<String, Object>> recommended = List.of(
+                course(1L, "TOP", 0.9, 2, "FIRST"),
+                course(2L, "FAVORITE", 0.88, 2, "FIRST"),
+                course(3L, "LOW", 0.45, 2, "FIRST"));
+
+        // when
+        List<Map<String, Object>> ranked = reRanker.rerank(recommended, List.of(), TRACK_IDS, Set.of(),
+                SEMESTER_INFO, sources(Map.of(), Set.of(2L)));
+
+        // then: 벡터 점수는 최고 점수 기준으로 정규화
+        assertEquals(List.of("FAVORITE", "TOP"), codesOf(ranked));
+        assertScores(ranked, 0.45 * 0.88 / 0.9 + 0.1, 0.45);
+        // 원본 과목 정보는 유지
+        assertEquals(2L, ranked.get(0).get("courseId"));
+    }
+
+    private CourseReRanker reRanker(int limit, double vector, double track, double fit, double prerequisite, double favorite) {
+        return new CourseReRanker(null, null, null, true, limit, 18,
+                vector, track, fit, prerequisite, favorite, 0.7,
+                1.0, 0.9, 0.6, 0.2);
+    }
+
+    private CourseReRanker.FeatureSources sources(Map<Long, Map<Long, CourseType>> courseTypes, Set<Long> favoriteCourseIds) {
+        return new CourseReRanker.FeatureSources(courseTypes, prerequisiteGraph, favoriteCourseIds);
+    }
+
+    private static Map<String, Object> course(Long courseId, String code, double fusionScore, int openGrade, String openSemester) {
+        Map<String, Object> course = new HashMap<>();
+        course.put("courseId", courseId);
+        course.put("courseCode", code);
+        course.put("courseName", "과목 " + code);
+        course.put("credits", 3);
+        course.put("openGrade", openGrade);
+        course.put("openSemester", openSemester);
+        course.put("fusionScore", fusionScore);
+        return course;
+    }
+
+    private static List<String> codesOf(List<Map<String, Object>> courses) {
+        return courses.stream().map(course -> (String) course.get("courseCode")).toList();
+    }
+
+    private static void assertScores(List<Map<String, Object>> ranked, double... expected) {
+        assertEquals(expected.length, ranked.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], (Double) ranked.get(i).get("rerankScore"), 1e-9);
+        }
+    }
+}
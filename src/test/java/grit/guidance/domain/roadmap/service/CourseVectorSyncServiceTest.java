@@ -0,0 +1,146 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.repository.EmbeddingVector;
+import grit.guidance.domain.roadmap.repository.InMemoryCourseVectorStore;
+import grit.guidance.domain.roadmap.repository.OpenAiEmbeddingClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class CourseVectorSyncServiceTest {
+
+    // 문서 설명이 곧 임베딩 텍스트 (CourseDocumentTexts.batchEmbeddingText)
+    private final Set<String> failingTexts = new HashSet<>();
+    private final List<Map<String, Object>> documents = new ArrayList<>();
+
+    private InMemoryCourseVectorStore store;
+    private CourseVectorSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        // failingTexts 에 있는 텍스트만 임베딩 실패(null)
+        OpenAiEmbeddingClient embeddingClient = mock(OpenAiEmbeddingClient.class);
+        when(embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            List<EmbeddingVector> vectors = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                vectors.add(failingTexts.contains(text) ? null : new EmbeddingVector(new float[]{1f, text.length(), 0.5f}));
+            }
+            return vectors;
+        });
+        store = spy(new InMemoryCourseVectorStore(embeddingClient));
+
+        CourseEmbeddingService courseEmbeddingService = mock(CourseEmbeddingService.class);
+        when(courseEmbeddingService.buildAllCourseDocuments()).thenAnswer(invocation -> new ArrayList<>(documents));
+        syncService = new CourseVectorSyncService(courseEmbeddingService, store);
+    }
+
+    @Test
+    @DisplayName("새 과목은 추가, 바뀐 과목은 변경, DB 에서 사라진 과목은 삭제하고 나머지는 그대로 둔다")
+    void syncCourses_AppliesOnlyChanges() {
+        // given: 처음 동기화로 3과목 저장
+        documents.addAll(List.of(document(1, "v1"), document(2, "v1"), document(3, "v1")));
+        assertSummary(syncService.syncCourses(), 3, 0, 0, 0, 0);
+
+        // when: 2번 과목 변경, 3번 과목 삭제, 4번 과목 추가
+        documents.clear();
+        documents.addAll(List.of(document(1, "v1"), document(2, "v2"), document(4, "v1")));
+        Map<String, Object> summary = syncService.syncCourses();
+
+        // then
+        assertSummary(summary, 1, 1, 1, 1, 0);
+        assertEquals(Map.of("course_1", "v1", "course_2", "v2", "course_4", "v1"), store.getDocumentFingerprints());
+
+        // 다시 동기화하면 바뀐 것이 없음
+        assertSummary(syncService.syncCourses(), 0, 0, 0, 3, 0);
+    }
+
+    @Test
+    @DisplayName("임베딩에 실패한 과목은 실패로 집계하고 이전 fingerprint 를 유지해 다음 동기화 때 다시 시도한다")
+    void syncCourses_RetriesFailedDocumentsOnNextSync() {
+        // given: 처음 동기화에서 2번 과목 임베딩 실패
+        documents.addAll(List.of(document(1, "v1"), document(2, "v1"), document(3, "v1")));
+        failingTexts.add(textOf(2, "v1"));
+        assertSummary(syncService.syncCourses(), 2, 0, 0, 0, 1);
+        assertFalse(store.getDocumentFingerprints().containsKey("course_2"));
+
+        // when: 2번 과목은 다시 추가, 1번 과목은 변경했지만 임베딩 실패
+        failingTexts.clear();
+        failingTexts.add(textOf(1, "v2"));
+        documents.set(0, document(1, "v2"));
+        Map<String, Object> summary = syncService.syncCourses();
+
+        // then: 실패한 변경은 이전 문서(v1)가 남아 있음
+        assertSummary(summary, 1, 0, 0, 1, 1);
+        assertEquals(Map.of("course_1", "v1", "course_2", "v1", "course_3", "v1"), store.getDocumentFingerprints());
+
+        // 임베딩이 복구되면 남은 변경이 반영됨
+        failingTexts.clear();
+        assertSummary(syncService.syncCourses(), 0, 1, 0, 2, 0);
+        assertEquals("v2", store.getDocumentFingerprints().get("course_1"));
+    }
+
+    @Test
+    @DisplayName("삭제에 실패하면 삭제 대상 수만큼 실패로 집계하고 다음 동기화 때 다시 삭제한다")
+    void syncCourses_CountsDeleteFailure() {
+        // given
+        documents.addAll(List.of(document(1, "v1"), document(2, "v1")));
+        syncService.syncCourses();
+        documents.remove(1);
+        doReturn(false).when(store).deleteCourseDocuments(anyList());
+
+        // when
+        Map<String, Object> summary = syncService.syncCourses();
+
+        // then
+        assertSummary(summary, 0, 0, 0, 1, 1);
+        assertTrue(store.getDocumentFingerprints().containsKey("course_2"));
+
+        // 삭제가 복구되면 다음 동기화에서 삭제
+        doCallRealMethod().when(store).deleteCourseDocuments(anyList());
+        assertSummary(syncService.syncCourses(), 0, 0, 1, 1, 0);
+        assertEquals(Map.of("course_1", "v1"), store.getDocumentFingerprints());
+    }
+
+    private static Map<String, Object> document(int courseId, String fingerprint) {
+        Map<String, Object> document = new HashMap<>();
+        document.put("id", "course_" + courseId);
+        document.put("courseId", (long) courseId);
+        document.put("courseCode", String.format("V%06d", courseId));
+        document.put("courseName", "과목 " + courseId);
+        document.put("description", textOf(courseId, fingerprint));
+        document.put("credits", 3);
+        document.put("openGrade", 2);
+        document.put("openSemester", "FIRST");
+        document.put("tracks", List.of("웹공학트랙"));
+        document.put("fingerprint", fingerprint);
+        return document;
+    }
+
+    private static String textOf(int courseId, String fingerprint) {
+        return "과목 " + courseId + " 설명 " + fingerprint;
+    }
+
+    private static void assertSummary(Map<String, Object> summary, int added, int updated, int deleted, int unchanged, int failed) {
+        assertEquals(added, summary.get("added"), "added");
+        assertEquals(updated, summary.get("updated"), "updated");
+        assertEquals(deleted, summary.get("deleted"), "deleted");
+        assertEquals(unchanged, summary.get("unchanged"), "unchanged");
+        assertEquals(failed, summary.get("failed"), "failed");
+    }
+}
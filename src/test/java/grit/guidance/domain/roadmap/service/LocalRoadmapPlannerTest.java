@@ -0,0 +1,175 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.course.service.CourseCatalog;
+import grit.guidance.domain.course.service.CourseCatalogSnapshot;
+import grit.guidance.domain.course.service.PrerequisiteGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalRoadmapPlannerTest {
+
+    // 2학년 1학기부터 배치
+    private static final Map<String, Object> SEMESTER_INFO = Map.of("nextYear", 2, "nextSemester", "FIRST");
+
+    private final PrerequisiteGraph prerequisiteGraph = mock(PrerequisiteGraph.class);
+    private CourseCatalog courseCatalog;
+
+    @BeforeEach
+    void setUp() {
+        CourseCatalogSnapshot snapshot = mock(CourseCatalogSnapshot.class);
+        when(snapshot.prerequisiteGraph()).thenReturn(prerequisiteGraph);
+        courseCatalog = mock(CourseCatalog.class);
+        when(courseCatalog.snapshot()).thenReturn(snapshot);
+    }
+
+    @Test
+    @DisplayName("필수 과목을 먼저, 추천 과목은 개설 학기/캡스톤/(IPP)/선수과목 규칙에 맞게 배치한다")
+    void plan_PlacesCoursesByRules() {
+        // given: 추천 과목 R7 은 4학년 1학기 필수 과목 M2 가 선수과목
+        when(prerequisiteGraph.allPrerequisiteIds(7L)).thenReturn(List.of(2L));
+        LocalRoadmapPlanner planner = new LocalRoadmapPlanner(courseCatalog, 18, "llm");
+        List<Map<String, Object>> mandatory = List.of(
+                course(1L, "M1", "웹프로그래밍", 2, "FIRST"),
+                course(2L, "M2", "데이터베이스", 4, "FIRST"));
+        List<Map<String, Object>> recommended = List.of(
+                course(3L, "R1", "모바일프로그래밍", 2, "FIRST"),
+                course(4L, "R2", "컴퓨터개론", 1, "FIRST"),
+                course(5L, "R3", "현장실습(IPP)", 3, "FIRST"),
+                course(6L, "R4", "캡스톤디자인1", 4, "FIRST"),
+                course(8L, "R5", "캡스톤디자인2", 4, "SECOND"),
+                course(7L, "R7", "데이터분석", 3, "SECOND"));
+
+        // when
+        List<Map<String, Object>> roadMap = planner.plan(mandatory, recommended, SEMESTER_INFO);
+
+        // then: 지난 학기(R2), (IPP)(R3), 두 번째 캡스톤(R5), 선수과목보다 먼저 개설(R7) 제외
+        assertEquals(List.of("2-FIRST", "4-FIRST"), slotsOf(roadMap));
+        assertEquals(List.of("M1", "R1"), codesOf(roadMap.get(0)));
+        assertEquals(List.of("M2", "R4"), codesOf(roadMap.get(1)));
+    }
+
+    @Test
+    @DisplayName("학기 최대 학점을 넘으면 추천 과목을 뒤에서부터 제외하고 필수 과목은 유지한다")
+    void plan_DropsRecommendedCoursesOverCreditLimit() {
+        LocalRoadmapPlanner planner = new LocalRoadmapPlanner(courseCatalog, 6, "llm");
+        List<Map<String, Object>> mandatory = List.of(
+                course(1L, "M1", "웹프로그래밍", 2, "FIRST"),
+                course(2L, "M2", "운영체제", 2, "FIRST"),
+                course(3L, "M3", "네트워크", 2, "FIRST"));
+        List<Map<String, Object>> recommended = List.of(
+                course(4L, "R1", "모바일프로그래밍", 2, "FIRST"));
+
+        List<Map<String, Object>> roadMap = planner.plan(mandatory, recommended, SEMESTER_INFO);
+
+        assertEquals(1, roadMap.size());
+        assertEquals(List.of("M1", "M2", "M3"), codesOf(roadMap.get(0)));
+    }
+
+    @Test
+    @DisplayName("LLM 로드맵의 잘못된 과목은 제외/이동하고 빠진 필수 과목은 추가한다")
+    void repair_FixesLlmRoadmap() {
+        LocalRoadmapPlanner planner = new LocalRoadmapPlanner(courseCatalog, 18, "llm");
+        List<Map<String, Object>> mandatory = List.of(
+                course(1L, "M1", "웹프로그래밍", 2, "FIRST"),
+                course(2L, "M2", "데이터베이스", 3, "FIRST"));
+        List<Map<String, Object>> recommended = List.of(
+                course(3L, "R1", "모바일프로그래밍", 2, "SECOND"));
+        List<Map<String, Object>> roadMap = List.of(
+                // M1 은 2학년 2학기로 잘못 배치, X1 은 목록에 없는 과목, M2 는 빠짐
+                semester(2, "SECOND", llmCourse("M1", "웹 기초"), llmCourse("X1", "없는 과목"), llmCourse("R1", "모바일")),
+                semester(3, "SECOND", llmCourse("R1", "중복")));
+
+        List<Map<String, Object>> repaired = planner.repair(roadMap, mandatory, recommended, SEMESTER_INFO);
+
+        assertEquals(List.of("2-FIRST", "2-SECOND", "3-FIRST"), slotsOf(repaired));
+        assertEquals(List.of("M1"), codesOf(repaired.get(0)));
+        assertEquals(List.of("R1"), codesOf(repaired.get(1)));
+        assertEquals(List.of("M2"), codesOf(repaired.get(2)));
+        // LLM 이 쓴 추천 사유는 학기를 옮겨도 유지
+        assertEquals("웹 기초", coursesOf(repaired.get(0)).get(0).get("recommendDescription"));
+    }
+
+    @Test
+    @DisplayName("스트리밍 세션은 학기 블록을 내보내기 전에 그 학기의 빠진 필수 과목을 채운다")
+    void session_FillsMandatoryCoursesBeforeEmittingSemester() {
+        LocalRoadmapPlanner planner = new LocalRoadmapPlanner(courseCatalog, 18, "llm");
+        List<Map<String, Object>> mandatory = List.of(
+                course(1L, "M1", "웹프로그래밍", 2, "FIRST"),
+                course(2L, "M2", "운영체제", 2, "SECOND"),
+                course(3L, "M3", "데이터베이스", 3, "FIRST"));
+        List<Map<String, Object>> recommended = List.of(
+                course(4L, "R1", "모바일프로그래밍", 2, "FIRST"),
+                course(5L, "R2", "컴퓨터그래픽스", 2, "SECOND"),
+                course(6L, "R3", "빅데이터", 3, "SECOND"));
+        LocalRoadmapPlanner.Session session = planner.newSession(mandatory, recommended, SEMESTER_INFO);
+        List<Map<String, Object>> emitted = new ArrayList<>();
+
+        // 1) 2학년 1학기 블록에서 M1 이 빠짐 → 내보내기 전에 추가
+        List<Map<String, Object>> first = session.offerSemester(semester(2, "FIRST", llmCourse("R1", "모바일")));
+        assertEquals(List.of("2-FIRST"), slotsOf(first));
+        assertEquals(List.of("R1", "M1"), codesOf(first.get(0)));
+        emitted.addAll(first);
+
+        // 2) 학기가 없는 블록은 과목만 배치하고 남은 스트림을 버리지 않음
+        assertEquals(List.of(), session.offerSemester(Map.of("courses", List.of(llmCourse("R3", "빅데이터")))));
+
+        // 3) 2학년 2학기 블록에서 M2 가 빠짐
+        List<Map<String, Object>> second = session.offerSemester(semester(2, "SECOND", llmCourse("R2", "그래픽스")));
+        assertEquals(List.of("2-SECOND"), slotsOf(second));
+        assertEquals(List.of("R2", "M2"), codesOf(second.get(0)));
+        emitted.addAll(second);
+
+        // 4) 나머지는 finish() 에서 (M3, 학기 없는 블록의 R3)
+        emitted.addAll(session.finish());
+
+        assertEquals(List.of("2-FIRST", "2-SECOND", "3-FIRST", "3-SECOND"), slotsOf(emitted));
+        assertEquals(List.of("M3"), codesOf(emitted.get(2)));
+        assertEquals(List.of("R3"), codesOf(emitted.get(3)));
+        assertTrue(session.repairs().contains("빠진 필수 과목 추가: M1"));
+        assertTrue(session.repairs().contains("빠진 필수 과목 추가: M2"));
+        assertTrue(session.repairs().stream().noneMatch(repair -> repair.startsWith("이미 전달한 학기")));
+    }
+
+    private static Map<String, Object> course(Long courseId, String code, String name, int openGrade, String openSemester) {
+        Map<String, Object> course = new HashMap<>();
+        course.put("courseId", courseId);
+        course.put("courseCode", code);
+        course.put("courseName", name);
+        course.put("credits", 3);
+        course.put("openGrade", openGrade);
+        course.put("openSemester", openSemester);
+        return course;
+    }
+
+    private static Map<String, Object> llmCourse(String code, String description) {
+        return Map.of("courseCode", code, "recommendDescription", description);
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> semester(int year, String semester, Map<String, Object>... courses) {
+        return Map.of("recommendYear", year, "recommendSemester", semester, "courses", List.of(courses));
+    }
+
+    private static List<String> slotsOf(List<Map<String, Object>> roadMap) {
+        return roadMap.stream().map(block -> block.get("recommendYear") + "-" + block.get("recommendSemester")).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> coursesOf(Map<String, Object> block) {
+        return (List<Map<String, Object>>) block.get("courses");
+    }
+
+    private static List<String> codesOf(Map<String, Object> block) {
+        return coursesOf(block).stream().map(course -> (String) course.get("courseCode")).toList();
+    }
+}
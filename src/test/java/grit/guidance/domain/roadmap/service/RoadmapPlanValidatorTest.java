@@ -0,0 +1,91 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.dto.LlmRoadmapPlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoadmapPlanValidatorTest {
+
+    private final RoadmapPlanValidator validator = new RoadmapPlanValidator(
+            List.of(Map.of("courseCode", "V021001", "courseName", "웹프로그래밍")),
+            List.of(
+                    Map.of("courseCode", "V021002", "courseName", "데이터 베이스"),
+                    Map.of("courseCode", "V021003", "courseName", "모바일프로그래밍")
+            ));
+
+    @Test
+    @DisplayName("후보와 같은 과목은 그대로 사용한다")
+    void validate_KeepsValidCourses() {
+        LlmRoadmapPlan.Semester semester = validator.validate(semester(
+                course("V021001", "웹프로그래밍", "필수 과목")));
+
+        assertEquals(List.of(new LlmRoadmapPlan.Course("V021001", "웹프로그래밍", "필수 과목")), semester.courses());
+        assertEquals(2, semester.recommendYear());
+        assertEquals("FIRST", semester.recommendSemester());
+        assertEquals(1, validator.validCount());
+        assertEquals(0, validator.repairedCount());
+        assertEquals(0, validator.droppedCount());
+        assertTrue(validator.repairs().isEmpty());
+    }
+
+    @Test
+    @DisplayName("코드 대소문자/공백과 과목명은 후보 기준으로 보정한다")
+    void validate_RepairsCodeAndName() {
+        LlmRoadmapPlan.Semester semester = validator.validate(semester(
+                // 코드 정규화 후 일치, 과목명만 다름
+                course(" v021002 ", "데이터베이스", "설명1"),
+                // 코드가 틀렸지만 과목명(공백/대소문자 무시)이 후보와 일치
+                course("V999999", "모바일 프로그래밍", "설명2")));
+
+        assertEquals(List.of(
+                new LlmRoadmapPlan.Course("V021002", "데이터 베이스", "설명1"),
+                new LlmRoadmapPlan.Course("V021003", "모바일프로그래밍", "설명2")
+        ), semester.courses());
+        assertEquals(0, validator.validCount());
+        assertEquals(2, validator.repairedCount());
+        assertEquals(2, validator.repairs().size());
+    }
+
+    @Test
+    @DisplayName("후보에 없는 과목과 중복 과목은 제외하고 나머지는 유지한다")
+    void validate_DropsUnknownAndDuplicateCourses() {
+        LlmRoadmapPlan plan = validator.validate(new LlmRoadmapPlan(List.of(
+                semester(course("V021001", "웹프로그래밍", "첫 추천"), course("X000001", "없는과목", "제외")),
+                // 이전 학기에 이미 나온 과목은 코드가 보정되어 같아지는 경우도 중복으로 제외
+                semester(course("v021001", "웹프로그래밍", "중복"), course("V021003", "모바일프로그래밍", "유지"))
+        )));
+
+        assertEquals(2, plan.roadMap().size());
+        assertEquals(List.of("V021001"), codes(plan.roadMap().get(0)));
+        assertEquals(List.of("V021003"), codes(plan.roadMap().get(1)));
+        assertEquals(2, validator.validCount());
+        assertEquals(2, validator.droppedCount());
+        assertTrue(validator.repairs().stream().anyMatch(repair -> repair.contains("후보 목록에 없는 과목")));
+        assertTrue(validator.repairs().stream().anyMatch(repair -> repair.contains("중복 추천")));
+    }
+
+    @Test
+    @DisplayName("학기 목록이나 과목 목록이 없어도 빈 결과를 반환한다")
+    void validate_HandlesMissingLists() {
+        assertEquals(List.of(), validator.validate(new LlmRoadmapPlan(null)).roadMap());
+        assertEquals(List.of(), validator.validate((LlmRoadmapPlan) null).roadMap());
+        assertEquals(List.of(), validator.validate(new LlmRoadmapPlan.Semester(1, "SECOND", null)).courses());
+    }
+
+    private static LlmRoadmapPlan.Semester semester(LlmRoadmapPlan.Course... courses) {
+        return new LlmRoadmapPlan.Semester(2, "FIRST", List.of(courses));
+    }
+
+    private static LlmRoadmapPlan.Course course(String code, String name, String description) {
+        return new LlmRoadmapPlan.Course(code, name, description);
+    }
+
+    private static List<String> codes(LlmRoadmapPlan.Semester semester) {
+        return semester.courses().stream().map(LlmRoadmapPlan.Course::courseCode).toList();
+    }
+}
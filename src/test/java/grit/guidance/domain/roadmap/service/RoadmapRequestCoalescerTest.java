@@ -0,0 +1,40 @@
+package grit.guidance.domain.roadmap.service;
+
+import grit.guidance.domain.roadmap.dto.CourseRecommendationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoadmapRequestCoalescerTest {
+
+    private static final CourseRecommendationRequest.LearningStyle STYLE =
+            new CourseRecommendationRequest.LearningStyle("NORMAL", "BALANCED", "MAJOR");
+
+    @Test
+    @DisplayName("1트랙이 같으면 나머지 트랙 순서와 중복은 키에 영향을 주지 않는다")
+    void roadmapKey_SortsTrackIds() {
+        assertEquals(
+                RoadmapRequestCoalescer.roadmapKey(request(List.of(1L, 3L, 2L), " Spring  Boot ")),
+                RoadmapRequestCoalescer.roadmapKey(request(List.of(1L, 2L, 3L, 2L), "spring boot")));
+    }
+
+    @Test
+    @DisplayName("1트랙이 다르거나 학습 스타일이 다르면 다른 키가 된다")
+    void roadmapKey_KeepsPrimaryTrackAndStyle() {
+        String key = RoadmapRequestCoalescer.roadmapKey(request(List.of(1L, 2L), "spring"));
+
+        assertNotEquals(key, RoadmapRequestCoalescer.roadmapKey(request(List.of(2L, 1L), "spring")));
+        CourseRecommendationRequest relaxed = request(List.of(1L, 2L), "spring");
+        relaxed.setLearningStyle(new CourseRecommendationRequest.LearningStyle("RELAXED", "BALANCED", "MAJOR"));
+        assertNotEquals(key, RoadmapRequestCoalescer.roadmapKey(relaxed));
+    }
+
+    private static CourseRecommendationRequest request(List<Long> trackIds, String techStack) {
+        CourseRecommendationRequest.AdvancedSettings settings = new CourseRecommendationRequest.AdvancedSettings();
+        settings.setTechStack(techStack);
+        return new CourseRecommendationRequest("2191232", trackIds, STYLE, settings);
+    }
+}
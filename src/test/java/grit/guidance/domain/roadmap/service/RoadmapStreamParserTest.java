@@ -0,0 +1,97 @@
+package grit.guidance.domain.roadmap.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoadmapStreamParserTest {
+
+    private static final String FIRST = """
+            {"recommendYear": 2, "recommendSemester": "FIRST", "courses": [
+              {"courseCode": "V021001", "courseName": "웹프로그래밍", "recommendDescription": "웹 {기초} 과목"}
+            ]}""";
+    private static final String SECOND = """
+            {"recommendYear": 2, "recommendSemester": "SECOND", "courses": [
+              {"courseCode": "V021002", "courseName": "데이터베이스", "recommendDescription": "\\"SQL\\" 과 [설계] 를 배움"}
+            ]}""";
+    private static final String RESPONSE = "{\"roadMap\": [" + FIRST + ", " + SECOND + "]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Map<String, Object>> emitted = new ArrayList<>();
+    private final RoadmapStreamParser parser = new RoadmapStreamParser(objectMapper, emitted::add);
+
+    @Test
+    @DisplayName("한 글자씩 나뉘어 도착해도 학기 블록이 닫히는 순간 전달한다")
+    void accept_SplitAcrossChunks() {
+        int firstEnd = RESPONSE.indexOf(FIRST) + FIRST.length();
+        for (int i = 0; i < RESPONSE.length(); i++) {
+            parser.accept(String.valueOf(RESPONSE.charAt(i)));
+            // 첫 학기 블록의 닫는 괄호 직전까지는 아무것도 전달하지 않음
+            if (i == firstEnd - 2) {
+                assertTrue(emitted.isEmpty());
+            }
+            if (i == firstEnd - 1) {
+                assertEquals(1, emitted.size());
+            }
+        }
+
+        assertEquals(2, emitted.size());
+        assertEquals("FIRST", emitted.get(0).get("recommendSemester"));
+        assertEquals("SECOND", emitted.get(1).get("recommendSemester"));
+        assertEquals(emitted, parser.semesters());
+        assertTrue(parser.isComplete());
+        assertEquals(RESPONSE, parser.content());
+    }
+
+    @Test
+    @DisplayName("문자열 안의 괄호/이스케이프된 따옴표는 구조로 보지 않는다")
+    void accept_IgnoresBracketsInsideStrings() {
+        parser.accept(RESPONSE.substring(0, 40));
+        parser.accept(RESPONSE.substring(40, 120));
+        parser.accept(RESPONSE.substring(120));
+
+        assertEquals(2, emitted.size());
+        List<?> firstCourses = (List<?>) emitted.get(0).get("courses");
+        List<?> secondCourses = (List<?>) emitted.get(1).get("courses");
+        assertEquals("웹 {기초} 과목", ((Map<?, ?>) firstCourses.get(0)).get("recommendDescription"));
+        assertEquals("\"SQL\" 과 [설계] 를 배움", ((Map<?, ?>) secondCourses.get(0)).get("recommendDescription"));
+    }
+
+    @Test
+    @DisplayName("JSON 앞뒤의 마크다운 코드 블록은 무시한다")
+    void accept_IgnoresMarkdownFence() {
+        parser.accept("```json\n");
+        parser.accept(RESPONSE);
+        parser.accept("\n```");
+
+        assertEquals(2, emitted.size());
+        assertTrue(parser.isComplete());
+    }
+
+    @Test
+    @DisplayName("응답이 중간에 잘리면 완성된 학기만 전달하고 완료되지 않은 것으로 본다")
+    void accept_TruncatedResponse() {
+        int cut = RESPONSE.indexOf(SECOND) + SECOND.length() / 2;
+        parser.accept(RESPONSE.substring(0, cut));
+
+        assertEquals(1, emitted.size());
+        assertEquals("FIRST", emitted.get(0).get("recommendSemester"));
+        assertFalse(parser.isComplete());
+    }
+
+    @Test
+    @DisplayName("학기 블록이 닫히기 전에는 아무것도 전달하지 않는다")
+    void accept_PartialFirstSemester() {
+        parser.accept("{\"roadMap\": [" + FIRST.substring(0, FIRST.length() - 1));
+
+        assertTrue(emitted.isEmpty());
+        assertTrue(parser.semesters().isEmpty());
+        assertFalse(parser.isComplete());
+    }
+}
@@ -0,0 +1,126 @@
+package grit.guidance.global.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 작업을 한 번만 실행하고 같은 결과를 받는다")
+    void execute_SharesOneExecution() throws Exception {
+        // given: 첫 요청의 작업은 두 번째 요청이 합류할 때까지 끝나지 않음
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        Object result = new Object();
+
+        Future<Object> leader = executor.submit(() -> flight.execute("key", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Object> joiner = executor.submit(() -> flight.execute("key", () -> {
+            runs.incrementAndGet();
+            return new Object();
+        }));
+        waitUntilCoalesced(flight, 1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        assertSame(result, joiner.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(1, flight.executionCount());
+        assertEquals(1, flight.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 합류한 요청도 같은 예외를 받는다")
+    void execute_PropagatesExceptionToJoiners() throws Exception {
+        // given
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("실패");
+
+        Future<Object> leader = executor.submit(() -> flight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Object> joiner = executor.submit(() -> flight.execute("key", Object::new));
+        waitUntilCoalesced(flight, 1);
+
+        // when
+        release.countDown();
+
+        // then: 감싸지 않은 원래 예외를 그대로 받음
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException joinerError = assertThrows(ExecutionException.class, () -> joiner.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, joinerError.getCause());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 키를 지워 다음 요청은 다시 실행한다")
+    void execute_RemovesKeyAfterCompletion() {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        // when: 성공한 작업과 실패한 작업 뒤에 같은 키로 다시 요청
+        assertEquals(1, flight.execute("key", runs::incrementAndGet));
+        assertThrows(IllegalStateException.class, () -> flight.execute("key", () -> {
+            throw new IllegalStateException("실패");
+        }));
+        assertEquals(2, flight.execute("key", runs::incrementAndGet));
+
+        // then: 결과를 저장하지 않고 매번 실행
+        assertEquals(0, flight.inFlightCount());
+        assertEquals(3, flight.executionCount());
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 합류 요청은 진행 중인 작업을 기다리므로 합류 횟수로 확인
+    private static void waitUntilCoalesced(SingleFlight<?, ?> flight, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.coalescedCount() < count) {
+            assertTrue(System.nanoTime() < deadline, "합류 요청이 들어오지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+}
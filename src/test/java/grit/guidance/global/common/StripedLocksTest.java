@@ -0,0 +1,83 @@
+package grit.guidance.global.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLocksTest {
+
+    @Test
+    @DisplayName("같은 키의 작업은 겹치지 않고 순서대로 실행된다")
+    void withLock_SerializesSameKey() throws Exception {
+        // given
+        StripedLocks locks = new StripedLocks(8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        int[] counter = {0};
+        CountDownLatch ready = new CountDownLatch(1);
+
+        // when: 여러 스레드가 같은 키로 잠금 없이는 안전하지 않은 카운터를 증가
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    for (int i = 0; i < 1000; i++) {
+                        locks.withLock("2191232", () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            counter[0]++;
+                            running.decrementAndGet();
+                            return null;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            ready.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals(4000, counter[0]);
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("같은 키는 항상 같은 잠금을 사용하고, 음수 해시 키도 잠금을 찾는다")
+    void lockFor_ReturnsSameLockForSameKey() {
+        StripedLocks locks = new StripedLocks(4);
+
+        assertSame(locks.lockFor("2191232"), locks.lockFor(new String("2191232")));
+        assertSame(locks.lockFor(-7), locks.lockFor(-7));
+        assertNotNull(locks.lockFor(Integer.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("잠금은 재진입 가능하고, 작업이 실패해도 잠금을 해제한다")
+    void withLock_IsReentrantAndReleasesOnFailure() {
+        StripedLocks locks = new StripedLocks(4);
+
+        // 같은 스레드에서 같은 키로 다시 잠가도 막히지 않음
+        assertEquals("done", locks.withLock("key", () -> locks.withLock("key", () -> "done")));
+
+        assertThrows(IllegalStateException.class, () -> locks.withLock("key", () -> {
+            throw new IllegalStateException("실패");
+        }));
+        assertFalse(locks.lockFor("key").isLocked());
+    }
+}